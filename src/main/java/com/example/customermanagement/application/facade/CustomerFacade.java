@@ -1,13 +1,19 @@
 package com.example.customermanagement.application.facade;
 
+import com.example.customermanagement.application.service.CustomerEventStreamService;
 import com.example.customermanagement.application.service.CustomerSearchService;
 import com.example.customermanagement.application.service.CustomerService;
 import com.example.customermanagement.web.dto.common.PageResponseDTO;
+import com.example.customermanagement.web.dto.customer.CustomerChangesResponseDTO;
+import com.example.customermanagement.web.dto.customer.CustomerEventsResponseDTO;
+import com.example.customermanagement.web.dto.customer.CustomerFacetsResponseDTO;
 import com.example.customermanagement.web.dto.customer.CustomerPatchRequestDTO;
 import com.example.customermanagement.web.dto.customer.CustomerRequestDTO;
 import com.example.customermanagement.web.dto.customer.CustomerResponseDTO;
+import com.example.customermanagement.web.dto.customer.CustomerSuggestionDTO;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.List;
 import java.util.UUID;
@@ -17,11 +23,14 @@ public class CustomerFacade {
     
     private final CustomerService customerService;
     private final CustomerSearchService customerSearchService;
+    private final CustomerEventStreamService customerEventStreamService;
     
     public CustomerFacade(CustomerService customerService,
-                          CustomerSearchService customerSearchService) {
+                          CustomerSearchService customerSearchService,
+                          CustomerEventStreamService customerEventStreamService) {
         this.customerService = customerService;
         this.customerSearchService = customerSearchService;
+        this.customerEventStreamService = customerEventStreamService;
     }
         
     public CustomerResponseDTO createCustomer(CustomerRequestDTO requestDTO) {
@@ -48,23 +57,51 @@ public class CustomerFacade {
     public ResponseEntity<?> getAllCustomersWithFiltering(
             Integer page, Integer size, String search, String name, String email, String phone,
             String city, String state, String country, String zipCode, String createdAfter,
-            String createdBefore, String updatedAfter, String updatedBefore, List<String> sort) {
+            String createdBefore, String updatedAfter, String updatedBefore, List<String> sort,
+            String cursor) {
         
         return customerSearchService.getAllCustomersWithFiltering(
             page, size, search, name, email, phone, city, state, country, zipCode,
-            createdAfter, createdBefore, updatedAfter, updatedBefore, sort
+            createdAfter, createdBefore, updatedAfter, updatedBefore, sort, cursor
         );
     }
     
 
     public PageResponseDTO<CustomerResponseDTO> searchCustomers(
-            String search, String name, String email, String phone, String city, String state, 
-            String country, String zipCode, String createdAfter, String createdBefore, 
-            String updatedAfter, String updatedBefore, List<String> sort, int page, int size) {
+            String search, String q, String name, String nameMatch, Integer maxEdits, String email, String phone,
+            String city, String state, String country, String zipCode, String createdAfter, String createdBefore, 
+            String updatedAfter, String updatedBefore, List<String> sort, String cursor, int page, int size) {
         
         return customerSearchService.searchCustomers(
-            search, name, email, phone, city, state, country, zipCode,
-            createdAfter, createdBefore, updatedAfter, updatedBefore, sort, page, size
+            search, q, name, nameMatch, maxEdits, email, phone, city, state, country, zipCode,
+            createdAfter, createdBefore, updatedAfter, updatedBefore, sort, cursor, page, size
         );
     }
+
+    public CustomerFacetsResponseDTO getFacets(
+            String search, String q, String name, String nameMatch, Integer maxEdits, String email, String phone,
+            String city, String state, String country, String zipCode, String createdAfter, String createdBefore,
+            String updatedAfter, String updatedBefore, int zipPrefixLength, int limit) {
+
+        return customerSearchService.getFacets(
+            search, q, name, nameMatch, maxEdits, email, phone, city, state, country, zipCode,
+            createdAfter, createdBefore, updatedAfter, updatedBefore, zipPrefixLength, limit
+        );
+    }
+
+    public List<CustomerSuggestionDTO> suggestCustomers(String prefix, int limit) {
+        return customerSearchService.suggestCustomers(prefix, limit);
+    }
+
+    public CustomerChangesResponseDTO getChanges(String since, int limit) {
+        return customerSearchService.getChanges(since, limit);
+    }
+
+    public CustomerEventsResponseDTO getEvents(Long after, Long epoch, int limit, int waitSeconds) {
+        return customerSearchService.getEvents(after, epoch, limit, waitSeconds);
+    }
+
+    public SseEmitter streamEvents(Long after, Long epoch) {
+        return customerEventStreamService.subscribe(after, epoch);
+    }
 }
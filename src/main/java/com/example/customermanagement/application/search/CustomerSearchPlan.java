@@ -0,0 +1,212 @@
+package com.example.customermanagement.application.search;
+
+import com.example.customermanagement.domain.model.Customer;
+import com.example.customermanagement.domain.model.CustomerSearchCriteria;
+import com.example.customermanagement.domain.model.CustomerSearchCriteria.SortCriteria;
+import com.example.customermanagement.domain.model.CustomerSearchKeys;
+import com.example.customermanagement.domain.model.FuzzyName;
+import com.example.customermanagement.domain.model.NameMatch;
+import com.example.customermanagement.domain.model.PhoneticName;
+import com.example.customermanagement.domain.model.SearchExpression;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Compiled form of the filters and sort order of a search. Only the filters the criteria actually
+ * set are kept, with their terms folded once and matched against each customer's precomputed
+ * {@link CustomerSearchKeys}, so scanning a customer allocates nothing. Filters are tried most selective first so a
+ * non-matching customer is usually rejected by the first check. Plans are immutable and may be
+ * shared between requests and threads.
+ */
+public final class CustomerSearchPlan {
+
+    private final Key key;
+    private final Predicate<Customer>[] filters;
+    private final KeysetOrdering ordering;
+
+    private CustomerSearchPlan(Key key, List<Filter> filters) {
+        this.key = key;
+        this.filters = filters.stream()
+                .sorted(Comparator.comparingInt(Filter::rank))
+                .map(Filter::test)
+                .toArray(Predicate[]::new);
+        this.ordering = KeysetOrdering.of(key.sortCriteria());
+    }
+
+    public static CustomerSearchPlan compile(CustomerSearchCriteria criteria) {
+        return compile(Key.of(criteria));
+    }
+
+    static CustomerSearchPlan compile(Key key) {
+        List<Filter> filters = new ArrayList<>();
+        if (key.searchText() != null) {
+            String term = key.searchText();
+            filters.add(new Filter(Selectivity.SEARCH_TEXT.rank(term), customer -> {
+                CustomerSearchKeys keys = customer.getSearchKeys();
+                return contains(keys.name(), term)
+                        || contains(keys.email(), term)
+                        || contains(keys.phone(), term)
+                        || contains(keys.city(), term)
+                        || contains(keys.state(), term)
+                        || contains(keys.country(), term);
+            }));
+        }
+        addContains(filters, Selectivity.EMAIL, key.email(), CustomerSearchKeys::email);
+        addContains(filters, Selectivity.PHONE, key.phone(), CustomerSearchKeys::phone);
+        if (key.nameMatch() == NameMatch.FUZZY) {
+            addFuzzyName(filters, key.name(), key.maxEditDistance());
+        } else if (key.nameMatch() == NameMatch.PHONETIC) {
+            addPhoneticName(filters, key.name());
+        } else {
+            addContains(filters, Selectivity.NAME, key.name(), CustomerSearchKeys::name);
+        }
+        addContains(filters, Selectivity.ZIP_CODE, key.zipCode(), CustomerSearchKeys::zipCode);
+        addContains(filters, Selectivity.CITY, key.city(), CustomerSearchKeys::city);
+        addContains(filters, Selectivity.STATE, key.state(), CustomerSearchKeys::state);
+        addContains(filters, Selectivity.COUNTRY, key.country(), CustomerSearchKeys::country);
+        if (key.query() != null) {
+            SearchExpression query = key.query();
+            filters.add(new Filter(Selectivity.QUERY.rank(""), customer -> query.matches(customer.getSearchKeys())));
+        }
+        addRange(filters, key.createdAfter(), key.createdBefore(), Customer::getCreatedAt);
+        addRange(filters, key.updatedAfter(), key.updatedBefore(), Customer::getUpdatedAt);
+        return new CustomerSearchPlan(key, filters);
+    }
+
+    public boolean matches(Customer customer) {
+        for (Predicate<Customer> filter : filters) {
+            if (!filter.test(customer)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public KeysetOrdering ordering() {
+        return ordering;
+    }
+
+    /**
+     * The relevance ranking to order matches by when the search is fuzzy by name and sets no
+     * explicit sort order.
+     */
+    public Optional<RelevanceRanking> relevance() {
+        return key.nameMatch() == NameMatch.FUZZY && key.name() != null && key.sortCriteria().isEmpty()
+                ? Optional.of(new RelevanceRanking(key.name(), key.maxEditDistance()))
+                : Optional.empty();
+    }
+
+    public int filterCount() {
+        return filters.length;
+    }
+
+    Key key() {
+        return key;
+    }
+
+    private static void addContains(List<Filter> filters, Selectivity selectivity, String term,
+                                    Function<CustomerSearchKeys, String> key) {
+        if (term != null) {
+            filters.add(new Filter(selectivity.rank(term),
+                    customer -> contains(key.apply(customer.getSearchKeys()), term)));
+        }
+    }
+
+    private static void addFuzzyName(List<Filter> filters, String term, int maxEdits) {
+        if (term != null) {
+            filters.add(new Filter(Selectivity.FUZZY_NAME.rank(term),
+                    customer -> FuzzyName.distance(term, customer.getSearchKeys().name(), maxEdits) <= maxEdits));
+        }
+    }
+
+    private static void addPhoneticName(List<Filter> filters, String term) {
+        if (term != null) {
+            List<String> sounds = PhoneticName.keysOf(term);
+            filters.add(new Filter(Selectivity.PHONETIC_NAME.rank(term),
+                    customer -> PhoneticName.matches(sounds, customer.getSearchKeys().nameSounds())));
+        }
+    }
+
+    private static void addRange(List<Filter> filters, LocalDateTime after, LocalDateTime before,
+                                 Function<Customer, LocalDateTime> accessor) {
+        if (after != null || before != null) {
+            filters.add(new Filter(Selectivity.DATE_RANGE.rank(""), customer -> {
+                LocalDateTime date = accessor.apply(customer);
+                return (after == null || !date.isBefore(after)) && (before == null || !date.isAfter(before));
+            }));
+        }
+    }
+
+    private static boolean contains(String foldedValue, String foldedTerm) {
+        return foldedValue != null && foldedValue.contains(foldedTerm);
+    }
+
+    private record Filter(int rank, Predicate<Customer> test) {
+    }
+
+    /**
+     * Estimated selectivity of each filter, most selective first. Nearly unique fields come before
+     * the low-cardinality address fields; a query expression may test several fields, free text
+     * checks six fields and a fuzzy name computes edit distances, so they are tried last.
+     * Within a field a longer term matches fewer customers, so it ranks slightly earlier.
+     */
+    private enum Selectivity {
+        EMAIL, PHONE, NAME, PHONETIC_NAME, ZIP_CODE, CITY, DATE_RANGE, STATE, COUNTRY,
+        QUERY, SEARCH_TEXT, FUZZY_NAME;
+
+        int rank(String term) {
+            return ordinal() * 64 - Math.min(term.length(), 63);
+        }
+    }
+
+    /**
+     * Normalized criteria a plan is compiled from and cached by: blank terms are dropped, terms
+     * are folded, sort fields are lower-cased, and paging is left out since it does not affect the plan.
+     * A fuzzy name term also has its whitespace collapsed and carries the edit budget actually
+     * applied, see {@link FuzzyName#effectiveMaxEdits}; other name matches carry a budget of zero.
+     * A phonetic name term is folded like any other term; its codes are derived when compiling. The
+     * query expression is kept as parsed, its term values are already folded.
+     */
+    public record Key(String searchText, SearchExpression query,
+                      String name, NameMatch nameMatch, int maxEditDistance,
+                      String email, String phone,
+                      String city, String state, String country, String zipCode,
+                      LocalDateTime createdAfter, LocalDateTime createdBefore,
+                      LocalDateTime updatedAfter, LocalDateTime updatedBefore,
+                      List<SortCriteria> sortCriteria) {
+
+        public static Key of(CustomerSearchCriteria criteria) {
+            boolean fuzzy = criteria.hasFuzzyName();
+            String name = fuzzy ? FuzzyName.normalize(criteria.getName()) : normalize(criteria.getName());
+            return new Key(
+                    normalize(criteria.getSearchText()),
+                    criteria.getQuery(),
+                    name,
+                    fuzzy ? NameMatch.FUZZY : criteria.hasPhoneticName() ? NameMatch.PHONETIC : NameMatch.CONTAINS,
+                    fuzzy ? FuzzyName.effectiveMaxEdits(name, criteria.getMaxEditDistance()) : 0,
+                    normalize(criteria.getEmail()),
+                    normalize(criteria.getPhone()),
+                    normalize(criteria.getCity()),
+                    normalize(criteria.getState()),
+                    normalize(criteria.getCountry()),
+                    normalize(criteria.getZipCode()),
+                    criteria.getCreatedAfter(),
+                    criteria.getCreatedBefore(),
+                    criteria.getUpdatedAfter(),
+                    criteria.getUpdatedBefore(),
+                    criteria.getSortCriteria().stream()
+                            .map(sort -> new SortCriteria(sort.field().toLowerCase(), sort.direction()))
+                            .toList());
+        }
+
+        private static String normalize(String term) {
+            return term == null || term.isBlank() ? null : CustomerSearchKeys.fold(term);
+        }
+    }
+}
@@ -0,0 +1,207 @@
+package com.example.customermanagement.application.search;
+
+import com.example.customermanagement.domain.exception.InvalidCustomerDataException;
+import com.example.customermanagement.domain.model.Customer;
+import com.example.customermanagement.domain.model.CustomerSearchCriteria.SortCriteria;
+import com.example.customermanagement.domain.model.CustomerSearchCriteria.SortCriteria.SortDirection;
+import com.example.customermanagement.domain.model.CustomerSearchKeys;
+import com.example.customermanagement.domain.model.PageCursor;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+/**
+ * Total ordering of customers for a list of sort criteria, with the customer id as the final
+ * tie-breaker so that keyset cursors identify a unique position. Without sort criteria the
+ * ordering is newest first by createdAt, matching the default customer listing.
+ */
+public final class KeysetOrdering {
+
+    public static final List<SortCriteria> DEFAULT_SORT =
+            List.of(new SortCriteria("createdat", SortDirection.DESC));
+
+    private final List<SortCriteria> sortCriteria;
+    private final List<SortKey> keys;
+    private final Comparator<Customer> comparator;
+    private final String signature;
+
+    private KeysetOrdering(List<SortCriteria> sortCriteria) {
+        this.sortCriteria = sortCriteria;
+        this.keys = sortCriteria.stream().map(sort -> keyFor(sort.field())).toList();
+        this.comparator = buildComparator();
+        this.signature = sortCriteria.stream()
+                .map(sort -> sort.field().toLowerCase() + ":" + sort.direction().name().toLowerCase())
+                .collect(Collectors.joining(","));
+    }
+
+    public static KeysetOrdering of(List<SortCriteria> sortCriteria) {
+        return new KeysetOrdering(sortCriteria == null || sortCriteria.isEmpty() ? DEFAULT_SORT : sortCriteria);
+    }
+
+    public Comparator<Customer> comparator() {
+        return comparator;
+    }
+
+    public String signature() {
+        return signature;
+    }
+
+    /**
+     * Whether this is the default newest-first (createdAt desc, id) ordering.
+     */
+    public boolean isNewestFirst() {
+        return signature.equals("createdat:desc");
+    }
+
+    public PageCursor cursorAt(Customer customer) {
+        List<String> values = new ArrayList<>(keys.size());
+        for (SortKey key : keys) {
+            values.add(key.encode(customer));
+        }
+        return new PageCursor(signature, values, customer.getId());
+    }
+
+    /**
+     * Returns a predicate accepting only customers positioned strictly after the cursor.
+     */
+    public Predicate<Customer> after(PageCursor cursor) {
+        if (!signature.equals(cursor.sortSignature()) || cursor.sortValues().size() != keys.size()) {
+            throw InvalidCustomerDataException.invalidCursor(cursor.sortSignature(),
+                    "cursor does not match the requested sort order");
+        }
+
+        Object[] position = new Object[keys.size()];
+        for (int i = 0; i < keys.size(); i++) {
+            position[i] = keys.get(i).decode(cursor.sortValues().get(i));
+        }
+
+        return customer -> {
+            for (int i = 0; i < keys.size(); i++) {
+                int comparison = keys.get(i).compareTo(customer, position[i]);
+                if (comparison != 0) {
+                    return isDescending(i) ? comparison < 0 : comparison > 0;
+                }
+            }
+            return customer.getId().compareTo(cursor.lastId()) > 0;
+        };
+    }
+
+    private Comparator<Customer> buildComparator() {
+        Comparator<Customer> result = (c1, c2) -> 0;
+        for (int i = 0; i < keys.size(); i++) {
+            SortKey key = keys.get(i);
+            Comparator<Customer> fieldComparator = key::compare;
+            result = result.thenComparing(isDescending(i) ? fieldComparator.reversed() : fieldComparator);
+        }
+        return result.thenComparing(Customer::getId);
+    }
+
+    private boolean isDescending(int index) {
+        return sortCriteria.get(index).direction() == SortDirection.DESC;
+    }
+
+    private static SortKey keyFor(String field) {
+        return switch (field.toLowerCase()) {
+            case "name" -> new TextKey(Customer::getName, CustomerSearchKeys::name);
+            case "email" -> new TextKey(Customer::getEmail, CustomerSearchKeys::email);
+            case "phone" -> new TextKey(Customer::getPhone, CustomerSearchKeys::phone);
+            case "city" -> new TextKey(customer -> customer.getAddress().getCity(), CustomerSearchKeys::city);
+            case "state" -> new TextKey(customer -> customer.getAddress().getState(), CustomerSearchKeys::state);
+            case "country" -> new TextKey(customer -> customer.getAddress().getCountry(), CustomerSearchKeys::country);
+            case "zipcode", "zip" -> new TextKey(customer -> customer.getAddress().getZipCode(), CustomerSearchKeys::zipCode);
+            case "createdat", "created" -> new DateKey(Customer::getCreatedAt);
+            case "updatedat", "updated" -> new DateKey(Customer::getUpdatedAt);
+            default -> new ConstantKey();
+        };
+    }
+
+    private sealed interface SortKey permits TextKey, DateKey, ConstantKey {
+        int compare(Customer left, Customer right);
+
+        String encode(Customer customer);
+
+        Object decode(String value);
+
+        int compareTo(Customer customer, Object decodedValue);
+    }
+
+    /**
+     * Orders by the precomputed folded key; cursors carry the raw value, which is folded on decode.
+     */
+    private record TextKey(Function<Customer, String> accessor,
+                           Function<CustomerSearchKeys, String> folded) implements SortKey {
+        @Override
+        public int compare(Customer left, Customer right) {
+            return folded.apply(left.getSearchKeys()).compareTo(folded.apply(right.getSearchKeys()));
+        }
+
+        @Override
+        public String encode(Customer customer) {
+            return accessor.apply(customer);
+        }
+
+        @Override
+        public Object decode(String value) {
+            return CustomerSearchKeys.fold(value);
+        }
+
+        @Override
+        public int compareTo(Customer customer, Object decodedValue) {
+            return folded.apply(customer.getSearchKeys()).compareTo((String) decodedValue);
+        }
+    }
+
+    private record DateKey(Function<Customer, LocalDateTime> accessor) implements SortKey {
+        @Override
+        public int compare(Customer left, Customer right) {
+            return accessor.apply(left).compareTo(accessor.apply(right));
+        }
+
+        @Override
+        public String encode(Customer customer) {
+            return accessor.apply(customer).toString();
+        }
+
+        @Override
+        public Object decode(String value) {
+            try {
+                return LocalDateTime.parse(value);
+            } catch (DateTimeParseException e) {
+                throw InvalidCustomerDataException.invalidCursor(value, "malformed date in cursor");
+            }
+        }
+
+        @Override
+        public int compareTo(Customer customer, Object decodedValue) {
+            return accessor.apply(customer).compareTo((LocalDateTime) decodedValue);
+        }
+    }
+
+    private record ConstantKey() implements SortKey {
+        @Override
+        public int compare(Customer left, Customer right) {
+            return 0;
+        }
+
+        @Override
+        public String encode(Customer customer) {
+            return "";
+        }
+
+        @Override
+        public Object decode(String value) {
+            return value;
+        }
+
+        @Override
+        public int compareTo(Customer customer, Object decodedValue) {
+            return 0;
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.example.customermanagement.application.search;
+
+import com.example.customermanagement.domain.model.Customer;
+import com.example.customermanagement.domain.model.CustomerSlice;
+import com.example.customermanagement.domain.model.FuzzyName;
+
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+/**
+ * Orders fuzzy name matches by closeness to the term: fewest edits first, then highest trigram
+ * similarity, then newest first. Each match is scored once and only the requested page is kept.
+ */
+public final class RelevanceRanking {
+
+    private static final Comparator<Scored> ORDER = Comparator.comparingInt(Scored::distance)
+            .thenComparing(Comparator.comparingDouble(Scored::similarity).reversed())
+            .thenComparing(scored -> scored.customer().getCreatedAt(), Comparator.reverseOrder())
+            .thenComparing(scored -> scored.customer().getId());
+
+    private final String term;
+    private final int maxEdits;
+
+    RelevanceRanking(String normalizedTerm, int maxEdits) {
+        this.term = normalizedTerm;
+        this.maxEdits = maxEdits;
+    }
+
+    /**
+     * Returns the matches accepted by {@code filter} ranked from {@code offset}, capped at
+     * {@code limit}, with the total number of matches.
+     */
+    public CustomerSlice selectPage(Stream<Customer> candidates, Predicate<Customer> filter, long offset, int limit) {
+        TopK<Scored> top = new TopK<>(ORDER, offset + limit);
+        long total = 0;
+        Iterator<Customer> matches = candidates.filter(filter).iterator();
+        while (matches.hasNext()) {
+            top.offer(score(matches.next()));
+            total++;
+        }
+        return new CustomerSlice(top.sortedFrom(offset).stream().map(Scored::customer).toList(), total);
+    }
+
+    private Scored score(Customer customer) {
+        String name = customer.getSearchKeys().name();
+        return new Scored(customer, FuzzyName.distance(term, name, maxEdits), FuzzyName.similarity(term, name));
+    }
+
+    private record Scored(Customer customer, int distance, double similarity) {
+    }
+}
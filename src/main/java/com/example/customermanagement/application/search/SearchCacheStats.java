@@ -0,0 +1,13 @@
+package com.example.customermanagement.application.search;
+
+/**
+ * Point-in-time counters of a {@link SearchResultCache}. Evictions count entries dropped for size or
+ * age; invalidations count entries found stale because the store changed after they were cached.
+ */
+public record SearchCacheStats(long hits, long misses, long evictions, long invalidations, int size) {
+
+    public double hitRatio() {
+        long lookups = hits + misses;
+        return lookups == 0 ? 0 : (double) hits / lookups;
+    }
+}
@@ -0,0 +1,33 @@
+package com.example.customermanagement.application.search;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Periodically logs the search page cache's hit ratio, size and how many entries it dropped.
+ */
+@Component
+@ConditionalOnExpression("${customer.search.cache.max-entries:1000} > 0")
+public class SearchCacheStatsReporter {
+
+    private static final Logger log = LoggerFactory.getLogger(SearchCacheStatsReporter.class);
+
+    private final SearchResultCache searchResultCache;
+
+    public SearchCacheStatsReporter(SearchResultCache searchResultCache) {
+        this.searchResultCache = searchResultCache;
+    }
+
+    @Scheduled(
+            initialDelayString = "${customer.search.cache.stats-interval-ms:60000}",
+            fixedDelayString = "${customer.search.cache.stats-interval-ms:60000}")
+    public void report() {
+        SearchCacheStats stats = searchResultCache.stats();
+        log.info("Search cache: {} entries, {} hits, {} misses ({} hit ratio), {} evictions, {} invalidations",
+                stats.size(), stats.hits(), stats.misses(), String.format("%.2f", stats.hitRatio()),
+                stats.evictions(), stats.invalidations());
+    }
+}
@@ -0,0 +1,128 @@
+package com.example.customermanagement.application.search;
+
+import com.example.customermanagement.domain.model.Customer;
+import com.example.customermanagement.domain.model.CustomerSlice;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+/**
+ * Runs the filter-and-select scan of a search either on the calling thread or, from a configurable
+ * number of candidates on, split across a dedicated {@link ForkJoinPool} kept apart from the request
+ * threads. A single search is split into at most {@code maxParallelismPerRequest} parts, so one heavy
+ * query occupies only part of the pool and concurrent searches still make progress.
+ */
+public final class SearchExecutor implements AutoCloseable {
+
+    private final ForkJoinPool pool;
+    private final long parallelThreshold;
+    private final int maxParallelismPerRequest;
+
+    public SearchExecutor(int poolSize, long parallelThreshold, int maxParallelismPerRequest) {
+        this.pool = poolSize > 1 ? new ForkJoinPool(poolSize) : null;
+        this.parallelThreshold = parallelThreshold;
+        this.maxParallelismPerRequest = Math.max(1, Math.min(maxParallelismPerRequest, Math.max(1, poolSize)));
+    }
+
+    /**
+     * An executor that always scans on the calling thread.
+     */
+    public static SearchExecutor sequential() {
+        return new SearchExecutor(1, Long.MAX_VALUE, 1);
+    }
+
+    public boolean runsInParallel(long candidateCount) {
+        return pool != null && maxParallelismPerRequest > 1 && candidateCount >= parallelThreshold;
+    }
+
+    /**
+     * Candidate count from which a scan is large enough to be worth splitting.
+     */
+    public long parallelThreshold() {
+        return parallelThreshold;
+    }
+
+    public int maxParallelismPerRequest() {
+        return maxParallelismPerRequest;
+    }
+
+    /**
+     * Counts the candidates accepted by {@code filter} and returns those also accepted by
+     * {@code position} in {@code order}, after skipping {@code offset} and capped at {@code limit}.
+     * Each part of the scan keeps only offset + limit customers in a bounded heap. The predicates
+     * and the comparator may be called from several threads at once.
+     */
+    public CustomerSlice selectPage(Stream<Customer> candidates, long candidateCount, Predicate<Customer> filter,
+                                    Predicate<Customer> position, Comparator<Customer> order,
+                                    long offset, int limit) {
+        if (!runsInParallel(candidateCount)) {
+            Partial partial = scan(candidates.spliterator(), filter, position, order, offset + limit);
+            return new CustomerSlice(partial.top().sortedFrom(offset), partial.total());
+        }
+
+        List<ForkJoinTask<Partial>> tasks = new ArrayList<>(maxParallelismPerRequest);
+        for (Spliterator<Customer> part : split(candidates.spliterator())) {
+            tasks.add(pool.submit(() -> scan(part, filter, position, order, offset + limit)));
+        }
+        TopK<Customer> top = new TopK<>(order, offset + limit);
+        long total = 0;
+        for (ForkJoinTask<Partial> task : tasks) {
+            Partial partial = task.join();
+            top.offerAll(partial.top().sortedFrom(0));
+            total += partial.total();
+        }
+        return new CustomerSlice(top.sortedFrom(offset), total);
+    }
+
+    @Override
+    public void close() {
+        if (pool != null) {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * Splits the source breadth-first until there are {@code maxParallelismPerRequest} parts or no
+     * part can be split further.
+     */
+    private List<Spliterator<Customer>> split(Spliterator<Customer> source) {
+        List<Spliterator<Customer>> parts = new ArrayList<>(maxParallelismPerRequest);
+        parts.add(source);
+        boolean splitAny = true;
+        while (splitAny && parts.size() < maxParallelismPerRequest) {
+            splitAny = false;
+            for (int i = 0, count = parts.size(); i < count && parts.size() < maxParallelismPerRequest; i++) {
+                Spliterator<Customer> prefix = parts.get(i).trySplit();
+                if (prefix != null) {
+                    parts.add(prefix);
+                    splitAny = true;
+                }
+            }
+        }
+        return parts;
+    }
+
+    private static Partial scan(Spliterator<Customer> part, Predicate<Customer> filter, Predicate<Customer> position,
+                                Comparator<Customer> order, long capacity) {
+        TopK<Customer> top = new TopK<>(order, capacity);
+        long[] total = new long[1];
+        part.forEachRemaining(customer -> {
+            if (filter.test(customer)) {
+                total[0]++;
+                if (position.test(customer)) {
+                    top.offer(customer);
+                }
+            }
+        });
+        return new Partial(top, total[0]);
+    }
+
+    private record Partial(TopK<Customer> top, long total) {
+    }
+}
@@ -0,0 +1,111 @@
+package com.example.customermanagement.application.search;
+
+import com.example.customermanagement.domain.model.SearchExpression;
+import com.example.customermanagement.domain.repository.CustomerRepository;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Evaluates a {@link SearchExpression} against the repository's posting sets instead of testing
+ * every customer: address terms read the address field indexes, other terms read the free-text
+ * trigram candidates, AND intersects, OR unions and AND NOT subtracts. Trigram postings only
+ * bound the matches from above, so each result records whether it is exact; a NOT is only
+ * subtracted when its operand is exact, and a NOT that is not part of an AND cannot be narrowed.
+ * The result is still a superset to verify with the compiled plan.
+ */
+public final class SearchExpressionPostings {
+
+    private final CustomerRepository customerRepository;
+
+    public SearchExpressionPostings(CustomerRepository customerRepository) {
+        this.customerRepository = customerRepository;
+    }
+
+    /**
+     * Ids of the customers that may match {@code expression}, or an empty Optional when some part
+     * of it has no index to answer from and the customers must be scanned instead.
+     */
+    public Optional<Set<UUID>> candidates(SearchExpression expression) {
+        return evaluate(expression).map(Postings::ids);
+    }
+
+    private Optional<Postings> evaluate(SearchExpression expression) {
+        return switch (expression) {
+            case SearchExpression.Term term -> term(term);
+            case SearchExpression.And and -> and(and.operands());
+            case SearchExpression.Or or -> or(or.operands());
+            case SearchExpression.Not not -> Optional.empty();
+        };
+    }
+
+    private Optional<Postings> term(SearchExpression.Term term) {
+        if (term.field().addressField() != null) {
+            return customerRepository.findIdsByAddressField(term.field().addressField(), term.value(), term.matchMode())
+                    .map(ids -> new Postings(ids, true));
+        }
+        return customerRepository.findCandidateIdsByText(term.value())
+                .map(ids -> new Postings(ids, false));
+    }
+
+    private Optional<Postings> and(List<SearchExpression> operands) {
+        Set<UUID> ids = null;
+        boolean exact = true;
+        List<SearchExpression> negated = new ArrayList<>();
+        for (SearchExpression operand : operands) {
+            if (operand instanceof SearchExpression.Not not) {
+                negated.add(not.operand());
+                continue;
+            }
+            Optional<Postings> postings = evaluate(operand);
+            if (postings.isEmpty()) {
+                exact = false;
+            } else if (ids == null) {
+                ids = new HashSet<>(postings.get().ids());
+                exact &= postings.get().exact();
+            } else {
+                ids.retainAll(postings.get().ids());
+                exact &= postings.get().exact();
+            }
+            if (ids != null && ids.isEmpty()) {
+                return Optional.of(new Postings(ids, exact));
+            }
+        }
+        if (ids == null) {
+            return Optional.empty();
+        }
+        for (SearchExpression operand : negated) {
+            Optional<Postings> postings = evaluate(operand);
+            if (postings.isPresent() && postings.get().exact()) {
+                ids.removeAll(postings.get().ids());
+            } else {
+                exact = false;
+            }
+        }
+        return Optional.of(new Postings(ids, exact));
+    }
+
+    private Optional<Postings> or(List<SearchExpression> operands) {
+        Set<UUID> ids = new HashSet<>();
+        boolean exact = true;
+        for (SearchExpression operand : operands) {
+            Optional<Postings> postings = evaluate(operand);
+            if (postings.isEmpty()) {
+                return Optional.empty();
+            }
+            ids.addAll(postings.get().ids());
+            exact &= postings.get().exact();
+        }
+        return Optional.of(new Postings(ids, exact));
+    }
+
+    /**
+     * Candidate ids; {@code exact} when they are precisely the matching customers.
+     */
+    private record Postings(Set<UUID> ids, boolean exact) {
+    }
+}
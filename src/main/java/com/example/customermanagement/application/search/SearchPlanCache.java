@@ -0,0 +1,43 @@
+package com.example.customermanagement.application.search;
+
+import com.example.customermanagement.domain.model.CustomerSearchCriteria;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Bounded least-recently-used cache of compiled search plans keyed by normalized criteria, so
+ * repeated queries that differ only in paging or letter case reuse one plan.
+ */
+public final class SearchPlanCache {
+
+    public static final int DEFAULT_CAPACITY = 512;
+
+    private final Map<CustomerSearchPlan.Key, CustomerSearchPlan> plans;
+
+    public SearchPlanCache() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public SearchPlanCache(int capacity) {
+        this.plans = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<CustomerSearchPlan.Key, CustomerSearchPlan> eldest) {
+                return size() > capacity;
+            }
+        };
+    }
+
+    public CustomerSearchPlan planFor(CustomerSearchCriteria criteria) {
+        CustomerSearchPlan.Key key = CustomerSearchPlan.Key.of(criteria);
+        synchronized (plans) {
+            return plans.computeIfAbsent(key, CustomerSearchPlan::compile);
+        }
+    }
+
+    public int size() {
+        synchronized (plans) {
+            return plans.size();
+        }
+    }
+}
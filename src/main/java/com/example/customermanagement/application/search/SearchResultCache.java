@@ -0,0 +1,111 @@
+package com.example.customermanagement.application.search;
+
+import com.example.customermanagement.domain.model.CustomerSearchCriteria;
+import com.example.customermanagement.domain.model.PageCursor;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Bounded cache of search pages keyed by normalized criteria plus the requested page. Each entry
+ * records the repository generation it was computed at and is served only while the generation is
+ * unchanged, so any write makes every cached page stale. Entries are also dropped once older than
+ * the time to live, and the least recently used entry is evicted when the cache is full.
+ */
+public final class SearchResultCache {
+
+    private final int maxEntries;
+    private final long ttlNanos;
+    private final LongSupplier nanoClock;
+    private final Map<Key, Entry> entries;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder invalidations = new LongAdder();
+
+    public SearchResultCache(int maxEntries, Duration ttl) {
+        this(maxEntries, ttl, System::nanoTime);
+    }
+
+    SearchResultCache(int maxEntries, Duration ttl, LongSupplier nanoClock) {
+        this.maxEntries = Math.max(0, maxEntries);
+        this.ttlNanos = ttl.toNanos();
+        this.nanoClock = nanoClock;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, Entry> eldest) {
+                if (size() > SearchResultCache.this.maxEntries) {
+                    evictions.increment();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * A cache that stores nothing, so every lookup computes the page.
+     */
+    public static SearchResultCache disabled() {
+        return new SearchResultCache(0, Duration.ZERO);
+    }
+
+    /**
+     * Returns the cached page for {@code criteria} if it was computed at {@code generation} and has
+     * not expired, otherwise computes it with {@code search} and caches it under that generation.
+     * The generation must be read before the search runs, so a write racing with the search leaves
+     * an entry that is already stale.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T get(CustomerSearchCriteria criteria, long generation, Supplier<T> search) {
+        if (maxEntries == 0) {
+            return search.get();
+        }
+        Key key = Key.of(criteria);
+        long now = nanoClock.getAsLong();
+        synchronized (entries) {
+            Entry entry = entries.get(key);
+            if (entry != null) {
+                if (entry.generation() != generation) {
+                    entries.remove(key);
+                    invalidations.increment();
+                } else if (now - entry.createdAtNanos() >= ttlNanos) {
+                    entries.remove(key);
+                    evictions.increment();
+                } else {
+                    hits.increment();
+                    return (T) entry.value();
+                }
+            }
+        }
+        misses.increment();
+        T value = search.get();
+        synchronized (entries) {
+            entries.put(key, new Entry(generation, now, value));
+        }
+        return value;
+    }
+
+    public SearchCacheStats stats() {
+        int size;
+        synchronized (entries) {
+            size = entries.size();
+        }
+        return new SearchCacheStats(hits.sum(), misses.sum(), evictions.sum(), invalidations.sum(), size);
+    }
+
+    private record Key(CustomerSearchPlan.Key plan, PageCursor cursor, int page, int size) {
+
+        static Key of(CustomerSearchCriteria criteria) {
+            return new Key(CustomerSearchPlan.Key.of(criteria), criteria.getCursor(),
+                    criteria.getPage(), criteria.getSize());
+        }
+    }
+
+    private record Entry(long generation, long createdAtNanos, Object value) {
+    }
+}
@@ -0,0 +1,52 @@
+package com.example.customermanagement.application.search;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * Keeps the first {@code capacity} elements offered in {@code order} using a bounded heap whose
+ * root is the element that sorts last, so each offer costs O(log capacity) and memory stays
+ * proportional to the page being served rather than to the number of matches.
+ */
+public final class TopK<T> {
+
+    private final Comparator<? super T> order;
+    private final int capacity;
+    private final PriorityQueue<T> heap;
+
+    public TopK(Comparator<? super T> order, long capacity) {
+        this.order = order;
+        this.capacity = (int) Math.min(Integer.MAX_VALUE - 8, Math.max(0, capacity));
+        this.heap = new PriorityQueue<>(Math.max(1, Math.min(this.capacity, 1024)), order.reversed());
+    }
+
+    public void offer(T element) {
+        if (heap.size() < capacity) {
+            heap.add(element);
+        } else if (capacity > 0 && order.compare(element, heap.peek()) < 0) {
+            heap.poll();
+            heap.add(element);
+        }
+    }
+
+    public void offerAll(Collection<? extends T> elements) {
+        for (T element : elements) {
+            offer(element);
+        }
+    }
+
+    /**
+     * Returns the kept elements in order, skipping the first {@code offset}.
+     */
+    public List<T> sortedFrom(long offset) {
+        List<T> sorted = new ArrayList<>(heap);
+        sorted.sort(order);
+        if (offset >= sorted.size()) {
+            return new ArrayList<>();
+        }
+        return new ArrayList<>(sorted.subList((int) offset, sorted.size()));
+    }
+}
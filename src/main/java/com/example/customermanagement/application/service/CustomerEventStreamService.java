@@ -0,0 +1,131 @@
+package com.example.customermanagement.application.service;
+
+import com.example.customermanagement.domain.exception.EventPositionUnavailableException;
+import com.example.customermanagement.domain.exception.SubscriberLimitExceededException;
+import com.example.customermanagement.domain.exception.UnsupportedRepositoryFeatureException;
+import com.example.customermanagement.domain.model.CustomerEvent;
+import com.example.customermanagement.domain.model.CustomerEvents;
+import com.example.customermanagement.domain.repository.CustomerEventLog;
+import com.example.customermanagement.domain.repository.CustomerRepository;
+import com.example.customermanagement.infrastructure.mapper.CustomerMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Streams the repository's change log as Server-Sent Events. Each subscriber is served by its own
+ * virtual thread that keeps its own position in the log, so a slow client only ever blocks itself
+ * and writers never wait for it. Event ids are sequence numbers, which lets a reconnecting client
+ * resume through {@code Last-Event-ID}. A subscriber that falls behind by more than the log holds
+ * receives an {@code overwritten} event and the stream ends. At most
+ * {@code customer.events.stream.max-subscribers} streams are open at once; further subscribers are
+ * turned away until one of them ends.
+ */
+@Service
+public class CustomerEventStreamService {
+
+    static final int BATCH_SIZE = 100;
+    static final Duration HEARTBEAT_INTERVAL = Duration.ofSeconds(15);
+    static final long STREAM_TIMEOUT_MILLIS = Duration.ofMinutes(30).toMillis();
+
+    private final CustomerRepository customerRepository;
+    private final CustomerMapper customerMapper;
+    private final int maxSubscribers;
+    private final Semaphore subscribers;
+
+    public CustomerEventStreamService(CustomerRepository customerRepository, CustomerMapper customerMapper,
+                                      @Value("${customer.events.stream.max-subscribers:1000}") int maxSubscribers) {
+        if (maxSubscribers < 1) {
+            throw new IllegalArgumentException("Maximum subscribers must be at least 1, was " + maxSubscribers);
+        }
+        this.customerRepository = customerRepository;
+        this.customerMapper = customerMapper;
+        this.maxSubscribers = maxSubscribers;
+        this.subscribers = new Semaphore(maxSubscribers);
+    }
+
+    /**
+     * Number of streams currently open.
+     */
+    public int activeSubscribers() {
+        return maxSubscribers - subscribers.availablePermits();
+    }
+
+    /**
+     * Starts streaming the events after {@code after}, or from now when it is null. The position, and
+     * the log {@code epoch} when given, are checked before the stream opens, so an unavailable
+     * position fails the request itself, as does a subscriber beyond the limit.
+     */
+    public SseEmitter subscribe(Long after, Long epoch) {
+        CustomerEventLog log = customerRepository.eventLog()
+                .orElseThrow(UnsupportedRepositoryFeatureException::changeLog);
+        long position = after != null ? after : log.headSequence();
+        if (epoch != null && epoch != log.epoch()) {
+            throw EventPositionUnavailableException.otherLog(position, log.epoch());
+        }
+        log.readAfter(position, 0);
+        if (!subscribers.tryAcquire()) {
+            throw SubscriberLimitExceededException.eventStream(maxSubscribers);
+        }
+
+        SseEmitter emitter = new SseEmitter(STREAM_TIMEOUT_MILLIS);
+        Thread pump = Thread.ofVirtual()
+                .name("customer-events-" + position)
+                .unstarted(() -> pump(log, position, emitter));
+        emitter.onCompletion(pump::interrupt);
+        emitter.onTimeout(pump::interrupt);
+        emitter.onError(error -> pump.interrupt());
+        pump.start();
+        return emitter;
+    }
+
+    /**
+     * Sends events until the stream ends, then frees the subscriber's slot. Every way the stream can
+     * end (completion, timeout, a failed send) interrupts or stops this thread.
+     */
+    private void pump(CustomerEventLog log, long start, SseEmitter emitter) {
+        try {
+            send(log, start, emitter);
+        } finally {
+            subscribers.release();
+        }
+    }
+
+    private void send(CustomerEventLog log, long start, SseEmitter emitter) {
+        long position = start;
+        try {
+            while (!Thread.currentThread().isInterrupted()) {
+                if (!log.awaitAfter(position, HEARTBEAT_INTERVAL)) {
+                    emitter.send(SseEmitter.event().comment("heartbeat"));
+                    continue;
+                }
+                CustomerEvents batch = log.readAfter(position, BATCH_SIZE);
+                for (CustomerEvent event : batch.events()) {
+                    emitter.send(SseEmitter.event()
+                            .id(Long.toString(event.sequence()))
+                            .name(event.type().name())
+                            .data(customerMapper.toEventDto(event), MediaType.APPLICATION_JSON));
+                    position = event.sequence();
+                }
+            }
+        } catch (EventPositionUnavailableException e) {
+            try {
+                emitter.send(SseEmitter.event().name("overwritten").data(e.getMessage()));
+                emitter.complete();
+            } catch (IOException | IllegalStateException closed) {
+                // The client is gone as well
+                emitter.completeWithError(closed);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (IOException | IllegalStateException e) {
+            // The client disconnected or the emitter completed; let the container release the request
+            emitter.completeWithError(e);
+        }
+    }
+}
@@ -1,11 +1,19 @@
 package com.example.customermanagement.application.service;
 
 import com.example.customermanagement.application.usecase.GetAllCustomersUseCase;
+import com.example.customermanagement.application.usecase.GetCustomerFacetsUseCase;
 import com.example.customermanagement.application.usecase.SearchCustomersUseCase;
+import com.example.customermanagement.application.usecase.GetCustomerChangesUseCase;
+import com.example.customermanagement.application.usecase.GetCustomerEventsUseCase;
+import com.example.customermanagement.application.usecase.SuggestCustomersUseCase;
 import com.example.customermanagement.domain.model.CustomerSearchCriteria;
 import com.example.customermanagement.infrastructure.mapper.CustomerSearchMapper;
 import com.example.customermanagement.web.dto.common.PageResponseDTO;
+import com.example.customermanagement.web.dto.customer.CustomerFacetsResponseDTO;
 import com.example.customermanagement.web.dto.customer.CustomerResponseDTO;
+import com.example.customermanagement.web.dto.customer.CustomerChangesResponseDTO;
+import com.example.customermanagement.web.dto.customer.CustomerEventsResponseDTO;
+import com.example.customermanagement.web.dto.customer.CustomerSuggestionDTO;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 
@@ -16,20 +24,33 @@ public class CustomerSearchService {
     
     private final GetAllCustomersUseCase getAllCustomersUseCase;
     private final SearchCustomersUseCase searchCustomersUseCase;
+    private final GetCustomerFacetsUseCase getCustomerFacetsUseCase;
+    private final SuggestCustomersUseCase suggestCustomersUseCase;
+    private final GetCustomerChangesUseCase getCustomerChangesUseCase;
+    private final GetCustomerEventsUseCase getCustomerEventsUseCase;
     private final CustomerSearchMapper customerSearchMapper;
     
     public CustomerSearchService(GetAllCustomersUseCase getAllCustomersUseCase,
                                  SearchCustomersUseCase searchCustomersUseCase,
+                                 GetCustomerFacetsUseCase getCustomerFacetsUseCase,
+                                 SuggestCustomersUseCase suggestCustomersUseCase,
+                                 GetCustomerChangesUseCase getCustomerChangesUseCase,
+                                 GetCustomerEventsUseCase getCustomerEventsUseCase,
                                  CustomerSearchMapper customerSearchMapper) {
         this.getAllCustomersUseCase = getAllCustomersUseCase;
         this.searchCustomersUseCase = searchCustomersUseCase;
+        this.getCustomerFacetsUseCase = getCustomerFacetsUseCase;
+        this.suggestCustomersUseCase = suggestCustomersUseCase;
+        this.getCustomerChangesUseCase = getCustomerChangesUseCase;
+        this.getCustomerEventsUseCase = getCustomerEventsUseCase;
         this.customerSearchMapper = customerSearchMapper;
     }
     
     public ResponseEntity<?> getAllCustomersWithFiltering(
             Integer page, Integer size, String search, String name, String email, String phone,
             String city, String state, String country, String zipCode, String createdAfter,
-            String createdBefore, String updatedAfter, String updatedBefore, List<String> sort) {
+            String createdBefore, String updatedAfter, String updatedBefore, List<String> sort,
+            String cursor) {
         
         // Check if any filtering or sorting parameters are provided
         boolean hasFilters = search != null || name != null || email != null || phone != null ||
@@ -38,8 +59,11 @@ public class CustomerSearchService {
                            updatedAfter != null || updatedBefore != null ||
                            (sort != null && !sort.isEmpty());
         
+        // A cursor always implies a paged response
+        boolean isPaged = page != null || size != null || cursor != null;
+        
         // If no filters/sorting and no pagination, use simple method
-        if (!hasFilters && page == null && size == null) {
+        if (!hasFilters && !isPaged) {
             List<CustomerResponseDTO> customers = getAllCustomersUseCase.execute();
             return ResponseEntity.ok(customers);
         }
@@ -51,10 +75,10 @@ public class CustomerSearchService {
         CustomerSearchCriteria searchCriteria = customerSearchMapper.toSearchCriteria(
             search, name, email, phone, city, state, country, zipCode,
             createdAfter, createdBefore, updatedAfter, updatedBefore,
-            sort, pageNumber, pageSize
+            sort, cursor, pageNumber, pageSize
         );
         
-        if (page == null && size == null) {
+        if (!isPaged) {
             List<CustomerResponseDTO> customers = searchCustomersUseCase.executeAllResults(searchCriteria);
             return ResponseEntity.ok(customers);
         }
@@ -67,16 +91,42 @@ public class CustomerSearchService {
     
 
     public PageResponseDTO<CustomerResponseDTO> searchCustomers(
-            String search, String name, String email, String phone, String city, String state, 
-            String country, String zipCode, String createdAfter, String createdBefore, 
-            String updatedAfter, String updatedBefore, List<String> sort, int page, int size) {
+            String search, String q, String name, String nameMatch, Integer maxEdits, String email, String phone,
+            String city, String state, String country, String zipCode, String createdAfter, String createdBefore, 
+            String updatedAfter, String updatedBefore, List<String> sort, String cursor, int page, int size) {
         
         CustomerSearchCriteria searchCriteria = customerSearchMapper.toSearchCriteria(
-            search, name, email, phone, city, state, country, zipCode,
+            search, q, name, nameMatch, maxEdits, email, phone, city, state, country, zipCode,
             createdAfter, createdBefore, updatedAfter, updatedBefore,
-            sort, page, size
+            sort, cursor, page, size
         );
         
         return searchCustomersUseCase.execute(searchCriteria);
     }
+
+    public CustomerFacetsResponseDTO getFacets(
+            String search, String q, String name, String nameMatch, Integer maxEdits, String email, String phone,
+            String city, String state, String country, String zipCode, String createdAfter, String createdBefore,
+            String updatedAfter, String updatedBefore, int zipPrefixLength, int limit) {
+
+        CustomerSearchCriteria searchCriteria = customerSearchMapper.toSearchCriteria(
+            search, q, name, nameMatch, maxEdits, email, phone, city, state, country, zipCode,
+            createdAfter, createdBefore, updatedAfter, updatedBefore,
+            null, null, 0, 20
+        );
+
+        return getCustomerFacetsUseCase.execute(searchCriteria, zipPrefixLength, limit);
+    }
+
+    public List<CustomerSuggestionDTO> suggestCustomers(String prefix, int limit) {
+        return suggestCustomersUseCase.execute(prefix, limit);
+    }
+
+    public CustomerChangesResponseDTO getChanges(String since, int limit) {
+        return getCustomerChangesUseCase.execute(since, limit);
+    }
+
+    public CustomerEventsResponseDTO getEvents(Long after, Long epoch, int limit, int waitSeconds) {
+        return getCustomerEventsUseCase.execute(after, epoch, limit, waitSeconds);
+    }
 }
@@ -23,9 +23,7 @@ public class GetAllCustomersUseCase {
         this.customerMapper = customerMapper;
     }
     public List<CustomerResponseDTO> execute() {
-        List<Customer> customers = customerRepository.findAll().stream()
-                .sorted(Comparator.comparing(Customer::getCreatedAt).reversed())
-                .collect(Collectors.toList());
+        List<Customer> customers = findNewestFirst(0, Integer.MAX_VALUE);
         return customerMapper.toResponseDtoList(customers);
     }
 
@@ -37,14 +35,19 @@ public class GetAllCustomersUseCase {
             throw InvalidCustomerDataException.invalidPagination("size", size, "Page size must be greater than 0");
         }
         
-        List<Customer> customers = customerRepository.findAll().stream()
-                .sorted(Comparator.comparing(Customer::getCreatedAt).reversed())
-                .skip((long) page * size)
-                .limit(size)
-                .collect(Collectors.toList());
+        List<Customer> customers = findNewestFirst((long) page * size, size);
         
         long totalCount = customerRepository.count();
         List<CustomerResponseDTO> customerDTOs = customerMapper.toResponseDtoList(customers);
         return new PageResponseDTO<>(customerDTOs, page, size, totalCount);
     }
+
+    private List<Customer> findNewestFirst(long offset, int limit) {
+        return customerRepository.findOrderedByCreatedAtDesc(offset, limit)
+                .orElseGet(() -> customerRepository.streamAll()
+                        .sorted(Comparator.comparing(Customer::getCreatedAt).reversed())
+                        .skip(offset)
+                        .limit(limit)
+                        .collect(Collectors.toList()));
+    }
 }
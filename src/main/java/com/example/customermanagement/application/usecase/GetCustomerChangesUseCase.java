@@ -0,0 +1,53 @@
+package com.example.customermanagement.application.usecase;
+
+import com.example.customermanagement.domain.exception.InvalidCustomerDataException;
+import com.example.customermanagement.domain.exception.UnsupportedRepositoryFeatureException;
+import com.example.customermanagement.domain.model.CustomerChange;
+import com.example.customermanagement.domain.model.CustomerChanges;
+import com.example.customermanagement.domain.repository.CustomerRepository;
+import com.example.customermanagement.infrastructure.mapper.ChangeTokenCodec;
+import com.example.customermanagement.infrastructure.mapper.CustomerMapper;
+import com.example.customermanagement.web.dto.customer.CustomerChangeDTO;
+import com.example.customermanagement.web.dto.customer.CustomerChangesResponseDTO;
+import org.springframework.stereotype.Service;
+
+/**
+ * Incremental sync: the customers changed or deleted since a token, in update order, read from the
+ * repository's change index so the cost follows the number of changes rather than of customers.
+ * Starting without a token returns every customer once, and the returned token resumes after the
+ * last change in the batch.
+ */
+@Service
+public class GetCustomerChangesUseCase {
+
+    static final int MAX_LIMIT = 1000;
+
+    private final CustomerRepository customerRepository;
+    private final CustomerMapper customerMapper;
+
+    public GetCustomerChangesUseCase(CustomerRepository customerRepository, CustomerMapper customerMapper) {
+        this.customerRepository = customerRepository;
+        this.customerMapper = customerMapper;
+    }
+
+    public CustomerChangesResponseDTO execute(String since, int limit) {
+        if (limit <= 0 || limit > MAX_LIMIT) {
+            throw InvalidCustomerDataException.invalidPagination("limit", limit,
+                    "Change limit must be between 1 and " + MAX_LIMIT);
+        }
+
+        CustomerChanges changes = customerRepository.findChangesSince(ChangeTokenCodec.decode(since), limit)
+                .orElseThrow(UnsupportedRepositoryFeatureException::changeFeed);
+        return new CustomerChangesResponseDTO(
+                changes.changes().stream().map(this::toDto).toList(),
+                ChangeTokenCodec.encode(changes.next()),
+                changes.hasMore());
+    }
+
+    private CustomerChangeDTO toDto(CustomerChange change) {
+        return change.deleted()
+                ? new CustomerChangeDTO(change.id(), "DELETED", change.changedAt(), null)
+                : new CustomerChangeDTO(change.id(), "UPSERTED", change.changedAt(),
+                        customerMapper.toResponseDto(change.customer()));
+    }
+}
@@ -0,0 +1,77 @@
+package com.example.customermanagement.application.usecase;
+
+import com.example.customermanagement.domain.exception.EventPositionUnavailableException;
+import com.example.customermanagement.domain.exception.InvalidCustomerDataException;
+import com.example.customermanagement.domain.exception.UnsupportedRepositoryFeatureException;
+import com.example.customermanagement.domain.model.CustomerEvents;
+import com.example.customermanagement.domain.repository.CustomerEventLog;
+import com.example.customermanagement.domain.repository.CustomerRepository;
+import com.example.customermanagement.infrastructure.mapper.CustomerMapper;
+import com.example.customermanagement.web.dto.customer.CustomerEventsResponseDTO;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+
+/**
+ * Pull access to the repository's change log. Consumers pace themselves by asking for at most
+ * {@code limit} events after the last sequence they applied, optionally long-polling for up to
+ * {@code waitSeconds} when they are caught up; the log never waits for them, so a consumer that
+ * lags by more than its capacity is told to resynchronize instead.
+ */
+@Service
+public class GetCustomerEventsUseCase {
+
+    static final int MAX_LIMIT = 1000;
+    static final int MAX_WAIT_SECONDS = 30;
+
+    private final CustomerRepository customerRepository;
+    private final CustomerMapper customerMapper;
+
+    public GetCustomerEventsUseCase(CustomerRepository customerRepository, CustomerMapper customerMapper) {
+        this.customerRepository = customerRepository;
+        this.customerMapper = customerMapper;
+    }
+
+    /**
+     * Events after {@code after}, or none but the current head when it is null so a new consumer
+     * starts from now.
+     *
+     * @throws EventPositionUnavailableException if the events after {@code after} are no longer held,
+     *                                           or {@code epoch} names a different log
+     */
+    public CustomerEventsResponseDTO execute(Long after, Long epoch, int limit, int waitSeconds) {
+        if (limit <= 0 || limit > MAX_LIMIT) {
+            throw InvalidCustomerDataException.invalidPagination("limit", limit,
+                    "Event limit must be between 1 and " + MAX_LIMIT);
+        }
+        if (waitSeconds < 0 || waitSeconds > MAX_WAIT_SECONDS) {
+            throw InvalidCustomerDataException.invalidSearchParameter("waitSeconds", waitSeconds,
+                    "Wait must be between 0 and " + MAX_WAIT_SECONDS + " seconds");
+        }
+        if (after != null && after < 0) {
+            throw InvalidCustomerDataException.invalidPagination("after", after, "Sequence cannot be negative");
+        }
+
+        CustomerEventLog log = customerRepository.eventLog()
+                .orElseThrow(UnsupportedRepositoryFeatureException::changeLog);
+        long position = after != null ? after : log.headSequence();
+        if (epoch != null && epoch != log.epoch()) {
+            throw EventPositionUnavailableException.otherLog(position, log.epoch());
+        }
+        CustomerEvents events = log.readAfter(position, limit);
+        if (events.events().isEmpty() && waitSeconds > 0) {
+            try {
+                if (log.awaitAfter(position, Duration.ofSeconds(waitSeconds))) {
+                    events = log.readAfter(position, limit);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        return new CustomerEventsResponseDTO(
+                events.epoch(),
+                events.events().stream().map(customerMapper::toEventDto).toList(),
+                events.lastSequence(position),
+                events.headSequence());
+    }
+}
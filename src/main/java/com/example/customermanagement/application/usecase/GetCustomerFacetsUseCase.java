@@ -0,0 +1,71 @@
+package com.example.customermanagement.application.usecase;
+
+import com.example.customermanagement.application.search.CustomerSearchPlan;
+import com.example.customermanagement.domain.exception.InvalidCustomerDataException;
+import com.example.customermanagement.domain.model.CustomerFacets;
+import com.example.customermanagement.domain.model.CustomerSearchCriteria;
+import com.example.customermanagement.domain.repository.CustomerRepository;
+import com.example.customermanagement.web.dto.customer.CustomerFacetsResponseDTO;
+import org.springframework.stereotype.Service;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Counts matching customers per country, state, city and zip code prefix. Repositories that keep
+ * per-value counters answer directly; otherwise matching addresses are tallied in a single pass
+ * without mapping customers to DTOs.
+ */
+@Service
+public class GetCustomerFacetsUseCase {
+
+    static final int MAX_ZIP_PREFIX_LENGTH = 10;
+
+    private final CustomerRepository customerRepository;
+
+    public GetCustomerFacetsUseCase(CustomerRepository customerRepository) {
+        this.customerRepository = customerRepository;
+    }
+
+    public CustomerFacetsResponseDTO execute(CustomerSearchCriteria criteria, int zipPrefixLength, int limit) {
+        if (criteria == null) {
+            throw InvalidCustomerDataException.nullSearchCriteria();
+        }
+        if (zipPrefixLength <= 0 || zipPrefixLength > MAX_ZIP_PREFIX_LENGTH) {
+            throw InvalidCustomerDataException.invalidPagination("zipPrefixLength", zipPrefixLength,
+                    "Zip code prefix length must be between 1 and " + MAX_ZIP_PREFIX_LENGTH);
+        }
+        if (limit <= 0) {
+            throw InvalidCustomerDataException.invalidPagination("limit", limit, "Facet limit must be greater than 0");
+        }
+
+        CustomerFacets facets = customerRepository.countFacets(criteria, zipPrefixLength)
+                .orElseGet(() -> countMatching(criteria, zipPrefixLength));
+
+        return new CustomerFacetsResponseDTO(facets.total(),
+                top(facets.countries(), limit),
+                top(facets.states(), limit),
+                top(facets.cities(), limit),
+                top(facets.zipCodePrefixes(), limit));
+    }
+
+    private CustomerFacets countMatching(CustomerSearchCriteria criteria, int zipPrefixLength) {
+        CustomerSearchPlan plan = CustomerSearchPlan.compile(criteria);
+        CustomerFacets.Counter counter = CustomerFacets.counter(zipPrefixLength);
+        customerRepository.streamAll()
+                .filter(plan::matches)
+                .forEachOrdered(customer -> counter.add(customer.getAddress()));
+        return counter.build();
+    }
+
+    private static Map<String, Long> top(Map<String, Long> counts, int limit) {
+        Map<String, Long> top = new LinkedHashMap<>();
+        for (Map.Entry<String, Long> entry : counts.entrySet()) {
+            if (top.size() == limit) {
+                break;
+            }
+            top.put(entry.getKey(), entry.getValue());
+        }
+        return top;
+    }
+}
@@ -1,53 +1,151 @@
 package com.example.customermanagement.application.usecase;
 
+import com.example.customermanagement.application.search.CustomerSearchPlan;
+import com.example.customermanagement.application.search.KeysetOrdering;
+import com.example.customermanagement.application.search.RelevanceRanking;
+import com.example.customermanagement.application.search.SearchExecutor;
+import com.example.customermanagement.application.search.SearchExpressionPostings;
+import com.example.customermanagement.application.search.SearchPlanCache;
+import com.example.customermanagement.application.search.SearchResultCache;
 import com.example.customermanagement.domain.exception.InvalidCustomerDataException;
+import com.example.customermanagement.domain.model.AddressField;
 import com.example.customermanagement.domain.model.Customer;
 import com.example.customermanagement.domain.model.CustomerSearchCriteria;
+import com.example.customermanagement.domain.model.CustomerSlice;
+import com.example.customermanagement.domain.model.FuzzyName;
+import com.example.customermanagement.domain.model.MatchMode;
+import com.example.customermanagement.domain.model.PageCursor;
 import com.example.customermanagement.domain.repository.CustomerRepository;
 import com.example.customermanagement.infrastructure.mapper.CustomerMapper;
+import com.example.customermanagement.infrastructure.mapper.PageCursorCodec;
 import com.example.customermanagement.web.dto.common.PageResponseDTO;
 import com.example.customermanagement.web.dto.customer.CustomerResponseDTO;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 public class SearchCustomersUseCase {
     
     private final CustomerRepository customerRepository;
     private final CustomerMapper customerMapper;
+    private final SearchExecutor searchExecutor;
+    private final SearchResultCache resultCache;
+    private final SearchPlanCache planCache = new SearchPlanCache();
+    private final SearchExpressionPostings queryPostings;
     
     public SearchCustomersUseCase(CustomerRepository customerRepository, CustomerMapper customerMapper) {
+        this(customerRepository, customerMapper, SearchExecutor.sequential(), SearchResultCache.disabled());
+    }
+    
+    @Autowired
+    public SearchCustomersUseCase(CustomerRepository customerRepository, CustomerMapper customerMapper,
+                                  SearchExecutor searchExecutor, SearchResultCache resultCache) {
         this.customerRepository = customerRepository;
         this.customerMapper = customerMapper;
+        this.searchExecutor = searchExecutor;
+        this.resultCache = resultCache;
+        this.queryPostings = new SearchExpressionPostings(customerRepository);
     }
     
+    /**
+     * Serves repeated searches from the result cache until the repository's next write.
+     */
     public PageResponseDTO<CustomerResponseDTO> execute(CustomerSearchCriteria searchCriteria) {
         if (searchCriteria == null) {
             throw InvalidCustomerDataException.nullSearchCriteria();
         }
+        return resultCache.get(searchCriteria, customerRepository.generation(), () -> search(searchCriteria));
+    }
+    
+    private PageResponseDTO<CustomerResponseDTO> search(CustomerSearchCriteria searchCriteria) {
+        CustomerSearchPlan plan = planCache.planFor(searchCriteria);
+        Optional<RelevanceRanking> relevance = plan.relevance();
+        if (relevance.isPresent()) {
+            return searchByRelevance(searchCriteria, plan, relevance.get());
+        }
         
-        List<Customer> allCustomers = customerRepository.findAll();
+        KeysetOrdering ordering = plan.ordering();
+        Predicate<Customer> afterCursor = searchCriteria.hasCursor()
+                ? ordering.after(searchCriteria.getCursor())
+                : customer -> true;
+        long offset = searchCriteria.hasCursor() ? 0 : (long) searchCriteria.getPage() * searchCriteria.getSize();
         
-        List<Customer> filteredCustomers = allCustomers.stream()
-                .filter(customer -> matchesSearchCriteria(customer, searchCriteria))
-                .collect(Collectors.toList());
+        Optional<CustomerSlice> searched = customerRepository.search(searchCriteria, searchCriteria.getSize() + 1);
+        if (searched.isPresent()) {
+            return toPage(searchCriteria, new ArrayList<>(searched.get().customers()),
+                    searched.get().totalElements(), ordering);
+        }
         
-        if (searchCriteria.hasSorting()) {
-            filteredCustomers = applySorting(filteredCustomers, searchCriteria);
+        if (ordering.isNewestFirst()) {
+            Optional<CustomerSlice> slice = customerRepository.scanNewestFirst(
+                    searchCriteria, offset, searchCriteria.getSize() + 1);
+            if (slice.isPresent()) {
+                return toPage(searchCriteria, new ArrayList<>(slice.get().customers()),
+                        slice.get().totalElements(), ordering);
+            }
         }
         
-        int totalElements = filteredCustomers.size();
-
-        int startIndex = searchCriteria.getPage() * searchCriteria.getSize();
-        int endIndex = Math.min(startIndex + searchCriteria.getSize(), totalElements);
+        Optional<Set<UUID>> candidateIds = findCandidateIds(searchCriteria);
+        long candidateCount = candidateIds.isPresent() ? candidateIds.get().size() : customerRepository.count();
         
-        List<Customer> paginatedCustomers = startIndex < totalElements ? 
-            filteredCustomers.subList(startIndex, endIndex) : List.of();
+        if (candidateIds.isEmpty() && candidateCount >= searchExecutor.parallelThreshold()) {
+            Optional<CustomerSlice> slice = customerRepository.findTopMatching(
+                    plan::matches, afterCursor, ordering.comparator(), offset, searchCriteria.getSize() + 1);
+            if (slice.isPresent()) {
+                return toPage(searchCriteria, new ArrayList<>(slice.get().customers()),
+                        slice.get().totalElements(), ordering);
+            }
+        }
+        
+        CustomerSlice slice = searchExecutor.selectPage(candidates(candidateIds), candidateCount, plan::matches,
+                afterCursor, ordering.comparator(), offset, searchCriteria.getSize() + 1);
+        return toPage(searchCriteria, new ArrayList<>(slice.customers()), slice.totalElements(), ordering);
+    }
+    
+    /**
+     * Ranks fuzzy name matches by closeness to the term. Relevance has no keyset to resume from, so
+     * these searches are paged by page number only.
+     */
+    private PageResponseDTO<CustomerResponseDTO> searchByRelevance(CustomerSearchCriteria searchCriteria,
+            CustomerSearchPlan plan, RelevanceRanking relevance) {
+        if (searchCriteria.hasCursor()) {
+            throw InvalidCustomerDataException.invalidCursor(PageCursorCodec.encode(searchCriteria.getCursor()),
+                    "fuzzy name searches are ranked by relevance and paged by page number");
+        }
+        long offset = (long) searchCriteria.getPage() * searchCriteria.getSize();
+        CustomerSlice slice = relevance.selectPage(candidates(findCandidateIds(searchCriteria)), plan::matches,
+                offset, searchCriteria.getSize());
+        return new PageResponseDTO<>(customerMapper.toResponseDtoList(slice.customers()),
+                searchCriteria.getPage(), searchCriteria.getSize(), slice.totalElements());
+    }
+    
+    private Stream<Customer> candidates(Optional<Set<UUID>> candidateIds) {
+        return candidateIds
+                .map(ids -> ids.stream()
+                        .map(customerRepository::findById)
+                        .flatMap(Optional::stream))
+                .orElseGet(customerRepository::streamAll);
+    }
+    
+    private PageResponseDTO<CustomerResponseDTO> toPage(CustomerSearchCriteria searchCriteria,
+            List<Customer> customersWithLookAhead, long totalElements, KeysetOrdering ordering) {
+        String nextCursor = trimToPage(customersWithLookAhead, searchCriteria.getSize(), ordering);
         
-        List<CustomerResponseDTO> customerDTOs = paginatedCustomers.stream()
+        List<CustomerResponseDTO> customerDTOs = customersWithLookAhead.stream()
                 .map(customerMapper::toResponseDto)
                 .collect(Collectors.toList());
         
@@ -55,7 +153,8 @@ public class SearchCustomersUseCase {
                 customerDTOs,
                 searchCriteria.getPage(),
                 searchCriteria.getSize(),
-                totalElements
+                totalElements,
+                nextCursor
         );
     }
     
@@ -70,7 +169,7 @@ public class SearchCustomersUseCase {
         if (hasFilters) {
             return execute(searchCriteria);
         } else {
-            return executeSimpleQuery(searchCriteria.getPage(), searchCriteria.getSize());
+            return executeSimpleQuery(searchCriteria);
         }
     }
     
@@ -84,7 +183,10 @@ public class SearchCustomersUseCase {
         if (hasFilters) {
             CustomerSearchCriteria unpaginatedCriteria = CustomerSearchCriteria.builder()
                     .searchText(searchCriteria.getSearchText())
+                    .query(searchCriteria.getQuery())
                     .name(searchCriteria.getName())
+                    .nameMatch(searchCriteria.getNameMatch())
+                    .maxEditDistance(searchCriteria.getMaxEditDistance())
                     .email(searchCriteria.getEmail())
                     .phone(searchCriteria.getPhone())
                     .city(searchCriteria.getCity())
@@ -107,109 +209,166 @@ public class SearchCustomersUseCase {
     }
     
 
-    private PageResponseDTO<CustomerResponseDTO> executeSimpleQuery(int page, int size) {
-        List<Customer> customers = customerRepository.findAll().stream()
-                .sorted(Comparator.comparing(Customer::getCreatedAt).reversed())
-                .skip((long) page * size)
-                .limit(size)
-                .collect(Collectors.toList());
+    private PageResponseDTO<CustomerResponseDTO> executeSimpleQuery(CustomerSearchCriteria criteria) {
+        int page = criteria.getPage();
+        int size = criteria.getSize();
+        KeysetOrdering ordering = KeysetOrdering.of(List.of());
+        
+        List<Customer> customers = criteria.hasCursor()
+                ? findNewestAfter(criteria.getCursor(), size + 1, ordering)
+                : findNewestFirst((long) page * size, size + 1);
+        customers = new ArrayList<>(customers);
+        String nextCursor = trimToPage(customers, size, ordering);
         
         long totalCount = customerRepository.count();
         List<CustomerResponseDTO> customerDTOs = customerMapper.toResponseDtoList(customers);
-        return new PageResponseDTO<>(customerDTOs, page, size, totalCount);
+        return new PageResponseDTO<>(customerDTOs, page, size, totalCount, nextCursor);
     }
     
 
     private List<CustomerResponseDTO> executeSimpleQueryWithoutPagination() {
-        List<Customer> customers = customerRepository.findAll().stream()
-                .sorted(Comparator.comparing(Customer::getCreatedAt).reversed())
-                .collect(Collectors.toList());
+        List<Customer> customers = findNewestFirst(0, Integer.MAX_VALUE);
         return customerMapper.toResponseDtoList(customers);
     }
     
-    private boolean hasAnyFilters(CustomerSearchCriteria criteria) {
-        return criteria.hasSearchText() || 
-               criteria.hasFieldFilters() || 
-               criteria.hasDateFilters() || 
-               criteria.hasSorting();
+    private List<Customer> findNewestFirst(long offset, int limit) {
+        return customerRepository.findOrderedByCreatedAtDesc(offset, limit)
+                .orElseGet(() -> customerRepository.streamAll()
+                        .sorted(Comparator.comparing(Customer::getCreatedAt).reversed())
+                        .skip(offset)
+                        .limit(limit)
+                        .collect(Collectors.toList()));
+    }
+    
+    private List<Customer> findNewestAfter(PageCursor cursor, int limit, KeysetOrdering ordering) {
+        Predicate<Customer> after = ordering.after(cursor);
+        LocalDateTime createdAt = LocalDateTime.parse(cursor.sortValues().getFirst());
+        return customerRepository.findOrderedByCreatedAtDescAfter(createdAt, cursor.lastId(), limit)
+                .orElseGet(() -> customerRepository.streamAll()
+                        .filter(after)
+                        .sorted(ordering.comparator())
+                        .limit(limit)
+                        .collect(Collectors.toList()));
+    }
+    
+    /**
+     * Drops the look-ahead element fetched beyond the page size and returns the cursor
+     * for the next page, or null when this is the last page.
+     */
+    private String trimToPage(List<Customer> customers, int size, KeysetOrdering ordering) {
+        if (customers.size() <= size) {
+            return null;
+        }
+        customers.subList(size, customers.size()).clear();
+        return PageCursorCodec.encode(ordering.cursorAt(customers.getLast()));
     }
     
-    private boolean matchesSearchCriteria(Customer customer, CustomerSearchCriteria criteria) {
+    /**
+     * Narrows the customers to scan using the repository's trigram, fuzzy name, phonetic name and
+     * address indexes, including the posting sets a query expression reduces to. Address filters
+     * are intersected by the repository in one call when it can, otherwise one field at a time.
+     * Indexes only ever produce candidates; every candidate is still verified by
+     * matchesSearchCriteria, so filters the repository cannot answer are simply skipped here.
+     * Returns an empty Optional when no index narrowed the search.
+     */
+    private Optional<Set<UUID>> findCandidateIds(CustomerSearchCriteria criteria) {
+        Set<UUID> candidateIds = null;
+        
         if (criteria.hasSearchText()) {
-            boolean matchesText = isMatchesText(customer, criteria);
-
-            if (!matchesText) {
-                return false;
+            Optional<Set<UUID>> ids = customerRepository.findCandidateIdsByText(criteria.getSearchText());
+            if (ids.isPresent()) {
+                candidateIds = new HashSet<>(ids.get());
             }
         }
         
-        if (matchesField(customer.getName(), criteria.getName()) ||
-                matchesField(customer.getEmail(), criteria.getEmail()) ||
-                matchesField(customer.getPhone(), criteria.getPhone()) ||
-                matchesField(customer.getAddress().getCity(), criteria.getCity()) ||
-                matchesField(customer.getAddress().getState(), criteria.getState()) ||
-                matchesField(customer.getAddress().getCountry(), criteria.getCountry()) ||
-                matchesField(customer.getAddress().getZipCode(), criteria.getZipCode())) {
-            return false;
+        if (criteria.hasFuzzyName()) {
+            String term = FuzzyName.normalize(criteria.getName());
+            Optional<Set<UUID>> ids = customerRepository.findFuzzyNameCandidates(
+                    term, FuzzyName.effectiveMaxEdits(term, criteria.getMaxEditDistance()));
+            if (ids.isPresent()) {
+                if (candidateIds == null) {
+                    candidateIds = new HashSet<>(ids.get());
+                } else {
+                    candidateIds.retainAll(ids.get());
+                }
+            }
         }
-
-        return isDateInRange(customer.getCreatedAt(), criteria.getCreatedAfter(), criteria.getCreatedBefore()) &&
-                isDateInRange(customer.getUpdatedAt(), criteria.getUpdatedAfter(), criteria.getUpdatedBefore());
-    }
-
-
-    private boolean matchesField(String customerFieldValue, String searchTerm) {
-        if (searchTerm == null || searchTerm.isBlank()) {
-            return false;
+        
+        if (criteria.hasQuery()) {
+            Optional<Set<UUID>> ids = queryPostings.candidates(criteria.getQuery());
+            if (ids.isPresent()) {
+                if (candidateIds == null) {
+                    candidateIds = new HashSet<>(ids.get());
+                } else {
+                    candidateIds.retainAll(ids.get());
+                }
+            }
         }
-        return customerFieldValue == null || !customerFieldValue.toLowerCase().contains(searchTerm.toLowerCase());
-    }
-    
-  
-    private boolean isDateInRange(java.time.LocalDateTime date, java.time.LocalDateTime after, java.time.LocalDateTime before) {
-        if (after != null && date.isBefore(after)) {
-            return false;
+        
+        if (criteria.hasPhoneticName()) {
+            Optional<Set<UUID>> ids = customerRepository.findIdsByPhoneticName(criteria.getName());
+            if (ids.isPresent()) {
+                if (candidateIds == null) {
+                    candidateIds = new HashSet<>(ids.get());
+                } else {
+                    candidateIds.retainAll(ids.get());
+                }
+            }
+        }
+        
+        Map<AddressField, String> addressFilters = addressFilters(criteria);
+        if (!addressFilters.isEmpty() && (candidateIds == null || !candidateIds.isEmpty())) {
+            Optional<Set<UUID>> ids = customerRepository.findIdsByAddressFields(addressFilters, MatchMode.CONTAINS);
+            if (ids.isPresent()) {
+                if (candidateIds == null) {
+                    return Optional.of(new HashSet<>(ids.get()));
+                }
+                candidateIds.retainAll(ids.get());
+                return Optional.of(candidateIds);
+            }
         }
-        return before == null || !date.isAfter(before);
+        
+        for (Map.Entry<AddressField, String> filter : addressFilters.entrySet()) {
+            if (candidateIds != null && candidateIds.isEmpty()) {
+                break;
+            }
+            
+            Optional<Set<UUID>> ids = customerRepository.findIdsByAddressField(
+                    filter.getKey(), filter.getValue(), MatchMode.CONTAINS);
+            if (ids.isEmpty()) {
+                continue;
+            }
+            
+            if (candidateIds == null) {
+                candidateIds = new HashSet<>(ids.get());
+            } else {
+                candidateIds.retainAll(ids.get());
+            }
+        }
+        
+        return Optional.ofNullable(candidateIds);
     }
-
-    private static boolean isMatchesText(Customer customer, CustomerSearchCriteria criteria) {
-        String searchText = criteria.getSearchText().toLowerCase();
-        return customer.getName().toLowerCase().contains(searchText) ||
-                            customer.getEmail().toLowerCase().contains(searchText) ||
-                            customer.getPhone().toLowerCase().contains(searchText) ||
-                            customer.getAddress().getCity().toLowerCase().contains(searchText) ||
-                            customer.getAddress().getState().toLowerCase().contains(searchText) ||
-                            customer.getAddress().getCountry().toLowerCase().contains(searchText);
+    
+    private Map<AddressField, String> addressFilters(CustomerSearchCriteria criteria) {
+        Map<AddressField, String> filters = new EnumMap<>(AddressField.class);
+        putIfPresent(filters, AddressField.CITY, criteria.getCity());
+        putIfPresent(filters, AddressField.STATE, criteria.getState());
+        putIfPresent(filters, AddressField.COUNTRY, criteria.getCountry());
+        putIfPresent(filters, AddressField.ZIP_CODE, criteria.getZipCode());
+        return filters;
     }
-
-    private List<Customer> applySorting(List<Customer> customers, CustomerSearchCriteria criteria) {
-        return customers.stream()
-                .sorted((c1, c2) -> {
-                    for (CustomerSearchCriteria.SortCriteria sort : criteria.getSortCriteria()) {
-                        int comparison = compareCustomers(c1, c2, sort.field());
-                        if (comparison != 0) {
-                            return sort.direction() == CustomerSearchCriteria.SortCriteria.SortDirection.DESC ? 
-                                -comparison : comparison;
-                        }
-                    }
-                    return 0;
-                })
-                .collect(Collectors.toList());
+    
+    private void putIfPresent(Map<AddressField, String> filters, AddressField field, String term) {
+        if (term != null && !term.isBlank()) {
+            filters.put(field, term);
+        }
     }
     
-    private int compareCustomers(Customer c1, Customer c2, String field) {
-        return switch (field.toLowerCase()) {
-            case "name" -> c1.getName().compareToIgnoreCase(c2.getName());
-            case "email" -> c1.getEmail().compareToIgnoreCase(c2.getEmail());
-            case "phone" -> c1.getPhone().compareToIgnoreCase(c2.getPhone());
-            case "city" -> c1.getAddress().getCity().compareToIgnoreCase(c2.getAddress().getCity());
-            case "state" -> c1.getAddress().getState().compareToIgnoreCase(c2.getAddress().getState());
-            case "country" -> c1.getAddress().getCountry().compareToIgnoreCase(c2.getAddress().getCountry());
-            case "zipcode", "zip" -> c1.getAddress().getZipCode().compareToIgnoreCase(c2.getAddress().getZipCode());
-            case "createdat", "created" -> c1.getCreatedAt().compareTo(c2.getCreatedAt());
-            case "updatedat", "updated" -> c1.getUpdatedAt().compareTo(c2.getUpdatedAt());
-            default -> 0;
-        };
+    private boolean hasAnyFilters(CustomerSearchCriteria criteria) {
+        return criteria.hasSearchText() || 
+               criteria.hasQuery() || 
+               criteria.hasFieldFilters() || 
+               criteria.hasDateFilters() || 
+               criteria.hasSorting();
     }
 }
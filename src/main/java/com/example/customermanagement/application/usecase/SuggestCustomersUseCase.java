@@ -0,0 +1,53 @@
+package com.example.customermanagement.application.usecase;
+
+import com.example.customermanagement.application.search.TopK;
+import com.example.customermanagement.domain.exception.InvalidCustomerDataException;
+import com.example.customermanagement.domain.model.CustomerSuggestion;
+import com.example.customermanagement.domain.repository.CustomerRepository;
+import com.example.customermanagement.web.dto.customer.CustomerSuggestionDTO;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Type-ahead over customer names and emails. Answers from the repository's prefix index when it
+ * has one and returns only ids and display strings, never full customer DTOs.
+ */
+@Service
+public class SuggestCustomersUseCase {
+
+    static final int MAX_LIMIT = 50;
+
+    private final CustomerRepository customerRepository;
+
+    public SuggestCustomersUseCase(CustomerRepository customerRepository) {
+        this.customerRepository = customerRepository;
+    }
+
+    public List<CustomerSuggestionDTO> execute(String prefix, int limit) {
+        if (prefix == null || prefix.isBlank()) {
+            throw InvalidCustomerDataException.blankSuggestionPrefix(prefix);
+        }
+        if (limit <= 0 || limit > MAX_LIMIT) {
+            throw InvalidCustomerDataException.invalidPagination("limit", limit,
+                    "Suggestion limit must be between 1 and " + MAX_LIMIT);
+        }
+
+        List<CustomerSuggestion> suggestions = customerRepository.suggest(prefix, limit)
+                .orElseGet(() -> scan(prefix, limit));
+        return suggestions.stream()
+                .map(suggestion -> new CustomerSuggestionDTO(suggestion.id(), suggestion.name(), suggestion.email()))
+                .toList();
+    }
+
+    private List<CustomerSuggestion> scan(String prefix, int limit) {
+        String folded = CustomerSuggestion.foldPrefix(prefix);
+        TopK<CustomerSuggestion> top = new TopK<>(CustomerSuggestion.ORDER, limit);
+        customerRepository.streamAll()
+                .map(customer -> CustomerSuggestion.matching(customer, folded))
+                .filter(Objects::nonNull)
+                .forEach(top::offer);
+        return top.sortedFrom(0);
+    }
+}
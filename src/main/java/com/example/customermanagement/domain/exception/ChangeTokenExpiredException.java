@@ -0,0 +1,32 @@
+package com.example.customermanagement.domain.exception;
+
+import java.time.LocalDateTime;
+
+/**
+ * The change feed no longer holds every change after a token: tombstones older than the retention
+ * window have been dropped, so a reader resuming there could miss deletes and must sync from scratch.
+ */
+public class ChangeTokenExpiredException extends DomainException {
+
+    private final LocalDateTime changedAt;
+
+    public ChangeTokenExpiredException(LocalDateTime changedAt, LocalDateTime horizon) {
+        super("Change token at " + changedAt + " is older than the retained history starting at " + horizon
+                + "; sync again without a token");
+        this.changedAt = changedAt;
+    }
+
+    public LocalDateTime getChangedAt() {
+        return changedAt;
+    }
+
+    @Override
+    public String getErrorCode() {
+        return "CHANGE_TOKEN_EXPIRED";
+    }
+
+    @Override
+    public Object getErrorContext() {
+        return changedAt;
+    }
+}
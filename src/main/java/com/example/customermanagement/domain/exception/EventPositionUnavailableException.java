@@ -0,0 +1,45 @@
+package com.example.customermanagement.domain.exception;
+
+/**
+ * A change log reader asked for events the log cannot serve: they were overwritten because the
+ * reader fell behind, or the position comes from another log instance. The reader has to
+ * resynchronize, e.g. from the change feed, and continue from the log's current head.
+ */
+public class EventPositionUnavailableException extends DomainException {
+
+    private final long position;
+
+    public EventPositionUnavailableException(long position, String message) {
+        super(message);
+        this.position = position;
+    }
+
+    public static EventPositionUnavailableException overwritten(long position, long oldest) {
+        return new EventPositionUnavailableException(position, "Events after sequence " + position
+                + " have been overwritten; the oldest retained event is " + oldest);
+    }
+
+    public static EventPositionUnavailableException unknown(long position, long head) {
+        return new EventPositionUnavailableException(position, "Sequence " + position
+                + " is beyond the newest event " + head + "; the log may have been restarted");
+    }
+
+    public static EventPositionUnavailableException otherLog(long position, long epoch) {
+        return new EventPositionUnavailableException(position, "Sequence " + position
+                + " belongs to a different change log than the current one (epoch " + epoch + ")");
+    }
+
+    public long getPosition() {
+        return position;
+    }
+
+    @Override
+    public String getErrorCode() {
+        return "EVENT_POSITION_UNAVAILABLE";
+    }
+
+    @Override
+    public Object getErrorContext() {
+        return position;
+    }
+}
@@ -56,9 +56,25 @@ public class InvalidCustomerDataException extends DomainException {
         return new InvalidCustomerDataException("patchRequest", null, "At least one field must be provided for PATCH operation");
     }
     
+    public static InvalidCustomerDataException invalidSearchParameter(String field, Object value, String message) {
+        return new InvalidCustomerDataException(field, value, message);
+    }
+    
+    public static InvalidCustomerDataException blankSuggestionPrefix(String prefix) {
+        return new InvalidCustomerDataException("q", prefix, "Suggestion prefix cannot be null or blank");
+    }
+    
     public static InvalidCustomerDataException nullSearchCriteria() {
         return new InvalidCustomerDataException("searchCriteria", null, "Search criteria cannot be null");
     }
+    
+    public static InvalidCustomerDataException invalidCursor(String cursor, String reason) {
+        return new InvalidCustomerDataException("cursor", cursor, String.format("Invalid pagination cursor: %s", reason));
+    }
+    
+    public static InvalidCustomerDataException invalidChangeToken(String token, String reason) {
+        return new InvalidCustomerDataException("since", token, String.format("Invalid change token: %s", reason));
+    }
 
     @Override
     public String getErrorCode() {
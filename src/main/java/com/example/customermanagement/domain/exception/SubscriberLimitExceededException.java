@@ -0,0 +1,34 @@
+package com.example.customermanagement.domain.exception;
+
+/**
+ * A client asked to subscribe to a stream that already serves as many subscribers as it is allowed
+ * to. The request may succeed later, once other subscribers have disconnected.
+ */
+public class SubscriberLimitExceededException extends DomainException {
+
+    private final int limit;
+
+    public SubscriberLimitExceededException(int limit, String message) {
+        super(message);
+        this.limit = limit;
+    }
+
+    public static SubscriberLimitExceededException eventStream(int limit) {
+        return new SubscriberLimitExceededException(limit,
+                "The customer event stream already serves its maximum of " + limit + " subscribers");
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+
+    @Override
+    public String getErrorCode() {
+        return "SUBSCRIBER_LIMIT_EXCEEDED";
+    }
+
+    @Override
+    public Object getErrorContext() {
+        return limit;
+    }
+}
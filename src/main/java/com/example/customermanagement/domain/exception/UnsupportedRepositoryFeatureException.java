@@ -0,0 +1,39 @@
+package com.example.customermanagement.domain.exception;
+
+/**
+ * The configured customer repository does not provide a feature a request needs, e.g. the JPA
+ * store has no change feed. Retrying does not help; the deployment has to use another store.
+ */
+public class UnsupportedRepositoryFeatureException extends DomainException {
+
+    private final String feature;
+
+    public UnsupportedRepositoryFeatureException(String feature, String message) {
+        super(message);
+        this.feature = feature;
+    }
+
+    public static UnsupportedRepositoryFeatureException changeFeed() {
+        return new UnsupportedRepositoryFeatureException("change-feed",
+                "The configured customer repository does not keep a change feed");
+    }
+
+    public static UnsupportedRepositoryFeatureException changeLog() {
+        return new UnsupportedRepositoryFeatureException("change-log",
+                "The configured customer repository does not keep a change log");
+    }
+
+    public String getFeature() {
+        return feature;
+    }
+
+    @Override
+    public String getErrorCode() {
+        return "REPOSITORY_FEATURE_UNSUPPORTED";
+    }
+
+    @Override
+    public Object getErrorContext() {
+        return feature;
+    }
+}
@@ -21,6 +21,21 @@ public class Address {
         this.country = normalizedData.country();
     }
 
+    private Address(Address address, SharedAddressValues shared) {
+        this.street = address.street;
+        this.city = shared.value(AddressField.CITY, address.city);
+        this.state = shared.value(AddressField.STATE, address.state);
+        this.zipCode = shared.value(AddressField.ZIP_CODE, address.zipCode);
+        this.country = shared.value(AddressField.COUNTRY, address.country);
+    }
+
+    /**
+     * An equal address holding the {@code shared} instances of its city, state, zip code and country.
+     */
+    public Address withSharedValues(SharedAddressValues shared) {
+        return new Address(this, shared);
+    }
+
     public String getStreet() {
         return street;
     }
@@ -0,0 +1,20 @@
+package com.example.customermanagement.domain.model;
+
+import java.util.function.Function;
+
+public enum AddressField {
+    CITY(Address::getCity),
+    STATE(Address::getState),
+    COUNTRY(Address::getCountry),
+    ZIP_CODE(Address::getZipCode);
+
+    private final Function<Address, String> accessor;
+
+    AddressField(Function<Address, String> accessor) {
+        this.accessor = accessor;
+    }
+
+    public String valueOf(Address address) {
+        return address != null ? accessor.apply(address) : null;
+    }
+}
@@ -0,0 +1,12 @@
+package com.example.customermanagement.domain.model;
+
+import java.time.LocalDateTime;
+
+/**
+ * Position in a repository's change feed: the last change a reader has seen. {@code sequence}
+ * orders changes within the index instance identified by {@code epoch}; {@code changedAt} places the
+ * token in time across instances. A token issued by an earlier instance, e.g. before a restart, is
+ * rejected as expired, since the deletes made before the restart are no longer known.
+ */
+public record ChangeToken(long epoch, long sequence, LocalDateTime changedAt) {
+}
@@ -10,6 +10,7 @@ public class Customer extends BaseEntity {
     private String email;
     private String phone;
     private Address address;
+    private CustomerSearchKeys searchKeys;
 
     public Customer(String name, String email, String phone, Address address) {
         super();
@@ -29,6 +30,7 @@ public class Customer extends BaseEntity {
         this.email = normalizedData.email();
         this.phone = normalizedData.phone();
         this.address = address;
+        this.searchKeys = CustomerSearchKeys.of(this.name, this.email, this.phone, address);
     }
 
     public void updateInfo(String name, String email, String phone, Address address) {
@@ -37,6 +39,19 @@ public class Customer extends BaseEntity {
     }
 
 
+    /**
+     * Switches the address and its search keys to the {@code shared} instances of their values. The
+     * customer's data is unchanged, so this is safe on a customer other threads are reading.
+     */
+    public void shareAddressValues(SharedAddressValues shared) {
+        if (address == null) {
+            return;
+        }
+        Address sharedAddress = address.withSharedValues(shared);
+        searchKeys = searchKeys.withSharedAddressKeys(sharedAddress, shared);
+        address = sharedAddress;
+    }
+
     public String getName() {
         return name;
     }
@@ -53,6 +68,10 @@ public class Customer extends BaseEntity {
         return address;
     }
 
+    public CustomerSearchKeys getSearchKeys() {
+        return searchKeys;
+    }
+
     @Override
     public String toString() {
         return "Customer{" +
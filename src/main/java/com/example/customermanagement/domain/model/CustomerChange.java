@@ -0,0 +1,16 @@
+package com.example.customermanagement.domain.model;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * The latest change to one customer: its current state, or a tombstone with a null customer when it
+ * was deleted. Earlier changes to the same customer are superseded, so a feed reader only ever sees
+ * the state it has to apply.
+ */
+public record CustomerChange(UUID id, LocalDateTime changedAt, ChangeToken position, Customer customer) {
+
+    public boolean deleted() {
+        return customer == null;
+    }
+}
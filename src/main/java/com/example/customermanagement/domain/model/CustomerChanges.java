@@ -0,0 +1,10 @@
+package com.example.customermanagement.domain.model;
+
+import java.util.List;
+
+/**
+ * One batch of a change feed in update order, the token to resume after it, and whether more
+ * changes were already waiting when the batch was read.
+ */
+public record CustomerChanges(List<CustomerChange> changes, ChangeToken next, boolean hasMore) {
+}
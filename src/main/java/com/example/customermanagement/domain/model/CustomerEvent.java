@@ -0,0 +1,18 @@
+package com.example.customermanagement.domain.model;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * One repository mutation as recorded in the change log. Sequence numbers increase by one per event
+ * in the order the mutations were applied; {@code customer} is the state written, or null for a
+ * delete.
+ */
+public record CustomerEvent(long sequence, Type type, UUID customerId, LocalDateTime occurredAt, Customer customer) {
+
+    public enum Type {
+        CREATED,
+        UPDATED,
+        DELETED
+    }
+}
@@ -0,0 +1,17 @@
+package com.example.customermanagement.domain.model;
+
+import java.util.List;
+
+/**
+ * A run of consecutive events read from the change log identified by {@code epoch}, together with
+ * the sequence of the newest event in the log when they were read.
+ */
+public record CustomerEvents(long epoch, List<CustomerEvent> events, long headSequence) {
+
+    /**
+     * The sequence to read after next: the last event returned, or {@code after} if there was none.
+     */
+    public long lastSequence(long after) {
+        return events.isEmpty() ? after : events.getLast().sequence();
+    }
+}
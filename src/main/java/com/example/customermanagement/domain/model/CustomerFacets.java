@@ -0,0 +1,94 @@
+package com.example.customermanagement.domain.model;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Number of matching customers per country, state, city and zip code prefix. Each map is ordered by
+ * descending count, then by value.
+ */
+public record CustomerFacets(long total,
+                             Map<String, Long> countries,
+                             Map<String, Long> states,
+                             Map<String, Long> cities,
+                             Map<String, Long> zipCodePrefixes) {
+
+    public static Counter counter(int zipPrefixLength) {
+        return new Counter(zipPrefixLength);
+    }
+
+    /**
+     * Accumulates facet counts, either one address at a time or from precomputed per-value counts.
+     * Not thread-safe.
+     */
+    public static final class Counter {
+
+        private final int zipPrefixLength;
+        private final Map<AddressField, Map<String, Long>> counts = new HashMap<>();
+        private final Map<String, Long> zipCodePrefixes = new HashMap<>();
+        private long total;
+
+        private Counter(int zipPrefixLength) {
+            this.zipPrefixLength = Math.max(1, zipPrefixLength);
+            for (AddressField field : AddressField.values()) {
+                counts.put(field, new HashMap<>());
+            }
+        }
+
+        public Counter add(Address address) {
+            total++;
+            for (AddressField field : AddressField.values()) {
+                add(field, field.valueOf(address), 1);
+            }
+            return this;
+        }
+
+        /**
+         * Adds {@code count} customers whose {@code field} is {@code value}; does not change the total.
+         */
+        public Counter add(AddressField field, String value, long count) {
+            if (value == null || count <= 0) {
+                return this;
+            }
+            counts.get(field).merge(value, count, Long::sum);
+            if (field == AddressField.ZIP_CODE) {
+                String prefix = value.length() <= zipPrefixLength ? value : value.substring(0, zipPrefixLength);
+                zipCodePrefixes.merge(prefix, count, Long::sum);
+            }
+            return this;
+        }
+
+        public Counter addTotal(long count) {
+            total += count;
+            return this;
+        }
+
+        public Counter merge(CustomerFacets facets) {
+            total += facets.total();
+            facets.countries().forEach((value, count) -> add(AddressField.COUNTRY, value, count));
+            facets.states().forEach((value, count) -> add(AddressField.STATE, value, count));
+            facets.cities().forEach((value, count) -> add(AddressField.CITY, value, count));
+            facets.zipCodePrefixes().forEach((prefix, count) -> zipCodePrefixes.merge(prefix, count, Long::sum));
+            return this;
+        }
+
+        public CustomerFacets build() {
+            return new CustomerFacets(total,
+                    ordered(counts.get(AddressField.COUNTRY)),
+                    ordered(counts.get(AddressField.STATE)),
+                    ordered(counts.get(AddressField.CITY)),
+                    ordered(zipCodePrefixes));
+        }
+
+        private static Map<String, Long> ordered(Map<String, Long> counts) {
+            Map<String, Long> ordered = new LinkedHashMap<>();
+            counts.entrySet().stream()
+                    .sorted(Map.Entry.<String, Long>comparingByValue(Comparator.reverseOrder())
+                            .thenComparing(Map.Entry.comparingByKey()))
+                    .forEach(entry -> ordered.put(entry.getKey(), entry.getValue()));
+            return ordered;
+        }
+    }
+}
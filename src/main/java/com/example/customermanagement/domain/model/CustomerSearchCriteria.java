@@ -6,7 +6,10 @@ import java.util.List;
 public class CustomerSearchCriteria {
     
     private final String searchText;
+    private final SearchExpression query;
     private final String name;
+    private final NameMatch nameMatch;
+    private final int maxEditDistance;
     private final String email;
     private final String phone;
     private final String city;
@@ -18,12 +21,16 @@ public class CustomerSearchCriteria {
     private final LocalDateTime updatedAfter;
     private final LocalDateTime updatedBefore;
     private final List<SortCriteria> sortCriteria;
+    private final PageCursor cursor;
     private final int page;
     private final int size;
     
     private CustomerSearchCriteria(Builder builder) {
         this.searchText = builder.searchText;
+        this.query = builder.query;
         this.name = builder.name;
+        this.nameMatch = builder.nameMatch != null ? builder.nameMatch : NameMatch.CONTAINS;
+        this.maxEditDistance = Math.max(0, Math.min(FuzzyName.MAX_EDITS, builder.maxEditDistance));
         this.email = builder.email;
         this.phone = builder.phone;
         this.city = builder.city;
@@ -35,6 +42,7 @@ public class CustomerSearchCriteria {
         this.updatedAfter = builder.updatedAfter;
         this.updatedBefore = builder.updatedBefore;
         this.sortCriteria = builder.sortCriteria != null ? List.copyOf(builder.sortCriteria) : List.of();
+        this.cursor = builder.cursor;
         this.page = Math.max(0, builder.page);
         this.size = Math.max(1, Math.min(100, builder.size));
     }
@@ -44,7 +52,10 @@ public class CustomerSearchCriteria {
     }
     
     public String getSearchText() { return searchText; }
+    public SearchExpression getQuery() { return query; }
     public String getName() { return name; }
+    public NameMatch getNameMatch() { return nameMatch; }
+    public int getMaxEditDistance() { return maxEditDistance; }
     public String getEmail() { return email; }
     public String getPhone() { return phone; }
     public String getCity() { return city; }
@@ -56,6 +67,7 @@ public class CustomerSearchCriteria {
     public LocalDateTime getUpdatedAfter() { return updatedAfter; }
     public LocalDateTime getUpdatedBefore() { return updatedBefore; }
     public List<SortCriteria> getSortCriteria() { return sortCriteria; }
+    public PageCursor getCursor() { return cursor; }
     public int getPage() { return page; }
     public int getSize() { return size; }
     
@@ -63,11 +75,23 @@ public class CustomerSearchCriteria {
         return searchText != null && !searchText.isBlank();
     }
     
+    public boolean hasQuery() {
+        return query != null;
+    }
+    
     public boolean hasFieldFilters() {
         return name != null || email != null || phone != null || 
                city != null || state != null || country != null || zipCode != null;
     }
     
+    public boolean hasFuzzyName() {
+        return nameMatch == NameMatch.FUZZY && name != null && !name.isBlank();
+    }
+    
+    public boolean hasPhoneticName() {
+        return nameMatch == NameMatch.PHONETIC && name != null && !name.isBlank();
+    }
+    
     public boolean hasDateFilters() {
         return createdAfter != null || createdBefore != null || 
                updatedAfter != null || updatedBefore != null;
@@ -77,9 +101,16 @@ public class CustomerSearchCriteria {
         return !sortCriteria.isEmpty();
     }
     
+    public boolean hasCursor() {
+        return cursor != null;
+    }
+    
     public static class Builder {
         private String searchText;
+        private SearchExpression query;
         private String name;
+        private NameMatch nameMatch;
+        private int maxEditDistance = FuzzyName.DEFAULT_MAX_EDITS;
         private String email;
         private String phone;
         private String city;
@@ -91,6 +122,7 @@ public class CustomerSearchCriteria {
         private LocalDateTime updatedAfter;
         private LocalDateTime updatedBefore;
         private List<SortCriteria> sortCriteria;
+        private PageCursor cursor;
         private int page = 0;
         private int size = 20;
         
@@ -99,11 +131,26 @@ public class CustomerSearchCriteria {
             return this;
         }
         
+        public Builder query(SearchExpression query) {
+            this.query = query;
+            return this;
+        }
+        
         public Builder name(String name) {
             this.name = name;
             return this;
         }
         
+        public Builder nameMatch(NameMatch nameMatch) {
+            this.nameMatch = nameMatch;
+            return this;
+        }
+        
+        public Builder maxEditDistance(int maxEditDistance) {
+            this.maxEditDistance = maxEditDistance;
+            return this;
+        }
+        
         public Builder email(String email) {
             this.email = email;
             return this;
@@ -159,6 +206,11 @@ public class CustomerSearchCriteria {
             return this;
         }
         
+        public Builder cursor(PageCursor cursor) {
+            this.cursor = cursor;
+            return this;
+        }
+        
         public Builder page(int page) {
             this.page = page;
             return this;
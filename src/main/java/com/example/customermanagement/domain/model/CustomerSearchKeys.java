@@ -0,0 +1,61 @@
+package com.example.customermanagement.domain.model;
+
+import java.text.Normalizer;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Case-folded, NFKC-normalized copies of a customer's searchable fields, computed once whenever the
+ * customer's data is set so that case-insensitive matching and sorting compare these keys directly
+ * instead of lower-casing every field of every scanned customer. Once a customer is stored, its
+ * address keys can be switched to {@link SharedAddressValues shared} folded values. The name's
+ * {@link PhoneticName} codes are kept alongside for sound-alike lookups.
+ */
+public record CustomerSearchKeys(String name, List<String> nameSounds, String email, String phone,
+                                 String city, String state, String zipCode, String country) {
+
+    public static CustomerSearchKeys of(String name, String email, String phone, Address address) {
+        return new CustomerSearchKeys(fold(name), List.copyOf(PhoneticName.keysOf(name)), fold(email), fold(phone),
+                fold(AddressField.CITY.valueOf(address)),
+                fold(AddressField.STATE.valueOf(address)),
+                fold(AddressField.ZIP_CODE.valueOf(address)),
+                fold(AddressField.COUNTRY.valueOf(address)));
+    }
+
+    /**
+     * Folds a field value or search term for case-insensitive comparison. Already folded values
+     * are returned as the same instance.
+     */
+    public static String fold(String value) {
+        if (value == null) {
+            return null;
+        }
+        return Normalizer.normalize(value, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+    }
+
+    public String of(AddressField field) {
+        return switch (field) {
+            case CITY -> city;
+            case STATE -> state;
+            case ZIP_CODE -> zipCode;
+            case COUNTRY -> country;
+        };
+    }
+
+    /**
+     * These keys with each address key replaced by the {@code shared} folded value of the field in
+     * {@code address}, where there is one.
+     */
+    public CustomerSearchKeys withSharedAddressKeys(Address address, SharedAddressValues shared) {
+        return new CustomerSearchKeys(name, nameSounds, email, phone,
+                sharedKey(AddressField.CITY, address, shared),
+                sharedKey(AddressField.STATE, address, shared),
+                sharedKey(AddressField.ZIP_CODE, address, shared),
+                sharedKey(AddressField.COUNTRY, address, shared));
+    }
+
+    private String sharedKey(AddressField field, Address address, SharedAddressValues shared) {
+        String folded = shared.foldedValue(field, field.valueOf(address));
+        return folded != null ? folded : of(field);
+    }
+}
@@ -0,0 +1,9 @@
+package com.example.customermanagement.domain.model;
+
+import java.util.List;
+
+/**
+ * One page of customers together with the number of customers matching the query overall.
+ */
+public record CustomerSlice(List<Customer> customers, long totalElements) {
+}
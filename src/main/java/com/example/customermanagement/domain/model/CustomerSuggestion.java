@@ -0,0 +1,61 @@
+package com.example.customermanagement.domain.model;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * A type-ahead match: the customer's display strings plus the folded key the prefix matched.
+ * Suggestions are ordered by that key, then by the id's string form, so every source yields the
+ * same order.
+ */
+public record CustomerSuggestion(String key, UUID id, String name, String email) {
+
+    public static final Comparator<CustomerSuggestion> ORDER =
+            Comparator.comparing(CustomerSuggestion::key).thenComparing(suggestion -> suggestion.id().toString());
+
+    /**
+     * Folds a type-ahead prefix the same way as the suggestion keys; leading whitespace is ignored.
+     */
+    public static String foldPrefix(String prefix) {
+        return prefix == null ? null : CustomerSearchKeys.fold(prefix.stripLeading());
+    }
+
+    /**
+     * The keys a customer can be suggested under: the folded name from the start of each word, so
+     * "kum" finds "Rajesh Kumar", and the folded email.
+     */
+    public static List<String> keysOf(CustomerSearchKeys searchKeys) {
+        List<String> keys = new ArrayList<>(3);
+        String name = searchKeys.name();
+        if (name != null) {
+            for (int i = 0; i < name.length(); i++) {
+                if (!Character.isWhitespace(name.charAt(i)) && (i == 0 || Character.isWhitespace(name.charAt(i - 1)))) {
+                    keys.add(name.substring(i));
+                }
+            }
+        }
+        if (searchKeys.email() != null) {
+            keys.add(searchKeys.email());
+        }
+        return keys;
+    }
+
+    /**
+     * The smallest of the customer's keys starting with the folded prefix, or null if none does.
+     */
+    public static CustomerSuggestion matching(Customer customer, String foldedPrefix) {
+        String best = null;
+        for (String key : keysOf(customer.getSearchKeys())) {
+            if (key.startsWith(foldedPrefix) && (best == null || key.compareTo(best) < 0)) {
+                best = key;
+            }
+        }
+        return best == null ? null : of(best, customer);
+    }
+
+    public static CustomerSuggestion of(String key, Customer customer) {
+        return new CustomerSuggestion(key, customer.getId(), customer.getName(), customer.getEmail());
+    }
+}
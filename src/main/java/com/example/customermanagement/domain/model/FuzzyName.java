@@ -0,0 +1,190 @@
+package com.example.customermanagement.domain.model;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * Typo-tolerant name matching. A term matches a name when its Levenshtein distance to the whole
+ * name, or to any run of consecutive name words with as many words as the term, is at most the
+ * allowed number of edits. Both sides are folded and have whitespace runs collapsed to one space.
+ * <p>
+ * Candidates are found through padded trigrams: one edit changes at most three of a string's
+ * trigrams, so a name within {@code k} edits of the term shares at least
+ * {@code grams(term) - 3k} distinct trigrams with it. Terms too short for that bound to be
+ * positive are matched with fewer edits, as in {@link #effectiveMaxEdits}, so a fuzzy search
+ * never has to score every customer.
+ */
+public final class FuzzyName {
+
+    public static final int DEFAULT_MAX_EDITS = 2;
+    public static final int MAX_EDITS = 3;
+
+    private static final int GRAM_LENGTH = 3;
+    private static final int EDITS_PER_GRAM = 3;
+
+    private FuzzyName() {
+    }
+
+    /**
+     * Folds the value and collapses whitespace; already normalized values are returned as is.
+     */
+    public static String normalize(String value) {
+        if (value == null) {
+            return null;
+        }
+        String folded = CustomerSearchKeys.fold(value);
+        return isNormalized(folded) ? folded : String.join(" ", folded.trim().split("\\s+"));
+    }
+
+    /**
+     * The value with one space of padding on each side, whose trigrams are the ones indexed and
+     * looked up. Any run of words inside a padded name is itself padded by the surrounding spaces,
+     * so its trigrams are a subset of the name's.
+     */
+    public static String padded(String normalized) {
+        return " " + normalized + " ";
+    }
+
+    public static Set<String> grams(String normalized) {
+        String padded = padded(normalized);
+        Set<String> grams = new LinkedHashSet<>();
+        for (int i = 0; i + GRAM_LENGTH <= padded.length(); i++) {
+            grams.add(padded.substring(i, i + GRAM_LENGTH));
+        }
+        return grams;
+    }
+
+    /**
+     * Lowest number of distinct trigrams a name within {@code maxEdits} of a term with
+     * {@code termGrams} distinct trigrams shares with it.
+     */
+    public static int minSharedGrams(int termGrams, int maxEdits) {
+        return termGrams - EDITS_PER_GRAM * maxEdits;
+    }
+
+    /**
+     * The requested edit budget, lowered until a matching name must share at least one trigram with
+     * the term.
+     */
+    public static int effectiveMaxEdits(String normalizedTerm, int requested) {
+        int termGrams = grams(normalizedTerm).size();
+        return Math.max(0, Math.min(requested, (termGrams - 1) / EDITS_PER_GRAM));
+    }
+
+    /**
+     * Smallest edit distance between the term and the name or a same-length run of its words, or
+     * {@code maxEdits + 1} when there is none within {@code maxEdits}.
+     */
+    public static int distance(String normalizedTerm, String name, int maxEdits) {
+        String normalizedName = normalize(name);
+        if (normalizedName == null) {
+            return maxEdits + 1;
+        }
+        int best = levenshtein(normalizedTerm, normalizedName, 0, normalizedName.length(), maxEdits);
+        int termWords = wordCount(normalizedTerm);
+        for (int start = 0; best > 0 && start >= 0; start = nextWordStart(normalizedName, start)) {
+            int end = windowEnd(normalizedName, start, termWords);
+            if (end < 0) {
+                break;
+            }
+            best = Math.min(best, levenshtein(normalizedTerm, normalizedName, start, end, maxEdits));
+        }
+        return best;
+    }
+
+    /**
+     * Share of the two strings' distinct trigrams they have in common, between 0 and 1.
+     */
+    public static double similarity(String normalizedTerm, String name) {
+        Set<String> termGrams = grams(normalizedTerm);
+        Set<String> nameGrams = grams(normalize(name));
+        int shared = 0;
+        for (String gram : termGrams) {
+            if (nameGrams.contains(gram)) {
+                shared++;
+            }
+        }
+        return (double) shared / (termGrams.size() + nameGrams.size() - shared);
+    }
+
+    private static boolean isNormalized(String folded) {
+        if (folded.isEmpty()) {
+            return true;
+        }
+        if (folded.charAt(0) == ' ' || folded.charAt(folded.length() - 1) == ' ') {
+            return false;
+        }
+        for (int i = 0; i < folded.length(); i++) {
+            char c = folded.charAt(i);
+            if (Character.isWhitespace(c) && (c != ' ' || folded.charAt(i - 1) == ' ')) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int wordCount(String normalized) {
+        int words = 1;
+        for (int i = 0; i < normalized.length(); i++) {
+            if (normalized.charAt(i) == ' ') {
+                words++;
+            }
+        }
+        return words;
+    }
+
+    private static int nextWordStart(String normalized, int from) {
+        int space = normalized.indexOf(' ', from);
+        return space < 0 ? -1 : space + 1;
+    }
+
+    /**
+     * End of the run of {@code words} words starting at {@code start}, or -1 when fewer words remain.
+     */
+    private static int windowEnd(String normalized, int start, int words) {
+        int position = start;
+        for (int word = 1; word < words; word++) {
+            int space = normalized.indexOf(' ', position);
+            if (space < 0) {
+                return -1;
+            }
+            position = space + 1;
+        }
+        int space = normalized.indexOf(' ', position);
+        return space < 0 ? normalized.length() : space;
+    }
+
+    /**
+     * Levenshtein distance between {@code a} and {@code b[from, to)}, or {@code max + 1} as soon as
+     * every entry of a row exceeds {@code max}.
+     */
+    private static int levenshtein(String a, String b, int from, int to, int max) {
+        int n = a.length();
+        int m = to - from;
+        if (Math.abs(n - m) > max) {
+            return max + 1;
+        }
+        int[] previous = new int[n + 1];
+        int[] current = new int[n + 1];
+        for (int i = 0; i <= n; i++) {
+            previous[i] = i;
+        }
+        for (int j = 1; j <= m; j++) {
+            current[0] = j;
+            int rowMin = j;
+            char bc = b.charAt(from + j - 1);
+            for (int i = 1; i <= n; i++) {
+                int substitution = previous[i - 1] + (a.charAt(i - 1) == bc ? 0 : 1);
+                current[i] = Math.min(substitution, Math.min(previous[i], current[i - 1]) + 1);
+                rowMin = Math.min(rowMin, current[i]);
+            }
+            if (rowMin > max) {
+                return max + 1;
+            }
+            int[] swap = previous;
+            previous = current;
+            current = swap;
+        }
+        return Math.min(previous[n], max + 1);
+    }
+}
@@ -0,0 +1,10 @@
+package com.example.customermanagement.domain.model;
+
+/**
+ * How a case-insensitive filter term is compared against an indexed field value.
+ */
+public enum MatchMode {
+    EXACT,
+    PREFIX,
+    CONTAINS
+}
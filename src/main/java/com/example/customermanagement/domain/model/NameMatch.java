@@ -0,0 +1,13 @@
+package com.example.customermanagement.domain.model;
+
+/**
+ * How the name filter of a search compares its term against customer names.
+ */
+public enum NameMatch {
+    /** Case-insensitive substring match. */
+    CONTAINS,
+    /** Typo-tolerant match within a bounded edit distance, see {@link FuzzyName}. */
+    FUZZY,
+    /** Sound-alike match on the words' {@link PhoneticName} codes. */
+    PHONETIC
+}
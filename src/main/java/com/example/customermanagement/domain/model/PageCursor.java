@@ -0,0 +1,16 @@
+package com.example.customermanagement.domain.model;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Keyset pagination position: the sort key values and id of the last customer on the
+ * previous page, plus the sort it was produced under so it cannot be replayed against
+ * a different ordering.
+ */
+public record PageCursor(String sortSignature, List<String> sortValues, UUID lastId) {
+
+    public PageCursor {
+        sortValues = List.copyOf(sortValues);
+    }
+}
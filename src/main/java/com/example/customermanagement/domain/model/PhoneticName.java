@@ -0,0 +1,111 @@
+package com.example.customermanagement.domain.model;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * Sound-alike name matching with American Soundex: each word of a name is reduced to its first
+ * letter and up to three digits for the consonant groups that follow, so "Smith" and "Smyth" both
+ * become S530. A term matches a name when every word code of the term is among the name's word
+ * codes, which makes a one-word lookup a single hash probe.
+ */
+public final class PhoneticName {
+
+    private static final int CODE_LENGTH = 4;
+    private static final char VOWEL = '0';
+    private static final char SKIPPED = '-';
+    private static final Pattern WORD_SEPARATOR = Pattern.compile("[\\s\\-]+");
+
+    private PhoneticName() {
+    }
+
+    /**
+     * Distinct Soundex codes of the words of {@code name}, in word order. Words are split on
+     * whitespace and hyphens; accents and other non-letters are dropped.
+     */
+    public static List<String> keysOf(String name) {
+        List<String> keys = new ArrayList<>(2);
+        if (name == null) {
+            return keys;
+        }
+        for (String word : WORD_SEPARATOR.split(name)) {
+            String code = encode(word);
+            if (code != null && !keys.contains(code)) {
+                keys.add(code);
+            }
+        }
+        return keys;
+    }
+
+    /**
+     * Soundex code of a single word, or null when it has no letters.
+     */
+    public static String encode(String word) {
+        String letters = lettersOf(word);
+        if (letters.isEmpty()) {
+            return null;
+        }
+        StringBuilder code = new StringBuilder(CODE_LENGTH).append(Character.toUpperCase(letters.charAt(0)));
+        char previous = digitOf(letters.charAt(0));
+        for (int i = 1; i < letters.length() && code.length() < CODE_LENGTH; i++) {
+            char digit = digitOf(letters.charAt(i));
+            if (digit == SKIPPED) {
+                continue;
+            }
+            if (digit != VOWEL && digit != previous) {
+                code.append(digit);
+            }
+            previous = digit;
+        }
+        while (code.length() < CODE_LENGTH) {
+            code.append('0');
+        }
+        return code.toString();
+    }
+
+    /**
+     * Whether every code in {@code termKeys} is one of {@code nameKeys}.
+     */
+    public static boolean matches(List<String> termKeys, List<String> nameKeys) {
+        if (termKeys.isEmpty() || nameKeys == null) {
+            return false;
+        }
+        for (String key : termKeys) {
+            if (!nameKeys.contains(key)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static String lettersOf(String word) {
+        String decomposed = Normalizer.normalize(word, Normalizer.Form.NFKD).toLowerCase(Locale.ROOT);
+        StringBuilder letters = new StringBuilder(decomposed.length());
+        for (int i = 0; i < decomposed.length(); i++) {
+            char c = decomposed.charAt(i);
+            if (c >= 'a' && c <= 'z') {
+                letters.append(c);
+            }
+        }
+        return letters.toString();
+    }
+
+    /**
+     * Soundex digit of a lower-case letter. Vowels separate repeated digits; h and w do not.
+     */
+    private static char digitOf(char letter) {
+        return switch (letter) {
+            case 'b', 'f', 'p', 'v' -> '1';
+            case 'c', 'g', 'j', 'k', 'q', 's', 'x', 'z' -> '2';
+            case 'd', 't' -> '3';
+            case 'l' -> '4';
+            case 'm', 'n' -> '5';
+            case 'r' -> '6';
+            case 'h', 'w' -> SKIPPED;
+            default -> VOWEL;
+        };
+    }
+}
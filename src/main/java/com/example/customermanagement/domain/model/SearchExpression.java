@@ -0,0 +1,79 @@
+package com.example.customermanagement.domain.model;
+
+import java.util.List;
+
+/**
+ * Boolean expression over {@link SearchField} terms, as given by the {@code q} search parameter.
+ * Term values are folded on construction so matching compares them directly with a customer's
+ * {@link CustomerSearchKeys}. Expressions are immutable and compare by value, so they can be part
+ * of a cache key.
+ */
+public sealed interface SearchExpression {
+
+    boolean matches(CustomerSearchKeys keys);
+
+    /**
+     * Tests one field: {@code field=value} for equality, {@code field:value} for a substring.
+     */
+    record Term(SearchField field, MatchMode matchMode, String value) implements SearchExpression {
+
+        public Term {
+            value = CustomerSearchKeys.fold(value);
+        }
+
+        @Override
+        public boolean matches(CustomerSearchKeys keys) {
+            String key = field.keyOf(keys);
+            if (key == null) {
+                return false;
+            }
+            return switch (matchMode) {
+                case EXACT -> key.equals(value);
+                case PREFIX -> key.startsWith(value);
+                case CONTAINS -> key.contains(value);
+            };
+        }
+    }
+
+    record And(List<SearchExpression> operands) implements SearchExpression {
+
+        public And {
+            operands = List.copyOf(operands);
+        }
+
+        @Override
+        public boolean matches(CustomerSearchKeys keys) {
+            for (SearchExpression operand : operands) {
+                if (!operand.matches(keys)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    record Or(List<SearchExpression> operands) implements SearchExpression {
+
+        public Or {
+            operands = List.copyOf(operands);
+        }
+
+        @Override
+        public boolean matches(CustomerSearchKeys keys) {
+            for (SearchExpression operand : operands) {
+                if (operand.matches(keys)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    record Not(SearchExpression operand) implements SearchExpression {
+
+        @Override
+        public boolean matches(CustomerSearchKeys keys) {
+            return !operand.matches(keys);
+        }
+    }
+}
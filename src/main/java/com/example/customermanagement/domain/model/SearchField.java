@@ -0,0 +1,55 @@
+package com.example.customermanagement.domain.model;
+
+import java.util.Locale;
+import java.util.function.Function;
+
+/**
+ * Customer field a {@link SearchExpression} term can test, read from the customer's precomputed
+ * {@link CustomerSearchKeys}. Address fields also name the {@link AddressField} whose index can
+ * answer the term.
+ */
+public enum SearchField {
+    NAME(CustomerSearchKeys::name, null),
+    EMAIL(CustomerSearchKeys::email, null),
+    PHONE(CustomerSearchKeys::phone, null),
+    CITY(CustomerSearchKeys::city, AddressField.CITY),
+    STATE(CustomerSearchKeys::state, AddressField.STATE),
+    COUNTRY(CustomerSearchKeys::country, AddressField.COUNTRY),
+    ZIP_CODE(CustomerSearchKeys::zipCode, AddressField.ZIP_CODE);
+
+    private final Function<CustomerSearchKeys, String> key;
+    private final AddressField addressField;
+
+    SearchField(Function<CustomerSearchKeys, String> key, AddressField addressField) {
+        this.key = key;
+        this.addressField = addressField;
+    }
+
+    /**
+     * The field called {@code name} in a query, or null when there is none. Accepts the field
+     * names of the search parameters, case-insensitively, and "zip" for the zip code.
+     */
+    public static SearchField named(String name) {
+        return switch (name.toLowerCase(Locale.ROOT)) {
+            case "name" -> NAME;
+            case "email" -> EMAIL;
+            case "phone" -> PHONE;
+            case "city" -> CITY;
+            case "state" -> STATE;
+            case "country" -> COUNTRY;
+            case "zip", "zipcode" -> ZIP_CODE;
+            default -> null;
+        };
+    }
+
+    public String keyOf(CustomerSearchKeys keys) {
+        return key.apply(keys);
+    }
+
+    /**
+     * The address field backing this field, or null for name, email and phone.
+     */
+    public AddressField addressField() {
+        return addressField;
+    }
+}
@@ -0,0 +1,19 @@
+package com.example.customermanagement.domain.model;
+
+/**
+ * Source of shared instances of address field values, such as a store's dictionary of the values
+ * its customers hold, so that equal cities, states, zip codes and countries are kept once.
+ */
+public interface SharedAddressValues {
+
+    /**
+     * The shared instance equal to {@code value}, or {@code value} itself when there is none.
+     */
+    String value(AddressField field, String value);
+
+    /**
+     * The shared {@link CustomerSearchKeys#fold folded} form of {@code value}, or null when there is
+     * none.
+     */
+    String foldedValue(AddressField field, String value);
+}
@@ -0,0 +1,37 @@
+package com.example.customermanagement.domain.repository;
+
+import com.example.customermanagement.domain.exception.EventPositionUnavailableException;
+import com.example.customermanagement.domain.model.CustomerEvents;
+
+import java.time.Duration;
+
+/**
+ * Bounded, in-process log of customer mutations numbered from 1. Only the newest events are kept:
+ * writers never wait for readers, and a reader that falls further behind than the log holds has to
+ * resynchronize. {@code epoch} identifies one log instance, so positions from a log that has since
+ * been recreated, e.g. by a restart, can be told apart.
+ *
+ * <p>A store that logs its writes durably publishes an event only once the write is durable, so
+ * every event a reader sees survives a restart. An event may therefore appear slightly after the
+ * change itself is readable from the store.
+ */
+public interface CustomerEventLog {
+
+    long epoch();
+
+    long headSequence();
+
+    /**
+     * Up to {@code limit} events following sequence {@code after}, oldest first.
+     *
+     * @throws EventPositionUnavailableException if events after {@code after} have been overwritten
+     *                                           or {@code after} is beyond the newest event
+     */
+    CustomerEvents readAfter(long after, int limit);
+
+    /**
+     * Waits up to {@code timeout} for an event after sequence {@code after} and returns whether there
+     * is one.
+     */
+    boolean awaitAfter(long after, Duration timeout) throws InterruptedException;
+}
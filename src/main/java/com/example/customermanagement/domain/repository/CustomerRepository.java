@@ -1,11 +1,27 @@
 package com.example.customermanagement.domain.repository;
 
 
+import com.example.customermanagement.domain.model.AddressField;
+import com.example.customermanagement.domain.model.ChangeToken;
 import com.example.customermanagement.domain.model.Customer;
+import com.example.customermanagement.domain.model.CustomerChanges;
+import com.example.customermanagement.domain.model.CustomerFacets;
+import com.example.customermanagement.domain.model.CustomerSearchCriteria;
+import com.example.customermanagement.domain.model.CustomerSlice;
+import com.example.customermanagement.domain.model.CustomerSuggestion;
+import com.example.customermanagement.domain.model.FuzzyName;
+import com.example.customermanagement.domain.model.MatchMode;
+import com.example.customermanagement.domain.model.PhoneticName;
 
+import java.time.LocalDateTime;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
 
 public interface CustomerRepository {
 
@@ -15,6 +31,12 @@ public interface CustomerRepository {
 
     List<Customer> findAll();
 
+    /**
+     * Lazily streams the live store without copying it. The stream is weakly consistent with
+     * concurrent writes, supports short-circuiting operations and may be made parallel.
+     */
+    Stream<Customer> streamAll();
+
     Optional<Customer> update(UUID id, Customer customer);
 
     boolean deleteById(UUID id);
@@ -22,4 +44,116 @@ public interface CustomerRepository {
     boolean existsById(UUID id);
 
     long count();
+
+    /**
+     * Counter that changes after every save, update and delete has been applied. Callers read it
+     * before a read and compare it later to tell whether what they read may have changed since.
+     */
+    long generation();
+
+    /**
+     * Looks up customer ids by a case-insensitive address field match using a secondary index.
+     * Returns an empty Optional when the implementation keeps no index for the field,
+     * in which case callers are expected to fall back to a scan.
+     */
+    Optional<Set<UUID>> findIdsByAddressField(AddressField field, String value, MatchMode matchMode);
+
+    /**
+     * Returns ids of customers matching every one of the address filters, intersected inside the
+     * implementation's indexes before any ids are materialized. Returns an empty Optional when the
+     * implementation cannot combine filters, in which case callers intersect the results of
+     * {@link #findIdsByAddressField} themselves.
+     */
+    Optional<Set<UUID>> findIdsByAddressFields(Map<AddressField, String> filters, MatchMode matchMode);
+
+    /**
+     * Returns ids of customers that may contain the given free-text term in any searchable field.
+     * The result is a superset of the real matches and must be verified by the caller. Returns an
+     * empty Optional when the term cannot be narrowed by the implementation.
+     */
+    Optional<Set<UUID>> findCandidateIdsByText(String text);
+
+    /**
+     * Returns ids of customers whose name may be within {@code maxEdits} edits of the term as defined
+     * by {@link FuzzyName#distance}, found by shared trigrams rather than by scoring every name. The
+     * result is a superset of the real matches and must be verified by the caller. Returns an empty
+     * Optional when the implementation has no name trigram index.
+     */
+    Optional<Set<UUID>> findFuzzyNameCandidates(String term, int maxEdits);
+
+    /**
+     * Returns ids of customers whose name holds every {@link PhoneticName} code of the given name,
+     * looked up by code rather than by encoding every name. Returns an empty Optional when the
+     * implementation keeps no phonetic index.
+     */
+    Optional<Set<UUID>> findIdsByPhoneticName(String name);
+
+    /**
+     * Returns up to {@code limit} customers, newest first by createdAt, after skipping {@code offset}.
+     * Returns an empty Optional when the implementation keeps no createdAt ordering, in which
+     * case callers sort the result of streamAll themselves.
+     */
+    Optional<List<Customer>> findOrderedByCreatedAtDesc(long offset, int limit);
+
+    /**
+     * Keyset variant of {@link #findOrderedByCreatedAtDesc(long, int)}: returns up to {@code limit}
+     * customers positioned strictly after (createdAt, id) in newest-first order.
+     */
+    Optional<List<Customer>> findOrderedByCreatedAtDescAfter(LocalDateTime createdAt, UUID id, int limit);
+
+    /**
+     * Evaluates only the address and date-range filters of {@code criteria}, returning the newest-first
+     * page positioned after the criteria's cursor (a createdAt-desc cursor) or else after {@code offset},
+     * with the total match count. Returns an empty Optional when the criteria carry any other filter
+     * or the implementation cannot scan this way, in which case callers filter themselves.
+     */
+    Optional<CustomerSlice> scanNewestFirst(CustomerSearchCriteria criteria, long offset, int limit);
+
+    /**
+     * Scans every customer, counting those accepted by {@code filter}, and returns the matches that
+     * are also accepted by {@code position} in {@code order}, after skipping {@code offset} and capped
+     * at {@code limit}. Only offset + limit customers are held while scanning. The predicates and the
+     * comparator may be called from several threads at once. Returns an empty Optional when the
+     * implementation cannot do better than {@link #streamAll()}.
+     */
+    Optional<CustomerSlice> findTopMatching(Predicate<Customer> filter, Predicate<Customer> position,
+                                            Comparator<Customer> order, long offset, int limit);
+
+    /**
+     * Evaluates every filter, the sort order and the page of {@code criteria} inside the store: the
+     * returned customers are the up to {@code limit} matches after the criteria's cursor, or else after
+     * page * size matches, with the total match count. The sort order must be the one the cursor was
+     * produced under. Returns an empty Optional when the implementation cannot run the whole search,
+     * in which case callers fall back to the narrower capabilities above.
+     */
+    Optional<CustomerSlice> search(CustomerSearchCriteria criteria, int limit);
+
+    /**
+     * Counts the customers matching {@code criteria} per country, state, city and zip code prefix of
+     * {@code zipPrefixLength} characters, ignoring sort and paging. Returns an empty Optional when the
+     * implementation cannot count without visiting every matching customer, in which case callers
+     * count the matches themselves.
+     */
+    Optional<CustomerFacets> countFacets(CustomerSearchCriteria criteria, int zipPrefixLength);
+
+    /**
+     * Returns up to {@code limit} distinct customers with a {@link CustomerSuggestion#keysOf suggestion
+     * key} starting with the folded prefix, in {@link CustomerSuggestion#ORDER}. Returns an empty
+     * Optional when the implementation has no prefix index, in which case callers scan themselves.
+     */
+    Optional<List<CustomerSuggestion>> suggest(String prefix, int limit);
+
+    /**
+     * Returns up to {@code limit} of the changes made after {@code since}, or from the oldest one
+     * retained when it is null, in the order they were made: each changed customer once in its
+     * current state and each deleted one as a tombstone. Returns an empty Optional when the
+     * implementation keeps no change index.
+     */
+    Optional<CustomerChanges> findChangesSince(ChangeToken since, int limit);
+
+    /**
+     * The log every save, update and deleteById is appended to, in the order the mutations were
+     * applied to each customer. Returns an empty Optional when the implementation keeps no log.
+     */
+    Optional<CustomerEventLog> eventLog();
 }
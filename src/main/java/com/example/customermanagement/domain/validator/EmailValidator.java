@@ -3,7 +3,14 @@ package com.example.customermanagement.domain.validator;
 
 import com.example.customermanagement.domain.exception.InvalidEmailFormatException;
 
+import java.util.regex.Pattern;
+
 public class EmailValidator {
+
+    private static final Pattern LOCAL_PART =
+            Pattern.compile("^[a-zA-Z0-9!#$%&'*+/=?^_`{|}~-]+(\\.[a-zA-Z0-9!#$%&'*+/=?^_`{|}~-]+)*$");
+    private static final Pattern TOP_LEVEL_DOMAIN = Pattern.compile("^[a-zA-Z]+$");
+    private static final Pattern DOMAIN_LABEL = Pattern.compile("^[a-zA-Z0-9-]+$");
     
     public static void validateEmail(String email) {
         InvalidEmailFormatException.EmailValidationError error = validateEmailFormat(email);
@@ -60,7 +67,7 @@ public class EmailValidator {
             return InvalidEmailFormatException.EmailValidationError.CONSECUTIVE_DOTS;
         }
         
-        if (!localPart.matches("^[a-zA-Z0-9!#$%&'*+/=?^_`{|}~-]+(\\.[a-zA-Z0-9!#$%&'*+/=?^_`{|}~-]+)*$")) {
+        if (!LOCAL_PART.matcher(localPart).matches()) {
             return InvalidEmailFormatException.EmailValidationError.INVALID_LOCAL_PART;
         }
         
@@ -100,7 +107,7 @@ public class EmailValidator {
         }
         
         String tld = labels[labels.length - 1];
-        if (tld.length() < 2 || !tld.matches("^[a-zA-Z]+$")) {
+        if (tld.length() < 2 || !TOP_LEVEL_DOMAIN.matcher(tld).matches()) {
             return InvalidEmailFormatException.EmailValidationError.INVALID_TLD;
         }
         
@@ -116,6 +123,6 @@ public class EmailValidator {
             return false;
         }
         
-        return label.matches("^[a-zA-Z0-9-]+$");
+        return DOMAIN_LABEL.matcher(label).matches();
     }
 }
@@ -0,0 +1,58 @@
+package com.example.customermanagement.infrastructure.config;
+
+import com.example.customermanagement.infrastructure.persistence.InMemoryCustomerRepository;
+import com.example.customermanagement.infrastructure.persistence.ShardedCustomerRepository;
+import com.example.customermanagement.infrastructure.persistence.jpa.JpaCustomerRepository;
+import jakarta.persistence.EntityManager;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+import java.nio.file.Path;
+
+/**
+ * Selects how the customer store is backed. By default it is a single in-memory store; setting
+ * {@code customer.repository.wal.enabled=true} makes it durable through a write-ahead log, with
+ * periodic snapshots bounding how much of the log is replayed on startup. Setting
+ * {@code customer.repository.sharded.enabled=true} instead partitions it into in-memory shards
+ * searched in parallel. Activating the {@code jpa} profile replaces the in-memory store with the
+ * database configured by the datasource properties.
+ */
+@Configuration
+@EnableScheduling
+public class RepositoryConfig {
+
+    @Bean
+    @Profile("!jpa")
+    @ConditionalOnProperty(name = "customer.repository.sharded.enabled", havingValue = "false", matchIfMissing = true)
+    public InMemoryCustomerRepository customerRepository(
+            @Value("${customer.repository.wal.enabled:false}") boolean walEnabled,
+            @Value("${customer.repository.wal.path:data/customers.wal}") String walPath,
+            @Value("${customer.repository.snapshot.path:data/customers.snapshot}") String snapshotPath) {
+        if (walEnabled) {
+            return new InMemoryCustomerRepository(Path.of(walPath), Path.of(snapshotPath));
+        }
+        return new InMemoryCustomerRepository();
+    }
+
+    @Bean
+    @Profile("!jpa")
+    @ConditionalOnProperty(name = "customer.repository.sharded.enabled", havingValue = "true")
+    public ShardedCustomerRepository shardedCustomerRepository(
+            @Value("${customer.repository.wal.enabled:false}") boolean walEnabled,
+            @Value("${customer.repository.sharded.shard-count:0}") int shardCount) {
+        if (walEnabled) {
+            throw new IllegalStateException("The write-ahead log is not supported by the sharded customer repository");
+        }
+        return new ShardedCustomerRepository(shardCount > 0 ? shardCount : Runtime.getRuntime().availableProcessors());
+    }
+
+    @Bean
+    @Profile("jpa")
+    public JpaCustomerRepository jpaCustomerRepository(EntityManager entityManager) {
+        return new JpaCustomerRepository(entityManager);
+    }
+}
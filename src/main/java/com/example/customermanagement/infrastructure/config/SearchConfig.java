@@ -0,0 +1,35 @@
+package com.example.customermanagement.infrastructure.config;
+
+import com.example.customermanagement.application.search.SearchExecutor;
+import com.example.customermanagement.application.search.SearchResultCache;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * Sizes the pool large searches are split across. Scans of fewer than
+ * {@code customer.search.parallel.threshold} candidates stay on the request thread; larger ones
+ * use at most {@code customer.search.parallel.max-per-request} of the pool's threads. Search pages
+ * are cached until the next write, for at most {@code customer.search.cache.ttl}.
+ */
+@Configuration
+public class SearchConfig {
+
+    @Bean
+    public SearchExecutor searchExecutor(
+            @Value("${customer.search.parallel.pool-size:0}") int poolSize,
+            @Value("${customer.search.parallel.threshold:50000}") long threshold,
+            @Value("${customer.search.parallel.max-per-request:0}") int maxPerRequest) {
+        int threads = poolSize > 0 ? poolSize : Runtime.getRuntime().availableProcessors();
+        return new SearchExecutor(threads, threshold, maxPerRequest > 0 ? maxPerRequest : Math.max(1, threads / 2));
+    }
+
+    @Bean
+    public SearchResultCache searchResultCache(
+            @Value("${customer.search.cache.max-entries:1000}") int maxEntries,
+            @Value("${customer.search.cache.ttl:PT30S}") Duration ttl) {
+        return new SearchResultCache(maxEntries, ttl);
+    }
+}
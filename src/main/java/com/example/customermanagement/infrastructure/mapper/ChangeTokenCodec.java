@@ -0,0 +1,66 @@
+package com.example.customermanagement.infrastructure.mapper;
+
+import com.example.customermanagement.domain.exception.InvalidCustomerDataException;
+import com.example.customermanagement.domain.model.ChangeToken;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.DateTimeException;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Base64;
+
+/**
+ * Encodes {@link ChangeToken}s as opaque URL-safe tokens for the {@code since} query parameter.
+ */
+public final class ChangeTokenCodec {
+
+    private static final int VERSION = 1;
+
+    private ChangeTokenCodec() {
+    }
+
+    public static String encode(ChangeToken token) {
+        if (token == null) {
+            return null;
+        }
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeByte(VERSION);
+            out.writeLong(token.epoch());
+            out.writeLong(token.sequence());
+            out.writeLong(token.changedAt().toEpochSecond(ZoneOffset.UTC));
+            out.writeInt(token.changedAt().getNano());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes.toByteArray());
+    }
+
+    public static ChangeToken decode(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+
+        try (DataInputStream in = new DataInputStream(
+                new ByteArrayInputStream(Base64.getUrlDecoder().decode(token.trim())))) {
+            if (in.readUnsignedByte() != VERSION) {
+                throw InvalidCustomerDataException.invalidChangeToken(token, "unsupported token version");
+            }
+            long epoch = in.readLong();
+            long sequence = in.readLong();
+            LocalDateTime changedAt = LocalDateTime.ofEpochSecond(in.readLong(), in.readInt(), ZoneOffset.UTC);
+            if (in.available() > 0) {
+                throw InvalidCustomerDataException.invalidChangeToken(token, "trailing bytes");
+            }
+            return new ChangeToken(epoch, sequence, changedAt);
+        } catch (IOException | IllegalArgumentException | DateTimeException e) {
+            throw InvalidCustomerDataException.invalidChangeToken(token, "malformed token");
+        }
+    }
+}
@@ -3,7 +3,9 @@ package com.example.customermanagement.infrastructure.mapper;
 import com.example.customermanagement.domain.exception.CustomerMappingException;
 import com.example.customermanagement.domain.model.Address;
 import com.example.customermanagement.domain.model.Customer;
+import com.example.customermanagement.domain.model.CustomerEvent;
 import com.example.customermanagement.web.dto.address.AddressDTO;
+import com.example.customermanagement.web.dto.customer.CustomerEventDTO;
 import com.example.customermanagement.web.dto.customer.CustomerRequestDTO;
 import com.example.customermanagement.web.dto.customer.CustomerResponseDTO;
 import org.springframework.stereotype.Component;
@@ -70,6 +72,20 @@ public class CustomerMapper {
         }
     }
 
+    public CustomerEventDTO toEventDto(CustomerEvent event) {
+        if (event == null) {
+            return null;
+        }
+
+        return new CustomerEventDTO(
+                event.sequence(),
+                event.type().name(),
+                event.customerId(),
+                event.occurredAt(),
+                toResponseDto(event.customer())
+        );
+    }
+
     public List<CustomerResponseDTO> toResponseDtoList(List<Customer> entities) {
         if (entities == null) {
             return Collections.emptyList();
@@ -1,7 +1,10 @@
 package com.example.customermanagement.infrastructure.mapper;
 
+import com.example.customermanagement.domain.exception.InvalidCustomerDataException;
 import com.example.customermanagement.domain.exception.InvalidDateFormatException;
 import com.example.customermanagement.domain.model.CustomerSearchCriteria;
+import com.example.customermanagement.domain.model.FuzzyName;
+import com.example.customermanagement.domain.model.NameMatch;
 import com.example.customermanagement.web.dto.customer.CustomerSearchRequestDTO;
 import org.springframework.stereotype.Component;
 
@@ -29,11 +32,36 @@ public class CustomerSearchMapper {
             String city, String state, String country, String zipCode,
             String createdAfter, String createdBefore, 
             String updatedAfter, String updatedBefore,
-            List<String> sort, int page, int size) {
+            List<String> sort, String cursor, int page, int size) {
+        
+        return toSearchCriteria(search, name, null, null, email, phone, city, state, country, zipCode,
+                createdAfter, createdBefore, updatedAfter, updatedBefore, sort, cursor, page, size);
+    }
+    
+    public CustomerSearchCriteria toSearchCriteria(
+            String search, String name, String nameMatch, Integer maxEdits, String email, String phone,
+            String city, String state, String country, String zipCode,
+            String createdAfter, String createdBefore, 
+            String updatedAfter, String updatedBefore,
+            List<String> sort, String cursor, int page, int size) {
+        
+        return toSearchCriteria(search, null, name, nameMatch, maxEdits, email, phone, city, state, country,
+                zipCode, createdAfter, createdBefore, updatedAfter, updatedBefore, sort, cursor, page, size);
+    }
+    
+    public CustomerSearchCriteria toSearchCriteria(
+            String search, String q, String name, String nameMatch, Integer maxEdits, String email, String phone,
+            String city, String state, String country, String zipCode,
+            String createdAfter, String createdBefore, 
+            String updatedAfter, String updatedBefore,
+            List<String> sort, String cursor, int page, int size) {
         
         CustomerSearchRequestDTO requestDTO = new CustomerSearchRequestDTO();
         requestDTO.setSearch(search);
+        requestDTO.setQ(q);
         requestDTO.setName(name);
+        requestDTO.setNameMatch(nameMatch);
+        requestDTO.setMaxEdits(maxEdits);
         requestDTO.setEmail(email);
         requestDTO.setPhone(phone);
         requestDTO.setCity(city);
@@ -45,6 +73,7 @@ public class CustomerSearchMapper {
         requestDTO.setUpdatedAfterString(updatedAfter);
         requestDTO.setUpdatedBeforeString(updatedBefore);
         requestDTO.setSort(sort);
+        requestDTO.setCursor(cursor);
         requestDTO.setPage(page);
         requestDTO.setSize(size);
         
@@ -55,7 +84,10 @@ public class CustomerSearchMapper {
         
         CustomerSearchCriteria.Builder builder = CustomerSearchCriteria.builder()
                 .searchText(sanitizeString(requestDTO.getSearch()))
+                .query(SearchExpressionParser.parse(requestDTO.getQ()))
                 .name(sanitizeString(requestDTO.getName()))
+                .nameMatch(parseNameMatch(requestDTO.getNameMatch()))
+                .maxEditDistance(parseMaxEdits(requestDTO.getMaxEdits()))
                 .email(sanitizeString(requestDTO.getEmail()))
                 .phone(sanitizeString(requestDTO.getPhone()))
                 .city(sanitizeString(requestDTO.getCity()))
@@ -66,6 +98,7 @@ public class CustomerSearchMapper {
                 .createdBefore(parseDateTime(requestDTO.getCreatedBeforeString()))
                 .updatedAfter(parseDateTime(requestDTO.getUpdatedAfterString()))
                 .updatedBefore(parseDateTime(requestDTO.getUpdatedBeforeString()))
+                .cursor(PageCursorCodec.decode(requestDTO.getCursor()))
                 .page(requestDTO.getPage())
                 .size(requestDTO.getSize());
         
@@ -158,6 +191,31 @@ public class CustomerSearchMapper {
         };
     }
     
+    private NameMatch parseNameMatch(String nameMatch) {
+        String value = sanitizeString(nameMatch);
+        if (value == null) {
+            return NameMatch.CONTAINS;
+        }
+        return switch (value.toLowerCase()) {
+            case "contains" -> NameMatch.CONTAINS;
+            case "fuzzy" -> NameMatch.FUZZY;
+            case "phonetic" -> NameMatch.PHONETIC;
+            default -> throw InvalidCustomerDataException.invalidSearchParameter(
+                    "nameMatch", nameMatch, "Name match must be one of: contains, fuzzy, phonetic");
+        };
+    }
+    
+    private int parseMaxEdits(Integer maxEdits) {
+        if (maxEdits == null) {
+            return FuzzyName.DEFAULT_MAX_EDITS;
+        }
+        if (maxEdits < 0 || maxEdits > FuzzyName.MAX_EDITS) {
+            throw InvalidCustomerDataException.invalidSearchParameter(
+                    "maxEdits", maxEdits, "Max edits must be between 0 and " + FuzzyName.MAX_EDITS);
+        }
+        return maxEdits;
+    }
+    
     private LocalDateTime parseDateTime(String dateTimeString) {
         if (dateTimeString == null || dateTimeString.trim().isEmpty()) {
             return null;
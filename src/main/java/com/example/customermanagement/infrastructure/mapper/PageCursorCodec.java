@@ -0,0 +1,70 @@
+package com.example.customermanagement.infrastructure.mapper;
+
+import com.example.customermanagement.domain.exception.InvalidCustomerDataException;
+import com.example.customermanagement.domain.model.PageCursor;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Encodes {@link PageCursor}s as opaque URL-safe tokens for the {@code cursor} query parameter.
+ */
+public final class PageCursorCodec {
+
+    private static final int VERSION = 1;
+
+    private PageCursorCodec() {
+    }
+
+    public static String encode(PageCursor cursor) {
+        if (cursor == null) {
+            return null;
+        }
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeByte(VERSION);
+            out.writeUTF(cursor.sortSignature());
+            out.writeShort(cursor.sortValues().size());
+            for (String value : cursor.sortValues()) {
+                out.writeUTF(value);
+            }
+            out.writeLong(cursor.lastId().getMostSignificantBits());
+            out.writeLong(cursor.lastId().getLeastSignificantBits());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes.toByteArray());
+    }
+
+    public static PageCursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+
+        try (DataInputStream in = new DataInputStream(
+                new ByteArrayInputStream(Base64.getUrlDecoder().decode(token.trim())))) {
+            if (in.readUnsignedByte() != VERSION) {
+                throw InvalidCustomerDataException.invalidCursor(token, "unsupported cursor version");
+            }
+            String signature = in.readUTF();
+            int valueCount = in.readUnsignedShort();
+            List<String> values = new ArrayList<>(valueCount);
+            for (int i = 0; i < valueCount; i++) {
+                values.add(in.readUTF());
+            }
+            UUID lastId = new UUID(in.readLong(), in.readLong());
+            return new PageCursor(signature, values, lastId);
+        } catch (IOException | IllegalArgumentException e) {
+            throw InvalidCustomerDataException.invalidCursor(token, "malformed cursor");
+        }
+    }
+}
@@ -0,0 +1,231 @@
+package com.example.customermanagement.infrastructure.mapper;
+
+import com.example.customermanagement.domain.exception.InvalidCustomerDataException;
+import com.example.customermanagement.domain.model.MatchMode;
+import com.example.customermanagement.domain.model.SearchExpression;
+import com.example.customermanagement.domain.model.SearchField;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Recursive-descent parser for the {@code q} search parameter:
+ * <pre>
+ * query       = disjunction { "," disjunction }
+ * disjunction = conjunction { "OR" conjunction }
+ * conjunction = negation { [ "AND" ] negation }
+ * negation    = "NOT" negation | "(" query ")" | term
+ * term        = field ( "=" | ":" ) value
+ * value       = word | '"' { char | '\"' | '\\' } '"'
+ * </pre>
+ * Commas bind loosest and mean AND, so {@code state=CA OR state=NV, NOT city=Fresno} reads as
+ * {@code (state=CA OR state=NV) AND NOT city=Fresno}. Keywords are case-insensitive, {@code =}
+ * matches a whole field value and {@code :} a substring, both ignoring case. Query size and nesting
+ * are bounded so a single request cannot build an arbitrarily large plan.
+ */
+final class SearchExpressionParser {
+
+    static final int MAX_LENGTH = 2000;
+    static final int MAX_TERMS = 64;
+    static final int MAX_DEPTH = 16;
+
+    private final String query;
+    private int position;
+    private int terms;
+    private int depth;
+
+    private SearchExpressionParser(String query) {
+        this.query = query;
+    }
+
+    /**
+     * The expression {@code query} describes, or null when it is null or blank.
+     */
+    static SearchExpression parse(String query) {
+        if (query == null || query.isBlank()) {
+            return null;
+        }
+        if (query.length() > MAX_LENGTH) {
+            throw error(query, "Query must be at most " + MAX_LENGTH + " characters");
+        }
+        SearchExpressionParser parser = new SearchExpressionParser(query);
+        SearchExpression expression = parser.query();
+        parser.skipWhitespace();
+        if (!parser.atEnd()) {
+            throw parser.unexpected();
+        }
+        return expression;
+    }
+
+    private SearchExpression query() {
+        List<SearchExpression> operands = new ArrayList<>();
+        operands.add(disjunction());
+        while (consume(',')) {
+            operands.add(disjunction());
+        }
+        return operands.size() == 1 ? operands.getFirst() : new SearchExpression.And(operands);
+    }
+
+    private SearchExpression disjunction() {
+        List<SearchExpression> operands = new ArrayList<>();
+        operands.add(conjunction());
+        while (consumeKeyword("OR")) {
+            operands.add(conjunction());
+        }
+        return operands.size() == 1 ? operands.getFirst() : new SearchExpression.Or(operands);
+    }
+
+    private SearchExpression conjunction() {
+        List<SearchExpression> operands = new ArrayList<>();
+        operands.add(negation());
+        while (true) {
+            if (consumeKeyword("AND")) {
+                operands.add(negation());
+            } else if (startsOperand()) {
+                operands.add(negation());
+            } else {
+                break;
+            }
+        }
+        return operands.size() == 1 ? operands.getFirst() : new SearchExpression.And(operands);
+    }
+
+    private SearchExpression negation() {
+        if (++depth > MAX_DEPTH) {
+            throw error(query, "Query must nest at most " + MAX_DEPTH + " levels deep");
+        }
+        try {
+            if (consumeKeyword("NOT")) {
+                return new SearchExpression.Not(negation());
+            }
+            if (consume('(')) {
+                SearchExpression expression = query();
+                if (!consume(')')) {
+                    throw unexpected();
+                }
+                return expression;
+            }
+            return term();
+        } finally {
+            depth--;
+        }
+    }
+
+    private SearchExpression term() {
+        skipWhitespace();
+        int start = position;
+        while (!atEnd() && Character.isLetter(query.charAt(position))) {
+            position++;
+        }
+        if (start == position) {
+            throw unexpected();
+        }
+        String name = query.substring(start, position);
+        SearchField field = SearchField.named(name);
+        if (field == null) {
+            throw error(query, "Unknown field '" + name
+                    + "', expected one of: name, email, phone, city, state, country, zipCode");
+        }
+        MatchMode matchMode;
+        if (consume('=')) {
+            matchMode = MatchMode.EXACT;
+        } else if (consume(':')) {
+            matchMode = MatchMode.CONTAINS;
+        } else {
+            throw error(query, "Expected '=' or ':' after '" + name + "' at position " + position);
+        }
+        if (++terms > MAX_TERMS) {
+            throw error(query, "Query must have at most " + MAX_TERMS + " terms");
+        }
+        return new SearchExpression.Term(field, matchMode, value());
+    }
+
+    private String value() {
+        skipWhitespace();
+        if (consume('"')) {
+            StringBuilder value = new StringBuilder();
+            while (!atEnd() && query.charAt(position) != '"') {
+                char c = query.charAt(position++);
+                if (c == '\\' && !atEnd()) {
+                    c = query.charAt(position++);
+                }
+                value.append(c);
+            }
+            if (!consume('"')) {
+                throw error(query, "Unterminated quoted value");
+            }
+            if (value.toString().isBlank()) {
+                throw error(query, "Empty value at position " + position);
+            }
+            return value.toString();
+        }
+        int start = position;
+        while (!atEnd() && !endsWord(query.charAt(position))) {
+            position++;
+        }
+        if (start == position) {
+            throw error(query, "Empty value at position " + position);
+        }
+        return query.substring(start, position);
+    }
+
+    private boolean startsOperand() {
+        skipWhitespace();
+        if (atEnd()) {
+            return false;
+        }
+        char c = query.charAt(position);
+        return c == '(' || (Character.isLetter(c) && !atKeyword("OR"));
+    }
+
+    private boolean consumeKeyword(String keyword) {
+        skipWhitespace();
+        if (!atKeyword(keyword)) {
+            return false;
+        }
+        position += keyword.length();
+        return true;
+    }
+
+    /**
+     * Whether the keyword starts here as a whole word, so a field such as "order" is not read as OR.
+     */
+    private boolean atKeyword(String keyword) {
+        int end = position + keyword.length();
+        return query.regionMatches(true, position, keyword, 0, keyword.length())
+                && (end == query.length() || endsWord(query.charAt(end)));
+    }
+
+    private boolean consume(char expected) {
+        skipWhitespace();
+        if (!atEnd() && query.charAt(position) == expected) {
+            position++;
+            return true;
+        }
+        return false;
+    }
+
+    private void skipWhitespace() {
+        while (!atEnd() && Character.isWhitespace(query.charAt(position))) {
+            position++;
+        }
+    }
+
+    private boolean atEnd() {
+        return position >= query.length();
+    }
+
+    private InvalidCustomerDataException unexpected() {
+        return atEnd()
+                ? error(query, "Unexpected end of query")
+                : error(query, "Unexpected '" + query.charAt(position) + "' at position " + position);
+    }
+
+    private static boolean endsWord(char c) {
+        return Character.isWhitespace(c) || c == '(' || c == ')' || c == ',';
+    }
+
+    private static InvalidCustomerDataException error(String query, String message) {
+        return InvalidCustomerDataException.invalidSearchParameter("q", query, message);
+    }
+}
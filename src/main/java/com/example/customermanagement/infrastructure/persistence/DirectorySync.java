@@ -0,0 +1,27 @@
+package com.example.customermanagement.infrastructure.persistence;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Forces a directory's entries to disk. A rename or a newly created file is only durable once its
+ * parent directory has been synced; until then a crash can bring back the old entries even though
+ * the file contents themselves were forced.
+ */
+public final class DirectorySync {
+
+    private DirectorySync() {
+    }
+
+    /**
+     * Syncs the directory holding {@code file}.
+     */
+    public static void forceParentOf(Path file) throws IOException {
+        Path directory = file.toAbsolutePath().getParent();
+        try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            channel.force(true);
+        }
+    }
+}
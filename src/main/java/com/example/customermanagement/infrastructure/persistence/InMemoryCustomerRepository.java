@@ -1,27 +1,150 @@
 package com.example.customermanagement.infrastructure.persistence;
 
+import com.example.customermanagement.application.search.TopK;
 import com.example.customermanagement.domain.exception.InvalidCustomerDataException;
+import com.example.customermanagement.domain.model.AddressField;
+import com.example.customermanagement.domain.model.ChangeToken;
 import com.example.customermanagement.domain.model.Customer;
+import com.example.customermanagement.domain.model.CustomerChanges;
+import com.example.customermanagement.domain.model.CustomerEvent;
+import com.example.customermanagement.domain.model.CustomerFacets;
+import com.example.customermanagement.domain.model.CustomerSearchCriteria;
+import com.example.customermanagement.domain.model.CustomerSearchKeys;
+import com.example.customermanagement.domain.model.CustomerSlice;
+import com.example.customermanagement.domain.model.CustomerSuggestion;
+import com.example.customermanagement.domain.model.FuzzyName;
+import com.example.customermanagement.domain.model.MatchMode;
+import com.example.customermanagement.domain.model.PhoneticName;
+import com.example.customermanagement.domain.repository.CustomerEventLog;
 import com.example.customermanagement.domain.repository.CustomerRepository;
-import org.springframework.stereotype.Repository;
+import com.example.customermanagement.infrastructure.persistence.changelog.RingBufferEventLog;
+import com.example.customermanagement.infrastructure.persistence.columnar.ColumnarCustomerStore;
+import com.example.customermanagement.infrastructure.persistence.index.CreatedAtIndex;
+import com.example.customermanagement.infrastructure.persistence.index.CustomerOrdinals;
+import com.example.customermanagement.infrastructure.persistence.index.IndexMemoryStats;
+import com.example.customermanagement.infrastructure.persistence.index.PrefixIndex;
+import com.example.customermanagement.infrastructure.persistence.index.SecondaryIndex;
+import com.example.customermanagement.infrastructure.persistence.index.TrigramIndex;
+import com.example.customermanagement.infrastructure.persistence.index.UpdatedAtIndex;
+import com.example.customermanagement.infrastructure.persistence.snapshot.SnapshotFile;
+import com.example.customermanagement.infrastructure.persistence.wal.WalRecord;
+import com.example.customermanagement.infrastructure.persistence.wal.WalStats;
+import com.example.customermanagement.infrastructure.persistence.wal.WriteAheadLog;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
 
-@Repository
-public class InMemoryCustomerRepository implements CustomerRepository {
+/**
+ * Customer store held in memory. When constructed with a log path every mutation is appended to a
+ * {@link WriteAheadLog} before it is applied, and the store is rebuilt from that log on startup.
+ * With a snapshot path as well, {@link #snapshot()} writes a {@link SnapshotFile} so startup only
+ * loads the snapshot and replays the log written after it. Reads never touch either file.
+ *
+ * <p>Writers apply a mutation once its record is appended and then wait for the group fsync outside
+ * the write lock. A failed append throws before anything is applied. A failed fsync throws after
+ * the change is already visible, so the log then refuses every later write: the store stays
+ * readable but no further change is accepted until a restart restores the durable state. The
+ * change's event is only published to the event log after the fsync, so consumers never apply it.
+ */
+public class InMemoryCustomerRepository implements CustomerRepository, AutoCloseable {
     
     private final ConcurrentHashMap<UUID, Customer> dataStore = new ConcurrentHashMap<>();
+    private final CustomerOrdinals ordinals = new CustomerOrdinals();
+    private final Map<AddressField, SecondaryIndex> addressIndexes = new EnumMap<>(AddressField.class);
+    private final TrigramIndex textIndex = new TrigramIndex();
+    private final TrigramIndex fuzzyNameIndex = new TrigramIndex();
+    private final SecondaryIndex phoneticNameIndex = new SecondaryIndex();
+    private final CreatedAtIndex createdAtIndex = new CreatedAtIndex();
+    private final PrefixIndex suggestIndex = new PrefixIndex();
+    private final ColumnarCustomerStore columnarStore = new ColumnarCustomerStore();
+    private final UpdatedAtIndex changeIndex;
+    private final RingBufferEventLog eventLog;
+    private final AtomicLong generation = new AtomicLong();
+    private final Object writeLock = new Object();
+    private final Object snapshotLock = new Object();
+    private final WriteAheadLog writeAheadLog;
+    private final Path snapshotPath;
+    // Set while the constructor restores the store; the change index records the result at the end
+    private boolean restoring;
+
+    public InMemoryCustomerRepository() {
+        this(new UpdatedAtIndex(), new RingBufferEventLog());
+    }
+
+    /**
+     * A store recording its changes in {@code changeIndex} and {@code eventLog}, which may be shared
+     * with other stores so that one feed and one log cover all of them.
+     */
+    InMemoryCustomerRepository(UpdatedAtIndex changeIndex, RingBufferEventLog eventLog) {
+        initIndexes();
+        this.changeIndex = changeIndex;
+        this.eventLog = eventLog;
+        this.writeAheadLog = null;
+        this.snapshotPath = null;
+    }
+
+    public InMemoryCustomerRepository(Path walPath) {
+        this(walPath, null);
+    }
+
+    public InMemoryCustomerRepository(Path walPath, Path snapshotPath) {
+        initIndexes();
+        this.changeIndex = new UpdatedAtIndex();
+        this.eventLog = new RingBufferEventLog();
+        this.snapshotPath = snapshotPath;
+        restoring = true;
+        try {
+            // Snapshot ids are distinct, so the parallel decoders only fill the map; indexing follows in bulk
+            long coveredSegment = snapshotPath != null
+                    ? SnapshotFile.load(snapshotPath, customer -> dataStore.put(customer.getId(), customer))
+                    : 0;
+            indexRestored(List.copyOf(dataStore.values()));
+            this.writeAheadLog = WriteAheadLog.open(walPath, coveredSegment, this::replay);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to restore customer store from " + walPath, e);
+        }
+        restoring = false;
+        changeIndex.recordRestored(dataStore.values());
+    }
+
+    private void initIndexes() {
+        for (AddressField field : AddressField.values()) {
+            addressIndexes.put(field, new SecondaryIndex());
+        }
+    }
 
     @Override
     public Customer save(Customer customer) {
         if (customer == null) {
             throw InvalidCustomerDataException.nullCustomer();
         }
-        dataStore.put(customer.getId(), customer);
+        long sequence;
+        long event;
+        synchronized (writeLock) {
+            sequence = log(WalRecord.put(customer));
+            boolean existed = dataStore.containsKey(customer.getId());
+            put(customer);
+            event = appendEvent(existed ? CustomerEvent.Type.UPDATED : CustomerEvent.Type.CREATED, customer.getId(), customer);
+        }
+        awaitDurable(sequence);
+        eventLog.publishThrough(event);
         return customer;
     }
 
@@ -38,19 +161,32 @@ public class InMemoryCustomerRepository implements CustomerRepository {
         return new ArrayList<>(dataStore.values());
     }
 
+    @Override
+    public Stream<Customer> streamAll() {
+        return dataStore.values().stream();
+    }
+
     @Override
     public Optional<Customer> update(UUID id, Customer customer) {
         if (id == null || customer == null) {
             return Optional.empty();
         }
         
-        if (!dataStore.containsKey(id)) {
-            return Optional.empty();
+        long sequence;
+        long event;
+        synchronized (writeLock) {
+            if (!dataStore.containsKey(id)) {
+                return Optional.empty();
+            }
+
+            customer.setId(id);
+            customer.updateTimestamp();
+            sequence = log(WalRecord.put(customer));
+            put(customer);
+            event = appendEvent(CustomerEvent.Type.UPDATED, id, customer);
         }
-        
-        customer.setId(id);
-        customer.updateTimestamp();
-        dataStore.put(id, customer);
+        awaitDurable(sequence);
+        eventLog.publishThrough(event);
         return Optional.of(customer);
     }
 
@@ -59,7 +195,19 @@ public class InMemoryCustomerRepository implements CustomerRepository {
         if (id == null) {
             return false;
         }
-        return dataStore.remove(id) != null;
+        long sequence;
+        long event;
+        synchronized (writeLock) {
+            if (!dataStore.containsKey(id)) {
+                return false;
+            }
+            sequence = log(WalRecord.delete(id));
+            remove(id);
+            event = appendEvent(CustomerEvent.Type.DELETED, id, null);
+        }
+        awaitDurable(sequence);
+        eventLog.publishThrough(event);
+        return true;
     }
 
     @Override
@@ -74,4 +222,351 @@ public class InMemoryCustomerRepository implements CustomerRepository {
     public long count() {
         return dataStore.size();
     }
+
+    @Override
+    public long generation() {
+        return generation.get();
+    }
+
+    @Override
+    public Optional<Set<UUID>> findIdsByAddressField(AddressField field, String value, MatchMode matchMode) {
+        if (field == null || matchMode == null) {
+            return Optional.empty();
+        }
+        return Optional.of(SecondaryIndex.idsMatchingAll(
+                List.of(new SecondaryIndex.Term(addressIndexes.get(field), value)), matchMode, ordinals));
+    }
+
+    @Override
+    public Optional<Set<UUID>> findIdsByAddressFields(Map<AddressField, String> filters, MatchMode matchMode) {
+        if (filters == null || filters.isEmpty() || matchMode == null) {
+            return Optional.empty();
+        }
+        List<SecondaryIndex.Term> terms = filters.entrySet().stream()
+                .map(filter -> new SecondaryIndex.Term(addressIndexes.get(filter.getKey()), filter.getValue()))
+                .toList();
+        return Optional.of(SecondaryIndex.idsMatchingAll(terms, matchMode, ordinals));
+    }
+
+    @Override
+    public Optional<Set<UUID>> findCandidateIdsByText(String text) {
+        return textIndex.candidates(text, ordinals);
+    }
+
+    @Override
+    public Optional<Set<UUID>> findFuzzyNameCandidates(String term, int maxEdits) {
+        String normalized = FuzzyName.normalize(term);
+        if (normalized == null || normalized.isEmpty()) {
+            return Optional.empty();
+        }
+        Set<String> grams = FuzzyName.grams(normalized);
+        int minShared = FuzzyName.minSharedGrams(grams.size(), maxEdits);
+        if (minShared <= 0) {
+            return Optional.empty();
+        }
+        return Optional.of(fuzzyNameIndex.sharing(grams, minShared, ordinals));
+    }
+
+    @Override
+    public Optional<Set<UUID>> findIdsByPhoneticName(String name) {
+        List<String> sounds = PhoneticName.keysOf(name);
+        if (sounds.isEmpty()) {
+            return Optional.of(Set.of());
+        }
+        List<SecondaryIndex.Term> terms = sounds.stream()
+                .map(sound -> new SecondaryIndex.Term(phoneticNameIndex, sound))
+                .toList();
+        return Optional.of(SecondaryIndex.idsMatchingAll(terms, MatchMode.EXACT, ordinals));
+    }
+
+    @Override
+    public Optional<List<Customer>> findOrderedByCreatedAtDesc(long offset, int limit) {
+        if (offset < 0 || limit <= 0) {
+            return Optional.of(List.of());
+        }
+        return Optional.of(createdAtIndex.page(offset, limit));
+    }
+
+    @Override
+    public Optional<List<Customer>> findOrderedByCreatedAtDescAfter(LocalDateTime createdAt, UUID id, int limit) {
+        if (createdAt == null || id == null || limit <= 0) {
+            return Optional.of(List.of());
+        }
+        return Optional.of(createdAtIndex.after(createdAt, id, limit));
+    }
+
+    @Override
+    public Optional<CustomerSlice> scanNewestFirst(CustomerSearchCriteria criteria, long offset, int limit) {
+        if (criteria == null || criteria.hasSearchText() || hasNonAddressFieldFilter(criteria)) {
+            return Optional.empty();
+        }
+        LocalDateTime afterCreatedAt = null;
+        UUID afterId = null;
+        if (criteria.hasCursor()) {
+            afterCreatedAt = LocalDateTime.parse(criteria.getCursor().sortValues().getFirst());
+            afterId = criteria.getCursor().lastId();
+        }
+
+        ColumnarCustomerStore.Result result = columnarStore.scanNewestFirst(
+                criteria, afterCreatedAt, afterId, criteria.hasCursor() ? 0 : offset, limit);
+        List<Customer> customers = result.ids().stream()
+                .map(dataStore::get)
+                .filter(Objects::nonNull)
+                .toList();
+        return Optional.of(new CustomerSlice(customers, result.totalElements()));
+    }
+
+    /**
+     * A single store scans no faster than the search executor does over {@link #streamAll()}.
+     */
+    @Override
+    public Optional<CustomerSlice> findTopMatching(Predicate<Customer> filter, Predicate<Customer> position,
+                                                   Comparator<Customer> order, long offset, int limit) {
+        return Optional.empty();
+    }
+
+    /**
+     * Scans this store the way {@link CustomerRepository#findTopMatching} describes. A sharded
+     * repository runs it on every shard at once.
+     */
+    CustomerSlice topMatching(Predicate<Customer> filter, Predicate<Customer> position,
+                              Comparator<Customer> order, long offset, int limit) {
+        TopK<Customer> top = new TopK<>(order, offset + limit);
+        long total = 0;
+        for (Customer customer : dataStore.values()) {
+            if (filter.test(customer)) {
+                total++;
+                if (position.test(customer)) {
+                    top.offer(customer);
+                }
+            }
+        }
+        return new CustomerSlice(top.sortedFrom(offset), total);
+    }
+
+    @Override
+    public Optional<CustomerSlice> search(CustomerSearchCriteria criteria, int limit) {
+        return Optional.empty();
+    }
+
+    /**
+     * Counts from the columnar store's per-value counters, scanning its code columns only when the
+     * criteria carry address or date filters. Returns empty for any other filter.
+     */
+    @Override
+    public Optional<CustomerFacets> countFacets(CustomerSearchCriteria criteria, int zipPrefixLength) {
+        if (criteria == null || criteria.hasSearchText() || hasNonAddressFieldFilter(criteria)) {
+            return Optional.empty();
+        }
+        ColumnarCustomerStore.CodeCounts counts = columnarStore.countByCode(criteria);
+        CustomerFacets.Counter counter = CustomerFacets.counter(zipPrefixLength).addTotal(counts.total());
+        for (AddressField field : AddressField.values()) {
+            for (int code = 0; code < counts.codes(field); code++) {
+                counter.add(field, counts.value(field, code), counts.count(field, code));
+            }
+        }
+        return Optional.of(counter.build());
+    }
+
+    @Override
+    public Optional<List<CustomerSuggestion>> suggest(String prefix, int limit) {
+        return Optional.of(suggestIndex.suggest(prefix, limit));
+    }
+
+    @Override
+    public Optional<CustomerChanges> findChangesSince(ChangeToken since, int limit) {
+        return Optional.of(changeIndex.since(since, limit));
+    }
+
+    /**
+     * Records the mutations made through save, update and deleteById while this instance runs;
+     * customers restored from the log or a snapshot on startup are not replayed into it.
+     */
+    @Override
+    public Optional<CustomerEventLog> eventLog() {
+        return Optional.of(eventLog);
+    }
+
+    /**
+     * Writes a snapshot of the current store and discards the log segments it covers. Writers are
+     * blocked only while the log is rotated and the customer references are copied; encoding and
+     * writing the file happen outside the write lock.
+     */
+    public void snapshot() {
+        if (writeAheadLog == null || snapshotPath == null) {
+            throw new IllegalStateException("Snapshots require a write-ahead log and a snapshot path");
+        }
+        synchronized (snapshotLock) {
+            try {
+                long coveredSegment;
+                List<Customer> customers;
+                synchronized (writeLock) {
+                    coveredSegment = writeAheadLog.rotate();
+                    customers = new ArrayList<>(dataStore.values());
+                }
+                SnapshotFile.write(snapshotPath, customers, coveredSegment);
+                writeAheadLog.discardSegmentsThrough(coveredSegment);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to write snapshot " + snapshotPath, e);
+            }
+        }
+    }
+
+    /**
+     * Heap footprint of the bitmap posting indexes, one entry per address field and one for
+     * phonetic name codes.
+     */
+    public List<IndexMemoryStats> indexMemory() {
+        List<IndexMemoryStats> stats = new ArrayList<>(addressIndexes.size() + 1);
+        addressIndexes.forEach((field, index) -> stats.add(index.memory(field.name().toLowerCase())));
+        stats.add(phoneticNameIndex.memory("phonetic_name"));
+        return stats;
+    }
+
+    /**
+     * Write-ahead log counters, or empty when the repository is not persistent.
+     */
+    public Optional<WalStats> walStats() {
+        return Optional.ofNullable(writeAheadLog).map(WriteAheadLog::stats);
+    }
+
+    @Override
+    public void close() {
+        if (writeAheadLog == null) {
+            return;
+        }
+        try {
+            writeAheadLog.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to close write-ahead log", e);
+        }
+    }
+
+    private void replay(WalRecord record) {
+        if (record.type() == WalRecord.Type.PUT) {
+            put(record.customer());
+        } else {
+            remove(record.id());
+        }
+    }
+
+    private void put(Customer customer) {
+        Customer previous = dataStore.put(customer.getId(), customer);
+        unindex(previous);
+        index(customer);
+        if (!restoring) {
+            changeIndex.recordUpdate(customer);
+        }
+        generation.incrementAndGet();
+    }
+
+    private void remove(UUID id) {
+        Customer removed = dataStore.remove(id);
+        unindex(removed);
+        ordinals.release(id);
+        if (removed != null && !restoring) {
+            changeIndex.recordDelete(id);
+        }
+        generation.incrementAndGet();
+    }
+
+    private long log(WalRecord record) {
+        if (writeAheadLog == null) {
+            return 0;
+        }
+        try {
+            return writeAheadLog.append(record);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to append to write-ahead log", e);
+        }
+    }
+
+    /**
+     * Appends the event of a write, staged until the write is durable when there is a log.
+     */
+    private long appendEvent(CustomerEvent.Type type, UUID id, Customer customer) {
+        CustomerEvent event = writeAheadLog != null
+                ? eventLog.stage(type, id, customer)
+                : eventLog.append(type, id, customer);
+        return event.sequence();
+    }
+
+    private void awaitDurable(long sequence) {
+        if (writeAheadLog == null) {
+            return;
+        }
+        try {
+            writeAheadLog.awaitDurable(sequence);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to sync write-ahead log", e);
+        }
+    }
+
+    private void index(Customer customer) {
+        columnarStore.put(customer);
+        customer.shareAddressValues(columnarStore);
+        int ordinal = ordinals.acquire(customer.getId());
+        addressIndexes.forEach((field, index) -> index.add(field.valueOf(customer.getAddress()), ordinal));
+        textIndex.add(ordinal, searchableText(customer));
+        fuzzyNameIndex.add(ordinal, fuzzyNameText(customer));
+        customer.getSearchKeys().nameSounds().forEach(sound -> phoneticNameIndex.add(sound, ordinal));
+        createdAtIndex.add(customer);
+        suggestIndex.add(customer);
+    }
+
+    /**
+     * Indexes the customers a snapshot restored into the empty store. Each index is filled by one
+     * task taking its lock once, instead of once per customer, and the tasks run in parallel.
+     */
+    private void indexRestored(List<Customer> customers) {
+        if (customers.isEmpty()) {
+            return;
+        }
+        columnarStore.putAll(customers);
+        customers.forEach(customer -> customer.shareAddressValues(columnarStore));
+        int[] assigned = ordinals.acquireAll(customers.stream().map(Customer::getId).toList());
+
+        List<Runnable> builds = new ArrayList<>();
+        addressIndexes.forEach((field, index) -> builds.add(() ->
+                index.addAll(customers, assigned, customer -> Collections.singletonList(field.valueOf(customer.getAddress())))));
+        builds.add(() -> textIndex.addAll(customers, assigned, InMemoryCustomerRepository::searchableText));
+        builds.add(() -> fuzzyNameIndex.addAll(customers, assigned, InMemoryCustomerRepository::fuzzyNameText));
+        builds.add(() -> phoneticNameIndex.addAll(customers, assigned, customer -> customer.getSearchKeys().nameSounds()));
+        builds.add(() -> createdAtIndex.addAll(customers));
+        builds.add(() -> suggestIndex.addAll(customers));
+        builds.parallelStream().forEach(Runnable::run);
+        generation.addAndGet(customers.size());
+    }
+
+    private void unindex(Customer customer) {
+        if (customer == null) {
+            return;
+        }
+        int ordinal = ordinals.ordinalOf(customer.getId());
+        addressIndexes.forEach((field, index) -> index.remove(field.valueOf(customer.getAddress()), ordinal));
+        textIndex.remove(ordinal, searchableText(customer));
+        fuzzyNameIndex.remove(ordinal, fuzzyNameText(customer));
+        customer.getSearchKeys().nameSounds().forEach(sound -> phoneticNameIndex.remove(sound, ordinal));
+        createdAtIndex.remove(customer.getId());
+        suggestIndex.remove(customer);
+        columnarStore.remove(customer.getId());
+    }
+
+    private static boolean hasNonAddressFieldFilter(CustomerSearchCriteria criteria) {
+        return criteria.hasQuery() || isPresent(criteria.getName()) || isPresent(criteria.getEmail()) || isPresent(criteria.getPhone());
+    }
+
+    private static boolean isPresent(String term) {
+        return term != null && !term.isBlank();
+    }
+
+    private static List<String> fuzzyNameText(Customer customer) {
+        String name = FuzzyName.normalize(customer.getSearchKeys().name());
+        return name == null ? List.of() : List.of(FuzzyName.padded(name));
+    }
+
+    private static List<String> searchableText(Customer customer) {
+        CustomerSearchKeys keys = customer.getSearchKeys();
+        return Arrays.asList(keys.name(), keys.email(), keys.phone(), keys.city(), keys.state(), keys.country());
+    }
 }
@@ -0,0 +1,325 @@
+package com.example.customermanagement.infrastructure.persistence;
+
+import com.example.customermanagement.application.search.TopK;
+import com.example.customermanagement.domain.exception.InvalidCustomerDataException;
+import com.example.customermanagement.domain.model.AddressField;
+import com.example.customermanagement.domain.model.ChangeToken;
+import com.example.customermanagement.domain.model.Customer;
+import com.example.customermanagement.domain.model.CustomerChanges;
+import com.example.customermanagement.domain.model.CustomerFacets;
+import com.example.customermanagement.domain.model.CustomerSearchCriteria;
+import com.example.customermanagement.domain.model.CustomerSlice;
+import com.example.customermanagement.domain.model.CustomerSuggestion;
+import com.example.customermanagement.domain.model.MatchMode;
+import com.example.customermanagement.domain.repository.CustomerEventLog;
+import com.example.customermanagement.domain.repository.CustomerRepository;
+import com.example.customermanagement.infrastructure.persistence.changelog.RingBufferEventLog;
+import com.example.customermanagement.infrastructure.persistence.index.IndexMemoryStats;
+import com.example.customermanagement.infrastructure.persistence.index.UpdatedAtIndex;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+/**
+ * Customer store hash-partitioned by id into independent {@link InMemoryCustomerRepository} shards.
+ * Writes touch a single shard and so only contend with writes to the same shard. Searches scatter
+ * to every shard on a dedicated {@link ForkJoinPool}, each shard filters and keeps its own top
+ * offset + limit, and the partial results are merged into the requested page.
+ */
+public class ShardedCustomerRepository implements CustomerRepository, AutoCloseable {
+
+    private static final Comparator<Customer> NEWEST_FIRST = Comparator
+            .comparing(Customer::getCreatedAt, Comparator.reverseOrder())
+            .thenComparing(Customer::getId);
+
+    private final UpdatedAtIndex changeIndex = new UpdatedAtIndex();
+    private final RingBufferEventLog eventLog = new RingBufferEventLog();
+    private final List<InMemoryCustomerRepository> shards;
+    private final ForkJoinPool pool;
+
+    public ShardedCustomerRepository(int shardCount) {
+        this(shardCount, Math.min(shardCount, Runtime.getRuntime().availableProcessors()));
+    }
+
+    public ShardedCustomerRepository(int shardCount, int parallelism) {
+        if (shardCount < 1) {
+            throw new IllegalArgumentException("Shard count must be at least 1, was " + shardCount);
+        }
+        List<InMemoryCustomerRepository> created = new ArrayList<>(shardCount);
+        for (int i = 0; i < shardCount; i++) {
+            created.add(new InMemoryCustomerRepository(changeIndex, eventLog));
+        }
+        this.shards = List.copyOf(created);
+        this.pool = new ForkJoinPool(Math.max(1, parallelism));
+    }
+
+    public int shardCount() {
+        return shards.size();
+    }
+
+    @Override
+    public Customer save(Customer customer) {
+        if (customer == null) {
+            throw InvalidCustomerDataException.nullCustomer();
+        }
+        return shardFor(customer.getId()).save(customer);
+    }
+
+    @Override
+    public Optional<Customer> findById(UUID id) {
+        return id == null ? Optional.empty() : shardFor(id).findById(id);
+    }
+
+    @Override
+    public List<Customer> findAll() {
+        List<Customer> all = new ArrayList<>();
+        for (InMemoryCustomerRepository shard : shards) {
+            all.addAll(shard.findAll());
+        }
+        return all;
+    }
+
+    @Override
+    public Stream<Customer> streamAll() {
+        return shards.stream()
+                .map(InMemoryCustomerRepository::streamAll)
+                .reduce(Stream::concat)
+                .orElseGet(Stream::empty);
+    }
+
+    @Override
+    public Optional<Customer> update(UUID id, Customer customer) {
+        if (id == null || customer == null) {
+            return Optional.empty();
+        }
+        return shardFor(id).update(id, customer);
+    }
+
+    @Override
+    public boolean deleteById(UUID id) {
+        return id != null && shardFor(id).deleteById(id);
+    }
+
+    @Override
+    public boolean existsById(UUID id) {
+        return id != null && shardFor(id).existsById(id);
+    }
+
+    @Override
+    public long count() {
+        long count = 0;
+        for (InMemoryCustomerRepository shard : shards) {
+            count += shard.count();
+        }
+        return count;
+    }
+
+    /**
+     * Sum of the shard generations, which changes whenever any shard's does.
+     */
+    @Override
+    public long generation() {
+        long generation = 0;
+        for (InMemoryCustomerRepository shard : shards) {
+            generation += shard.generation();
+        }
+        return generation;
+    }
+
+    @Override
+    public Optional<Set<UUID>> findIdsByAddressField(AddressField field, String value, MatchMode matchMode) {
+        return union(scatter(shard -> shard.findIdsByAddressField(field, value, matchMode)));
+    }
+
+    @Override
+    public Optional<Set<UUID>> findIdsByAddressFields(Map<AddressField, String> filters, MatchMode matchMode) {
+        return union(scatter(shard -> shard.findIdsByAddressFields(filters, matchMode)));
+    }
+
+    @Override
+    public Optional<Set<UUID>> findCandidateIdsByText(String text) {
+        return union(scatter(shard -> shard.findCandidateIdsByText(text)));
+    }
+
+    @Override
+    public Optional<Set<UUID>> findFuzzyNameCandidates(String term, int maxEdits) {
+        return union(scatter(shard -> shard.findFuzzyNameCandidates(term, maxEdits)));
+    }
+
+    @Override
+    public Optional<Set<UUID>> findIdsByPhoneticName(String name) {
+        return union(scatter(shard -> shard.findIdsByPhoneticName(name)));
+    }
+
+    @Override
+    public Optional<List<Customer>> findOrderedByCreatedAtDesc(long offset, int limit) {
+        if (offset < 0 || limit <= 0) {
+            return Optional.of(List.of());
+        }
+        int perShard = (int) Math.min(Integer.MAX_VALUE, offset + limit);
+        TopK<Customer> top = new TopK<>(NEWEST_FIRST, offset + limit);
+        for (Optional<List<Customer>> page : scatter(shard -> shard.findOrderedByCreatedAtDesc(0, perShard))) {
+            top.offerAll(page.orElseThrow());
+        }
+        return Optional.of(top.sortedFrom(offset));
+    }
+
+    @Override
+    public Optional<List<Customer>> findOrderedByCreatedAtDescAfter(LocalDateTime createdAt, UUID id, int limit) {
+        TopK<Customer> top = new TopK<>(NEWEST_FIRST, limit);
+        for (Optional<List<Customer>> page : scatter(shard -> shard.findOrderedByCreatedAtDescAfter(createdAt, id, limit))) {
+            top.offerAll(page.orElseThrow());
+        }
+        return Optional.of(top.sortedFrom(0));
+    }
+
+    @Override
+    public Optional<CustomerSlice> scanNewestFirst(CustomerSearchCriteria criteria, long offset, int limit) {
+        long shardOffset = criteria != null && criteria.hasCursor() ? 0 : offset;
+        List<Optional<CustomerSlice>> slices = scatter(shard -> shard.scanNewestFirst(criteria, 0, (int) Math.min(
+                Integer.MAX_VALUE, shardOffset + limit)));
+        if (slices.stream().anyMatch(Optional::isEmpty)) {
+            return Optional.empty();
+        }
+        return Optional.of(merge(slices, NEWEST_FIRST, shardOffset, limit));
+    }
+
+    @Override
+    public Optional<CustomerSlice> findTopMatching(Predicate<Customer> filter, Predicate<Customer> position,
+                                                   Comparator<Customer> order, long offset, int limit) {
+        int perShard = (int) Math.min(Integer.MAX_VALUE, offset + limit);
+        return Optional.of(merge(
+                scatter(shard -> Optional.of(shard.topMatching(filter, position, order, 0, perShard))), order, offset, limit));
+    }
+
+    @Override
+    public Optional<CustomerSlice> search(CustomerSearchCriteria criteria, int limit) {
+        return Optional.empty();
+    }
+
+    @Override
+    public Optional<CustomerFacets> countFacets(CustomerSearchCriteria criteria, int zipPrefixLength) {
+        List<Optional<CustomerFacets>> perShard = scatter(shard -> shard.countFacets(criteria, zipPrefixLength));
+        CustomerFacets.Counter counter = CustomerFacets.counter(zipPrefixLength);
+        for (Optional<CustomerFacets> facets : perShard) {
+            if (facets.isEmpty()) {
+                return Optional.empty();
+            }
+            counter.merge(facets.get());
+        }
+        return Optional.of(counter.build());
+    }
+
+    /**
+     * Merges each shard's first {@code limit} suggestions; a customer lives on exactly one shard, so
+     * the merged head is the global answer.
+     */
+    @Override
+    public Optional<List<CustomerSuggestion>> suggest(String prefix, int limit) {
+        List<Optional<List<CustomerSuggestion>>> perShard = scatter(shard -> shard.suggest(prefix, limit));
+        TopK<CustomerSuggestion> top = new TopK<>(CustomerSuggestion.ORDER, Math.max(limit, 0));
+        for (Optional<List<CustomerSuggestion>> suggestions : perShard) {
+            if (suggestions.isEmpty()) {
+                return Optional.empty();
+            }
+            top.offerAll(suggestions.get());
+        }
+        return Optional.of(top.sortedFrom(0));
+    }
+
+    /**
+     * Reads the change index all shards record into, so the feed has one order across shards.
+     */
+    @Override
+    public Optional<CustomerChanges> findChangesSince(ChangeToken since, int limit) {
+        return Optional.of(changeIndex.since(since, limit));
+    }
+
+    /**
+     * The log all shards append to. A customer's writes are serialized by its shard, so its events
+     * are in the order they were applied even though shards append concurrently.
+     */
+    @Override
+    public Optional<CustomerEventLog> eventLog() {
+        return Optional.of(eventLog);
+    }
+
+    /**
+     * Secondary index footprints summed across shards. A value held by several shards has a key in
+     * each of them, so distinct values count once per shard.
+     */
+    public List<IndexMemoryStats> indexMemory() {
+        Map<String, IndexMemoryStats> merged = new LinkedHashMap<>();
+        for (InMemoryCustomerRepository shard : shards) {
+            for (IndexMemoryStats stats : shard.indexMemory()) {
+                merged.merge(stats.index(), stats, (a, b) -> new IndexMemoryStats(a.index(),
+                        a.distinctValues() + b.distinctValues(), a.postings() + b.postings(), a.bytes() + b.bytes()));
+            }
+        }
+        return List.copyOf(merged.values());
+    }
+
+    @Override
+    public void close() {
+        pool.shutdown();
+    }
+
+    private InMemoryCustomerRepository shardFor(UUID id) {
+        int hash = id.hashCode();
+        return shards.get(Math.floorMod(hash ^ (hash >>> 16), shards.size()));
+    }
+
+    /**
+     * Runs {@code task} against every shard on the pool and returns the results in shard order.
+     */
+    private <T> List<T> scatter(Function<InMemoryCustomerRepository, T> task) {
+        if (shards.size() == 1) {
+            return List.of(task.apply(shards.getFirst()));
+        }
+        List<ForkJoinTask<T>> tasks = new ArrayList<>(shards.size());
+        for (InMemoryCustomerRepository shard : shards) {
+            tasks.add(pool.submit(() -> task.apply(shard)));
+        }
+        List<T> results = new ArrayList<>(tasks.size());
+        for (ForkJoinTask<T> submitted : tasks) {
+            results.add(submitted.join());
+        }
+        return results;
+    }
+
+    private static CustomerSlice merge(List<Optional<CustomerSlice>> slices, Comparator<Customer> order,
+                                       long offset, int limit) {
+        TopK<Customer> top = new TopK<>(order, offset + limit);
+        long total = 0;
+        for (Optional<CustomerSlice> slice : slices) {
+            CustomerSlice partial = slice.orElseThrow();
+            total += partial.totalElements();
+            top.offerAll(partial.customers());
+        }
+        return new CustomerSlice(top.sortedFrom(offset), total);
+    }
+
+    private static Optional<Set<UUID>> union(List<Optional<Set<UUID>>> results) {
+        Set<UUID> union = new HashSet<>();
+        for (Optional<Set<UUID>> result : results) {
+            if (result.isEmpty()) {
+                return Optional.empty();
+            }
+            union.addAll(result.get());
+        }
+        return Optional.of(union);
+    }
+}
@@ -0,0 +1,154 @@
+package com.example.customermanagement.infrastructure.persistence.changelog;
+
+import com.example.customermanagement.domain.exception.EventPositionUnavailableException;
+import com.example.customermanagement.domain.model.Customer;
+import com.example.customermanagement.domain.model.CustomerEvent;
+import com.example.customermanagement.domain.model.CustomerEvents;
+import com.example.customermanagement.domain.repository.CustomerEventLog;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * {@link CustomerEventLog} over a fixed power-of-two array: event {@code n} lives in slot
+ * {@code n & mask}, so appending overwrites the oldest event in O(1) and memory stays bounded no
+ * matter how far readers lag. Appends and reads share one lock, held only to place an event or to
+ * copy at most {@code limit} references; readers blocked in {@link #awaitAfter} are signalled on
+ * every publish.
+ *
+ * <p>A store with a write-ahead log {@link #stage stages} each event while it holds its write lock,
+ * so events are numbered in log order, and publishes it once the log record is durable. Readers
+ * only see published events, so no consumer applies a change whose fsync failed. Durability of the
+ * log is a prefix, so publishing through one event also publishes the events staged before it.
+ */
+public class RingBufferEventLog implements CustomerEventLog {
+
+    public static final int DEFAULT_CAPACITY = 1 << 16;
+
+    private final long epoch = ThreadLocalRandom.current().nextLong();
+    private final CustomerEvent[] ring;
+    private final int mask;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition appended = lock.newCondition();
+    private long head;
+    private long published;
+
+    public RingBufferEventLog() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public RingBufferEventLog(int capacity) {
+        if (capacity < 1 || capacity > 1 << 30) {
+            throw new IllegalArgumentException("Capacity must be between 1 and 2^30, was " + capacity);
+        }
+        int size = Integer.highestOneBit(capacity);
+        this.ring = new CustomerEvent[size == capacity ? size : size << 1];
+        this.mask = ring.length - 1;
+    }
+
+    /**
+     * Appends an event and publishes it together with every event staged before it.
+     */
+    public CustomerEvent append(CustomerEvent.Type type, UUID customerId, Customer customer) {
+        lock.lock();
+        try {
+            CustomerEvent event = stage(type, customerId, customer);
+            publishThrough(event.sequence());
+            return event;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Appends an event that readers do not see until {@link #publishThrough} reaches it.
+     */
+    public CustomerEvent stage(CustomerEvent.Type type, UUID customerId, Customer customer) {
+        lock.lock();
+        try {
+            CustomerEvent event = new CustomerEvent(head + 1, type, customerId, LocalDateTime.now(), customer);
+            ring[(int) (event.sequence() & mask)] = event;
+            head = event.sequence();
+            return event;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Makes every staged event up to {@code sequence} visible to readers.
+     */
+    public void publishThrough(long sequence) {
+        lock.lock();
+        try {
+            long through = Math.min(sequence, head);
+            if (through > published) {
+                published = through;
+                appended.signalAll();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int capacity() {
+        return ring.length;
+    }
+
+    @Override
+    public long epoch() {
+        return epoch;
+    }
+
+    @Override
+    public long headSequence() {
+        lock.lock();
+        try {
+            return published;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public CustomerEvents readAfter(long after, int limit) {
+        lock.lock();
+        try {
+            long oldest = Math.max(1, head - ring.length + 1);
+            if (after > published) {
+                throw EventPositionUnavailableException.unknown(after, published);
+            }
+            if (after < oldest - 1) {
+                throw EventPositionUnavailableException.overwritten(after, oldest);
+            }
+            int count = (int) Math.min(Math.max(limit, 0), published - after);
+            List<CustomerEvent> events = new ArrayList<>(count);
+            for (long sequence = after + 1; sequence <= after + count; sequence++) {
+                events.add(ring[(int) (sequence & mask)]);
+            }
+            return new CustomerEvents(epoch, events, published);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public boolean awaitAfter(long after, Duration timeout) throws InterruptedException {
+        lock.lock();
+        try {
+            long remaining = timeout.toNanos();
+            while (published <= after && remaining > 0) {
+                remaining = appended.awaitNanos(remaining);
+            }
+            return published > after;
+        } finally {
+            lock.unlock();
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package com.example.customermanagement.infrastructure.persistence.columnar;
+
+import com.example.customermanagement.domain.model.CustomerSearchKeys;
+import com.example.customermanagement.domain.model.MatchMode;
+
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Distinct values of one address field across the rows of a {@link ColumnarCustomerStore}. Each
+ * value is kept as a single canonical String, with its folded form, and a dense int code, so rows
+ * with the same city share one instance and are compared or filtered by code.
+ *
+ * <p>Values are reference counted by the rows holding them and dropped with the last one, so the
+ * dictionary only ever holds live values and a match table costs one test per live value. A freed
+ * code is reused for the next new value; a row's code therefore only resolves to its value while
+ * the row is in the store, which callers reading rows under the store's lock can rely on.
+ *
+ * <p>Mutations are serialized by the store. Lookups of canonical instances are lock-free.
+ */
+public final class AddressValueDictionary {
+
+    private final ConcurrentHashMap<String, Entry> entries = new ConcurrentHashMap<>();
+    private String[] values = new String[64];
+    private String[] foldedValues = new String[64];
+    private int[] references = new int[64];
+    private int[] freeCodes = new int[16];
+    private int freeCount;
+    private int codeLimit;
+
+    /**
+     * Returns the code of {@code value}, assigning one if it is new, and counts one more row
+     * holding it.
+     */
+    int acquire(String value) {
+        Entry entry = entries.get(value);
+        if (entry == null) {
+            entry = assign(value);
+            entries.put(value, entry);
+        }
+        references[entry.code()]++;
+        return entry.code();
+    }
+
+    /**
+     * Counts one row fewer holding the value with {@code code}, dropping the value with the last.
+     */
+    void release(int code) {
+        if (--references[code] > 0) {
+            return;
+        }
+        entries.remove(values[code]);
+        values[code] = null;
+        foldedValues[code] = null;
+        if (freeCount == freeCodes.length) {
+            freeCodes = Arrays.copyOf(freeCodes, freeCount * 2);
+        }
+        freeCodes[freeCount++] = code;
+    }
+
+    /**
+     * Returns the canonical entry equal to {@code value}, or null if no row holds it.
+     */
+    public Entry lookup(String value) {
+        return value != null ? entries.get(value) : null;
+    }
+
+    /**
+     * Returns the code of {@code value}, or -1 if no row holds it.
+     */
+    public int codeOf(String value) {
+        Entry entry = lookup(value);
+        return entry != null ? entry.code() : -1;
+    }
+
+    public String valueOf(int code) {
+        return code >= 0 && code < codeLimit ? values[code] : null;
+    }
+
+    /**
+     * Evaluates a case-insensitive match of {@code term} once per held value. The result is
+     * indexed by code, so filtering a column of codes costs one array read per row.
+     */
+    public boolean[] codesMatching(String term, MatchMode matchMode) {
+        boolean[] matches = new boolean[codeLimit];
+        if (term == null) {
+            return matches;
+        }
+        String folded = CustomerSearchKeys.fold(term);
+        for (int code = 0; code < codeLimit; code++) {
+            String value = foldedValues[code];
+            matches[code] = value != null && switch (matchMode) {
+                case EXACT -> value.equals(folded);
+                case PREFIX -> value.startsWith(folded);
+                case CONTAINS -> value.contains(folded);
+            };
+        }
+        return matches;
+    }
+
+    /**
+     * Number of distinct values held.
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * One past the highest code in use; match tables and per-code counts are this long.
+     */
+    public int codeLimit() {
+        return codeLimit;
+    }
+
+    private Entry assign(String value) {
+        int code;
+        if (freeCount > 0) {
+            code = freeCodes[--freeCount];
+        } else {
+            code = codeLimit++;
+            if (code == values.length) {
+                values = Arrays.copyOf(values, code * 2);
+                foldedValues = Arrays.copyOf(foldedValues, code * 2);
+                references = Arrays.copyOf(references, code * 2);
+            }
+        }
+        Entry entry = new Entry(value, CustomerSearchKeys.fold(value), code);
+        values[code] = value;
+        foldedValues[code] = entry.foldedValue();
+        return entry;
+    }
+
+    public record Entry(String value, String foldedValue, int code) {
+    }
+}
@@ -0,0 +1,506 @@
+package com.example.customermanagement.infrastructure.persistence.columnar;
+
+import com.example.customermanagement.domain.model.AddressField;
+import com.example.customermanagement.domain.model.Customer;
+import com.example.customermanagement.domain.model.CustomerSearchCriteria;
+import com.example.customermanagement.domain.model.MatchMode;
+import com.example.customermanagement.domain.model.SharedAddressValues;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Struct-of-arrays copy of the fields that address and date-range searches filter on. Each customer
+ * occupies one slot across an id column, an int column per {@link AddressField} holding the code from
+ * the store's {@link AddressValueDictionary} for that field, and epoch-nanosecond long columns for
+ * createdAt and updatedAt. Scans are tight loops over those
+ * arrays and only return ids, so callers materialize customers for the requested page alone.
+ *
+ * <p>Date ranges are evaluated a column at a time by a {@link RangeKernel} into a row bitmap, which
+ * uses SIMD compares when the {@code jdk.incubator.vector} module is available; the scan loops then
+ * skip 64 rows at a time where no row is in range.
+ *
+ * <p>The dictionaries hold only the values of rows in the store and double as the source of
+ * {@link SharedAddressValues}: once a customer is stored, its address can be switched to the
+ * dictionary's instances so customers with the same city keep one copy of it.
+ *
+ * <p>Freed slots are reused. Writers take the write lock for a single slot update; scans share the
+ * read lock and therefore see a consistent set of rows.
+ */
+public class ColumnarCustomerStore implements SharedAddressValues {
+
+    private static final int INITIAL_CAPACITY = 1024;
+    private static final AddressField[] ADDRESS_FIELDS = AddressField.values();
+
+    private final RangeKernel rangeKernel;
+    private final AddressValueDictionary[] dictionaries = new AddressValueDictionary[ADDRESS_FIELDS.length];
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<UUID, Integer> slotsById = new HashMap<>();
+
+    private UUID[] ids = new UUID[INITIAL_CAPACITY];
+    private final int[][] addressCodes = new int[ADDRESS_FIELDS.length][INITIAL_CAPACITY];
+    private long[] createdAt = new long[INITIAL_CAPACITY];
+    private long[] updatedAt = new long[INITIAL_CAPACITY];
+    private final long[][] rowsPerCode = new long[ADDRESS_FIELDS.length][64];
+    private int[] freeSlots = new int[16];
+    private int freeCount;
+    private int highWater;
+
+    public ColumnarCustomerStore() {
+        this(RangeKernel.best());
+    }
+
+    public ColumnarCustomerStore(RangeKernel rangeKernel) {
+        this.rangeKernel = rangeKernel;
+        for (int f = 0; f < ADDRESS_FIELDS.length; f++) {
+            dictionaries[f] = new AddressValueDictionary();
+        }
+    }
+
+    public void put(Customer customer) {
+        lock.writeLock().lock();
+        try {
+            store(customer);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Stores every customer of {@code customers} while taking the write lock once.
+     */
+    public void putAll(Collection<Customer> customers) {
+        lock.writeLock().lock();
+        try {
+            for (Customer customer : customers) {
+                store(customer);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(UUID id) {
+        lock.writeLock().lock();
+        try {
+            Integer slot = slotsById.remove(id);
+            if (slot == null) {
+                return;
+            }
+            releaseCodes(slot);
+            ids[slot] = null;
+            if (freeCount == freeSlots.length) {
+                freeSlots = Arrays.copyOf(freeSlots, freeCount * 2);
+            }
+            freeSlots[freeCount++] = slot;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Applies the address (case-insensitive contains) and date-range filters of {@code criteria} and
+     * returns the ids of the matches newest first by (createdAt, id), after the criteria's cursor if
+     * it has one and after skipping {@code offset}. The total counts every match, ignoring cursor
+     * and paging. Other criteria are not evaluated here.
+     */
+    public Result scanNewestFirst(CustomerSearchCriteria criteria, LocalDateTime afterCreatedAt, UUID afterId,
+                                  long offset, int limit) {
+        int keep = (int) Math.min(Integer.MAX_VALUE, Math.max(0, offset + limit));
+
+        lock.readLock().lock();
+        try {
+            RowFilter filter = new RowFilter(criteria);
+            boolean hasCursor = afterCreatedAt != null && afterId != null;
+            long cursorCreatedAt = hasCursor ? toColumnValue(afterCreatedAt) : 0;
+
+            NewestFirstHeap heap = new NewestFirstHeap(keep);
+            long total = 0;
+            for (int slot = filter.nextRow(0); slot < highWater; slot = filter.nextRow(slot + 1)) {
+                UUID id = ids[slot];
+                if (id == null || !filter.accepts(slot)) {
+                    continue;
+                }
+                long created = createdAt[slot];
+                total++;
+                if (hasCursor && (created > cursorCreatedAt
+                        || (created == cursorCreatedAt && id.compareTo(afterId) <= 0))) {
+                    continue;
+                }
+                heap.offer(slot);
+            }
+
+            int[] ordered = heap.drainInOrder();
+            List<UUID> page = new ArrayList<>(Math.max(0, ordered.length - (int) Math.min(offset, ordered.length)));
+            for (int i = (int) Math.min(offset, ordered.length); i < ordered.length; i++) {
+                page.add(ids[ordered[i]]);
+            }
+            return new Result(page, total);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Counts the rows accepted by the address and date-range filters of {@code criteria} per address
+     * value code. Without such filters the counts maintained on every write are copied, so the cost
+     * is proportional to the number of distinct values rather than to the number of rows. Codes are
+     * resolved to their values before the lock is released, as a freed code may be reused after.
+     */
+    public CodeCounts countByCode(CustomerSearchCriteria criteria) {
+        lock.readLock().lock();
+        try {
+            RowFilter filter = new RowFilter(criteria);
+            long[][] counts = new long[ADDRESS_FIELDS.length][];
+            String[][] values = new String[ADDRESS_FIELDS.length][];
+            for (int f = 0; f < ADDRESS_FIELDS.length; f++) {
+                values[f] = new String[rowsPerCode[f].length];
+                for (int code = 0; code < values[f].length; code++) {
+                    values[f][code] = dictionaries[f].valueOf(code);
+                }
+            }
+            if (!filter.isActive()) {
+                for (int f = 0; f < ADDRESS_FIELDS.length; f++) {
+                    counts[f] = rowsPerCode[f].clone();
+                }
+                return new CodeCounts(counts, values, slotsById.size());
+            }
+
+            for (int f = 0; f < ADDRESS_FIELDS.length; f++) {
+                counts[f] = new long[rowsPerCode[f].length];
+            }
+            long total = 0;
+            for (int slot = filter.nextRow(0); slot < highWater; slot = filter.nextRow(slot + 1)) {
+                if (ids[slot] == null || !filter.accepts(slot)) {
+                    continue;
+                }
+                total++;
+                for (int f = 0; f < ADDRESS_FIELDS.length; f++) {
+                    int code = addressCodes[f][slot];
+                    if (code >= 0) {
+                        counts[f][code]++;
+                    }
+                }
+            }
+            return new CodeCounts(counts, values, total);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * The dictionary of the values held for {@code field}. Its codes and values may only be read
+     * while no row can be written, e.g. from a single thread in tests.
+     */
+    public AddressValueDictionary dictionary(AddressField field) {
+        return dictionaries[field.ordinal()];
+    }
+
+    @Override
+    public String value(AddressField field, String value) {
+        AddressValueDictionary.Entry entry = dictionaries[field.ordinal()].lookup(value);
+        return entry != null ? entry.value() : value;
+    }
+
+    @Override
+    public String foldedValue(AddressField field, String value) {
+        AddressValueDictionary.Entry entry = dictionaries[field.ordinal()].lookup(value);
+        return entry != null ? entry.foldedValue() : null;
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return slotsById.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void store(Customer customer) {
+        int[] codes = new int[ADDRESS_FIELDS.length];
+        for (int f = 0; f < ADDRESS_FIELDS.length; f++) {
+            String value = ADDRESS_FIELDS[f].valueOf(customer.getAddress());
+            codes[f] = value != null ? dictionaries[f].acquire(value) : -1;
+        }
+        Integer existing = slotsById.get(customer.getId());
+        if (existing != null) {
+            releaseCodes(existing);
+        }
+        int slot = existing != null ? existing : allocateSlot();
+        ids[slot] = customer.getId();
+        for (int f = 0; f < ADDRESS_FIELDS.length; f++) {
+            addressCodes[f][slot] = codes[f];
+        }
+        countCodes(slot, 1);
+        createdAt[slot] = toColumnValue(customer.getCreatedAt());
+        updatedAt[slot] = toColumnValue(customer.getUpdatedAt());
+        slotsById.put(customer.getId(), slot);
+    }
+
+    private void releaseCodes(int slot) {
+        countCodes(slot, -1);
+        for (int f = 0; f < ADDRESS_FIELDS.length; f++) {
+            int code = addressCodes[f][slot];
+            if (code >= 0) {
+                dictionaries[f].release(code);
+            }
+        }
+    }
+
+    private void countCodes(int slot, int delta) {
+        for (int f = 0; f < ADDRESS_FIELDS.length; f++) {
+            int code = addressCodes[f][slot];
+            if (code < 0) {
+                continue;
+            }
+            if (code >= rowsPerCode[f].length) {
+                rowsPerCode[f] = Arrays.copyOf(rowsPerCode[f], Math.max(code + 1, rowsPerCode[f].length * 2));
+            }
+            rowsPerCode[f][code] += delta;
+        }
+    }
+
+    private int allocateSlot() {
+        if (freeCount > 0) {
+            return freeSlots[--freeCount];
+        }
+        if (highWater == ids.length) {
+            int capacity = ids.length * 2;
+            ids = Arrays.copyOf(ids, capacity);
+            for (int f = 0; f < addressCodes.length; f++) {
+                addressCodes[f] = Arrays.copyOf(addressCodes[f], capacity);
+            }
+            createdAt = Arrays.copyOf(createdAt, capacity);
+            updatedAt = Arrays.copyOf(updatedAt, capacity);
+        }
+        return highWater++;
+    }
+
+    private static String termFor(CustomerSearchCriteria criteria, AddressField field) {
+        return switch (field) {
+            case CITY -> criteria.getCity();
+            case STATE -> criteria.getState();
+            case COUNTRY -> criteria.getCountry();
+            case ZIP_CODE -> criteria.getZipCode();
+        };
+    }
+
+    private static long lowerBound(LocalDateTime bound) {
+        return bound == null ? Long.MIN_VALUE : toColumnValue(bound);
+    }
+
+    private static long upperBound(LocalDateTime bound) {
+        return bound == null ? Long.MAX_VALUE : toColumnValue(bound);
+    }
+
+    /**
+     * Nanoseconds since the epoch, treating the local date-time as UTC. Values outside the range
+     * a long can hold (roughly years 1677 to 2262) saturate, which keeps range checks correct.
+     */
+    static long toColumnValue(LocalDateTime timestamp) {
+        long seconds = timestamp.toEpochSecond(ZoneOffset.UTC);
+        if (seconds >= Long.MAX_VALUE / 1_000_000_000L) {
+            return Long.MAX_VALUE;
+        }
+        if (seconds <= Long.MIN_VALUE / 1_000_000_000L) {
+            return Long.MIN_VALUE;
+        }
+        return seconds * 1_000_000_000L + timestamp.getNano();
+    }
+
+    public record Result(List<UUID> ids, long totalElements) {
+    }
+
+    /**
+     * Row counts and the values they count, indexed by {@link AddressField} ordinal, then by
+     * dictionary code.
+     */
+    public record CodeCounts(long[][] counts, String[][] values, long total) {
+
+        public long count(AddressField field, int code) {
+            long[] column = counts[field.ordinal()];
+            return code < column.length ? column[code] : 0;
+        }
+
+        public String value(AddressField field, int code) {
+            String[] column = values[field.ordinal()];
+            return code < column.length ? column[code] : null;
+        }
+
+        public int codes(AddressField field) {
+            return counts[field.ordinal()].length;
+        }
+    }
+
+    /**
+     * The address and date-range filters of a criteria, resolved once per scan: address terms become
+     * per-code match tables and date bounds become a bitmap of the rows within all of them, or null
+     * when the criteria has no date bounds.
+     */
+    private final class RowFilter {
+
+        private final int[][] filterColumns = new int[ADDRESS_FIELDS.length][];
+        private final boolean[][] filterMatches = new boolean[ADDRESS_FIELDS.length][];
+        private final int filters;
+        private final long[] dateMask;
+
+        RowFilter(CustomerSearchCriteria criteria) {
+            int count = 0;
+            for (int f = 0; f < ADDRESS_FIELDS.length; f++) {
+                String term = termFor(criteria, ADDRESS_FIELDS[f]);
+                if (term != null && !term.isBlank()) {
+                    filterColumns[count] = addressCodes[f];
+                    filterMatches[count] = dictionaries[f].codesMatching(term, MatchMode.CONTAINS);
+                    count++;
+                }
+            }
+            this.filters = count;
+            this.dateMask = dateMask(criteria);
+        }
+
+        private long[] dateMask(CustomerSearchCriteria criteria) {
+            long createdFrom = lowerBound(criteria.getCreatedAfter());
+            long createdTo = upperBound(criteria.getCreatedBefore());
+            long updatedFrom = lowerBound(criteria.getUpdatedAfter());
+            long updatedTo = upperBound(criteria.getUpdatedBefore());
+            boolean byCreated = createdFrom != Long.MIN_VALUE || createdTo != Long.MAX_VALUE;
+            boolean byUpdated = updatedFrom != Long.MIN_VALUE || updatedTo != Long.MAX_VALUE;
+            if (!byCreated && !byUpdated) {
+                return null;
+            }
+            long[] mask = new long[(highWater + Long.SIZE - 1) >>> 6];
+            Arrays.fill(mask, -1L);
+            if (byCreated) {
+                rangeKernel.retainInRange(createdAt, highWater, createdFrom, createdTo, mask);
+            }
+            if (byUpdated) {
+                rangeKernel.retainInRange(updatedAt, highWater, updatedFrom, updatedTo, mask);
+            }
+            return mask;
+        }
+
+        boolean isActive() {
+            return filters > 0 || dateMask != null;
+        }
+
+        /**
+         * The first row at or after {@code from} within the date bounds, or {@code highWater} if none.
+         */
+        int nextRow(int from) {
+            if (dateMask == null || from >= highWater) {
+                return from;
+            }
+            int word = from >>> 6;
+            long bits = dateMask[word] & (-1L << from);
+            while (bits == 0) {
+                if (++word == dateMask.length) {
+                    return highWater;
+                }
+                bits = dateMask[word];
+            }
+            return (word << 6) + Long.numberOfTrailingZeros(bits);
+        }
+
+        boolean accepts(int slot) {
+            if (dateMask != null && (dateMask[slot >>> 6] & (1L << slot)) == 0) {
+                return false;
+            }
+            for (int f = 0; f < filters; f++) {
+                int code = filterColumns[f][slot];
+                if (code < 0 || !filterMatches[f][code]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    /**
+     * Bounded binary heap of slots keeping the {@code capacity} newest rows seen so far. The root is
+     * the row that sorts last, so a newer row replaces it in O(log capacity).
+     */
+    private final class NewestFirstHeap {
+
+        private final int capacity;
+        private int[] slots;
+        private int size;
+
+        NewestFirstHeap(int capacity) {
+            this.capacity = capacity;
+            this.slots = new int[Math.min(capacity, INITIAL_CAPACITY)];
+        }
+
+        void offer(int slot) {
+            if (capacity == 0) {
+                return;
+            }
+            if (size < capacity) {
+                if (size == slots.length) {
+                    slots = Arrays.copyOf(slots, (int) Math.min(capacity, slots.length * 2L));
+                }
+                slots[size] = slot;
+                siftUp(size++);
+            } else if (sortsBefore(slot, slots[0])) {
+                slots[0] = slot;
+                siftDown(0);
+            }
+        }
+
+        int[] drainInOrder() {
+            int[] ordered = new int[size];
+            for (int i = ordered.length - 1; i >= 0; i--) {
+                ordered[i] = slots[0];
+                slots[0] = slots[--size];
+                siftDown(0);
+            }
+            return ordered;
+        }
+
+        private void siftUp(int index) {
+            int slot = slots[index];
+            while (index > 0) {
+                int parent = (index - 1) >>> 1;
+                if (!sortsBefore(slots[parent], slot)) {
+                    break;
+                }
+                slots[index] = slots[parent];
+                index = parent;
+            }
+            slots[index] = slot;
+        }
+
+        private void siftDown(int index) {
+            int slot = slots[index];
+            int half = size >>> 1;
+            while (index < half) {
+                int child = 2 * index + 1;
+                if (child + 1 < size && sortsBefore(slots[child], slots[child + 1])) {
+                    child++;
+                }
+                if (!sortsBefore(slot, slots[child])) {
+                    break;
+                }
+                slots[index] = slots[child];
+                index = child;
+            }
+            slots[index] = slot;
+        }
+
+        private boolean sortsBefore(int a, int b) {
+            if (createdAt[a] != createdAt[b]) {
+                return createdAt[a] > createdAt[b];
+            }
+            return ids[a].compareTo(ids[b]) < 0;
+        }
+    }
+}
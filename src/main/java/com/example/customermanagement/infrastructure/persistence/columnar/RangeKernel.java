@@ -0,0 +1,35 @@
+package com.example.customermanagement.infrastructure.persistence.columnar;
+
+/**
+ * Filters a long column against an inclusive range into a row bitmap of 64 rows per word, clearing
+ * the bit of every row whose value falls outside {@code [lower, upper]}. Bits of rows that already
+ * failed stay cleared, so successive calls AND their ranges together.
+ */
+public interface RangeKernel {
+
+    void retainInRange(long[] column, int rows, long lower, long upper, long[] mask);
+
+    /**
+     * The {@link VectorRangeKernel} when the {@code jdk.incubator.vector} module is part of the
+     * runtime, otherwise the {@link ScalarRangeKernel}.
+     */
+    static RangeKernel best() {
+        if (ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent()) {
+            try {
+                return (RangeKernel) Class.forName(RangeKernel.class.getPackageName() + ".VectorRangeKernel")
+                        .getDeclaredConstructor()
+                        .newInstance();
+            } catch (ReflectiveOperationException | LinkageError e) {
+                // The module is resolved but unusable on this platform; the scalar loop is always correct
+            }
+        }
+        return scalar();
+    }
+
+    /**
+     * A kernel that needs no optional module, e.g. to compare against {@link #best()}.
+     */
+    static RangeKernel scalar() {
+        return new ScalarRangeKernel();
+    }
+}
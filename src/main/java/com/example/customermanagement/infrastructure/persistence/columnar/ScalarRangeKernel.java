@@ -0,0 +1,21 @@
+package com.example.customermanagement.infrastructure.persistence.columnar;
+
+/**
+ * One comparison per row, building each mask word branch-free.
+ */
+final class ScalarRangeKernel implements RangeKernel {
+
+    @Override
+    public void retainInRange(long[] column, int rows, long lower, long upper, long[] mask) {
+        for (int base = 0; base < rows; base += Long.SIZE) {
+            int end = Math.min(rows, base + Long.SIZE);
+            long word = 0;
+            for (int row = base; row < end; row++) {
+                long value = column[row];
+                long inRange = (value >= lower & value <= upper) ? 1L : 0L;
+                word |= inRange << (row - base);
+            }
+            mask[base >>> 6] &= word;
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.example.customermanagement.infrastructure.persistence.columnar;
+
+import jdk.incubator.vector.LongVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * Compares a full SIMD register of rows per step with the incubating Vector API and packs the lane
+ * masks into the row bitmap. Only loaded through {@link RangeKernel#best()}, so the application still
+ * runs with the scalar kernel when the module is not added to the runtime.
+ */
+final class VectorRangeKernel implements RangeKernel {
+
+    private static final VectorSpecies<Long> SPECIES = LongVector.SPECIES_PREFERRED;
+
+    @Override
+    public void retainInRange(long[] column, int rows, long lower, long upper, long[] mask) {
+        int lanes = SPECIES.length();
+        for (int base = 0; base < rows; base += Long.SIZE) {
+            int end = Math.min(rows, base + Long.SIZE);
+            long word = 0;
+            int row = base;
+            for (; row + lanes <= end; row += lanes) {
+                LongVector values = LongVector.fromArray(SPECIES, column, row);
+                long inRange = values.compare(VectorOperators.GE, lower)
+                        .and(values.compare(VectorOperators.LE, upper))
+                        .toLong();
+                word |= inRange << (row - base);
+            }
+            for (; row < end; row++) {
+                long value = column[row];
+                word |= (value >= lower & value <= upper ? 1L : 0L) << (row - base);
+            }
+            mask[base >>> 6] &= word;
+        }
+    }
+}
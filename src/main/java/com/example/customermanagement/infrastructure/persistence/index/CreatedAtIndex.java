@@ -0,0 +1,80 @@
+package com.example.customermanagement.infrastructure.persistence.index;
+
+import com.example.customermanagement.domain.model.Customer;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * Customers ordered newest first by (createdAt, id). The id tie-breaker keeps keys unique
+ * for customers created within the same clock tick. Keys are remembered per id so an entry
+ * can be removed even if the stored entity's createdAt has since been changed.
+ */
+public class CreatedAtIndex {
+
+    private static final Comparator<Key> NEWEST_FIRST = Comparator
+            .comparing(Key::createdAt, Comparator.reverseOrder())
+            .thenComparing(Key::id);
+
+    private volatile ConcurrentSkipListMap<Key, Customer> ordered = new ConcurrentSkipListMap<>(NEWEST_FIRST);
+    private final ConcurrentHashMap<UUID, Key> keysById = new ConcurrentHashMap<>();
+
+    public void add(Customer customer) {
+        Key key = new Key(customer.getCreatedAt(), customer.getId());
+        Key previous = keysById.put(customer.getId(), key);
+        if (previous != null) {
+            ordered.remove(previous);
+        }
+        ordered.put(key, customer);
+    }
+
+    /**
+     * Adds {@code customers} in key order. As in {@link PrefixIndex#addAll}, an empty index is
+     * rebuilt from the sorted entries in one pass, which must not race other writers.
+     */
+    public void addAll(Collection<Customer> customers) {
+        TreeMap<Key, Customer> sorted = new TreeMap<>(NEWEST_FIRST);
+        for (Customer customer : customers) {
+            Key key = new Key(customer.getCreatedAt(), customer.getId());
+            Key previous = keysById.put(customer.getId(), key);
+            if (previous != null) {
+                ordered.remove(previous);
+            }
+            sorted.put(key, customer);
+        }
+        if (ordered.isEmpty()) {
+            ordered = new ConcurrentSkipListMap<>(sorted);
+        } else {
+            ordered.putAll(sorted);
+        }
+    }
+
+    public void remove(UUID id) {
+        Key key = keysById.remove(id);
+        if (key != null) {
+            ordered.remove(key);
+        }
+    }
+
+    public List<Customer> page(long offset, int limit) {
+        return ordered.values().stream()
+                .skip(offset)
+                .limit(limit)
+                .toList();
+    }
+
+    public List<Customer> after(LocalDateTime createdAt, UUID id, int limit) {
+        return ordered.tailMap(new Key(createdAt, id), false).values().stream()
+                .limit(limit)
+                .toList();
+    }
+
+    public record Key(LocalDateTime createdAt, UUID id) {
+    }
+}
@@ -0,0 +1,111 @@
+package com.example.customermanagement.infrastructure.persistence.index;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Dense int ordinals for customer ids, so postings can be {@link RoaringBitmap}s instead of sets of
+ * UUIDs. Ordinals freed by {@link #release} are handed out again before new ones, which keeps them
+ * close to the number of live customers. Readers map ordinals found in an index back to ids while
+ * still holding that index's lock: an ordinal is released only after its customer has been removed
+ * from every index, so it cannot be reassigned while it is still in postings being read.
+ */
+public class CustomerOrdinals {
+
+    private final Map<UUID, Integer> ordinals = new HashMap<>();
+    private volatile UUID[] ids = new UUID[1024];
+    private int[] freeOrdinals = new int[16];
+    private int freeCount;
+    private int next;
+
+    /**
+     * The ordinal of {@code id}, assigning one when it has none.
+     */
+    public synchronized int acquire(UUID id) {
+        Integer existing = ordinals.get(id);
+        if (existing != null) {
+            return existing;
+        }
+        int ordinal = freeCount > 0 ? freeOrdinals[--freeCount] : next++;
+        if (ordinal == ids.length) {
+            ids = Arrays.copyOf(ids, ids.length * 2);
+        }
+        ids[ordinal] = id;
+        ordinals.put(id, ordinal);
+        return ordinal;
+    }
+
+    /**
+     * The ordinals of {@code ids}, in the same order, assigning them under a single lock.
+     */
+    public synchronized int[] acquireAll(List<UUID> ids) {
+        int[] acquired = new int[ids.size()];
+        for (int i = 0; i < acquired.length; i++) {
+            acquired[i] = acquire(ids.get(i));
+        }
+        return acquired;
+    }
+
+    /**
+     * Frees the ordinal of {@code id} for reuse and returns it, or -1 when it had none.
+     */
+    public synchronized int release(UUID id) {
+        Integer ordinal = ordinals.remove(id);
+        if (ordinal == null) {
+            return -1;
+        }
+        ids[ordinal] = null;
+        if (freeCount == freeOrdinals.length) {
+            freeOrdinals = Arrays.copyOf(freeOrdinals, freeCount * 2);
+        }
+        freeOrdinals[freeCount++] = ordinal;
+        return ordinal;
+    }
+
+    /**
+     * The ordinal of {@code id}, or -1 when it has none.
+     */
+    public synchronized int ordinalOf(UUID id) {
+        Integer ordinal = ordinals.get(id);
+        return ordinal != null ? ordinal : -1;
+    }
+
+    /**
+     * The id holding {@code ordinal}, or null when it is free.
+     */
+    public UUID idAt(int ordinal) {
+        UUID[] current = ids;
+        return ordinal < current.length ? current[ordinal] : null;
+    }
+
+    /**
+     * Ids of the customers holding the ordinals in {@code matches}. Callers must still hold the
+     * lock of the index the ordinals were read from.
+     */
+    public Set<UUID> idsOf(RoaringBitmap matches) {
+        Set<UUID> ids = new HashSet<>(Math.max(16, matches.cardinality() * 4 / 3 + 1));
+        matches.forEach(ordinal -> {
+            UUID id = idAt(ordinal);
+            if (id != null) {
+                ids.add(id);
+            }
+        });
+        return ids;
+    }
+
+    public synchronized int size() {
+        return ordinals.size();
+    }
+
+    /**
+     * One past the highest ordinal ever assigned.
+     */
+    public synchronized int capacity() {
+        return next;
+    }
+}
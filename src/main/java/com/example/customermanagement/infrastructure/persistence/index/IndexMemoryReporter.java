@@ -0,0 +1,43 @@
+package com.example.customermanagement.infrastructure.persistence.index;
+
+import com.example.customermanagement.domain.repository.CustomerRepository;
+import com.example.customermanagement.infrastructure.persistence.InMemoryCustomerRepository;
+import com.example.customermanagement.infrastructure.persistence.ShardedCustomerRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.annotation.Profile;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Periodically logs the approximate heap footprint of the in-memory store's secondary indexes.
+ */
+@Component
+@Profile("!jpa")
+public class IndexMemoryReporter {
+
+    private static final Logger log = LoggerFactory.getLogger(IndexMemoryReporter.class);
+
+    private final CustomerRepository customerRepository;
+
+    public IndexMemoryReporter(CustomerRepository customerRepository) {
+        this.customerRepository = customerRepository;
+    }
+
+    @Scheduled(
+            initialDelayString = "${customer.repository.index.stats-interval-ms:60000}",
+            fixedDelayString = "${customer.repository.index.stats-interval-ms:60000}")
+    public void report() {
+        List<IndexMemoryStats> indexes = switch (customerRepository) {
+            case InMemoryCustomerRepository repository -> repository.indexMemory();
+            case ShardedCustomerRepository repository -> repository.indexMemory();
+            default -> List.of();
+        };
+        for (IndexMemoryStats stats : indexes) {
+            log.info("Index {}: {} distinct values, {} postings, {} bytes",
+                    stats.index(), stats.distinctValues(), stats.postings(), stats.bytes());
+        }
+    }
+}
@@ -0,0 +1,8 @@
+package com.example.customermanagement.infrastructure.persistence.index;
+
+/**
+ * Approximate heap footprint of one index: its distinct keys, the postings across all keys, and
+ * the bytes of the keys and their posting bitmaps.
+ */
+public record IndexMemoryStats(String index, int distinctValues, long postings, long bytes) {
+}
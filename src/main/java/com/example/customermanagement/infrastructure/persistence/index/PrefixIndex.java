@@ -0,0 +1,93 @@
+package com.example.customermanagement.infrastructure.persistence.index;
+
+import com.example.customermanagement.domain.model.Customer;
+import com.example.customermanagement.domain.model.CustomerSuggestion;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * Sorted, concurrent map from suggestion key to customer for type-ahead lookups. Each entry is
+ * keyed by the folded key plus the customer id, so all customers under a prefix form one contiguous
+ * range: a lookup is a log(n) seek followed by reading at most a few entries past the limit,
+ * independent of how many customers share the prefix. Readers never block writers.
+ */
+public class PrefixIndex {
+
+    private static final char SEPARATOR = '\u0000';
+
+    private volatile ConcurrentSkipListMap<String, CustomerSuggestion> entries = new ConcurrentSkipListMap<>();
+
+    public void add(Customer customer) {
+        for (String key : CustomerSuggestion.keysOf(customer.getSearchKeys())) {
+            entries.put(entryKey(key, customer.getId()), CustomerSuggestion.of(key, customer));
+        }
+    }
+
+    /**
+     * Adds {@code customers} in key order. An empty index is instead rebuilt from the sorted entries
+     * in one linear pass, which must not race other writers; it is meant for filling the index
+     * before it is shared, e.g. after restoring a snapshot.
+     */
+    public void addAll(Collection<Customer> customers) {
+        TreeMap<String, CustomerSuggestion> sorted = new TreeMap<>();
+        for (Customer customer : customers) {
+            for (String key : CustomerSuggestion.keysOf(customer.getSearchKeys())) {
+                sorted.put(entryKey(key, customer.getId()), CustomerSuggestion.of(key, customer));
+            }
+        }
+        if (entries.isEmpty()) {
+            entries = new ConcurrentSkipListMap<>(sorted);
+        } else {
+            entries.putAll(sorted);
+        }
+    }
+
+    public void remove(Customer customer) {
+        for (String key : CustomerSuggestion.keysOf(customer.getSearchKeys())) {
+            entries.remove(entryKey(key, customer.getId()));
+        }
+    }
+
+    /**
+     * Returns up to {@code limit} distinct customers with a key starting with the prefix, in
+     * {@link CustomerSuggestion#ORDER}. A customer matching under several keys is reported under
+     * the smallest one.
+     */
+    public List<CustomerSuggestion> suggest(String prefix, int limit) {
+        List<CustomerSuggestion> result = new ArrayList<>(Math.min(limit, 64));
+        String folded = CustomerSuggestion.foldPrefix(prefix);
+        if (folded == null || folded.isEmpty() || limit <= 0) {
+            return result;
+        }
+        Set<UUID> seen = new HashSet<>();
+        for (Map.Entry<String, CustomerSuggestion> entry : entries.tailMap(folded, true).entrySet()) {
+            if (!entry.getKey().startsWith(folded)) {
+                break;
+            }
+            CustomerSuggestion suggestion = entry.getValue();
+            if (seen.add(suggestion.id())) {
+                result.add(suggestion);
+                if (result.size() == limit) {
+                    break;
+                }
+            }
+        }
+        return result;
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    private static String entryKey(String key, UUID id) {
+        return key + SEPARATOR + id;
+    }
+}
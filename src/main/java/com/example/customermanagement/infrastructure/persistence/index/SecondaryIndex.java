@@ -0,0 +1,177 @@
+package com.example.customermanagement.infrastructure.persistence.index;
+
+import com.example.customermanagement.domain.model.CustomerSearchKeys;
+import com.example.customermanagement.domain.model.MatchMode;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+
+/**
+ * Case-folded value -> customer ordinal postings for a single field, each held as a
+ * {@link RoaringBitmap}, so a value shared by most customers costs about a bit per customer.
+ * Exact lookups are a single hash probe; prefix and contains lookups walk the
+ * distinct values only, which stays small for low-cardinality address fields.
+ * Lookups return a copy the caller may combine freely.
+ */
+public class SecondaryIndex {
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, RoaringBitmap> postings = new HashMap<>();
+
+    public void add(String value, int ordinal) {
+        if (value == null || ordinal < 0) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            postings.computeIfAbsent(fold(value), key -> new RoaringBitmap()).add(ordinal);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Adds each row's values under the ordinal at the same position, taking the write lock once for
+     * all of them. Used to build the index in bulk, e.g. after restoring a snapshot.
+     */
+    public <T> void addAll(List<T> rows, int[] ordinals, Function<T, ? extends Collection<String>> values) {
+        lock.writeLock().lock();
+        try {
+            for (int i = 0; i < rows.size(); i++) {
+                for (String value : values.apply(rows.get(i))) {
+                    if (value != null) {
+                        postings.computeIfAbsent(fold(value), key -> new RoaringBitmap()).add(ordinals[i]);
+                    }
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(String value, int ordinal) {
+        if (value == null || ordinal < 0) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            postings.computeIfPresent(fold(value), (key, ordinals) -> {
+                ordinals.remove(ordinal);
+                return ordinals.isEmpty() ? null : ordinals;
+            });
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public RoaringBitmap find(String term, MatchMode matchMode) {
+        lock.readLock().lock();
+        try {
+            RoaringBitmap ordinals = lookup(term, matchMode);
+            return matchMode == MatchMode.EXACT ? ordinals.copy() : ordinals;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Ids of the customers matching every term, each looked up in its own index with
+     * {@code matchMode}. All the indexes stay read-locked until the matching ordinals are mapped
+     * back to ids. An ordinal leaves the ordinals table only after its customer has left every
+     * index, so no ordinal in the postings can meanwhile be handed to another customer, and each
+     * returned id held a matching value in every index when it was read.
+     */
+    public static Set<UUID> idsMatchingAll(List<Term> terms, MatchMode matchMode, CustomerOrdinals ordinals) {
+        List<Lock> held = new ArrayList<>(terms.size());
+        try {
+            RoaringBitmap matches = null;
+            for (Term term : terms) {
+                Lock readLock = term.index().lock.readLock();
+                readLock.lock();
+                held.add(readLock);
+                RoaringBitmap postings = term.index().lookup(term.value(), matchMode);
+                matches = matches == null ? postings : RoaringBitmap.and(matches, postings);
+                if (matches.isEmpty()) {
+                    break;
+                }
+            }
+            return matches != null ? ordinals.idsOf(matches) : new HashSet<>();
+        } finally {
+            for (int i = held.size() - 1; i >= 0; i--) {
+                held.get(i).unlock();
+            }
+        }
+    }
+
+    public int distinctValues() {
+        lock.readLock().lock();
+        try {
+            return postings.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public IndexMemoryStats memory(String name) {
+        lock.readLock().lock();
+        try {
+            long entries = 0;
+            long bytes = 0;
+            for (Map.Entry<String, RoaringBitmap> entry : postings.entrySet()) {
+                entries += entry.getValue().cardinality();
+                bytes += entry.getValue().sizeInBytes() + 2L * entry.getKey().length();
+            }
+            return new IndexMemoryStats(name, postings.size(), entries, bytes);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Postings for {@code term}; exact lookups return the live bitmap, which callers holding the
+     * read lock must not modify.
+     */
+    private RoaringBitmap lookup(String term, MatchMode matchMode) {
+        if (term == null) {
+            return new RoaringBitmap();
+        }
+
+        String foldedTerm = fold(term);
+        if (matchMode == MatchMode.EXACT) {
+            RoaringBitmap ordinals = postings.get(foldedTerm);
+            return ordinals != null ? ordinals : new RoaringBitmap();
+        }
+
+        RoaringBitmap result = new RoaringBitmap();
+        for (Map.Entry<String, RoaringBitmap> entry : postings.entrySet()) {
+            String value = entry.getKey();
+            boolean matches = matchMode == MatchMode.PREFIX
+                    ? value.startsWith(foldedTerm)
+                    : value.contains(foldedTerm);
+            if (matches) {
+                result.addAll(entry.getValue());
+            }
+        }
+        return result;
+    }
+
+    private static String fold(String value) {
+        return CustomerSearchKeys.fold(value);
+    }
+
+    /**
+     * A term to look up in one index.
+     */
+    public record Term(SecondaryIndex index, String value) {
+    }
+}
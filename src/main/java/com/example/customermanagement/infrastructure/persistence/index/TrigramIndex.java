@@ -0,0 +1,199 @@
+package com.example.customermanagement.infrastructure.persistence.index;
+
+import com.example.customermanagement.domain.model.CustomerSearchKeys;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+
+/**
+ * Inverted index from case-folded character trigrams to customer ordinals, each posting list held
+ * as a {@link RoaringBitmap}. Indexed values must already be folded with
+ * {@link CustomerSearchKeys#fold}; search terms are folded here. A customer's postings are the
+ * union of the trigrams of each indexed value, so any value containing a term also contains every
+ * trigram of that term. Lookups therefore return a superset of the matches which callers must
+ * verify. Matching ordinals are mapped back to ids while the read lock is held, as in
+ * {@link SecondaryIndex#idsMatchingAll}. Each trigram is keyed by its three chars packed into a
+ * long, so indexing a value does not allocate a string per trigram.
+ */
+public class TrigramIndex {
+
+    private static final int GRAM_LENGTH = 3;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, RoaringBitmap> postings = new HashMap<>();
+
+    public void add(int ordinal, Collection<String> values) {
+        if (ordinal < 0) {
+            return;
+        }
+        Set<Long> grams = trigramsOf(values);
+        lock.writeLock().lock();
+        try {
+            for (Long gram : grams) {
+                postings.computeIfAbsent(gram, key -> new RoaringBitmap()).add(ordinal);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Adds each row's values under the ordinal at the same position, taking the write lock once for
+     * all of them. Used to build the index in bulk, e.g. after restoring a snapshot. Trigrams are
+     * posted as they are read rather than collected per row first, since posting an ordinal twice
+     * leaves the bitmap unchanged.
+     */
+    public <T> void addAll(List<T> rows, int[] ordinals, Function<T, ? extends Collection<String>> values) {
+        lock.writeLock().lock();
+        try {
+            for (int i = 0; i < rows.size(); i++) {
+                for (String value : values.apply(rows.get(i))) {
+                    if (value == null) {
+                        continue;
+                    }
+                    for (int start = 0; start + GRAM_LENGTH <= value.length(); start++) {
+                        Long gram = gramAt(value, start);
+                        RoaringBitmap posting = postings.get(gram);
+                        if (posting == null) {
+                            posting = new RoaringBitmap();
+                            postings.put(gram, posting);
+                        }
+                        posting.add(ordinals[i]);
+                    }
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(int ordinal, Collection<String> values) {
+        if (ordinal < 0) {
+            return;
+        }
+        Set<Long> grams = trigramsOf(values);
+        lock.writeLock().lock();
+        try {
+            for (Long gram : grams) {
+                postings.computeIfPresent(gram, (key, ids) -> {
+                    ids.remove(ordinal);
+                    return ids.isEmpty() ? null : ids;
+                });
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the ids whose values contain every trigram of the term, or an empty
+     * Optional when the term is too short to be narrowed by trigrams.
+     */
+    public Optional<Set<UUID>> candidates(String term, CustomerOrdinals ordinals) {
+        if (term == null) {
+            return Optional.empty();
+        }
+        Set<Long> grams = trigramsOf(List.of(CustomerSearchKeys.fold(term)));
+        if (grams.isEmpty()) {
+            return Optional.empty();
+        }
+
+        lock.readLock().lock();
+        try {
+            List<RoaringBitmap> lists = new ArrayList<>(grams.size());
+            for (Long gram : grams) {
+                RoaringBitmap ids = postings.get(gram);
+                if (ids == null) {
+                    return Optional.of(new HashSet<>());
+                }
+                lists.add(ids);
+            }
+            lists.sort(Comparator.comparingInt(RoaringBitmap::cardinality));
+
+            RoaringBitmap result = lists.getFirst();
+            for (int i = 1; i < lists.size() && !result.isEmpty(); i++) {
+                result = RoaringBitmap.and(result, lists.get(i));
+            }
+            return Optional.of(ordinals.idsOf(result));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the ids posted under at least {@code minShared} of the given trigrams. Ordinals are
+     * collected only from the rarest {@code grams - minShared + 1} posting lists, since an ordinal
+     * missing from all of them cannot reach the threshold; the more frequent lists are then only
+     * probed for those ordinals, so common trigrams never have to be walked. Each gram must be a
+     * single trigram.
+     */
+    public Set<UUID> sharing(Collection<String> grams, int minShared, CustomerOrdinals ordinals) {
+        lock.readLock().lock();
+        try {
+            List<RoaringBitmap> lists = new ArrayList<>(grams.size());
+            for (String gram : grams) {
+                lists.add(postings.getOrDefault(gramAt(gram, 0), new RoaringBitmap()));
+            }
+            lists.sort(Comparator.comparingInt(RoaringBitmap::cardinality));
+
+            int collected = lists.size() - Math.max(1, minShared) + 1;
+            Map<Integer, Integer> counts = new HashMap<>();
+            for (int i = 0; i < collected && i < lists.size(); i++) {
+                lists.get(i).forEach(ordinal -> counts.merge(ordinal, 1, Integer::sum));
+            }
+
+            RoaringBitmap result = new RoaringBitmap();
+            for (Map.Entry<Integer, Integer> entry : counts.entrySet()) {
+                int shared = entry.getValue();
+                for (int i = collected; i < lists.size() && shared < minShared; i++) {
+                    if (lists.get(i).contains(entry.getKey())) {
+                        shared++;
+                    }
+                }
+                if (shared >= minShared) {
+                    result.add(entry.getKey());
+                }
+            }
+            return ordinals.idsOf(result);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return postings.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private static Set<Long> trigramsOf(Collection<String> foldedValues) {
+        Set<Long> grams = new HashSet<>();
+        for (String value : foldedValues) {
+            if (value == null) {
+                continue;
+            }
+            for (int i = 0; i + GRAM_LENGTH <= value.length(); i++) {
+                grams.add(gramAt(value, i));
+            }
+        }
+        return grams;
+    }
+
+    private static long gramAt(String value, int start) {
+        return (long) value.charAt(start) << 32 | (long) value.charAt(start + 1) << 16 | value.charAt(start + 2);
+    }
+}
@@ -0,0 +1,214 @@
+package com.example.customermanagement.infrastructure.persistence.index;
+
+import com.example.customermanagement.domain.exception.ChangeTokenExpiredException;
+import com.example.customermanagement.domain.model.ChangeToken;
+import com.example.customermanagement.domain.model.Customer;
+import com.example.customermanagement.domain.model.CustomerChange;
+import com.example.customermanagement.domain.model.CustomerChanges;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Latest change per customer in update order, partitioned by time so a reader resuming from a
+ * token starts in its partition instead of walking every customer. Each write takes the next
+ * sequence number and a change time of its updatedAt, or the current time for a delete, raised to
+ * the previous change time if the clock went backwards, so sequence and time order agree and a
+ * token never skips a later write. A changed customer's previous entry is dropped; deletes leave a
+ * tombstone that is kept for {@code tombstoneRetention}, after which tokens from before the dropped
+ * tombstones are rejected.
+ *
+ * <p>An index knows nothing of the deletes made before it was created, so tokens issued by another
+ * instance before then, such as the process that ran before a restart, are rejected too. Customers
+ * restored at startup are recorded once restore is complete, at their own update times.
+ *
+ * <p>Writers are serialized on the index. Readers do not lock: they stop at the sequence published
+ * when they started, every entry up to which is already in place.
+ */
+public class UpdatedAtIndex {
+
+    private static final Duration DEFAULT_PARTITION_WIDTH = Duration.ofHours(1);
+    private static final Duration DEFAULT_TOMBSTONE_RETENTION = Duration.ofDays(7);
+
+    private final long epoch = ThreadLocalRandom.current().nextLong();
+    private final long partitionSeconds;
+    private final Duration tombstoneRetention;
+    private final ConcurrentSkipListMap<Long, ConcurrentSkipListMap<Long, CustomerChange>> partitions =
+            new ConcurrentSkipListMap<>();
+    private final Map<UUID, CustomerChange> latestById = new HashMap<>();
+    private long prunedBefore = Long.MIN_VALUE;
+    private volatile ChangeToken head = new ChangeToken(epoch, 0, LocalDateTime.MIN);
+    private volatile LocalDateTime horizon;
+    private volatile LocalDateTime restoredAt = LocalDateTime.now();
+
+    public UpdatedAtIndex() {
+        this(DEFAULT_PARTITION_WIDTH, DEFAULT_TOMBSTONE_RETENTION);
+    }
+
+    public UpdatedAtIndex(Duration partitionWidth, Duration tombstoneRetention) {
+        if (partitionWidth.getSeconds() < 1) {
+            throw new IllegalArgumentException("Partition width must be at least one second, was " + partitionWidth);
+        }
+        if (tombstoneRetention.isNegative()) {
+            throw new IllegalArgumentException("Tombstone retention cannot be negative, was " + tombstoneRetention);
+        }
+        this.partitionSeconds = partitionWidth.getSeconds();
+        this.tombstoneRetention = tombstoneRetention;
+    }
+
+    public synchronized void recordUpdate(Customer customer) {
+        record(customer.getId(), customer.getUpdatedAt(), customer);
+    }
+
+    public synchronized void recordDelete(UUID id) {
+        record(id, LocalDateTime.now(), null);
+    }
+
+    /**
+     * Records the customers restored at startup, oldest update first, and moves the restore point
+     * to now. Changes replayed while restoring must not be recorded one by one: a log keeps no
+     * delete times, and a delete stamped with the restart time would pull every change replayed
+     * after it forward to that time.
+     */
+    public synchronized void recordRestored(Collection<Customer> customers) {
+        List<Customer> oldestFirst = new ArrayList<>(customers);
+        oldestFirst.sort(Comparator.comparing(Customer::getUpdatedAt, Comparator.nullsFirst(Comparator.naturalOrder())));
+        for (Customer customer : oldestFirst) {
+            record(customer.getId(), customer.getUpdatedAt(), customer);
+        }
+        restoredAt = LocalDateTime.now();
+    }
+
+    /**
+     * Up to {@code limit} changes after {@code since}, or from the oldest retained change when it is
+     * null. A token from another index instance issued after this one's restore point resumes at
+     * its change time, so changes made at that exact time may be returned again.
+     *
+     * @throws ChangeTokenExpiredException if tombstones after the token have been dropped, or the
+     *         token comes from another instance and predates the restore point
+     */
+    public CustomerChanges since(ChangeToken since, int limit) {
+        ChangeToken bound = head;
+        LocalDateTime retainedFrom = horizon;
+        if (since != null && retainedFrom != null && since.changedAt().isBefore(retainedFrom)) {
+            throw new ChangeTokenExpiredException(since.changedAt(), retainedFrom);
+        }
+        boolean bySequence = since == null || since.epoch() == epoch;
+        LocalDateTime restorePoint = restoredAt;
+        if (!bySequence && since.changedAt().isBefore(restorePoint)) {
+            throw new ChangeTokenExpiredException(since.changedAt(), restorePoint);
+        }
+        NavigableMap<Long, ConcurrentSkipListMap<Long, CustomerChange>> from = since == null
+                ? partitions
+                : partitions.tailMap(partitionOf(since.changedAt()), true);
+
+        List<CustomerChange> changes = new ArrayList<>(Math.min(limit, 1024));
+        boolean hasMore = false;
+        scan:
+        for (ConcurrentSkipListMap<Long, CustomerChange> partition : from.values()) {
+            NavigableMap<Long, CustomerChange> entries = since != null && bySequence
+                    ? partition.tailMap(since.sequence(), false)
+                    : partition;
+            for (CustomerChange change : entries.values()) {
+                if (change.position().sequence() > bound.sequence()) {
+                    break scan;
+                }
+                if (!bySequence && change.changedAt().isBefore(since.changedAt())) {
+                    continue;
+                }
+                if (changes.size() == limit) {
+                    hasMore = true;
+                    break scan;
+                }
+                changes.add(change);
+            }
+        }
+
+        ChangeToken next;
+        if (!changes.isEmpty()) {
+            next = changes.getLast().position();
+        } else if (since != null && bySequence) {
+            next = since;
+        } else {
+            next = bound;
+        }
+        return new CustomerChanges(changes, next, hasMore);
+    }
+
+    private void record(UUID id, LocalDateTime updatedAt, Customer customer) {
+        ChangeToken previousHead = head;
+        LocalDateTime changedAt = updatedAt != null ? updatedAt : LocalDateTime.now();
+        if (changedAt.isBefore(previousHead.changedAt())) {
+            changedAt = previousHead.changedAt();
+        }
+        ChangeToken position = new ChangeToken(epoch, previousHead.sequence() + 1, changedAt);
+        CustomerChange change = new CustomerChange(id, changedAt, position, customer);
+
+        CustomerChange previous = latestById.put(id, change);
+        if (previous != null) {
+            removeEntry(previous);
+        }
+        partitions.computeIfAbsent(partitionOf(changedAt), partition -> new ConcurrentSkipListMap<>())
+                .put(position.sequence(), change);
+        head = position;
+        pruneTombstones(changedAt);
+    }
+
+    private void removeEntry(CustomerChange change) {
+        long key = partitionOf(change.changedAt());
+        ConcurrentSkipListMap<Long, CustomerChange> partition = partitions.get(key);
+        partition.remove(change.position().sequence());
+        if (partition.isEmpty()) {
+            partitions.remove(key);
+        }
+    }
+
+    /**
+     * Drops the tombstones of every partition that ended more than the retention before
+     * {@code now}. Change times never decrease, so no tombstone can arrive in a pruned partition.
+     */
+    private void pruneTombstones(LocalDateTime now) {
+        long cutoff = partitionOf(now.minus(tombstoneRetention));
+        if (cutoff <= prunedBefore) {
+            return;
+        }
+        boolean dropped = false;
+        Iterator<Map.Entry<Long, ConcurrentSkipListMap<Long, CustomerChange>>> expired =
+                partitions.subMap(prunedBefore, true, cutoff, false).entrySet().iterator();
+        while (expired.hasNext()) {
+            ConcurrentSkipListMap<Long, CustomerChange> partition = expired.next().getValue();
+            Iterator<CustomerChange> changes = partition.values().iterator();
+            while (changes.hasNext()) {
+                CustomerChange change = changes.next();
+                if (change.deleted()) {
+                    changes.remove();
+                    latestById.remove(change.id());
+                    dropped = true;
+                }
+            }
+            if (partition.isEmpty()) {
+                expired.remove();
+            }
+        }
+        prunedBefore = cutoff;
+        if (dropped) {
+            horizon = LocalDateTime.ofEpochSecond(Math.multiplyExact(cutoff, partitionSeconds), 0, ZoneOffset.UTC);
+        }
+    }
+
+    private long partitionOf(LocalDateTime changedAt) {
+        return Math.floorDiv(changedAt.toEpochSecond(ZoneOffset.UTC), partitionSeconds);
+    }
+}
@@ -0,0 +1,136 @@
+package com.example.customermanagement.infrastructure.persistence.jpa;
+
+import com.example.customermanagement.domain.model.Address;
+import com.example.customermanagement.domain.model.Customer;
+import com.example.customermanagement.domain.model.CustomerSearchKeys;
+import com.example.customermanagement.domain.model.PhoneticName;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Table row of a customer. Next to each searchable column is its {@link CustomerSearchKeys} key,
+ * folded in Java the same way the in-memory store folds it, and searches filter and sort on the
+ * keys rather than on the database's {@code lower()}, which neither NFKC-normalizes nor lower-cases
+ * like {@link java.util.Locale#ROOT}. Every key the search filters on exactly is indexed; name and
+ * phone are only ever matched by substring, which a B-tree index cannot serve. The name's
+ * {@link PhoneticName} codes are stored space-delimited in {@code name_sounds} so sound-alike
+ * searches are matched by the database instead of re-encoding every name. Rows written before the
+ * key columns existed have no keys and are only found again once they are saved.
+ */
+@Entity
+@Table(name = "customers", indexes = {
+        @Index(name = "idx_customers_email_key", columnList = "email_key"),
+        @Index(name = "idx_customers_city_key", columnList = "city_key"),
+        @Index(name = "idx_customers_state_key", columnList = "state_key"),
+        @Index(name = "idx_customers_country_key", columnList = "country_key"),
+        @Index(name = "idx_customers_zip_code_key", columnList = "zip_code_key"),
+        @Index(name = "idx_customers_created_at", columnList = "created_at, id"),
+        @Index(name = "idx_customers_updated_at", columnList = "updated_at, id")
+})
+public class CustomerEntity {
+
+    @Id
+    private UUID id;
+
+    @Column(nullable = false)
+    private String name;
+
+    @Column(name = "name_key")
+    private String nameKey;
+
+    @Column(name = "name_sounds")
+    private String nameSounds;
+
+    @Column(nullable = false)
+    private String email;
+
+    @Column(name = "email_key")
+    private String emailKey;
+
+    @Column(nullable = false)
+    private String phone;
+
+    @Column(name = "phone_key")
+    private String phoneKey;
+
+    private String street;
+
+    @Column(nullable = false)
+    private String city;
+
+    @Column(name = "city_key")
+    private String cityKey;
+
+    @Column(nullable = false)
+    private String state;
+
+    @Column(name = "state_key")
+    private String stateKey;
+
+    @Column(name = "zip_code", nullable = false)
+    private String zipCode;
+
+    @Column(name = "zip_code_key")
+    private String zipCodeKey;
+
+    @Column(nullable = false)
+    private String country;
+
+    @Column(name = "country_key")
+    private String countryKey;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    protected CustomerEntity() {
+    }
+
+    static CustomerEntity from(Customer customer) {
+        CustomerEntity entity = new CustomerEntity();
+        entity.id = customer.getId();
+        entity.name = customer.getName();
+        entity.email = customer.getEmail();
+        entity.phone = customer.getPhone();
+        entity.street = customer.getAddress().getStreet();
+        entity.city = customer.getAddress().getCity();
+        entity.state = customer.getAddress().getState();
+        entity.zipCode = customer.getAddress().getZipCode();
+        entity.country = customer.getAddress().getCountry();
+        CustomerSearchKeys keys = customer.getSearchKeys();
+        entity.nameKey = keys.name();
+        entity.nameSounds = soundsColumn(keys.nameSounds());
+        entity.emailKey = keys.email();
+        entity.phoneKey = keys.phone();
+        entity.cityKey = keys.city();
+        entity.stateKey = keys.state();
+        entity.zipCodeKey = keys.zipCode();
+        entity.countryKey = keys.country();
+        entity.createdAt = customer.getCreatedAt();
+        entity.updatedAt = customer.getUpdatedAt();
+        return entity;
+    }
+
+    Customer toDomain() {
+        Customer customer = new Customer(id, name, email, phone, new Address(street, city, state, zipCode, country));
+        customer.setCreatedAt(createdAt);
+        customer.setUpdatedAt(updatedAt);
+        return customer;
+    }
+
+    /**
+     * Codes wrapped and separated by single spaces, so one code is matched by {@code like '% CODE %'}.
+     */
+    static String soundsColumn(List<String> sounds) {
+        return " " + String.join(" ", sounds) + " ";
+    }
+}
@@ -0,0 +1,245 @@
+package com.example.customermanagement.infrastructure.persistence.jpa;
+
+import com.example.customermanagement.domain.model.CustomerSearchCriteria;
+import com.example.customermanagement.domain.model.CustomerSearchKeys;
+import com.example.customermanagement.domain.model.CustomerSearchCriteria.SortCriteria;
+import com.example.customermanagement.domain.model.CustomerSearchCriteria.SortCriteria.SortDirection;
+import com.example.customermanagement.domain.model.MatchMode;
+import com.example.customermanagement.domain.model.PageCursor;
+import com.example.customermanagement.domain.model.PhoneticName;
+import com.example.customermanagement.domain.model.SearchExpression;
+import com.example.customermanagement.domain.model.SearchField;
+import jakarta.persistence.TypedQuery;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Translates search criteria into JPQL over {@link CustomerEntity}. Filter terms are always bound
+ * as parameters; only whitelisted column paths are ever written into the query text. Text
+ * filters and sort keys compare the entity's folded key columns against values folded with
+ * {@link CustomerSearchKeys#fold}, so the database orders and matches customers on the same
+ * NFKC-normalized, case-folded keys the in-memory search does, whatever the JVM's default locale.
+ * Sorting on those keys still uses the database collation rather than Java's string order.
+ */
+final class CustomerJpqlQuery {
+
+    private static final List<SortCriteria> DEFAULT_SORT =
+            List.of(new SortCriteria("createdat", SortDirection.DESC));
+
+    private static final List<String> SEARCH_TEXT_COLUMNS =
+            List.of("c.nameKey", "c.emailKey", "c.phoneKey", "c.cityKey", "c.stateKey", "c.countryKey");
+
+    private final List<String> conditions = new ArrayList<>();
+    private final Map<String, Object> parameters = new HashMap<>();
+    private final List<String> orderBy = new ArrayList<>();
+
+    private CustomerJpqlQuery() {
+    }
+
+    /**
+     * Query for the customers matching every filter of {@code criteria}, in its sort order
+     * with the id as the final tie-breaker.
+     */
+    static CustomerJpqlQuery matching(CustomerSearchCriteria criteria) {
+        CustomerJpqlQuery query = new CustomerJpqlQuery();
+        if (criteria.hasSearchText()) {
+            String parameter = query.bind(containsPattern(criteria.getSearchText()));
+            query.conditions.add(SEARCH_TEXT_COLUMNS.stream()
+                    .map(column -> likeClause(column, parameter))
+                    .reduce((left, right) -> left + " or " + right)
+                    .map(clause -> "(" + clause + ")")
+                    .orElseThrow());
+        }
+        if (criteria.hasQuery()) {
+            query.conditions.add(query.clause(criteria.getQuery()));
+        }
+        if (criteria.hasPhoneticName()) {
+            query.soundsLike(PhoneticName.keysOf(criteria.getName()));
+        } else {
+            query.contains("c.nameKey", criteria.getName());
+        }
+        query.contains("c.emailKey", criteria.getEmail());
+        query.contains("c.phoneKey", criteria.getPhone());
+        query.contains("c.cityKey", criteria.getCity());
+        query.contains("c.stateKey", criteria.getState());
+        query.contains("c.countryKey", criteria.getCountry());
+        query.contains("c.zipCodeKey", criteria.getZipCode());
+        query.within("c.createdAt", criteria.getCreatedAfter(), criteria.getCreatedBefore());
+        query.within("c.updatedAt", criteria.getUpdatedAfter(), criteria.getUpdatedBefore());
+
+        for (SortCriteria sort : sortOf(criteria)) {
+            String column = sortColumn(sort.field());
+            if (column != null) {
+                query.orderBy.add(column + (sort.direction() == SortDirection.DESC ? " desc" : " asc"));
+            }
+        }
+        query.orderBy.add("c.id asc");
+        return query;
+    }
+
+    /**
+     * Restricts the query to customers positioned strictly after {@code cursor} in the sort order
+     * of {@code criteria}. The cursor must have been produced under that sort order.
+     */
+    CustomerJpqlQuery after(CustomerSearchCriteria criteria, PageCursor cursor) {
+        List<SortCriteria> sorts = sortOf(criteria);
+        List<String> alternatives = new ArrayList<>();
+        StringBuilder equalPrefix = new StringBuilder();
+        for (int i = 0; i < sorts.size(); i++) {
+            String column = sortColumn(sorts.get(i).field());
+            if (column == null) {
+                continue;
+            }
+            String parameter = bind(sortValue(sorts.get(i).field(), cursor.sortValues().get(i)));
+            String comparison = sorts.get(i).direction() == SortDirection.DESC ? " < " : " > ";
+            alternatives.add(equalPrefix + column + comparison + ":" + parameter);
+            equalPrefix.append(column).append(" = :").append(parameter).append(" and ");
+        }
+        alternatives.add(equalPrefix + "c.id > :" + bind(cursor.lastId()));
+        conditions.add(alternatives.stream()
+                .map(alternative -> "(" + alternative + ")")
+                .reduce((left, right) -> left + " or " + right)
+                .map(clause -> "(" + clause + ")")
+                .orElseThrow());
+        return this;
+    }
+
+    String select() {
+        return "select c from CustomerEntity c" + where() + " order by " + String.join(", ", orderBy);
+    }
+
+    String count() {
+        return "select count(c) from CustomerEntity c" + where();
+    }
+
+    /**
+     * Per-value counts of {@code column}, a whitelisted path or expression over {@code c}.
+     */
+    String countBy(String column) {
+        return "select " + column + ", count(c) from CustomerEntity c" + where() + " group by " + column;
+    }
+
+    <T> TypedQuery<T> bindTo(TypedQuery<T> query) {
+        parameters.forEach(query::setParameter);
+        return query;
+    }
+
+    private void contains(String column, String term) {
+        if (term != null && !term.isBlank()) {
+            conditions.add(likeClause(column, bind(containsPattern(term))));
+        }
+    }
+
+    /**
+     * JPQL condition equivalent to {@code expression}, with every term value bound as a parameter.
+     */
+    private String clause(SearchExpression expression) {
+        return switch (expression) {
+            case SearchExpression.Term term -> term.matchMode() == MatchMode.EXACT
+                    ? column(term.field()) + " = :" + bind(term.value())
+                    : likeClause(column(term.field()), bind(patternOf(term)));
+            case SearchExpression.And and -> join(and.operands(), " and ");
+            case SearchExpression.Or or -> join(or.operands(), " or ");
+            case SearchExpression.Not not -> "not " + clause(not.operand());
+        };
+    }
+
+    private String join(List<SearchExpression> operands, String operator) {
+        List<String> clauses = new ArrayList<>(operands.size());
+        for (SearchExpression operand : operands) {
+            clauses.add(clause(operand));
+        }
+        return "(" + String.join(operator, clauses) + ")";
+    }
+
+    private void soundsLike(List<String> sounds) {
+        if (sounds.isEmpty()) {
+            conditions.add("1 = 0");
+        }
+        for (String sound : sounds) {
+            conditions.add("c.nameSounds like :" + bind("% " + sound + " %"));
+        }
+    }
+
+    private void within(String column, LocalDateTime after, LocalDateTime before) {
+        if (after != null) {
+            conditions.add(column + " >= :" + bind(after));
+        }
+        if (before != null) {
+            conditions.add(column + " <= :" + bind(before));
+        }
+    }
+
+    private String bind(Object value) {
+        String name = "p" + parameters.size();
+        parameters.put(name, value);
+        return name;
+    }
+
+    private String where() {
+        return conditions.isEmpty() ? "" : " where " + String.join(" and ", conditions);
+    }
+
+    private static List<SortCriteria> sortOf(CustomerSearchCriteria criteria) {
+        return criteria.hasSorting() ? criteria.getSortCriteria() : DEFAULT_SORT;
+    }
+
+    /**
+     * Column expression a sort field orders by, or null for fields that do not affect the order.
+     */
+    private static String sortColumn(String field) {
+        return switch (field.toLowerCase(Locale.ROOT)) {
+            case "name" -> "c.nameKey";
+            case "email" -> "c.emailKey";
+            case "phone" -> "c.phoneKey";
+            case "city" -> "c.cityKey";
+            case "state" -> "c.stateKey";
+            case "country" -> "c.countryKey";
+            case "zipcode", "zip" -> "c.zipCodeKey";
+            case "createdat", "created" -> "c.createdAt";
+            case "updatedat", "updated" -> "c.updatedAt";
+            default -> null;
+        };
+    }
+
+    private static String column(SearchField field) {
+        return switch (field) {
+            case NAME -> "c.nameKey";
+            case EMAIL -> "c.emailKey";
+            case PHONE -> "c.phoneKey";
+            case CITY -> "c.cityKey";
+            case STATE -> "c.stateKey";
+            case COUNTRY -> "c.countryKey";
+            case ZIP_CODE -> "c.zipCodeKey";
+        };
+    }
+
+    private static String patternOf(SearchExpression.Term term) {
+        String escaped = escapeLike(term.value());
+        return term.matchMode() == MatchMode.PREFIX ? escaped + "%" : "%" + escaped + "%";
+    }
+
+    private static Object sortValue(String field, String cursorValue) {
+        return switch (field.toLowerCase(Locale.ROOT)) {
+            case "createdat", "created", "updatedat", "updated" -> LocalDateTime.parse(cursorValue);
+            default -> CustomerSearchKeys.fold(cursorValue);
+        };
+    }
+
+    private static String likeClause(String column, String parameter) {
+        return column + " like :" + parameter + " escape '\\'";
+    }
+
+    private static String containsPattern(String term) {
+        return "%" + escapeLike(CustomerSearchKeys.fold(term)) + "%";
+    }
+
+    static String escapeLike(String term) {
+        return term.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+}
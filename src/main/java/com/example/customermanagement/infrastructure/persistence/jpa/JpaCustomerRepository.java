@@ -0,0 +1,333 @@
+package com.example.customermanagement.infrastructure.persistence.jpa;
+
+import com.example.customermanagement.application.search.TopK;
+import com.example.customermanagement.domain.exception.InvalidCustomerDataException;
+import com.example.customermanagement.domain.model.AddressField;
+import com.example.customermanagement.domain.model.ChangeToken;
+import com.example.customermanagement.domain.model.Customer;
+import com.example.customermanagement.domain.model.CustomerChanges;
+import com.example.customermanagement.domain.model.CustomerFacets;
+import com.example.customermanagement.domain.model.CustomerSearchCriteria;
+import com.example.customermanagement.domain.model.CustomerSearchKeys;
+import com.example.customermanagement.domain.model.CustomerSlice;
+import com.example.customermanagement.domain.model.CustomerSuggestion;
+import com.example.customermanagement.domain.model.MatchMode;
+import com.example.customermanagement.domain.repository.CustomerEventLog;
+import com.example.customermanagement.domain.repository.CustomerRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+/**
+ * Customer store backed by the relational database through JPA. Searches are translated into
+ * a single filtered, sorted and paged query plus a count, so only the requested page is ever
+ * loaded into the JVM.
+ */
+@Transactional(readOnly = true)
+public class JpaCustomerRepository implements CustomerRepository {
+
+    static final int STREAM_BATCH_SIZE = 1_000;
+
+    private final EntityManager entityManager;
+    private final AtomicLong generation = new AtomicLong();
+
+    public JpaCustomerRepository(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    @Transactional
+    public Customer save(Customer customer) {
+        if (customer == null) {
+            throw InvalidCustomerDataException.nullCustomer();
+        }
+        entityManager.merge(CustomerEntity.from(customer));
+        generation.incrementAndGet();
+        return customer;
+    }
+
+    @Override
+    public Optional<Customer> findById(UUID id) {
+        if (id == null) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(entityManager.find(CustomerEntity.class, id)).map(CustomerEntity::toDomain);
+    }
+
+    @Override
+    public List<Customer> findAll() {
+        return entityManager.createQuery("select c from CustomerEntity c", CustomerEntity.class)
+                .getResultList().stream()
+                .map(CustomerEntity::toDomain)
+                .toList();
+    }
+
+    /**
+     * Pages through the table in id order, {@link #STREAM_BATCH_SIZE} rows per query, fetching
+     * the next batch only once the previous one has been consumed.
+     */
+    @Override
+    public Stream<Customer> streamAll() {
+        return Stream.iterate(fetchBatchAfter(null),
+                        batch -> !batch.isEmpty(),
+                        batch -> batch.size() < STREAM_BATCH_SIZE ? List.of() : fetchBatchAfter(batch.getLast().getId()))
+                .flatMap(List::stream);
+    }
+
+    @Override
+    @Transactional
+    public Optional<Customer> update(UUID id, Customer customer) {
+        if (id == null || customer == null || entityManager.find(CustomerEntity.class, id) == null) {
+            return Optional.empty();
+        }
+        customer.setId(id);
+        customer.updateTimestamp();
+        entityManager.merge(CustomerEntity.from(customer));
+        generation.incrementAndGet();
+        return Optional.of(customer);
+    }
+
+    @Override
+    @Transactional
+    public boolean deleteById(UUID id) {
+        if (id == null) {
+            return false;
+        }
+        CustomerEntity entity = entityManager.find(CustomerEntity.class, id);
+        if (entity == null) {
+            return false;
+        }
+        entityManager.remove(entity);
+        generation.incrementAndGet();
+        return true;
+    }
+
+    @Override
+    public boolean existsById(UUID id) {
+        if (id == null) {
+            return false;
+        }
+        return entityManager.createQuery("select count(c) from CustomerEntity c where c.id = :id", Long.class)
+                .setParameter("id", id)
+                .getSingleResult() > 0;
+    }
+
+    @Override
+    public long count() {
+        return entityManager.createQuery("select count(c) from CustomerEntity c", Long.class).getSingleResult();
+    }
+
+    /**
+     * Counts writes made through this repository only; changes made to the table by other processes
+     * are not observed.
+     */
+    @Override
+    public long generation() {
+        return generation.get();
+    }
+
+    @Override
+    public Optional<Set<UUID>> findIdsByAddressField(AddressField field, String value, MatchMode matchMode) {
+        if (field == null || matchMode == null || value == null || value.isBlank()) {
+            return Optional.empty();
+        }
+        String column = switch (field) {
+            case CITY -> "c.cityKey";
+            case STATE -> "c.stateKey";
+            case COUNTRY -> "c.countryKey";
+            case ZIP_CODE -> "c.zipCodeKey";
+        };
+        String term = CustomerSearchKeys.fold(value.trim());
+        String pattern = switch (matchMode) {
+            case EXACT -> term;
+            case PREFIX -> CustomerJpqlQuery.escapeLike(term) + "%";
+            case CONTAINS -> "%" + CustomerJpqlQuery.escapeLike(term) + "%";
+        };
+        String comparison = matchMode == MatchMode.EXACT ? " = :value" : " like :value escape '\\'";
+        List<UUID> ids = entityManager.createQuery(
+                        "select c.id from CustomerEntity c where " + column + comparison, UUID.class)
+                .setParameter("value", pattern)
+                .getResultList();
+        return Optional.of(new HashSet<>(ids));
+    }
+
+    /**
+     * Combined address filters are intersected by the database in {@link #search(CustomerSearchCriteria, int)}.
+     */
+    @Override
+    public Optional<Set<UUID>> findIdsByAddressFields(Map<AddressField, String> filters, MatchMode matchMode) {
+        return Optional.empty();
+    }
+
+    /**
+     * Free text is matched by {@link #search(CustomerSearchCriteria, int)} inside the query itself.
+     */
+    @Override
+    public Optional<Set<UUID>> findCandidateIdsByText(String text) {
+        return Optional.empty();
+    }
+
+    @Override
+    public Optional<Set<UUID>> findFuzzyNameCandidates(String term, int maxEdits) {
+        return Optional.empty();
+    }
+
+    /**
+     * Phonetic names are matched on the stored codes by {@link #search(CustomerSearchCriteria, int)}.
+     */
+    @Override
+    public Optional<Set<UUID>> findIdsByPhoneticName(String name) {
+        return Optional.empty();
+    }
+
+    @Override
+    public Optional<List<Customer>> findOrderedByCreatedAtDesc(long offset, int limit) {
+        if (offset < 0 || limit <= 0) {
+            return Optional.of(List.of());
+        }
+        TypedQuery<CustomerEntity> query = entityManager.createQuery(
+                "select c from CustomerEntity c order by c.createdAt desc, c.id asc", CustomerEntity.class);
+        return Optional.of(page(query, offset, limit));
+    }
+
+    @Override
+    public Optional<List<Customer>> findOrderedByCreatedAtDescAfter(LocalDateTime createdAt, UUID id, int limit) {
+        if (createdAt == null || id == null || limit <= 0) {
+            return Optional.of(List.of());
+        }
+        TypedQuery<CustomerEntity> query = entityManager.createQuery(
+                        "select c from CustomerEntity c"
+                                + " where c.createdAt < :createdAt or (c.createdAt = :createdAt and c.id > :id)"
+                                + " order by c.createdAt desc, c.id asc", CustomerEntity.class)
+                .setParameter("createdAt", createdAt)
+                .setParameter("id", id);
+        return Optional.of(page(query, 0, limit));
+    }
+
+    /**
+     * Every filter is evaluated by {@link #search(CustomerSearchCriteria, int)}, which covers this scan.
+     */
+    @Override
+    public Optional<CustomerSlice> scanNewestFirst(CustomerSearchCriteria criteria, long offset, int limit) {
+        return Optional.empty();
+    }
+
+    @Override
+    public Optional<CustomerSlice> findTopMatching(Predicate<Customer> filter, Predicate<Customer> position,
+                                                   Comparator<Customer> order, long offset, int limit) {
+        return Optional.empty();
+    }
+
+    @Override
+    public Optional<CustomerSlice> search(CustomerSearchCriteria criteria, int limit) {
+        if (criteria == null || limit <= 0 || criteria.hasFuzzyName()) {
+            return Optional.empty();
+        }
+        CustomerJpqlQuery filtered = CustomerJpqlQuery.matching(criteria);
+        long total = filtered.bindTo(entityManager.createQuery(filtered.count(), Long.class)).getSingleResult();
+
+        CustomerJpqlQuery positioned = criteria.hasCursor()
+                ? CustomerJpqlQuery.matching(criteria).after(criteria, criteria.getCursor())
+                : filtered;
+        long offset = criteria.hasCursor() ? 0 : (long) criteria.getPage() * criteria.getSize();
+        List<Customer> customers = page(
+                positioned.bindTo(entityManager.createQuery(positioned.select(), CustomerEntity.class)), offset, limit);
+        return Optional.of(new CustomerSlice(customers, total));
+    }
+
+    @Override
+    public Optional<CustomerFacets> countFacets(CustomerSearchCriteria criteria, int zipPrefixLength) {
+        if (criteria == null || criteria.hasFuzzyName()) {
+            return Optional.empty();
+        }
+        CustomerJpqlQuery filtered = CustomerJpqlQuery.matching(criteria);
+        CustomerFacets.Counter counter = CustomerFacets.counter(zipPrefixLength)
+                .addTotal(filtered.bindTo(entityManager.createQuery(filtered.count(), Long.class)).getSingleResult());
+        countBy(filtered, "c.country", AddressField.COUNTRY, counter);
+        countBy(filtered, "c.state", AddressField.STATE, counter);
+        countBy(filtered, "c.city", AddressField.CITY, counter);
+        countBy(filtered, "c.zipCode", AddressField.ZIP_CODE, counter);
+        return Optional.of(counter.build());
+    }
+
+    /**
+     * Lets the database narrow the rows with LIKE predicates on the name, its words and the email,
+     * then keeps the first {@code limit} by suggestion key while streaming the candidates.
+     */
+    @Override
+    public Optional<List<CustomerSuggestion>> suggest(String prefix, int limit) {
+        String folded = CustomerSuggestion.foldPrefix(prefix);
+        if (folded == null || folded.isEmpty() || limit <= 0) {
+            return Optional.of(List.of());
+        }
+        String escaped = CustomerJpqlQuery.escapeLike(folded);
+        TopK<CustomerSuggestion> top = new TopK<>(CustomerSuggestion.ORDER, limit);
+        try (Stream<CustomerEntity> candidates = entityManager.createQuery(
+                        "select c from CustomerEntity c where c.nameKey like :start escape '\\'"
+                                + " or c.nameKey like :word escape '\\'"
+                                + " or c.emailKey like :start escape '\\'", CustomerEntity.class)
+                .setParameter("start", escaped + "%")
+                .setParameter("word", "% " + escaped + "%")
+                .getResultStream()) {
+            candidates.map(entity -> CustomerSuggestion.matching(entity.toDomain(), folded))
+                    .filter(Objects::nonNull)
+                    .forEach(top::offer);
+        }
+        return Optional.of(top.sortedFrom(0));
+    }
+
+    /**
+     * Deleted rows leave nothing behind to report as tombstones, so the database cannot serve a
+     * change feed.
+     */
+    @Override
+    public Optional<CustomerChanges> findChangesSince(ChangeToken since, int limit) {
+        return Optional.empty();
+    }
+
+    /**
+     * Other application instances writing to the same database would bypass an in-process log, so
+     * none is kept.
+     */
+    @Override
+    public Optional<CustomerEventLog> eventLog() {
+        return Optional.empty();
+    }
+
+    private void countBy(CustomerJpqlQuery filtered, String column, AddressField field, CustomerFacets.Counter counter) {
+        List<Object[]> rows = filtered.bindTo(entityManager.createQuery(filtered.countBy(column), Object[].class))
+                .getResultList();
+        for (Object[] row : rows) {
+            counter.add(field, (String) row[0], (Long) row[1]);
+        }
+    }
+
+    private List<Customer> fetchBatchAfter(UUID lastId) {
+        TypedQuery<CustomerEntity> query = lastId == null
+                ? entityManager.createQuery("select c from CustomerEntity c order by c.id", CustomerEntity.class)
+                : entityManager.createQuery("select c from CustomerEntity c where c.id > :id order by c.id",
+                        CustomerEntity.class).setParameter("id", lastId);
+        return page(query, 0, STREAM_BATCH_SIZE);
+    }
+
+    private static List<Customer> page(TypedQuery<CustomerEntity> query, long offset, int limit) {
+        return query.setFirstResult((int) Math.min(offset, Integer.MAX_VALUE))
+                .setMaxResults(limit)
+                .getResultList().stream()
+                .map(CustomerEntity::toDomain)
+                .toList();
+    }
+}
@@ -0,0 +1,206 @@
+package com.example.customermanagement.infrastructure.persistence.snapshot;
+
+import com.example.customermanagement.domain.model.Address;
+import com.example.customermanagement.domain.model.Customer;
+import com.example.customermanagement.infrastructure.persistence.DirectorySync;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
+import java.util.zip.CRC32;
+
+/**
+ * Point-in-time image of every customer, used to skip replaying the write-ahead log from the start.
+ *
+ * <p>Layout: a fixed header ({@code magic, version, coveredSegment, customerCount, indexOffset}),
+ * then blocks of up to {@value #BLOCK_SIZE} encoded customers, then a block index of
+ * {@code (offset, length, count, crc32)} entries. Blocks are independent, so loading maps each one
+ * read-only and decodes them in parallel. Files are written to a temporary sibling and atomically
+ * moved into place, so a crash never leaves a partial snapshot behind, and the directory is synced
+ * before {@link #write} returns, so the log segments the snapshot covers can be deleted safely.
+ */
+public final class SnapshotFile {
+
+    static final int BLOCK_SIZE = 16_384;
+
+    private static final int MAGIC = 0x43534E50;
+    private static final int VERSION = 1;
+    private static final int HEADER_BYTES = Integer.BYTES * 2 + Long.BYTES * 3;
+    private static final int INDEX_ENTRY_BYTES = Long.BYTES + Integer.BYTES * 3;
+
+    private SnapshotFile() {
+    }
+
+    /**
+     * Writes {@code customers} to {@code path}, recording that the snapshot covers every write-ahead
+     * log segment up to and including {@code coveredSegment}.
+     */
+    public static void write(Path path, List<Customer> customers, long coveredSegment) throws IOException {
+        Path temporary = path.resolveSibling(path.getFileName() + ".tmp");
+        Files.createDirectories(path.toAbsolutePath().getParent());
+
+        try (FileChannel channel = FileChannel.open(temporary,
+                StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            channel.position(HEADER_BYTES);
+            ByteBuffer index = ByteBuffer.allocate(Integer.BYTES
+                    + INDEX_ENTRY_BYTES * ((customers.size() + BLOCK_SIZE - 1) / BLOCK_SIZE));
+            index.putInt((customers.size() + BLOCK_SIZE - 1) / BLOCK_SIZE);
+
+            for (int from = 0; from < customers.size(); from += BLOCK_SIZE) {
+                List<Customer> block = customers.subList(from, Math.min(from + BLOCK_SIZE, customers.size()));
+                byte[] bytes = encodeBlock(block);
+                CRC32 crc = new CRC32();
+                crc.update(bytes);
+                index.putLong(channel.position()).putInt(bytes.length).putInt(block.size()).putInt((int) crc.getValue());
+                writeFully(channel, ByteBuffer.wrap(bytes));
+            }
+
+            long indexOffset = channel.position();
+            writeFully(channel, index.flip());
+
+            ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES)
+                    .putInt(MAGIC)
+                    .putInt(VERSION)
+                    .putLong(coveredSegment)
+                    .putLong(customers.size())
+                    .putLong(indexOffset)
+                    .flip();
+            channel.position(0);
+            writeFully(channel, header);
+            channel.force(true);
+        }
+        Files.move(temporary, path, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        DirectorySync.forceParentOf(path);
+    }
+
+    /**
+     * Decodes every customer in the snapshot in parallel and hands each to {@code sink}, which is
+     * called concurrently from several threads. Returns the last write-ahead log segment the
+     * snapshot covers, or 0 when there is no snapshot at {@code path}.
+     */
+    public static long load(Path path, Consumer<Customer> sink) throws IOException {
+        if (!Files.exists(path)) {
+            return 0;
+        }
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            MappedByteBuffer header = channel.map(FileChannel.MapMode.READ_ONLY, 0, HEADER_BYTES);
+            if (header.getInt() != MAGIC || header.getInt() != VERSION) {
+                throw new IOException("Not a customer snapshot: " + path);
+            }
+            long coveredSegment = header.getLong();
+            header.getLong();
+            long indexOffset = header.getLong();
+
+            MappedByteBuffer index = channel.map(FileChannel.MapMode.READ_ONLY, indexOffset, channel.size() - indexOffset);
+            int blockCount = index.getInt();
+            long[] offsets = new long[blockCount];
+            int[] lengths = new int[blockCount];
+            int[] counts = new int[blockCount];
+            int[] checksums = new int[blockCount];
+            for (int i = 0; i < blockCount; i++) {
+                offsets[i] = index.getLong();
+                lengths[i] = index.getInt();
+                counts[i] = index.getInt();
+                checksums[i] = index.getInt();
+            }
+
+            try {
+                IntStream.range(0, blockCount).parallel().forEach(i -> {
+                    try {
+                        MappedByteBuffer block = channel.map(FileChannel.MapMode.READ_ONLY, offsets[i], lengths[i]);
+                        CRC32 crc = new CRC32();
+                        crc.update(block.duplicate());
+                        if ((int) crc.getValue() != checksums[i]) {
+                            throw new IOException("Corrupt snapshot block " + i + " in " + path);
+                        }
+                        for (int c = 0; c < counts[i]; c++) {
+                            sink.accept(decodeCustomer(block));
+                        }
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+            return coveredSegment;
+        }
+    }
+
+    private static byte[] encodeBlock(List<Customer> customers) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(customers.size() * 160);
+        DataOutputStream out = new DataOutputStream(bytes);
+        for (Customer customer : customers) {
+            out.writeLong(customer.getId().getMostSignificantBits());
+            out.writeLong(customer.getId().getLeastSignificantBits());
+            writeTimestamp(out, customer.getCreatedAt());
+            writeTimestamp(out, customer.getUpdatedAt());
+            writeString(out, customer.getName());
+            writeString(out, customer.getEmail());
+            writeString(out, customer.getPhone());
+            Address address = customer.getAddress();
+            writeString(out, address.getStreet());
+            writeString(out, address.getCity());
+            writeString(out, address.getState());
+            writeString(out, address.getZipCode());
+            writeString(out, address.getCountry());
+        }
+        return bytes.toByteArray();
+    }
+
+    private static Customer decodeCustomer(ByteBuffer in) {
+        UUID id = new UUID(in.getLong(), in.getLong());
+        LocalDateTime createdAt = readTimestamp(in);
+        LocalDateTime updatedAt = readTimestamp(in);
+        String name = readString(in);
+        String email = readString(in);
+        String phone = readString(in);
+        Address address = new Address(readString(in), readString(in), readString(in), readString(in), readString(in));
+        Customer customer = new Customer(id, name, email, phone, address);
+        customer.setCreatedAt(createdAt);
+        customer.setUpdatedAt(updatedAt);
+        return customer;
+    }
+
+    private static void writeTimestamp(DataOutputStream out, LocalDateTime timestamp) throws IOException {
+        out.writeLong(timestamp.toEpochSecond(ZoneOffset.UTC));
+        out.writeInt(timestamp.getNano());
+    }
+
+    private static LocalDateTime readTimestamp(ByteBuffer in) {
+        return LocalDateTime.ofEpochSecond(in.getLong(), in.getInt(), ZoneOffset.UTC);
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(ByteBuffer in) {
+        byte[] bytes = new byte[in.getInt()];
+        in.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static void writeFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+}
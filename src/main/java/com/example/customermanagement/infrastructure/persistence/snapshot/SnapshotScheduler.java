@@ -0,0 +1,30 @@
+package com.example.customermanagement.infrastructure.persistence.snapshot;
+
+import com.example.customermanagement.infrastructure.persistence.InMemoryCustomerRepository;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.context.annotation.Profile;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Periodically snapshots the durable customer store so restarts replay only a short log tail.
+ * Active under the same conditions as the single in-memory store, which is the only one with a log.
+ */
+@Component
+@Profile("!jpa")
+@ConditionalOnExpression("${customer.repository.wal.enabled:false} and !${customer.repository.sharded.enabled:false}")
+public class SnapshotScheduler {
+
+    private final InMemoryCustomerRepository customerRepository;
+
+    public SnapshotScheduler(InMemoryCustomerRepository customerRepository) {
+        this.customerRepository = customerRepository;
+    }
+
+    @Scheduled(
+            initialDelayString = "${customer.repository.snapshot.interval-ms:600000}",
+            fixedDelayString = "${customer.repository.snapshot.interval-ms:600000}")
+    public void snapshot() {
+        customerRepository.snapshot();
+    }
+}
@@ -0,0 +1,24 @@
+package com.example.customermanagement.infrastructure.persistence.wal;
+
+import com.example.customermanagement.domain.model.Customer;
+
+import java.util.UUID;
+
+/**
+ * A single logged mutation. PUT carries the full customer state after a save or update,
+ * DELETE carries only the id.
+ */
+public record WalRecord(Type type, UUID id, Customer customer) {
+
+    public enum Type {
+        PUT, DELETE
+    }
+
+    public static WalRecord put(Customer customer) {
+        return new WalRecord(Type.PUT, customer.getId(), customer);
+    }
+
+    public static WalRecord delete(UUID id) {
+        return new WalRecord(Type.DELETE, id, null);
+    }
+}
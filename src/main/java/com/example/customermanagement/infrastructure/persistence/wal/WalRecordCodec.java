@@ -0,0 +1,75 @@
+package com.example.customermanagement.infrastructure.persistence.wal;
+
+import com.example.customermanagement.domain.model.Address;
+import com.example.customermanagement.domain.model.Customer;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.UUID;
+
+/**
+ * Binary payload encoding for {@link WalRecord}: a type byte, the id as two longs and, for PUT,
+ * both timestamps as epoch second/nano pairs followed by the customer and address fields as
+ * modified UTF-8 strings.
+ */
+final class WalRecordCodec {
+
+    private WalRecordCodec() {
+    }
+
+    static byte[] encode(WalRecord record) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(128);
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.writeByte(record.type().ordinal());
+        out.writeLong(record.id().getMostSignificantBits());
+        out.writeLong(record.id().getLeastSignificantBits());
+        if (record.type() == WalRecord.Type.PUT) {
+            Customer customer = record.customer();
+            writeTimestamp(out, customer.getCreatedAt());
+            writeTimestamp(out, customer.getUpdatedAt());
+            out.writeUTF(customer.getName());
+            out.writeUTF(customer.getEmail());
+            out.writeUTF(customer.getPhone());
+            Address address = customer.getAddress();
+            out.writeUTF(address.getStreet());
+            out.writeUTF(address.getCity());
+            out.writeUTF(address.getState());
+            out.writeUTF(address.getZipCode());
+            out.writeUTF(address.getCountry());
+        }
+        return bytes.toByteArray();
+    }
+
+    static WalRecord decode(byte[] payload) throws IOException {
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(payload));
+        WalRecord.Type type = WalRecord.Type.values()[in.readUnsignedByte()];
+        UUID id = new UUID(in.readLong(), in.readLong());
+        if (type == WalRecord.Type.DELETE) {
+            return WalRecord.delete(id);
+        }
+        LocalDateTime createdAt = readTimestamp(in);
+        LocalDateTime updatedAt = readTimestamp(in);
+        String name = in.readUTF();
+        String email = in.readUTF();
+        String phone = in.readUTF();
+        Address address = new Address(in.readUTF(), in.readUTF(), in.readUTF(), in.readUTF(), in.readUTF());
+        Customer customer = new Customer(id, name, email, phone, address);
+        customer.setCreatedAt(createdAt);
+        customer.setUpdatedAt(updatedAt);
+        return WalRecord.put(customer);
+    }
+
+    private static void writeTimestamp(DataOutputStream out, LocalDateTime timestamp) throws IOException {
+        out.writeLong(timestamp.toEpochSecond(ZoneOffset.UTC));
+        out.writeInt(timestamp.getNano());
+    }
+
+    private static LocalDateTime readTimestamp(DataInputStream in) throws IOException {
+        return LocalDateTime.ofEpochSecond(in.readLong(), in.readInt(), ZoneOffset.UTC);
+    }
+}
@@ -0,0 +1,22 @@
+package com.example.customermanagement.infrastructure.persistence.wal;
+
+/**
+ * Point-in-time counters of a {@link WriteAheadLog}. Throughput is measured over the time the
+ * log has been open; fsync latency covers every force issued since then.
+ */
+public record WalStats(
+        long recordsAppended,
+        long bytesAppended,
+        long fsyncCount,
+        double recordsPerSecond,
+        double averageFsyncMicros,
+        double maxFsyncMicros) {
+
+    /**
+     * Average number of records made durable by a single fsync; above 1 when group commit is
+     * batching concurrent writers.
+     */
+    public double recordsPerFsync() {
+        return fsyncCount == 0 ? 0 : (double) recordsAppended / fsyncCount;
+    }
+}
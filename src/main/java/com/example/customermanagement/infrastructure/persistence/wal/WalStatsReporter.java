@@ -0,0 +1,38 @@
+package com.example.customermanagement.infrastructure.persistence.wal;
+
+import com.example.customermanagement.infrastructure.persistence.InMemoryCustomerRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.context.annotation.Profile;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Periodically logs the durable customer store's write-ahead log throughput and fsync latency.
+ */
+@Component
+@Profile("!jpa")
+@ConditionalOnExpression("${customer.repository.wal.enabled:false} and !${customer.repository.sharded.enabled:false}")
+public class WalStatsReporter {
+
+    private static final Logger log = LoggerFactory.getLogger(WalStatsReporter.class);
+
+    private final InMemoryCustomerRepository customerRepository;
+
+    public WalStatsReporter(InMemoryCustomerRepository customerRepository) {
+        this.customerRepository = customerRepository;
+    }
+
+    @Scheduled(
+            initialDelayString = "${customer.repository.wal.stats-interval-ms:60000}",
+            fixedDelayString = "${customer.repository.wal.stats-interval-ms:60000}")
+    public void report() {
+        customerRepository.walStats().ifPresent(stats -> log.info(
+                "Write-ahead log: {} records ({} bytes), {} records/s, {} fsyncs ({} records/fsync), "
+                        + "fsync avg {} us, max {} us",
+                stats.recordsAppended(), stats.bytesAppended(), String.format("%.1f", stats.recordsPerSecond()),
+                stats.fsyncCount(), String.format("%.1f", stats.recordsPerFsync()),
+                String.format("%.0f", stats.averageFsyncMicros()), String.format("%.0f", stats.maxFsyncMicros())));
+    }
+}
@@ -0,0 +1,331 @@
+package com.example.customermanagement.infrastructure.persistence.wal;
+
+import com.example.customermanagement.infrastructure.persistence.DirectorySync;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+/**
+ * Append-only log of customer mutations backed by a single file.
+ *
+ * <p>Each record is framed as {@code [int length][int crc32][payload]}. Appends are ordered by the
+ * caller and only buffered into the page cache; {@link #awaitDurable(long)} then forces the file.
+ * Concurrent waiters share fsyncs: whichever thread gets the sync lock first forces everything
+ * appended so far, and the others find their sequence already durable when they get the lock.
+ *
+ * <p>On open the existing file is replayed in order. A torn or corrupt tail, left behind by a
+ * crash in the middle of an append, is truncated so new records follow the last good one. A write
+ * that fails while the process keeps running is cut off the same way before the append throws, so
+ * no later record is appended behind a torn frame. A failed fsync cannot be undone like that: the
+ * records it covered may already be visible to the caller, and the kernel may have dropped their
+ * dirty pages, so the log cuts itself back to the last durable record and rejects every later
+ * append and sync until it is reopened.
+ *
+ * <p>{@link #rotate()} seals the active file as a numbered segment ({@code <name>.<n>}) and starts
+ * a fresh one, so a snapshot taken at that point only needs the records appended afterwards.
+ * Sealed segments are replayed before the active file until they are discarded.
+ */
+public class WriteAheadLog implements AutoCloseable {
+
+    private static final int HEADER_BYTES = Integer.BYTES * 2;
+    private static final int MAX_RECORD_BYTES = 1 << 20;
+
+    private final Path path;
+    private final Object appendLock = new Object();
+    private final Object syncLock = new Object();
+    private final long openedAtNanos = System.nanoTime();
+
+    private FileChannel channel;
+    private long lastSegment;
+    private long appendedSequence;
+    private long appendedBytes;
+    private long durableBytes;
+    private volatile long durableSequence;
+    private volatile IOException failure;
+
+    private long recordsAppended;
+    private long bytesAppended;
+    private long fsyncCount;
+    private long fsyncNanosTotal;
+    private long fsyncNanosMax;
+
+    private WriteAheadLog(Path path, FileChannel channel, long lastSegment, long validBytes) {
+        this.path = path;
+        this.channel = channel;
+        this.lastSegment = lastSegment;
+        this.appendedBytes = validBytes;
+        this.durableBytes = validBytes;
+    }
+
+    /**
+     * Opens (or creates) the log at {@code path}, passing every intact record to {@code replayer}
+     * in append order before returning.
+     */
+    public static WriteAheadLog open(Path path, Consumer<WalRecord> replayer) throws IOException {
+        return open(path, 0, replayer);
+    }
+
+    /**
+     * Opens the log like {@link #open(Path, Consumer)}, skipping sealed segments numbered
+     * {@code coveredSegment} or lower because a snapshot already contains their records.
+     */
+    public static WriteAheadLog open(Path path, long coveredSegment, Consumer<WalRecord> replayer) throws IOException {
+        path = path.toAbsolutePath();
+        Files.createDirectories(path.getParent());
+
+        List<Long> segments = segments(path);
+        for (long segment : segments) {
+            if (segment > coveredSegment) {
+                try (FileChannel sealed = FileChannel.open(segmentPath(path, segment), StandardOpenOption.READ)) {
+                    replay(sealed, replayer);
+                }
+            }
+        }
+        long lastSegment = Math.max(coveredSegment, segments.isEmpty() ? 0 : segments.getLast());
+
+        FileChannel channel = FileChannel.open(path,
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            long validBytes = replay(channel, replayer);
+            if (validBytes < channel.size()) {
+                channel.truncate(validBytes);
+                channel.force(true);
+            }
+            channel.position(validBytes);
+            return new WriteAheadLog(path, channel, lastSegment, validBytes);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Appends a record and returns its sequence number. The record is not durable until
+     * {@link #awaitDurable(long)} returns for that sequence. If the write fails the file is cut back
+     * to where the record started; if even that fails the log is marked failed.
+     */
+    public long append(WalRecord record) throws IOException {
+        byte[] payload = WalRecordCodec.encode(record);
+        ByteBuffer frame = ByteBuffer.allocate(HEADER_BYTES + payload.length);
+        frame.putInt(payload.length).putInt(checksum(payload)).put(payload).flip();
+
+        synchronized (appendLock) {
+            checkNotFailed();
+            try {
+                while (frame.hasRemaining()) {
+                    channel.write(frame);
+                }
+            } catch (IOException e) {
+                try {
+                    cutBackTo(appendedBytes);
+                } catch (IOException truncateFailure) {
+                    e.addSuppressed(truncateFailure);
+                    failure = e;
+                }
+                throw e;
+            }
+            appendedBytes += frame.limit();
+            recordsAppended++;
+            bytesAppended += frame.limit();
+            return ++appendedSequence;
+        }
+    }
+
+    /**
+     * Blocks until every record up to and including {@code sequence} has been forced to disk.
+     *
+     * @throws IOException if the fsync fails, after which the log is failed for good
+     */
+    public void awaitDurable(long sequence) throws IOException {
+        if (durableSequence >= sequence) {
+            return;
+        }
+        synchronized (syncLock) {
+            if (durableSequence >= sequence) {
+                return;
+            }
+            checkNotFailed();
+            long target;
+            long targetBytes;
+            synchronized (appendLock) {
+                target = appendedSequence;
+                targetBytes = appendedBytes;
+            }
+            long start = System.nanoTime();
+            try {
+                channel.force(false);
+            } catch (IOException e) {
+                synchronized (appendLock) {
+                    failure = e;
+                    try {
+                        cutBackTo(durableBytes);
+                        channel.force(false);
+                    } catch (IOException truncateFailure) {
+                        e.addSuppressed(truncateFailure);
+                    }
+                }
+                throw e;
+            }
+            long elapsed = System.nanoTime() - start;
+
+            fsyncCount++;
+            fsyncNanosTotal += elapsed;
+            fsyncNanosMax = Math.max(fsyncNanosMax, elapsed);
+            durableBytes = targetBytes;
+            durableSequence = target;
+        }
+    }
+
+    /**
+     * Forces and seals the active file as the next numbered segment and continues appending to a
+     * fresh file, syncing the directory so neither the rename nor the new file can be lost in a
+     * crash. Returns the number of the sealed segment. Callers must not append concurrently
+     * if they need the returned segment to mark a consistent cut.
+     */
+    public long rotate() throws IOException {
+        synchronized (syncLock) {
+            synchronized (appendLock) {
+                checkNotFailed();
+                channel.force(false);
+                channel.close();
+                long segment = ++lastSegment;
+                Files.move(path, segmentPath(path, segment), StandardCopyOption.ATOMIC_MOVE);
+                channel = FileChannel.open(path,
+                        StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE);
+                DirectorySync.forceParentOf(path);
+                appendedBytes = 0;
+                durableBytes = 0;
+                durableSequence = appendedSequence;
+                return segment;
+            }
+        }
+    }
+
+    /**
+     * Deletes sealed segments numbered {@code segment} or lower once a snapshot covers them.
+     */
+    public void discardSegmentsThrough(long segment) throws IOException {
+        for (long sealed : segments(path)) {
+            if (sealed <= segment) {
+                Files.deleteIfExists(segmentPath(path, sealed));
+            }
+        }
+    }
+
+    public WalStats stats() {
+        long records;
+        long bytes;
+        synchronized (appendLock) {
+            records = recordsAppended;
+            bytes = bytesAppended;
+        }
+        synchronized (syncLock) {
+            double seconds = (System.nanoTime() - openedAtNanos) / 1_000_000_000.0;
+            return new WalStats(
+                    records,
+                    bytes,
+                    fsyncCount,
+                    seconds > 0 ? records / seconds : 0,
+                    fsyncCount == 0 ? 0 : fsyncNanosTotal / 1_000.0 / fsyncCount,
+                    fsyncNanosMax / 1_000.0);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        synchronized (syncLock) {
+            synchronized (appendLock) {
+                if (channel.isOpen()) {
+                    try {
+                        if (failure == null) {
+                            channel.force(false);
+                        }
+                    } finally {
+                        channel.close();
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Whether an earlier failure left the log refusing writes.
+     */
+    public boolean failed() {
+        return failure != null;
+    }
+
+    private void checkNotFailed() throws IOException {
+        IOException cause = failure;
+        if (cause != null) {
+            throw new IOException("Write-ahead log failed earlier and accepts no more writes until reopened", cause);
+        }
+    }
+
+    private void cutBackTo(long bytes) throws IOException {
+        channel.truncate(bytes);
+        channel.position(bytes);
+    }
+
+    private static long replay(FileChannel channel, Consumer<WalRecord> replayer) throws IOException {
+        channel.position(0);
+        DataInputStream in = new DataInputStream(new BufferedInputStream(Channels.newInputStream(channel), 1 << 16));
+        long validBytes = 0;
+        while (true) {
+            byte[] payload;
+            try {
+                int length = in.readInt();
+                int crc = in.readInt();
+                if (length <= 0 || length > MAX_RECORD_BYTES) {
+                    return validBytes;
+                }
+                payload = new byte[length];
+                in.readFully(payload);
+                if (checksum(payload) != crc) {
+                    return validBytes;
+                }
+            } catch (EOFException e) {
+                return validBytes;
+            }
+            replayer.accept(WalRecordCodec.decode(payload));
+            validBytes += HEADER_BYTES + payload.length;
+        }
+    }
+
+    private static List<Long> segments(Path path) throws IOException {
+        String prefix = path.getFileName() + ".";
+        try (Stream<Path> files = Files.list(path.getParent())) {
+            return files
+                    .map(file -> file.getFileName().toString())
+                    .filter(name -> name.startsWith(prefix) && name.length() > prefix.length())
+                    .map(name -> name.substring(prefix.length()))
+                    .filter(suffix -> suffix.chars().allMatch(Character::isDigit))
+                    .map(Long::parseLong)
+                    .sorted()
+                    .toList();
+        }
+    }
+
+    private static Path segmentPath(Path path, long segment) {
+        return path.resolveSibling(path.getFileName() + "." + segment);
+    }
+
+    private static int checksum(byte[] payload) {
+        CRC32 crc = new CRC32();
+        crc.update(payload);
+        return (int) crc.getValue();
+    }
+}
@@ -2,13 +2,19 @@ package com.example.customermanagement.web.controller;
 
 import com.example.customermanagement.application.facade.CustomerFacade;
 import com.example.customermanagement.web.dto.common.PageResponseDTO;
+import com.example.customermanagement.web.dto.customer.CustomerChangesResponseDTO;
+import com.example.customermanagement.web.dto.customer.CustomerEventsResponseDTO;
+import com.example.customermanagement.web.dto.customer.CustomerFacetsResponseDTO;
 import com.example.customermanagement.web.dto.customer.CustomerPatchRequestDTO;
 import com.example.customermanagement.web.dto.customer.CustomerRequestDTO;
 import com.example.customermanagement.web.dto.customer.CustomerResponseDTO;
+import com.example.customermanagement.web.dto.customer.CustomerSuggestionDTO;
 import jakarta.validation.Valid;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.List;
 import java.util.UUID;
@@ -45,11 +51,12 @@ public class CustomerController {
             @RequestParam(required = false) String createdBefore,
             @RequestParam(required = false) String updatedAfter,
             @RequestParam(required = false) String updatedBefore,
-            @RequestParam(required = false) List<String> sort) {
+            @RequestParam(required = false) List<String> sort,
+            @RequestParam(required = false) String cursor) {
         
         return customerFacade.getAllCustomersWithFiltering(
             page, size, search, name, email, phone, city, state, country, zipCode,
-            createdAfter, createdBefore, updatedAfter, updatedBefore, sort
+            createdAfter, createdBefore, updatedAfter, updatedBefore, sort, cursor
         );
     }
 
@@ -86,7 +93,10 @@ public class CustomerController {
     @GetMapping("/search")
     public ResponseEntity<PageResponseDTO<CustomerResponseDTO>> searchCustomers(
             @RequestParam(required = false) String search,
+            @RequestParam(required = false) String q,
             @RequestParam(required = false) String name,
+            @RequestParam(required = false) String nameMatch,
+            @RequestParam(required = false) Integer maxEdits,
             @RequestParam(required = false) String email,
             @RequestParam(required = false) String phone,
             @RequestParam(required = false) String city,
@@ -98,15 +108,81 @@ public class CustomerController {
             @RequestParam(required = false) String updatedAfter,
             @RequestParam(required = false) String updatedBefore,
             @RequestParam(required = false) List<String> sort,
+            @RequestParam(required = false) String cursor,
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "20") int size) {
         
         PageResponseDTO<CustomerResponseDTO> result = customerFacade.searchCustomers(
-            search, name, email, phone, city, state, country, zipCode,
+            search, q, name, nameMatch, maxEdits, email, phone, city, state, country, zipCode,
             createdAfter, createdBefore, updatedAfter, updatedBefore,
-            sort, page, size
+            sort, cursor, page, size
         );
         
         return ResponseEntity.ok(result);
     }
+
+    @GetMapping("/facets")
+    public ResponseEntity<CustomerFacetsResponseDTO> getCustomerFacets(
+            @RequestParam(required = false) String search,
+            @RequestParam(required = false) String q,
+            @RequestParam(required = false) String name,
+            @RequestParam(required = false) String nameMatch,
+            @RequestParam(required = false) Integer maxEdits,
+            @RequestParam(required = false) String email,
+            @RequestParam(required = false) String phone,
+            @RequestParam(required = false) String city,
+            @RequestParam(required = false) String state,
+            @RequestParam(required = false) String country,
+            @RequestParam(required = false) String zipCode,
+            @RequestParam(required = false) String createdAfter,
+            @RequestParam(required = false) String createdBefore,
+            @RequestParam(required = false) String updatedAfter,
+            @RequestParam(required = false) String updatedBefore,
+            @RequestParam(defaultValue = "3") int zipPrefixLength,
+            @RequestParam(defaultValue = "100") int limit) {
+
+        CustomerFacetsResponseDTO result = customerFacade.getFacets(
+            search, q, name, nameMatch, maxEdits, email, phone, city, state, country, zipCode,
+            createdAfter, createdBefore, updatedAfter, updatedBefore,
+            zipPrefixLength, limit
+        );
+
+        return ResponseEntity.ok(result);
+    }
+
+    @GetMapping("/suggest")
+    public ResponseEntity<List<CustomerSuggestionDTO>> suggestCustomers(
+            @RequestParam String q,
+            @RequestParam(defaultValue = "10") int limit) {
+
+        return ResponseEntity.ok(customerFacade.suggestCustomers(q, limit));
+    }
+
+    @GetMapping("/changes")
+    public ResponseEntity<CustomerChangesResponseDTO> getCustomerChanges(
+            @RequestParam(required = false) String since,
+            @RequestParam(defaultValue = "100") int limit) {
+
+        return ResponseEntity.ok(customerFacade.getChanges(since, limit));
+    }
+
+    @GetMapping("/events")
+    public ResponseEntity<CustomerEventsResponseDTO> getCustomerEvents(
+            @RequestParam(required = false) Long after,
+            @RequestParam(required = false) Long epoch,
+            @RequestParam(defaultValue = "100") int limit,
+            @RequestParam(defaultValue = "0") int waitSeconds) {
+
+        return ResponseEntity.ok(customerFacade.getEvents(after, epoch, limit, waitSeconds));
+    }
+
+    @GetMapping(value = "/events/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamCustomerEvents(
+            @RequestParam(required = false) Long after,
+            @RequestParam(required = false) Long epoch,
+            @RequestHeader(value = "Last-Event-ID", required = false) Long lastEventId) {
+
+        // A reconnecting EventSource repeats the original URL, so the id it last saw takes precedence
+        return customerFacade.streamEvents(lastEventId != null ? lastEventId : after, epoch);
+    }
 }
@@ -8,6 +8,7 @@ public class PageResponseDTO<T> {
     private int size;
     private long totalElements;
     private int totalPages;
+    private String nextCursor;
 
     public PageResponseDTO() {
     }
@@ -20,6 +21,11 @@ public class PageResponseDTO<T> {
         this.totalPages = (int) Math.ceil((double) totalElements / size);
     }
 
+    public PageResponseDTO(List<T> content, int page, int size, long totalElements, String nextCursor) {
+        this(content, page, size, totalElements);
+        this.nextCursor = nextCursor;
+    }
+
     public List<T> getContent() {
         return content;
     }
@@ -59,4 +65,12 @@ public class PageResponseDTO<T> {
     public void setTotalPages(int totalPages) {
         this.totalPages = totalPages;
     }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public void setNextCursor(String nextCursor) {
+        this.nextCursor = nextCursor;
+    }
 }
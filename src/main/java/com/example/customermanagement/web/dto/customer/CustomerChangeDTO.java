@@ -0,0 +1,53 @@
+package com.example.customermanagement.web.dto.customer;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public class CustomerChangeDTO {
+    private UUID id;
+    private String type;
+    private LocalDateTime changedAt;
+    private CustomerResponseDTO customer;
+
+    public CustomerChangeDTO() {
+    }
+
+    public CustomerChangeDTO(UUID id, String type, LocalDateTime changedAt, CustomerResponseDTO customer) {
+        this.id = id;
+        this.type = type;
+        this.changedAt = changedAt;
+        this.customer = customer;
+    }
+
+    public UUID getId() {
+        return id;
+    }
+
+    public void setId(UUID id) {
+        this.id = id;
+    }
+
+    public String getType() {
+        return type;
+    }
+
+    public void setType(String type) {
+        this.type = type;
+    }
+
+    public LocalDateTime getChangedAt() {
+        return changedAt;
+    }
+
+    public void setChangedAt(LocalDateTime changedAt) {
+        this.changedAt = changedAt;
+    }
+
+    public CustomerResponseDTO getCustomer() {
+        return customer;
+    }
+
+    public void setCustomer(CustomerResponseDTO customer) {
+        this.customer = customer;
+    }
+}
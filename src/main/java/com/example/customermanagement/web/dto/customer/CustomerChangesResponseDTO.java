@@ -0,0 +1,42 @@
+package com.example.customermanagement.web.dto.customer;
+
+import java.util.List;
+
+public class CustomerChangesResponseDTO {
+    private List<CustomerChangeDTO> changes;
+    private String nextToken;
+    private boolean hasMore;
+
+    public CustomerChangesResponseDTO() {
+    }
+
+    public CustomerChangesResponseDTO(List<CustomerChangeDTO> changes, String nextToken, boolean hasMore) {
+        this.changes = changes;
+        this.nextToken = nextToken;
+        this.hasMore = hasMore;
+    }
+
+    public List<CustomerChangeDTO> getChanges() {
+        return changes;
+    }
+
+    public void setChanges(List<CustomerChangeDTO> changes) {
+        this.changes = changes;
+    }
+
+    public String getNextToken() {
+        return nextToken;
+    }
+
+    public void setNextToken(String nextToken) {
+        this.nextToken = nextToken;
+    }
+
+    public boolean isHasMore() {
+        return hasMore;
+    }
+
+    public void setHasMore(boolean hasMore) {
+        this.hasMore = hasMore;
+    }
+}
@@ -0,0 +1,64 @@
+package com.example.customermanagement.web.dto.customer;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public class CustomerEventDTO {
+    private long sequence;
+    private String type;
+    private UUID customerId;
+    private LocalDateTime occurredAt;
+    private CustomerResponseDTO customer;
+
+    public CustomerEventDTO() {
+    }
+
+    public CustomerEventDTO(long sequence, String type, UUID customerId, LocalDateTime occurredAt,
+                            CustomerResponseDTO customer) {
+        this.sequence = sequence;
+        this.type = type;
+        this.customerId = customerId;
+        this.occurredAt = occurredAt;
+        this.customer = customer;
+    }
+
+    public long getSequence() {
+        return sequence;
+    }
+
+    public void setSequence(long sequence) {
+        this.sequence = sequence;
+    }
+
+    public String getType() {
+        return type;
+    }
+
+    public void setType(String type) {
+        this.type = type;
+    }
+
+    public UUID getCustomerId() {
+        return customerId;
+    }
+
+    public void setCustomerId(UUID customerId) {
+        this.customerId = customerId;
+    }
+
+    public LocalDateTime getOccurredAt() {
+        return occurredAt;
+    }
+
+    public void setOccurredAt(LocalDateTime occurredAt) {
+        this.occurredAt = occurredAt;
+    }
+
+    public CustomerResponseDTO getCustomer() {
+        return customer;
+    }
+
+    public void setCustomer(CustomerResponseDTO customer) {
+        this.customer = customer;
+    }
+}
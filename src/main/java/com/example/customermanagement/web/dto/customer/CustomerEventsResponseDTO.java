@@ -0,0 +1,52 @@
+package com.example.customermanagement.web.dto.customer;
+
+import java.util.List;
+
+public class CustomerEventsResponseDTO {
+    private long epoch;
+    private List<CustomerEventDTO> events;
+    private long lastSequence;
+    private long headSequence;
+
+    public CustomerEventsResponseDTO() {
+    }
+
+    public CustomerEventsResponseDTO(long epoch, List<CustomerEventDTO> events, long lastSequence, long headSequence) {
+        this.epoch = epoch;
+        this.events = events;
+        this.lastSequence = lastSequence;
+        this.headSequence = headSequence;
+    }
+
+    public long getEpoch() {
+        return epoch;
+    }
+
+    public void setEpoch(long epoch) {
+        this.epoch = epoch;
+    }
+
+    public List<CustomerEventDTO> getEvents() {
+        return events;
+    }
+
+    public void setEvents(List<CustomerEventDTO> events) {
+        this.events = events;
+    }
+
+    public long getLastSequence() {
+        return lastSequence;
+    }
+
+    public void setLastSequence(long lastSequence) {
+        this.lastSequence = lastSequence;
+    }
+
+    public long getHeadSequence() {
+        return headSequence;
+    }
+
+    public void setHeadSequence(long headSequence) {
+        this.headSequence = headSequence;
+    }
+}
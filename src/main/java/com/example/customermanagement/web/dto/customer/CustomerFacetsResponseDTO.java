@@ -0,0 +1,63 @@
+package com.example.customermanagement.web.dto.customer;
+
+import java.util.Map;
+
+public class CustomerFacetsResponseDTO {
+    private long total;
+    private Map<String, Long> countries;
+    private Map<String, Long> states;
+    private Map<String, Long> cities;
+    private Map<String, Long> zipCodePrefixes;
+
+    public CustomerFacetsResponseDTO() {
+    }
+
+    public CustomerFacetsResponseDTO(long total, Map<String, Long> countries, Map<String, Long> states,
+                                     Map<String, Long> cities, Map<String, Long> zipCodePrefixes) {
+        this.total = total;
+        this.countries = countries;
+        this.states = states;
+        this.cities = cities;
+        this.zipCodePrefixes = zipCodePrefixes;
+    }
+
+    public long getTotal() {
+        return total;
+    }
+
+    public void setTotal(long total) {
+        this.total = total;
+    }
+
+    public Map<String, Long> getCountries() {
+        return countries;
+    }
+
+    public void setCountries(Map<String, Long> countries) {
+        this.countries = countries;
+    }
+
+    public Map<String, Long> getStates() {
+        return states;
+    }
+
+    public void setStates(Map<String, Long> states) {
+        this.states = states;
+    }
+
+    public Map<String, Long> getCities() {
+        return cities;
+    }
+
+    public void setCities(Map<String, Long> cities) {
+        this.cities = cities;
+    }
+
+    public Map<String, Long> getZipCodePrefixes() {
+        return zipCodePrefixes;
+    }
+
+    public void setZipCodePrefixes(Map<String, Long> zipCodePrefixes) {
+        this.zipCodePrefixes = zipCodePrefixes;
+    }
+}
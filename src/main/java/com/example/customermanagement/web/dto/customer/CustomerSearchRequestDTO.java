@@ -13,7 +13,10 @@ import java.util.List;
 public class CustomerSearchRequestDTO {
     
     private String search;
+    private String q;
     private String name;
+    private String nameMatch;
+    private Integer maxEdits;
     private String email;
     private String phone;
     private String city;
@@ -31,6 +34,7 @@ public class CustomerSearchRequestDTO {
     private String updatedAfterString;
     private String updatedBeforeString;
     private List<String> sort;
+    private String cursor;
     
     @Min(value = 0, message = "Page number must be 0 or greater")
     private int page = 0;
@@ -51,6 +55,14 @@ public class CustomerSearchRequestDTO {
         this.search = search;
     }
     
+    public String getQ() {
+        return q;
+    }
+    
+    public void setQ(String q) {
+        this.q = q;
+    }
+    
     public String getName() {
         return name;
     }
@@ -59,6 +71,22 @@ public class CustomerSearchRequestDTO {
         this.name = name;
     }
     
+    public String getNameMatch() {
+        return nameMatch;
+    }
+    
+    public void setNameMatch(String nameMatch) {
+        this.nameMatch = nameMatch;
+    }
+    
+    public Integer getMaxEdits() {
+        return maxEdits;
+    }
+    
+    public void setMaxEdits(Integer maxEdits) {
+        this.maxEdits = maxEdits;
+    }
+    
     public String getEmail() {
         return email;
     }
@@ -147,6 +175,14 @@ public class CustomerSearchRequestDTO {
         this.sort = sort;
     }
     
+    public String getCursor() {
+        return cursor;
+    }
+    
+    public void setCursor(String cursor) {
+        this.cursor = cursor;
+    }
+    
     public int getPage() {
         return page;
     }
@@ -211,6 +247,7 @@ public class CustomerSearchRequestDTO {
                 ", updatedAfter=" + updatedAfter +
                 ", updatedBefore=" + updatedBefore +
                 ", sort=" + sort +
+                ", cursor='" + cursor + '\'' +
                 ", page=" + page +
                 ", size=" + size +
                 '}';
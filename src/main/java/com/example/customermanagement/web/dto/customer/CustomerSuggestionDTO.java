@@ -0,0 +1,42 @@
+package com.example.customermanagement.web.dto.customer;
+
+import java.util.UUID;
+
+public class CustomerSuggestionDTO {
+    private UUID id;
+    private String name;
+    private String email;
+
+    public CustomerSuggestionDTO() {
+    }
+
+    public CustomerSuggestionDTO(UUID id, String name, String email) {
+        this.id = id;
+        this.name = name;
+        this.email = email;
+    }
+
+    public UUID getId() {
+        return id;
+    }
+
+    public void setId(UUID id) {
+        this.id = id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public String getEmail() {
+        return email;
+    }
+
+    public void setEmail(String email) {
+        this.email = email;
+    }
+}
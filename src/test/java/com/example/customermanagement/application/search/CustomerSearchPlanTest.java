@@ -0,0 +1,116 @@
+package com.example.customermanagement.application.search;
+
+import com.example.customermanagement.domain.model.Address;
+import com.example.customermanagement.domain.model.Customer;
+import com.example.customermanagement.domain.model.CustomerSearchCriteria;
+import com.example.customermanagement.domain.model.CustomerSearchCriteria.SortCriteria;
+import com.example.customermanagement.domain.model.CustomerSearchCriteria.SortCriteria.SortDirection;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Customer Search Plan Tests")
+class CustomerSearchPlanTest {
+
+    private Customer customer;
+
+    @BeforeEach
+    void setUp() {
+        customer = new Customer("Priya Sharma", "priya@example.com", "+91-9876543210",
+                new Address("123 MG Road", "Mumbai", "Maharashtra", "400001", "India"));
+        customer.setCreatedAt(LocalDateTime.of(2024, 1, 1, 10, 0));
+        customer.setUpdatedAt(LocalDateTime.of(2024, 2, 1, 10, 0));
+    }
+
+    @Test
+    @DisplayName("Should keep only the filters the criteria set")
+    void shouldCompileOnlyActiveFilters() {
+        CustomerSearchPlan plan = CustomerSearchPlan.compile(CustomerSearchCriteria.builder()
+                .name("PRIYA")
+                .city("  ")
+                .createdBefore(LocalDateTime.of(2024, 1, 1, 10, 0))
+                .build());
+
+        assertEquals(2, plan.filterCount());
+        assertTrue(plan.matches(customer));
+        assertEquals(0, CustomerSearchPlan.compile(CustomerSearchCriteria.builder().build()).filterCount());
+    }
+
+    @Test
+    @DisplayName("Should reject customers failing any filter regardless of evaluation order")
+    void shouldRejectOnAnyFailingFilter() {
+        assertFalse(CustomerSearchPlan.compile(CustomerSearchCriteria.builder()
+                .searchText("sharma")
+                .country("japan")
+                .build()).matches(customer));
+        assertFalse(CustomerSearchPlan.compile(CustomerSearchCriteria.builder()
+                .email("priya")
+                .updatedAfter(LocalDateTime.of(2024, 2, 1, 10, 1))
+                .build()).matches(customer));
+        assertTrue(CustomerSearchPlan.compile(CustomerSearchCriteria.builder()
+                .searchText("MAHARASHTRA")
+                .zipCode("4000")
+                .updatedAfter(LocalDateTime.of(2024, 2, 1, 10, 0))
+                .build()).matches(customer));
+    }
+
+    @Test
+    @DisplayName("Should not match free text against the zip code")
+    void shouldNotMatchSearchTextOnZipCode() {
+        assertFalse(CustomerSearchPlan.compile(CustomerSearchCriteria.builder().searchText("400001").build())
+                .matches(customer));
+    }
+
+    @Test
+    @DisplayName("Should build the ordering from the sort criteria")
+    void shouldBuildOrdering() {
+        CustomerSearchPlan plan = CustomerSearchPlan.compile(CustomerSearchCriteria.builder()
+                .sortCriteria(List.of(new SortCriteria("Name", SortDirection.ASC)))
+                .build());
+
+        assertEquals("name:asc", plan.ordering().signature());
+        assertTrue(CustomerSearchPlan.compile(CustomerSearchCriteria.builder().build()).ordering().isNewestFirst());
+    }
+
+    @Test
+    @DisplayName("Should reuse one cached plan for criteria differing only in paging and case")
+    void shouldCacheByNormalizedCriteria() {
+        SearchPlanCache cache = new SearchPlanCache(2);
+        CustomerSearchPlan plan = cache.planFor(CustomerSearchCriteria.builder()
+                .city("Mumbai")
+                .sortCriteria(List.of(new SortCriteria("createdAt", SortDirection.DESC)))
+                .page(0)
+                .build());
+
+        assertSame(plan, cache.planFor(CustomerSearchCriteria.builder()
+                .city("MUMBAI")
+                .sortCriteria(List.of(new SortCriteria("createdat", SortDirection.DESC)))
+                .page(4)
+                .size(50)
+                .build()));
+        assertNotSame(plan, cache.planFor(CustomerSearchCriteria.builder().city("Pune").build()));
+        assertEquals(2, cache.size());
+    }
+
+    @Test
+    @DisplayName("Should evict the least recently used plan when full")
+    void shouldEvictLeastRecentlyUsed() {
+        SearchPlanCache cache = new SearchPlanCache(2);
+        CustomerSearchCriteria mumbai = CustomerSearchCriteria.builder().city("Mumbai").build();
+        CustomerSearchCriteria pune = CustomerSearchCriteria.builder().city("Pune").build();
+        CustomerSearchPlan mumbaiPlan = cache.planFor(mumbai);
+        CustomerSearchPlan punePlan = cache.planFor(pune);
+
+        cache.planFor(mumbai);
+        cache.planFor(CustomerSearchCriteria.builder().city("Delhi").build());
+
+        assertSame(mumbaiPlan, cache.planFor(mumbai));
+        assertNotSame(punePlan, cache.planFor(pune));
+        assertEquals(2, cache.size());
+    }
+}
@@ -0,0 +1,90 @@
+package com.example.customermanagement.application.search;
+
+import com.example.customermanagement.domain.exception.InvalidCustomerDataException;
+import com.example.customermanagement.domain.model.Address;
+import com.example.customermanagement.domain.model.Customer;
+import com.example.customermanagement.domain.model.CustomerSearchCriteria.SortCriteria;
+import com.example.customermanagement.domain.model.CustomerSearchCriteria.SortCriteria.SortDirection;
+import com.example.customermanagement.domain.model.PageCursor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Keyset Ordering Tests")
+class KeysetOrderingTest {
+
+    private List<Customer> customers;
+
+    @BeforeEach
+    void setUp() {
+        Address address = new Address("123 MG Road", "Mumbai", "Maharashtra", "400001", "India");
+        LocalDateTime base = LocalDateTime.of(2024, 1, 1, 10, 0);
+        customers = new ArrayList<>();
+        String[] names = {"Priya Sharma", "amit Patel", "Rajesh Kumar", "Amit Patel", "priya sharma"};
+        for (int i = 0; i < names.length; i++) {
+            Customer customer = new Customer(names[i], "customer" + i + "@example.com", "+91-987654321" + i, address);
+            customer.setCreatedAt(base.plusMinutes(i));
+            customers.add(customer);
+        }
+    }
+
+    @Test
+    @DisplayName("Should default to newest first by createdAt")
+    void shouldDefaultToNewestFirst() {
+        KeysetOrdering ordering = KeysetOrdering.of(List.of());
+
+        List<Customer> sorted = customers.stream().sorted(ordering.comparator()).toList();
+
+        assertEquals("createdat:desc", ordering.signature());
+        assertEquals(customers.getLast().getId(), sorted.getFirst().getId());
+        assertEquals(customers.getFirst().getId(), sorted.getLast().getId());
+    }
+
+    @Test
+    @DisplayName("Should walk every customer exactly once with cursors over a multi-field sort")
+    void shouldWalkEveryCustomerExactlyOnceWithCursors() {
+        KeysetOrdering ordering = KeysetOrdering.of(List.of(
+                new SortCriteria("name", SortDirection.ASC),
+                new SortCriteria("createdat", SortDirection.DESC)));
+        List<Customer> expected = customers.stream().sorted(ordering.comparator()).toList();
+
+        List<Customer> walked = new ArrayList<>();
+        PageCursor cursor = null;
+        while (walked.size() < customers.size()) {
+            Predicate<Customer> after = cursor == null ? customer -> true : ordering.after(cursor);
+            List<Customer> page = customers.stream()
+                    .filter(after)
+                    .sorted(ordering.comparator())
+                    .limit(2)
+                    .toList();
+            assertFalse(page.isEmpty());
+            walked.addAll(page);
+            cursor = ordering.cursorAt(page.getLast());
+        }
+
+        assertEquals(expected, walked);
+        assertTrue(customers.stream().noneMatch(ordering.after(ordering.cursorAt(expected.getLast()))));
+    }
+
+    @Test
+    @DisplayName("Should reject a cursor produced under a different sort")
+    void shouldRejectCursorFromDifferentSort() {
+        KeysetOrdering byName = KeysetOrdering.of(List.of(new SortCriteria("name", SortDirection.ASC)));
+        KeysetOrdering byEmail = KeysetOrdering.of(List.of(new SortCriteria("email", SortDirection.ASC)));
+        PageCursor cursor = byName.cursorAt(customers.getFirst());
+
+        InvalidCustomerDataException exception = assertThrows(
+                InvalidCustomerDataException.class,
+                () -> byEmail.after(cursor)
+        );
+
+        assertEquals("cursor", exception.getField());
+    }
+}
@@ -0,0 +1,104 @@
+package com.example.customermanagement.application.search;
+
+import com.example.customermanagement.domain.model.Address;
+import com.example.customermanagement.domain.model.Customer;
+import com.example.customermanagement.domain.model.CustomerSearchCriteria;
+import com.example.customermanagement.domain.model.CustomerSearchCriteria.SortCriteria;
+import com.example.customermanagement.domain.model.CustomerSearchCriteria.SortCriteria.SortDirection;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Measures heap allocated by the calling thread while a compiled plan scans and orders customers,
+ * which must not grow with the number of customers scanned.
+ */
+@DisplayName("Search Allocation Tests")
+class SearchAllocationTest {
+
+    private static final int CUSTOMERS = 20_000;
+    private static final long ALLOWED_BYTES = 4_096;
+
+    private Customer[] customers;
+    private com.sun.management.ThreadMXBean threads;
+
+    @BeforeEach
+    void setUp() {
+        assumeTrue(ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean);
+        threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        assumeTrue(threads.isThreadAllocatedMemorySupported());
+        threads.setThreadAllocatedMemoryEnabled(true);
+
+        String[] names = {"Priya Sharma", "AMIT Patel", "Rajesh Kumar", "Émile Zola"};
+        String[][] places = {
+            {"Mumbai", "Maharashtra", "400001", "India"},
+            {"Los Angeles", "CA", "90001", "United States"}
+        };
+        customers = new Customer[CUSTOMERS];
+        for (int i = 0; i < CUSTOMERS; i++) {
+            String[] place = places[i % places.length];
+            customers[i] = new Customer(names[i % names.length] + " " + i, "customer" + i + "@example.com",
+                "+91-9876543210", new Address(i + " Main St", place[0], place[1], place[2], place[3]));
+        }
+    }
+
+    @Test
+    @DisplayName("Should match every customer without allocating")
+    void shouldMatchWithoutAllocating() {
+        CustomerSearchPlan plan = CustomerSearchPlan.compile(CustomerSearchCriteria.builder()
+            .searchText("SHARMA")
+            .name("priya")
+            .city("MUM")
+            .country("india")
+            .build());
+
+        int matches = countMatches(plan);
+        long before = threads.getCurrentThreadAllocatedBytes();
+        matches = countMatches(plan);
+        long allocated = threads.getCurrentThreadAllocatedBytes() - before;
+
+        assertEquals(CUSTOMERS / 4, matches);
+        assertTrue(allocated < ALLOWED_BYTES, "Matching allocated " + allocated + " bytes");
+    }
+
+    @Test
+    @DisplayName("Should compare customers by text keys without allocating")
+    void shouldCompareWithoutAllocating() {
+        Comparator<Customer> order = KeysetOrdering.of(List.of(
+            new SortCriteria("name", SortDirection.ASC),
+            new SortCriteria("city", SortDirection.DESC))).comparator();
+
+        long sum = compareNeighbours(order);
+        long before = threads.getCurrentThreadAllocatedBytes();
+        sum += compareNeighbours(order);
+        long allocated = threads.getCurrentThreadAllocatedBytes() - before;
+
+        assertNotEquals(0, sum);
+        assertTrue(allocated < ALLOWED_BYTES, "Comparing allocated " + allocated + " bytes");
+    }
+
+    private int countMatches(CustomerSearchPlan plan) {
+        int matches = 0;
+        for (Customer customer : customers) {
+            if (plan.matches(customer)) {
+                matches++;
+            }
+        }
+        return matches;
+    }
+
+    private long compareNeighbours(Comparator<Customer> order) {
+        long sum = 0;
+        for (int i = 1; i < customers.length; i++) {
+            sum += Integer.signum(order.compare(customers[i - 1], customers[i]));
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,86 @@
+package com.example.customermanagement.application.search;
+
+import com.example.customermanagement.domain.model.Address;
+import com.example.customermanagement.domain.model.Customer;
+import com.example.customermanagement.domain.model.CustomerSlice;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Search Executor Tests")
+class SearchExecutorTest {
+
+    private static final Comparator<Customer> NEWEST_FIRST = Comparator
+            .comparing(Customer::getCreatedAt, Comparator.reverseOrder())
+            .thenComparing(Customer::getId);
+
+    private List<Customer> customers;
+    private SearchExecutor executor;
+
+    @BeforeEach
+    void setUp() {
+        customers = new ArrayList<>();
+        Address address = new Address("123 MG Road", "Mumbai", "Maharashtra", "400001", "India");
+        LocalDateTime base = LocalDateTime.of(2024, 1, 1, 10, 0);
+        for (int i = 0; i < 5_000; i++) {
+            Customer customer = new Customer("Customer " + i, "customer" + i + "@example.com", "+91-9876543210", address);
+            customer.setCreatedAt(base.plusMinutes(i % 311));
+            customers.add(customer);
+        }
+        executor = new SearchExecutor(4, 1_000, 3);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.close();
+    }
+
+    @Test
+    @DisplayName("Should only go parallel from the threshold on")
+    void shouldApplyThreshold() {
+        assertFalse(executor.runsInParallel(999));
+        assertTrue(executor.runsInParallel(1_000));
+        assertFalse(SearchExecutor.sequential().runsInParallel(Long.MAX_VALUE));
+        assertFalse(new SearchExecutor(4, 0, 1).runsInParallel(1_000));
+        assertEquals(4, new SearchExecutor(4, 0, 16).maxParallelismPerRequest());
+    }
+
+    @Test
+    @DisplayName("Should return the same page and total in both modes")
+    void shouldMatchSequentialResults() {
+        Predicate<Customer> filter = customer -> customer.getName().endsWith("7");
+        Predicate<Customer> position = customer -> customer.getCreatedAt().isBefore(LocalDateTime.of(2024, 1, 1, 14, 0));
+
+        CustomerSlice sequential = executor.selectPage(customers.stream(), 999, filter, position, NEWEST_FIRST, 40, 25);
+        CustomerSlice parallel = executor.selectPage(customers.stream(), customers.size(), filter, position, NEWEST_FIRST, 40, 25);
+
+        assertEquals(500, sequential.totalElements());
+        assertEquals(sequential.totalElements(), parallel.totalElements());
+        assertEquals(sequential.customers(), parallel.customers());
+        assertEquals(25, parallel.customers().size());
+    }
+
+    @Test
+    @DisplayName("Should use at most the per-request parallelism cap")
+    void shouldCapParallelismPerRequest() {
+        Set<Thread> threads = ConcurrentHashMap.newKeySet();
+
+        executor.selectPage(customers.stream(), customers.size(), customer -> threads.add(Thread.currentThread()),
+                customer -> true, NEWEST_FIRST, 0, 10);
+
+        assertFalse(threads.isEmpty());
+        assertTrue(threads.size() <= 3, "Used " + threads.size() + " threads");
+        assertFalse(threads.contains(Thread.currentThread()));
+    }
+}
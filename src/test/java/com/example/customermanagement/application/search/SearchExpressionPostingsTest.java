@@ -0,0 +1,94 @@
+package com.example.customermanagement.application.search;
+
+import com.example.customermanagement.domain.model.AddressField;
+import com.example.customermanagement.domain.model.MatchMode;
+import com.example.customermanagement.domain.model.SearchExpression;
+import com.example.customermanagement.domain.model.SearchExpression.And;
+import com.example.customermanagement.domain.model.SearchExpression.Not;
+import com.example.customermanagement.domain.model.SearchExpression.Or;
+import com.example.customermanagement.domain.model.SearchExpression.Term;
+import com.example.customermanagement.domain.model.SearchField;
+import com.example.customermanagement.domain.repository.CustomerRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Search Expression Postings Tests")
+class SearchExpressionPostingsTest {
+
+    private static final UUID CA_RENO = UUID.randomUUID();
+    private static final UUID CA_FRESNO = UUID.randomUUID();
+    private static final UUID NV_RENO = UUID.randomUUID();
+
+    @Mock
+    private CustomerRepository customerRepository;
+
+    private SearchExpressionPostings postings;
+
+    @BeforeEach
+    void setUp() {
+        postings = new SearchExpressionPostings(customerRepository);
+    }
+
+    @Test
+    @DisplayName("Should union, intersect and subtract exact address postings")
+    void shouldCombineAddressPostings() {
+        when(customerRepository.findIdsByAddressField(AddressField.STATE, "ca", MatchMode.EXACT))
+                .thenReturn(Optional.of(Set.of(CA_RENO, CA_FRESNO)));
+        when(customerRepository.findIdsByAddressField(AddressField.STATE, "nv", MatchMode.EXACT))
+                .thenReturn(Optional.of(Set.of(NV_RENO)));
+        when(customerRepository.findIdsByAddressField(AddressField.CITY, "fresno", MatchMode.EXACT))
+                .thenReturn(Optional.of(Set.of(CA_FRESNO)));
+
+        Optional<Set<UUID>> candidates = postings.candidates(new And(List.of(
+                new Or(List.of(state("CA"), state("NV"))),
+                new Not(new Term(SearchField.CITY, MatchMode.EXACT, "Fresno")))));
+
+        assertEquals(Optional.of(Set.of(CA_RENO, NV_RENO)), candidates);
+    }
+
+    @Test
+    @DisplayName("Should not subtract text candidates, which only bound the matches")
+    void shouldNotSubtractInexactPostings() {
+        when(customerRepository.findIdsByAddressField(AddressField.STATE, "ca", MatchMode.EXACT))
+                .thenReturn(Optional.of(Set.of(CA_RENO, CA_FRESNO)));
+        when(customerRepository.findCandidateIdsByText("kumar"))
+                .thenReturn(Optional.of(Set.of(CA_RENO)));
+
+        Optional<Set<UUID>> candidates = postings.candidates(new And(List.of(
+                state("CA"), new Not(new Term(SearchField.NAME, MatchMode.CONTAINS, "Kumar")))));
+
+        assertEquals(Optional.of(Set.of(CA_RENO, CA_FRESNO)), candidates);
+    }
+
+    @Test
+    @DisplayName("Should fall back to a scan when a branch cannot be answered from an index")
+    void shouldFallBackForUnindexableBranches() {
+        when(customerRepository.findIdsByAddressField(AddressField.STATE, "ca", MatchMode.EXACT))
+                .thenReturn(Optional.of(Set.of(CA_RENO, CA_FRESNO)));
+        when(customerRepository.findCandidateIdsByText("li")).thenReturn(Optional.empty());
+
+        SearchExpression nameOrState = new Or(List.of(
+                state("CA"), new Term(SearchField.NAME, MatchMode.CONTAINS, "li")));
+
+        assertTrue(postings.candidates(nameOrState).isEmpty());
+        assertTrue(postings.candidates(new Not(state("NV"))).isEmpty());
+        verify(customerRepository, never()).findIdsByAddressField(AddressField.STATE, "nv", MatchMode.EXACT);
+    }
+
+    private static Term state(String value) {
+        return new Term(SearchField.STATE, MatchMode.EXACT, value);
+    }
+}
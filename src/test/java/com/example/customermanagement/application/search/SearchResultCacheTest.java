@@ -0,0 +1,102 @@
+package com.example.customermanagement.application.search;
+
+import com.example.customermanagement.domain.model.CustomerSearchCriteria;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Search Result Cache Tests")
+class SearchResultCacheTest {
+
+    private final AtomicLong clock = new AtomicLong();
+    private final AtomicInteger searches = new AtomicInteger();
+    private SearchResultCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new SearchResultCache(2, Duration.ofSeconds(30), clock::get);
+    }
+
+    @Test
+    @DisplayName("Should serve repeated searches with normalized criteria from the cache")
+    void shouldHitForNormalizedCriteria() {
+        String first = cache.get(criteria("Mumbai", 0), 1, this::search);
+        String second = cache.get(criteria("MUMBAI", 0), 1, this::search);
+
+        assertSame(first, second);
+        assertEquals(1, searches.get());
+        assertEquals(new SearchCacheStats(1, 1, 0, 0, 1), cache.stats());
+        assertEquals(0.5, cache.stats().hitRatio());
+    }
+
+    @Test
+    @DisplayName("Should keep different pages apart")
+    void shouldMissForDifferentPage() {
+        cache.get(criteria("Mumbai", 0), 1, this::search);
+        cache.get(criteria("Mumbai", 1), 1, this::search);
+
+        assertEquals(2, searches.get());
+        assertEquals(2, cache.stats().misses());
+    }
+
+    @Test
+    @DisplayName("Should recompute once the repository generation changes")
+    void shouldInvalidateOnGenerationChange() {
+        String stale = cache.get(criteria("Mumbai", 0), 1, this::search);
+        String fresh = cache.get(criteria("Mumbai", 0), 2, this::search);
+
+        assertNotEquals(stale, fresh);
+        assertEquals(1, cache.stats().invalidations());
+        assertSame(fresh, cache.get(criteria("Mumbai", 0), 2, this::search));
+    }
+
+    @Test
+    @DisplayName("Should expire entries older than the time to live")
+    void shouldExpireAfterTtl() {
+        cache.get(criteria("Mumbai", 0), 1, this::search);
+        clock.addAndGet(Duration.ofSeconds(30).toNanos());
+        cache.get(criteria("Mumbai", 0), 1, this::search);
+
+        assertEquals(2, searches.get());
+        assertEquals(1, cache.stats().evictions());
+    }
+
+    @Test
+    @DisplayName("Should evict the least recently used entry when full")
+    void shouldEvictWhenFull() {
+        cache.get(criteria("Mumbai", 0), 1, this::search);
+        cache.get(criteria("Pune", 0), 1, this::search);
+        cache.get(criteria("Mumbai", 0), 1, this::search);
+        cache.get(criteria("Delhi", 0), 1, this::search);
+        cache.get(criteria("Mumbai", 0), 1, this::search);
+
+        assertEquals(3, searches.get());
+        assertEquals(1, cache.stats().evictions());
+        assertEquals(2, cache.stats().size());
+    }
+
+    @Test
+    @DisplayName("Should always search when disabled")
+    void shouldNotCacheWhenDisabled() {
+        SearchResultCache disabled = SearchResultCache.disabled();
+        disabled.get(criteria("Mumbai", 0), 1, this::search);
+        disabled.get(criteria("Mumbai", 0), 1, this::search);
+
+        assertEquals(2, searches.get());
+        assertEquals(0, disabled.stats().size());
+    }
+
+    private String search() {
+        return "result-" + searches.incrementAndGet();
+    }
+
+    private static CustomerSearchCriteria criteria(String city, int page) {
+        return CustomerSearchCriteria.builder().city(city).page(page).size(20).build();
+    }
+}
@@ -0,0 +1,60 @@
+package com.example.customermanagement.application.service;
+
+import com.example.customermanagement.domain.exception.SubscriberLimitExceededException;
+import com.example.customermanagement.domain.model.Address;
+import com.example.customermanagement.domain.model.Customer;
+import com.example.customermanagement.infrastructure.mapper.AddressMapper;
+import com.example.customermanagement.infrastructure.mapper.CustomerMapper;
+import com.example.customermanagement.infrastructure.persistence.InMemoryCustomerRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Customer Event Stream Service Tests")
+class CustomerEventStreamServiceTest {
+
+    private InMemoryCustomerRepository repository;
+    private CustomerEventStreamService service;
+
+    @BeforeEach
+    void setUp() {
+        repository = new InMemoryCustomerRepository();
+        service = new CustomerEventStreamService(repository, new CustomerMapper(new AddressMapper()), 1);
+    }
+
+    @Test
+    @DisplayName("Should turn away subscribers beyond the limit")
+    void shouldRejectSubscribersBeyondLimit() {
+        // Given
+        service.subscribe(null, null);
+
+        // When / Then
+        assertThrows(SubscriberLimitExceededException.class, () -> service.subscribe(null, null));
+        assertEquals(1, service.activeSubscribers());
+        assertThrows(IllegalArgumentException.class,
+                () -> new CustomerEventStreamService(repository, new CustomerMapper(new AddressMapper()), 0));
+    }
+
+    @Test
+    @DisplayName("Should free the subscriber's slot once sending to a closed stream fails")
+    void shouldReleaseSlotWhenSendFails() throws InterruptedException {
+        // Given
+        SseEmitter first = service.subscribe(null, null);
+        first.complete();
+
+        // When
+        repository.save(new Customer("Rajesh Kumar", "rajesh@example.com", "+91-9876543210",
+                new Address("123 MG Road", "Mumbai", "Maharashtra", "400001", "India")));
+        long deadline = System.nanoTime() + 5_000_000_000L;
+        while (service.activeSubscribers() > 0 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+
+        // Then
+        assertEquals(0, service.activeSubscribers());
+        assertNotNull(service.subscribe(null, null));
+    }
+}
@@ -1,9 +1,12 @@
 package com.example.customermanagement.application.service;
 
 import com.example.customermanagement.application.usecase.GetAllCustomersUseCase;
+import com.example.customermanagement.application.usecase.GetCustomerFacetsUseCase;
 import com.example.customermanagement.application.usecase.SearchCustomersUseCase;
 import com.example.customermanagement.domain.model.CustomerSearchCriteria;
+import com.example.customermanagement.domain.model.NameMatch;
 import com.example.customermanagement.infrastructure.mapper.CustomerSearchMapper;
+import com.example.customermanagement.web.dto.customer.CustomerFacetsResponseDTO;
 import com.example.customermanagement.web.dto.customer.CustomerResponseDTO;
 import com.example.customermanagement.web.dto.common.PageResponseDTO;
 import com.example.customermanagement.web.dto.address.AddressDTO;
@@ -20,6 +23,7 @@ import org.springframework.http.ResponseEntity;
 import java.time.LocalDateTime;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -36,6 +40,9 @@ class CustomerSearchServiceTest {
     @Mock
     private SearchCustomersUseCase searchCustomersUseCase;
 
+    @Mock
+    private GetCustomerFacetsUseCase getCustomerFacetsUseCase;
+
     @Mock
     private CustomerSearchMapper customerSearchMapper;
 
@@ -87,7 +94,7 @@ class CustomerSearchServiceTest {
             // When
             ResponseEntity<?> response = customerSearchService.getAllCustomersWithFiltering(
                 null, null, null, null, null, null, null, null, null, null,
-                null, null, null, null, null
+                null, null, null, null, null, null
             );
 
             // Then
@@ -113,7 +120,7 @@ class CustomerSearchServiceTest {
                 .size(20)
                 .build();
             
-            when(customerSearchMapper.toSearchCriteria(any(), any(), any(), any(), any(), any(), any(), any(), any(), any(), any(), any(), any(), anyInt(), anyInt()))
+            when(customerSearchMapper.toSearchCriteria(any(), any(), any(), any(), any(), any(), any(), any(), any(), any(), any(), any(), any(), any(), anyInt(), anyInt()))
                 .thenReturn(searchCriteria);
             when(searchCustomersUseCase.executeWithPagination(searchCriteria))
                 .thenReturn(samplePageResponse);
@@ -121,7 +128,7 @@ class CustomerSearchServiceTest {
             // When
             ResponseEntity<?> response = customerSearchService.getAllCustomersWithFiltering(
                 0, 20, null, null, null, null, null, null, null, null,
-                null, null, null, null, null
+                null, null, null, null, null, null
             );
 
             // Then
@@ -134,7 +141,7 @@ class CustomerSearchServiceTest {
 
             verify(customerSearchMapper).toSearchCriteria(
                 null, null, null, null, null, null, null, null, null, null,
-                null, null, null, 0, 20
+                null, null, null, null, 0, 20
             );
             verify(searchCustomersUseCase).executeWithPagination(searchCriteria);
             verifyNoInteractions(getAllCustomersUseCase);
@@ -152,7 +159,7 @@ class CustomerSearchServiceTest {
             
             List<CustomerResponseDTO> searchResults = Collections.singletonList(sampleCustomer);
             
-            when(customerSearchMapper.toSearchCriteria(any(), any(), any(), any(), any(), any(), any(), any(), any(), any(), any(), any(), any(), anyInt(), anyInt()))
+            when(customerSearchMapper.toSearchCriteria(any(), any(), any(), any(), any(), any(), any(), any(), any(), any(), any(), any(), any(), any(), anyInt(), anyInt()))
                 .thenReturn(searchCriteria);
             when(searchCustomersUseCase.executeAllResults(searchCriteria))
                 .thenReturn(searchResults);
@@ -160,7 +167,7 @@ class CustomerSearchServiceTest {
             // When
             ResponseEntity<?> response = customerSearchService.getAllCustomersWithFiltering(
                 null, null, "rajesh", null, null, null, null, null, null, null,
-                null, null, null, null, null
+                null, null, null, null, null, null
             );
 
             // Then
@@ -174,7 +181,7 @@ class CustomerSearchServiceTest {
 
             verify(customerSearchMapper).toSearchCriteria(
                 "rajesh", null, null, null, null, null, null, null, null, null,
-                null, null, null, 0, 20
+                null, null, null, null, 0, 20
             );
             verify(searchCustomersUseCase).executeAllResults(searchCriteria);
             verifyNoInteractions(getAllCustomersUseCase);
@@ -190,7 +197,7 @@ class CustomerSearchServiceTest {
                 .size(10)
                 .build();
             
-            when(customerSearchMapper.toSearchCriteria(any(), any(), any(), any(), any(), any(), any(), any(), any(), any(), any(), any(), any(), anyInt(), anyInt()))
+            when(customerSearchMapper.toSearchCriteria(any(), any(), any(), any(), any(), any(), any(), any(), any(), any(), any(), any(), any(), any(), anyInt(), anyInt()))
                 .thenReturn(searchCriteria);
             when(searchCustomersUseCase.executeWithPagination(searchCriteria))
                 .thenReturn(samplePageResponse);
@@ -198,7 +205,7 @@ class CustomerSearchServiceTest {
             // When
             ResponseEntity<?> response = customerSearchService.getAllCustomersWithFiltering(
                 1, 10, "rajesh", null, null, null, null, null, null, null,
-                null, null, null, null, null
+                null, null, null, null, null, null
             );
 
             // Then
@@ -208,7 +215,7 @@ class CustomerSearchServiceTest {
 
             verify(customerSearchMapper).toSearchCriteria(
                 "rajesh", null, null, null, null, null, null, null, null, null,
-                null, null, null, 1, 10
+                null, null, null, null, 1, 10
             );
             verify(searchCustomersUseCase).executeWithPagination(searchCriteria);
             verifyNoInteractions(getAllCustomersUseCase);
@@ -266,7 +273,7 @@ class CustomerSearchServiceTest {
                 .size(20)
                 .build();
             
-            when(customerSearchMapper.toSearchCriteria(any(), any(), any(), any(), any(), any(), any(), any(), any(), any(), any(), any(), any(), anyInt(), anyInt()))
+            when(customerSearchMapper.toSearchCriteria(any(), any(), any(), any(), any(), any(), any(), any(), any(), any(), any(), any(), any(), any(), anyInt(), anyInt()))
                 .thenReturn(searchCriteria);
             when(searchCustomersUseCase.executeAllResults(searchCriteria))
                 .thenReturn(Collections.singletonList(sampleCustomer));
@@ -274,7 +281,7 @@ class CustomerSearchServiceTest {
             // When
             ResponseEntity<?> response = customerSearchService.getAllCustomersWithFiltering(
                 null, null, search, name, email, phone, city, state, country, zipCode,
-                createdAfter, createdBefore, updatedAfter, updatedBefore, sort
+                createdAfter, createdBefore, updatedAfter, updatedBefore, sort, null
             );
 
             // Then
@@ -285,7 +292,7 @@ class CustomerSearchServiceTest {
             verify(customerSearchMapper).toSearchCriteria(
                 search, name, email, phone, city, state, country, zipCode,
                 createdAfter, createdBefore, updatedAfter, updatedBefore,
-                sort, 0, 20
+                sort, null, 0, 20
             );
             verify(searchCustomersUseCase).executeAllResults(searchCriteria);
             verifyNoInteractions(getAllCustomersUseCase);
@@ -300,7 +307,7 @@ class CustomerSearchServiceTest {
                 .size(20)
                 .build();
             
-            when(customerSearchMapper.toSearchCriteria(any(), any(), any(), any(), any(), any(), any(), any(), any(), any(), any(), any(), any(), anyInt(), anyInt()))
+            when(customerSearchMapper.toSearchCriteria(any(), any(), any(), any(), any(), any(), any(), any(), any(), any(), any(), any(), any(), any(), anyInt(), anyInt()))
                 .thenReturn(searchCriteria);
             when(searchCustomersUseCase.executeAllResults(searchCriteria))
                 .thenReturn(Collections.singletonList(sampleCustomer));
@@ -308,13 +315,13 @@ class CustomerSearchServiceTest {
             // When
             ResponseEntity<?> response = customerSearchService.getAllCustomersWithFiltering(
                 null, null, "rajesh", null, null, null, null, null, null, null,
-                null, null, null, null, null
+                null, null, null, null, null, null
             );
 
             // Then
             verify(customerSearchMapper).toSearchCriteria(
                 "rajesh", null, null, null, null, null, null, null, null, null,
-                null, null, null, 0, 20
+                null, null, null, null, 0, 20
             );
             verify(searchCustomersUseCase).executeAllResults(searchCriteria);
         }
@@ -329,7 +336,7 @@ class CustomerSearchServiceTest {
             // When
             ResponseEntity<?> response = customerSearchService.getAllCustomersWithFiltering(
                 null, null, null, null, null, null, null, null, null, null,
-                null, null, null, null, Collections.emptyList()
+                null, null, null, null, Collections.emptyList(), null
             );
 
             // Then
@@ -368,18 +375,18 @@ class CustomerSearchServiceTest {
                 .size(10)
                 .build();
             
-            when(customerSearchMapper.toSearchCriteria(any(), any(), any(), any(), any(), any(), any(), any(), any(), any(), any(), any(), any(), anyInt(), anyInt()))
+            when(customerSearchMapper.toSearchCriteria(any(), any(), any(), any(), any(), any(), any(), any(), any(), any(), any(), any(), any(), any(), any(), any(), any(), anyInt(), anyInt()))
                 .thenReturn(searchCriteria);
             when(searchCustomersUseCase.execute(searchCriteria))
                 .thenReturn(samplePageResponse);
 
             // When
             PageResponseDTO<CustomerResponseDTO> result = customerSearchService.searchCustomers(
-                "rajesh", "Rajesh Kumar", "rajesh@example.com", "+91-9876543210",
+                "rajesh", null, "Rajesh Kumar", null, null, "rajesh@example.com", "+91-9876543210",
                 "Mumbai", "Maharashtra", "India", "400001",
                 "2023-01-01T00:00:00", "2023-12-31T23:59:59",
                 "2023-06-01T00:00:00", "2023-06-30T23:59:59",
-                    List.of("name,asc"), 1, 10
+                    List.of("name,asc"), null, 1, 10
             );
 
             // Then
@@ -387,11 +394,11 @@ class CustomerSearchServiceTest {
             assertEquals(samplePageResponse, result);
 
             verify(customerSearchMapper).toSearchCriteria(
-                "rajesh", "Rajesh Kumar", "rajesh@example.com", "+91-9876543210",
+                "rajesh", null, "Rajesh Kumar", null, null, "rajesh@example.com", "+91-9876543210",
                 "Mumbai", "Maharashtra", "India", "400001",
                 "2023-01-01T00:00:00", "2023-12-31T23:59:59",
                 "2023-06-01T00:00:00", "2023-06-30T23:59:59",
-                    List.of("name,asc"), 1, 10
+                    List.of("name,asc"), null, 1, 10
             );
             verify(searchCustomersUseCase).execute(searchCriteria);
         }
@@ -405,15 +412,15 @@ class CustomerSearchServiceTest {
                 .size(20)
                 .build();
             
-            when(customerSearchMapper.toSearchCriteria(any(), any(), any(), any(), any(), any(), any(), any(), any(), any(), any(), any(), any(), anyInt(), anyInt()))
+            when(customerSearchMapper.toSearchCriteria(any(), any(), any(), any(), any(), any(), any(), any(), any(), any(), any(), any(), any(), any(), any(), any(), any(), anyInt(), anyInt()))
                 .thenReturn(searchCriteria);
             when(searchCustomersUseCase.execute(searchCriteria))
                 .thenReturn(samplePageResponse);
 
             // When
             PageResponseDTO<CustomerResponseDTO> result = customerSearchService.searchCustomers(
-                null, null, null, null, null, null, null, null,
-                null, null, null, null, null, 0, 20
+                null, null, null, null, null, null, null, null, null, null, null,
+                null, null, null, null, null, null, 0, 20
             );
 
             // Then
@@ -421,8 +428,8 @@ class CustomerSearchServiceTest {
             assertEquals(samplePageResponse, result);
 
             verify(customerSearchMapper).toSearchCriteria(
-                null, null, null, null, null, null, null, null,
-                null, null, null, null, null, 0, 20
+                null, null, null, null, null, null, null, null, null, null, null,
+                null, null, null, null, null, null, 0, 20
             );
             verify(searchCustomersUseCase).execute(searchCriteria);
         }
@@ -437,15 +444,15 @@ class CustomerSearchServiceTest {
                 .size(20)
                 .build();
             
-            when(customerSearchMapper.toSearchCriteria(any(), any(), any(), any(), any(), any(), any(), any(), any(), any(), any(), any(), any(), anyInt(), anyInt()))
+            when(customerSearchMapper.toSearchCriteria(any(), any(), any(), any(), any(), any(), any(), any(), any(), any(), any(), any(), any(), any(), any(), any(), any(), anyInt(), anyInt()))
                 .thenReturn(searchCriteria);
             when(searchCustomersUseCase.execute(searchCriteria))
                 .thenReturn(samplePageResponse);
 
             // When
             PageResponseDTO<CustomerResponseDTO> result = customerSearchService.searchCustomers(
-                "rajesh", null, null, null, null, null, null, null,
-                null, null, null, null, null, 0, 20
+                "rajesh", null, null, null, null, null, null, null, null, null, null,
+                null, null, null, null, null, null, 0, 20
             );
 
             // Then
@@ -453,10 +460,47 @@ class CustomerSearchServiceTest {
             assertEquals(samplePageResponse, result);
 
             verify(customerSearchMapper).toSearchCriteria(
-                "rajesh", null, null, null, null, null, null, null,
-                null, null, null, null, null, 0, 20
+                "rajesh", null, null, null, null, null, null, null, null, null, null,
+                null, null, null, null, null, null, 0, 20
             );
             verify(searchCustomersUseCase).execute(searchCriteria);
         }
     }
+
+    @Nested
+    @DisplayName("getFacets Tests")
+    class GetFacetsTests {
+
+        @Test
+        @DisplayName("Should map facet filters through the same criteria as search")
+        void shouldMapFacetFiltersLikeSearch() {
+            // Given
+            CustomerSearchCriteria searchCriteria = CustomerSearchCriteria.builder()
+                .name("rajesh")
+                .nameMatch(NameMatch.FUZZY)
+                .build();
+            CustomerFacetsResponseDTO facets = new CustomerFacetsResponseDTO(1, Map.of("India", 1L), Map.of(),
+                Map.of(), Map.of());
+
+            when(customerSearchMapper.toSearchCriteria(any(), any(), any(), any(), any(), any(), any(), any(), any(), any(), any(), any(), any(), any(), any(), any(), any(), anyInt(), anyInt()))
+                .thenReturn(searchCriteria);
+            when(getCustomerFacetsUseCase.execute(searchCriteria, 3, 100))
+                .thenReturn(facets);
+
+            // When
+            CustomerFacetsResponseDTO result = customerSearchService.getFacets(
+                null, "city=mumbai", "rajesh", "fuzzy", 2, null, null, null, null, null, null,
+                null, null, null, null, 3, 100
+            );
+
+            // Then
+            assertEquals(facets, result);
+
+            verify(customerSearchMapper).toSearchCriteria(
+                null, "city=mumbai", "rajesh", "fuzzy", 2, null, null, null, null, null, null,
+                null, null, null, null, null, null, 0, 20
+            );
+            verify(getCustomerFacetsUseCase).execute(searchCriteria, 3, 100);
+        }
+    }
 }
@@ -110,7 +110,7 @@ class GetAllCustomersUseCaseTest {
             List<Customer> customers = Arrays.asList(sampleCustomer1, sampleCustomer2);
             List<CustomerResponseDTO> expectedResponse = Arrays.asList(sampleResponseDTO1, sampleResponseDTO2);
 
-            when(customerRepository.findAll()).thenReturn(customers);
+            when(customerRepository.streamAll()).thenAnswer(invocation -> customers.stream());
             when(customerMapper.toResponseDtoList(customers)).thenReturn(expectedResponse);
 
             // When
@@ -121,7 +121,7 @@ class GetAllCustomersUseCaseTest {
             assertEquals(2, result.size());
             assertEquals(expectedResponse, result);
 
-            verify(customerRepository).findAll();
+            verify(customerRepository).streamAll();
             verify(customerMapper).toResponseDtoList(customers);
         }
 
@@ -132,7 +132,7 @@ class GetAllCustomersUseCaseTest {
             List<Customer> emptyCustomers = Collections.emptyList();
             List<CustomerResponseDTO> emptyResponse = Collections.emptyList();
 
-            when(customerRepository.findAll()).thenReturn(emptyCustomers);
+            when(customerRepository.streamAll()).thenAnswer(invocation -> emptyCustomers.stream());
             when(customerMapper.toResponseDtoList(emptyCustomers)).thenReturn(emptyResponse);
 
             // When
@@ -142,7 +142,7 @@ class GetAllCustomersUseCaseTest {
             assertNotNull(result);
             assertTrue(result.isEmpty());
 
-            verify(customerRepository).findAll();
+            verify(customerRepository).streamAll();
             verify(customerMapper).toResponseDtoList(emptyCustomers);
         }
 
@@ -195,7 +195,7 @@ class GetAllCustomersUseCaseTest {
                 new CustomerResponseDTO(customer3.getId(), "Customer 3", "customer3@example.com", "+91-3333333333", null, latest, latest)
             );
 
-            when(customerRepository.findAll()).thenReturn(customers);
+            when(customerRepository.streamAll()).thenAnswer(invocation -> customers.stream());
             when(customerMapper.toResponseDtoList(any())).thenAnswer(invocation -> {
                 List<Customer> sortedCustomers = invocation.getArgument(0);
                 // Verify that customers are sorted by creation date descending
@@ -212,7 +212,7 @@ class GetAllCustomersUseCaseTest {
             assertNotNull(result);
             assertEquals(3, result.size());
 
-            verify(customerRepository).findAll();
+            verify(customerRepository).streamAll();
             verify(customerMapper).toResponseDtoList(any());
         }
     }
@@ -229,7 +229,7 @@ class GetAllCustomersUseCaseTest {
             List<CustomerResponseDTO> responseDTOs = Arrays.asList(sampleResponseDTO1, sampleResponseDTO2);
             long totalCount = 2L;
 
-            when(customerRepository.findAll()).thenReturn(allCustomers);
+            when(customerRepository.streamAll()).thenAnswer(invocation -> allCustomers.stream());
             when(customerRepository.count()).thenReturn(totalCount);
             when(customerMapper.toResponseDtoList(any())).thenReturn(responseDTOs);
 
@@ -243,7 +243,7 @@ class GetAllCustomersUseCaseTest {
             assertEquals(10, result.getSize());
             assertEquals(totalCount, result.getTotalElements());
 
-            verify(customerRepository).findAll();
+            verify(customerRepository).streamAll();
             verify(customerRepository).count();
             verify(customerMapper).toResponseDtoList(any());
         }
@@ -255,7 +255,7 @@ class GetAllCustomersUseCaseTest {
             List<Customer> allCustomers = Arrays.asList(sampleCustomer1, sampleCustomer2);
             List<CustomerResponseDTO> responseDTOs = Collections.singletonList(sampleResponseDTO1);
 
-            when(customerRepository.findAll()).thenReturn(allCustomers);
+            when(customerRepository.streamAll()).thenAnswer(invocation -> allCustomers.stream());
             when(customerRepository.count()).thenReturn(2L);
             when(customerMapper.toResponseDtoList(any())).thenAnswer(invocation -> {
                 List<Customer> customers = invocation.getArgument(0);
@@ -275,7 +275,7 @@ class GetAllCustomersUseCaseTest {
             assertEquals(1, result.getSize());
             assertEquals(2L, result.getTotalElements());
 
-            verify(customerRepository).findAll();
+            verify(customerRepository).streamAll();
             verify(customerRepository).count();
             verify(customerMapper).toResponseDtoList(any());
         }
@@ -287,7 +287,7 @@ class GetAllCustomersUseCaseTest {
             List<Customer> allCustomers = Collections.singletonList(sampleCustomer1);
             List<CustomerResponseDTO> emptyResponse = Collections.emptyList();
 
-            when(customerRepository.findAll()).thenReturn(allCustomers);
+            when(customerRepository.streamAll()).thenAnswer(invocation -> allCustomers.stream());
             when(customerRepository.count()).thenReturn(1L);
             when(customerMapper.toResponseDtoList(any())).thenReturn(emptyResponse);
 
@@ -301,7 +301,7 @@ class GetAllCustomersUseCaseTest {
             assertEquals(10, result.getSize());
             assertEquals(1L, result.getTotalElements());
 
-            verify(customerRepository).findAll();
+            verify(customerRepository).streamAll();
             verify(customerRepository).count();
             verify(customerMapper).toResponseDtoList(any());
         }
@@ -364,7 +364,7 @@ class GetAllCustomersUseCaseTest {
             List<Customer> allCustomers = Arrays.asList(sampleCustomer1, sampleCustomer2);
             List<CustomerResponseDTO> responseDTOs = Arrays.asList(sampleResponseDTO1, sampleResponseDTO2);
 
-            when(customerRepository.findAll()).thenReturn(allCustomers);
+            when(customerRepository.streamAll()).thenAnswer(invocation -> allCustomers.stream());
             when(customerRepository.count()).thenReturn(2L);
             when(customerMapper.toResponseDtoList(any())).thenReturn(responseDTOs);
 
@@ -378,7 +378,7 @@ class GetAllCustomersUseCaseTest {
             assertEquals(100, result.getSize());
             assertEquals(2L, result.getTotalElements());
 
-            verify(customerRepository).findAll();
+            verify(customerRepository).streamAll();
             verify(customerRepository).count();
             verify(customerMapper).toResponseDtoList(any());
         }
@@ -390,7 +390,7 @@ class GetAllCustomersUseCaseTest {
             List<Customer> allCustomers = Arrays.asList(sampleCustomer1, sampleCustomer2);
             List<CustomerResponseDTO> responseDTOs = Collections.singletonList(sampleResponseDTO1);
 
-            when(customerRepository.findAll()).thenReturn(allCustomers);
+            when(customerRepository.streamAll()).thenAnswer(invocation -> allCustomers.stream());
             when(customerRepository.count()).thenReturn(2L);
             when(customerMapper.toResponseDtoList(any())).thenAnswer(invocation -> {
                 List<Customer> customers = invocation.getArgument(0);
@@ -409,7 +409,7 @@ class GetAllCustomersUseCaseTest {
             assertEquals(1, result.getSize());
             assertEquals(2L, result.getTotalElements());
 
-            verify(customerRepository).findAll();
+            verify(customerRepository).streamAll();
             verify(customerRepository).count();
             verify(customerMapper).toResponseDtoList(any());
         }
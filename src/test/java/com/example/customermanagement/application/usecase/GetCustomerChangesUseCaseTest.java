@@ -0,0 +1,90 @@
+package com.example.customermanagement.application.usecase;
+
+import com.example.customermanagement.domain.exception.InvalidCustomerDataException;
+import com.example.customermanagement.domain.exception.UnsupportedRepositoryFeatureException;
+import com.example.customermanagement.domain.model.Address;
+import com.example.customermanagement.domain.model.ChangeToken;
+import com.example.customermanagement.domain.model.Customer;
+import com.example.customermanagement.domain.model.CustomerChange;
+import com.example.customermanagement.domain.model.CustomerChanges;
+import com.example.customermanagement.domain.repository.CustomerRepository;
+import com.example.customermanagement.infrastructure.mapper.ChangeTokenCodec;
+import com.example.customermanagement.infrastructure.mapper.CustomerMapper;
+import com.example.customermanagement.web.dto.customer.CustomerChangesResponseDTO;
+import com.example.customermanagement.web.dto.customer.CustomerResponseDTO;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Get Customer Changes Use Case Tests")
+class GetCustomerChangesUseCaseTest {
+
+    @Mock
+    private CustomerRepository customerRepository;
+
+    @Mock
+    private CustomerMapper customerMapper;
+
+    @InjectMocks
+    private GetCustomerChangesUseCase getCustomerChangesUseCase;
+
+    @Test
+    @DisplayName("Should map upserts and tombstones and return the token to resume after them")
+    void shouldMapChangesAndNextToken() {
+        // Given
+        LocalDateTime now = LocalDateTime.of(2024, 1, 1, 10, 0);
+        ChangeToken since = new ChangeToken(7, 10, now);
+        Customer customer = new Customer("Rajesh Kumar", "rajesh.kumar@example.com", "+91-9876543210",
+                new Address("123 MG Road", "Mumbai", "Maharashtra", "400001", "India"));
+        UUID deletedId = UUID.randomUUID();
+        ChangeToken next = new ChangeToken(7, 12, now.plusMinutes(1));
+        CustomerResponseDTO responseDTO = new CustomerResponseDTO();
+        when(customerRepository.findChangesSince(since, 2)).thenReturn(Optional.of(new CustomerChanges(List.of(
+                new CustomerChange(customer.getId(), now, new ChangeToken(7, 11, now), customer),
+                new CustomerChange(deletedId, now.plusMinutes(1), next, null)), next, true)));
+        when(customerMapper.toResponseDto(customer)).thenReturn(responseDTO);
+
+        // When
+        CustomerChangesResponseDTO result = getCustomerChangesUseCase.execute(ChangeTokenCodec.encode(since), 2);
+
+        // Then
+        assertEquals(2, result.getChanges().size());
+        assertEquals("UPSERTED", result.getChanges().get(0).getType());
+        assertSame(responseDTO, result.getChanges().get(0).getCustomer());
+        assertEquals("DELETED", result.getChanges().get(1).getType());
+        assertEquals(deletedId, result.getChanges().get(1).getId());
+        assertNull(result.getChanges().get(1).getCustomer());
+        assertEquals(next, ChangeTokenCodec.decode(result.getNextToken()));
+        assertTrue(result.isHasMore());
+    }
+
+    @Test
+    @DisplayName("Should report an unsupported feed when the repository keeps no change index")
+    void shouldFailWhenRepositoryHasNoChangeIndex() {
+        when(customerRepository.findChangesSince(null, 100)).thenReturn(Optional.empty());
+
+        assertThrows(UnsupportedRepositoryFeatureException.class, () -> getCustomerChangesUseCase.execute(null, 100));
+    }
+
+    @Test
+    @DisplayName("Should reject an out-of-range limit and a malformed token")
+    void shouldRejectInvalidArguments() {
+        assertThrows(InvalidCustomerDataException.class, () -> getCustomerChangesUseCase.execute(null, 0));
+        assertThrows(InvalidCustomerDataException.class,
+                () -> getCustomerChangesUseCase.execute(null, GetCustomerChangesUseCase.MAX_LIMIT + 1));
+        assertThrows(InvalidCustomerDataException.class, () -> getCustomerChangesUseCase.execute("not-a-token", 10));
+        verifyNoInteractions(customerRepository);
+    }
+}
@@ -0,0 +1,108 @@
+package com.example.customermanagement.application.usecase;
+
+import com.example.customermanagement.domain.exception.EventPositionUnavailableException;
+import com.example.customermanagement.domain.exception.InvalidCustomerDataException;
+import com.example.customermanagement.domain.exception.UnsupportedRepositoryFeatureException;
+import com.example.customermanagement.domain.model.CustomerEvent;
+import com.example.customermanagement.domain.model.CustomerEvents;
+import com.example.customermanagement.domain.repository.CustomerEventLog;
+import com.example.customermanagement.domain.repository.CustomerRepository;
+import com.example.customermanagement.infrastructure.mapper.CustomerMapper;
+import com.example.customermanagement.web.dto.customer.CustomerEventDTO;
+import com.example.customermanagement.web.dto.customer.CustomerEventsResponseDTO;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Get Customer Events Use Case Tests")
+class GetCustomerEventsUseCaseTest {
+
+    @Mock
+    private CustomerRepository customerRepository;
+
+    @Mock
+    private CustomerMapper customerMapper;
+
+    @Mock
+    private CustomerEventLog eventLog;
+
+    @InjectMocks
+    private GetCustomerEventsUseCase getCustomerEventsUseCase;
+
+    @Test
+    @DisplayName("Should map the events after a position and report the last sequence returned")
+    void shouldMapEventsAfterPosition() {
+        // Given
+        CustomerEvent event = new CustomerEvent(6, CustomerEvent.Type.DELETED, UUID.randomUUID(),
+                LocalDateTime.of(2024, 1, 1, 10, 0), null);
+        CustomerEventDTO eventDTO = new CustomerEventDTO();
+        when(customerRepository.eventLog()).thenReturn(Optional.of(eventLog));
+        when(eventLog.epoch()).thenReturn(42L);
+        when(eventLog.readAfter(5, 10)).thenReturn(new CustomerEvents(42, List.of(event), 9));
+        when(customerMapper.toEventDto(event)).thenReturn(eventDTO);
+
+        // When
+        CustomerEventsResponseDTO result = getCustomerEventsUseCase.execute(5L, 42L, 10, 0);
+
+        // Then
+        assertEquals(List.of(eventDTO), result.getEvents());
+        assertEquals(42, result.getEpoch());
+        assertEquals(6, result.getLastSequence());
+        assertEquals(9, result.getHeadSequence());
+    }
+
+    @Test
+    @DisplayName("Should start a new consumer at the head of the log")
+    void shouldStartAtHeadWithoutPosition() {
+        when(customerRepository.eventLog()).thenReturn(Optional.of(eventLog));
+        when(eventLog.headSequence()).thenReturn(17L);
+        when(eventLog.readAfter(17, 100)).thenReturn(new CustomerEvents(42, List.of(), 17));
+
+        CustomerEventsResponseDTO result = getCustomerEventsUseCase.execute(null, null, 100, 0);
+
+        assertTrue(result.getEvents().isEmpty());
+        assertEquals(17, result.getLastSequence());
+    }
+
+    @Test
+    @DisplayName("Should reject a position from another log")
+    void shouldRejectPositionFromOtherLog() {
+        when(customerRepository.eventLog()).thenReturn(Optional.of(eventLog));
+        when(eventLog.epoch()).thenReturn(42L);
+
+        assertThrows(EventPositionUnavailableException.class, () -> getCustomerEventsUseCase.execute(5L, 7L, 10, 0));
+        verify(eventLog, never()).readAfter(anyLong(), anyInt());
+    }
+
+    @Test
+    @DisplayName("Should report an unsupported feed when the repository keeps no change log")
+    void shouldFailWhenRepositoryHasNoEventLog() {
+        when(customerRepository.eventLog()).thenReturn(Optional.empty());
+
+        assertThrows(UnsupportedRepositoryFeatureException.class, () -> getCustomerEventsUseCase.execute(null, null, 100, 0));
+    }
+
+    @Test
+    @DisplayName("Should reject an out-of-range limit, wait or position")
+    void shouldRejectInvalidArguments() {
+        assertThrows(InvalidCustomerDataException.class, () -> getCustomerEventsUseCase.execute(null, null, 0, 0));
+        assertThrows(InvalidCustomerDataException.class,
+                () -> getCustomerEventsUseCase.execute(null, null, GetCustomerEventsUseCase.MAX_LIMIT + 1, 0));
+        assertThrows(InvalidCustomerDataException.class,
+                () -> getCustomerEventsUseCase.execute(null, null, 10, GetCustomerEventsUseCase.MAX_WAIT_SECONDS + 1));
+        assertThrows(InvalidCustomerDataException.class, () -> getCustomerEventsUseCase.execute(-1L, null, 10, 0));
+        verifyNoInteractions(customerRepository);
+    }
+}
@@ -0,0 +1,93 @@
+package com.example.customermanagement.application.usecase;
+
+import com.example.customermanagement.domain.exception.InvalidCustomerDataException;
+import com.example.customermanagement.domain.model.Address;
+import com.example.customermanagement.domain.model.AddressField;
+import com.example.customermanagement.domain.model.Customer;
+import com.example.customermanagement.domain.model.CustomerFacets;
+import com.example.customermanagement.domain.model.CustomerSearchCriteria;
+import com.example.customermanagement.domain.repository.CustomerRepository;
+import com.example.customermanagement.web.dto.customer.CustomerFacetsResponseDTO;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Get Customer Facets Use Case Tests")
+class GetCustomerFacetsUseCaseTest {
+
+    @Mock
+    private CustomerRepository customerRepository;
+
+    @InjectMocks
+    private GetCustomerFacetsUseCase getCustomerFacetsUseCase;
+
+    @Test
+    @DisplayName("Should use repository counters when available")
+    void shouldUseRepositoryCountersWhenAvailable() {
+        // Given
+        CustomerSearchCriteria criteria = CustomerSearchCriteria.builder().country("India").build();
+        CustomerFacets facets = CustomerFacets.counter(3)
+                .addTotal(5)
+                .add(AddressField.CITY, "Mumbai", 3)
+                .add(AddressField.CITY, "Pune", 2)
+                .build();
+        when(customerRepository.countFacets(criteria, 3)).thenReturn(Optional.of(facets));
+
+        // When
+        CustomerFacetsResponseDTO result = getCustomerFacetsUseCase.execute(criteria, 3, 1);
+
+        // Then
+        assertEquals(5, result.getTotal());
+        assertEquals(Map.of("Mumbai", 3L), result.getCities());
+        verify(customerRepository, never()).streamAll();
+    }
+
+    @Test
+    @DisplayName("Should count matching addresses when the repository has no counters")
+    void shouldCountMatchingAddressesWithoutCounters() {
+        // Given
+        CustomerSearchCriteria criteria = CustomerSearchCriteria.builder().name("kumar").build();
+        Customer rajesh = new Customer("Rajesh Kumar", "rajesh.kumar@example.com", "+91-9876543210",
+                new Address("123 MG Road", "Mumbai", "Maharashtra", "400001", "India"));
+        Customer anil = new Customer("Anil Kumar", "anil.kumar@example.com", "+91-9876543211",
+                new Address("5 Brigade Road", "Bengaluru", "Karnataka", "560001", "India"));
+        Customer priya = new Customer("Priya Sharma", "priya.sharma@example.com", "+91-9876543212",
+                new Address("1 FC Road", "Pune", "Maharashtra", "411004", "India"));
+        when(customerRepository.countFacets(any(), anyInt())).thenReturn(Optional.empty());
+        when(customerRepository.streamAll()).thenReturn(Stream.of(rajesh, anil, priya));
+
+        // When
+        CustomerFacetsResponseDTO result = getCustomerFacetsUseCase.execute(criteria, 3, 100);
+
+        // Then
+        assertEquals(2, result.getTotal());
+        assertEquals(Map.of("India", 2L), result.getCountries());
+        assertEquals(List.of("Karnataka", "Maharashtra"), List.copyOf(result.getStates().keySet()));
+        assertEquals(Map.of("400", 1L, "560", 1L), result.getZipCodePrefixes());
+    }
+
+    @Test
+    @DisplayName("Should reject invalid zip prefix length and limit")
+    void shouldRejectInvalidArguments() {
+        CustomerSearchCriteria criteria = CustomerSearchCriteria.builder().build();
+
+        assertThrows(InvalidCustomerDataException.class, () -> getCustomerFacetsUseCase.execute(criteria, 0, 10));
+        assertThrows(InvalidCustomerDataException.class, () -> getCustomerFacetsUseCase.execute(criteria, 3, 0));
+        assertThrows(InvalidCustomerDataException.class, () -> getCustomerFacetsUseCase.execute(null, 3, 10));
+        verifyNoInteractions(customerRepository);
+    }
+}
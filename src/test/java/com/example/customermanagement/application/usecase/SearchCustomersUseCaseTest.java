@@ -1,9 +1,14 @@
 package com.example.customermanagement.application.usecase;
 
+import com.example.customermanagement.application.search.SearchExecutor;
+import com.example.customermanagement.application.search.SearchResultCache;
 import com.example.customermanagement.domain.exception.InvalidCustomerDataException;
 import com.example.customermanagement.domain.model.Address;
 import com.example.customermanagement.domain.model.Customer;
 import com.example.customermanagement.domain.model.CustomerSearchCriteria;
+import com.example.customermanagement.domain.model.CustomerSlice;
+import com.example.customermanagement.domain.model.NameMatch;
+import com.example.customermanagement.domain.model.PageCursor;
 import com.example.customermanagement.domain.repository.CustomerRepository;
 import com.example.customermanagement.infrastructure.mapper.CustomerMapper;
 import com.example.customermanagement.web.dto.common.PageResponseDTO;
@@ -17,8 +22,10 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -80,7 +87,7 @@ class SearchCustomersUseCaseTest {
         void shouldReturnAllCustomersWhenNoCriteriaSpecified() {
             CustomerSearchCriteria criteria = CustomerSearchCriteria.builder().build();
             
-            when(customerRepository.findAll()).thenReturn(testCustomers);
+            when(customerRepository.streamAll()).thenAnswer(invocation -> testCustomers.stream());
             when(customerMapper.toResponseDto(any(Customer.class)))
                 .thenReturn(testCustomerDTOs.get(0), testCustomerDTOs.get(1), testCustomerDTOs.get(2));
             
@@ -117,7 +124,7 @@ class SearchCustomersUseCaseTest {
                 .searchText("rajesh")
                 .build();
             
-            when(customerRepository.findAll()).thenReturn(testCustomers);
+            when(customerRepository.streamAll()).thenAnswer(invocation -> testCustomers.stream());
             when(customerMapper.toResponseDto(testCustomers.getFirst())).thenReturn(testCustomerDTOs.getFirst());
             
             PageResponseDTO<CustomerResponseDTO> result = searchCustomersUseCase.execute(criteria);
@@ -133,7 +140,7 @@ class SearchCustomersUseCaseTest {
                 .searchText("gmail")
                 .build();
             
-            when(customerRepository.findAll()).thenReturn(testCustomers);
+            when(customerRepository.streamAll()).thenAnswer(invocation -> testCustomers.stream());
             when(customerMapper.toResponseDto(testCustomers.get(1))).thenReturn(testCustomerDTOs.get(1));
             
             PageResponseDTO<CustomerResponseDTO> result = searchCustomersUseCase.execute(criteria);
@@ -148,7 +155,7 @@ class SearchCustomersUseCaseTest {
                 .searchText("bangalore")
                 .build();
             
-            when(customerRepository.findAll()).thenReturn(testCustomers);
+            when(customerRepository.streamAll()).thenAnswer(invocation -> testCustomers.stream());
             when(customerMapper.toResponseDto(testCustomers.get(1))).thenReturn(testCustomerDTOs.get(1));
             
             PageResponseDTO<CustomerResponseDTO> result = searchCustomersUseCase.execute(criteria);
@@ -163,7 +170,7 @@ class SearchCustomersUseCaseTest {
                 .searchText("RAJESH")
                 .build();
             
-            when(customerRepository.findAll()).thenReturn(testCustomers);
+            when(customerRepository.streamAll()).thenAnswer(invocation -> testCustomers.stream());
             when(customerMapper.toResponseDto(testCustomers.getFirst())).thenReturn(testCustomerDTOs.getFirst());
             
             PageResponseDTO<CustomerResponseDTO> result = searchCustomersUseCase.execute(criteria);
@@ -183,7 +190,7 @@ class SearchCustomersUseCaseTest {
                 .name("priya")
                 .build();
             
-            when(customerRepository.findAll()).thenReturn(testCustomers);
+            when(customerRepository.streamAll()).thenAnswer(invocation -> testCustomers.stream());
             when(customerMapper.toResponseDto(testCustomers.get(1))).thenReturn(testCustomerDTOs.get(1));
             
             PageResponseDTO<CustomerResponseDTO> result = searchCustomersUseCase.execute(criteria);
@@ -198,7 +205,7 @@ class SearchCustomersUseCaseTest {
                 .email("@company.com")
                 .build();
             
-            when(customerRepository.findAll()).thenReturn(testCustomers);
+            when(customerRepository.streamAll()).thenAnswer(invocation -> testCustomers.stream());
             when(customerMapper.toResponseDto(testCustomers.get(2))).thenReturn(testCustomerDTOs.get(2));
             
             PageResponseDTO<CustomerResponseDTO> result = searchCustomersUseCase.execute(criteria);
@@ -213,7 +220,7 @@ class SearchCustomersUseCaseTest {
                 .state("Maharashtra")
                 .build();
             
-            when(customerRepository.findAll()).thenReturn(testCustomers);
+            when(customerRepository.streamAll()).thenAnswer(invocation -> testCustomers.stream());
             when(customerMapper.toResponseDto(testCustomers.getFirst())).thenReturn(testCustomerDTOs.getFirst());
             
             PageResponseDTO<CustomerResponseDTO> result = searchCustomersUseCase.execute(criteria);
@@ -229,7 +236,7 @@ class SearchCustomersUseCaseTest {
                 .city("bangalore")
                 .build();
             
-            when(customerRepository.findAll()).thenReturn(testCustomers);
+            when(customerRepository.streamAll()).thenAnswer(invocation -> testCustomers.stream());
             when(customerMapper.toResponseDto(testCustomers.get(1))).thenReturn(testCustomerDTOs.get(1));
             
             PageResponseDTO<CustomerResponseDTO> result = searchCustomersUseCase.execute(criteria);
@@ -252,7 +259,7 @@ class SearchCustomersUseCaseTest {
                 ))
                 .build();
             
-            when(customerRepository.findAll()).thenReturn(testCustomers);
+            when(customerRepository.streamAll()).thenAnswer(invocation -> testCustomers.stream());
             when(customerMapper.toResponseDto(any(Customer.class)))
                 .thenReturn(testCustomerDTOs.get(0), testCustomerDTOs.get(1), testCustomerDTOs.get(2));
             
@@ -274,7 +281,7 @@ class SearchCustomersUseCaseTest {
                 ))
                 .build();
             
-            when(customerRepository.findAll()).thenReturn(testCustomers);
+            when(customerRepository.streamAll()).thenAnswer(invocation -> testCustomers.stream());
             when(customerMapper.toResponseDto(any(Customer.class)))
                 .thenReturn(testCustomerDTOs.get(0), testCustomerDTOs.get(1), testCustomerDTOs.get(2));
             
@@ -296,7 +303,7 @@ class SearchCustomersUseCaseTest {
                 .size(2)
                 .build();
             
-            when(customerRepository.findAll()).thenReturn(testCustomers);
+            when(customerRepository.streamAll()).thenAnswer(invocation -> testCustomers.stream());
             when(customerMapper.toResponseDto(testCustomers.get(0))).thenReturn(testCustomerDTOs.get(0));
             when(customerMapper.toResponseDto(testCustomers.get(1))).thenReturn(testCustomerDTOs.get(1));
             
@@ -317,7 +324,7 @@ class SearchCustomersUseCaseTest {
                 .size(2)
                 .build();
             
-            when(customerRepository.findAll()).thenReturn(testCustomers);
+            when(customerRepository.streamAll()).thenAnswer(invocation -> testCustomers.stream());
             when(customerMapper.toResponseDto(testCustomers.get(2))).thenReturn(testCustomerDTOs.get(2));
             
             PageResponseDTO<CustomerResponseDTO> result = searchCustomersUseCase.execute(criteria);
@@ -337,7 +344,7 @@ class SearchCustomersUseCaseTest {
                 .size(2)
                 .build();
             
-            when(customerRepository.findAll()).thenReturn(testCustomers);
+            when(customerRepository.streamAll()).thenAnswer(invocation -> testCustomers.stream());
             
             PageResponseDTO<CustomerResponseDTO> result = searchCustomersUseCase.execute(criteria);
             
@@ -361,7 +368,7 @@ class SearchCustomersUseCaseTest {
                 .createdAfter(filterDate)
                 .build();
             
-            when(customerRepository.findAll()).thenReturn(testCustomers);
+            when(customerRepository.streamAll()).thenAnswer(invocation -> testCustomers.stream());
             when(customerMapper.toResponseDto(any(Customer.class)))
                 .thenReturn(testCustomerDTOs.get(0), testCustomerDTOs.get(1), testCustomerDTOs.get(2));
             
@@ -379,7 +386,7 @@ class SearchCustomersUseCaseTest {
                 .createdBefore(filterDate)
                 .build();
             
-            when(customerRepository.findAll()).thenReturn(testCustomers);
+            when(customerRepository.streamAll()).thenAnswer(invocation -> testCustomers.stream());
             when(customerMapper.toResponseDto(any(Customer.class)))
                 .thenReturn(testCustomerDTOs.get(0), testCustomerDTOs.get(1), testCustomerDTOs.get(2));
             
@@ -387,6 +394,63 @@ class SearchCustomersUseCaseTest {
             
             assertEquals(3, result.getTotalElements());
         }
+        
+        @Test
+        @DisplayName("Should use the repository's columnar scan for newest-first date-range queries")
+        void shouldUseColumnarScanForNewestFirstDateRange() {
+            CustomerSearchCriteria criteria = CustomerSearchCriteria.builder()
+                .createdAfter(LocalDateTime.now().minusDays(1))
+                .city("mum")
+                .size(1)
+                .build();
+            
+            when(customerRepository.scanNewestFirst(criteria, 0, 2))
+                .thenReturn(Optional.of(new CustomerSlice(new ArrayList<>(testCustomers.subList(0, 2)), 5)));
+            when(customerMapper.toResponseDto(testCustomers.get(0))).thenReturn(testCustomerDTOs.get(0));
+            
+            PageResponseDTO<CustomerResponseDTO> result = searchCustomersUseCase.execute(criteria);
+            
+            assertEquals(5, result.getTotalElements());
+            assertEquals(List.of(testCustomerDTOs.get(0)), result.getContent());
+            assertNotNull(result.getNextCursor());
+            verify(customerRepository, never()).streamAll();
+        }
+
+        @Test
+        @DisplayName("Should hand large unindexed scans to the repository's top-K scan")
+        void shouldUseRepositoryTopKScanFromParallelThreshold() {
+            SearchCustomersUseCase useCase = new SearchCustomersUseCase(customerRepository, customerMapper,
+                new SearchExecutor(2, 3, 2), SearchResultCache.disabled());
+            CustomerSearchCriteria criteria = CustomerSearchCriteria.builder().email("example").size(2).build();
+
+            when(customerRepository.count()).thenReturn(3L);
+            when(customerRepository.findTopMatching(any(), any(), any(), eq(0L), eq(3)))
+                .thenReturn(Optional.of(new CustomerSlice(List.of(testCustomers.get(0)), 1)));
+            when(customerMapper.toResponseDto(testCustomers.get(0))).thenReturn(testCustomerDTOs.get(0));
+
+            PageResponseDTO<CustomerResponseDTO> result = useCase.execute(criteria);
+
+            assertEquals(1, result.getTotalElements());
+            assertEquals(List.of(testCustomerDTOs.get(0)), result.getContent());
+            verify(customerRepository, never()).streamAll();
+        }
+
+        @Test
+        @DisplayName("Should scan with the search executor when the repository has no top-K scan")
+        void shouldFallBackToSearchExecutorWithoutRepositoryTopKScan() {
+            SearchCustomersUseCase useCase = new SearchCustomersUseCase(customerRepository, customerMapper,
+                new SearchExecutor(2, 3, 2), SearchResultCache.disabled());
+            CustomerSearchCriteria criteria = CustomerSearchCriteria.builder().email("example").size(2).build();
+
+            when(customerRepository.count()).thenReturn(3L);
+            when(customerRepository.streamAll()).thenAnswer(invocation -> testCustomers.stream());
+            when(customerMapper.toResponseDto(testCustomers.get(0))).thenReturn(testCustomerDTOs.get(0));
+
+            PageResponseDTO<CustomerResponseDTO> result = useCase.execute(criteria);
+
+            assertEquals(1, result.getTotalElements());
+            verify(customerRepository).findTopMatching(any(), any(), any(), eq(0L), eq(3));
+        }
     }
     
     @Nested
@@ -398,7 +462,7 @@ class SearchCustomersUseCaseTest {
         void shouldHandleEmptyCustomerList() {
             CustomerSearchCriteria criteria = CustomerSearchCriteria.builder().build();
             
-            when(customerRepository.findAll()).thenReturn(List.of());
+            when(customerRepository.streamAll()).thenAnswer(invocation -> List.of().stream());
             
             PageResponseDTO<CustomerResponseDTO> result = searchCustomersUseCase.execute(criteria);
             
@@ -414,7 +478,7 @@ class SearchCustomersUseCaseTest {
                 .searchText("nonexistent")
                 .build();
             
-            when(customerRepository.findAll()).thenReturn(testCustomers);
+            when(customerRepository.streamAll()).thenAnswer(invocation -> testCustomers.stream());
             
             PageResponseDTO<CustomerResponseDTO> result = searchCustomersUseCase.execute(criteria);
             
@@ -433,7 +497,7 @@ class SearchCustomersUseCaseTest {
                 ))
                 .build();
             
-            when(customerRepository.findAll()).thenReturn(testCustomers);
+            when(customerRepository.streamAll()).thenAnswer(invocation -> testCustomers.stream());
             when(customerMapper.toResponseDto(any(Customer.class)))
                 .thenReturn(testCustomerDTOs.get(0), testCustomerDTOs.get(1), testCustomerDTOs.get(2));
             
@@ -444,4 +508,53 @@ class SearchCustomersUseCaseTest {
             });
         }
     }
+    
+    @Nested
+    @DisplayName("Fuzzy Name Tests")
+    class FuzzyNameTests {
+        
+        @Test
+        @DisplayName("Should rank misspelled name matches by edit distance")
+        void shouldRankMisspelledNameMatchesByEditDistance() {
+            Customer close = new Customer("Amit Patil", "amit.patil@example.com", "+91-7654321099",
+                new Address("1 FC Road", "Pune", "Maharashtra", "411004", "India"));
+            List<Customer> customers = new ArrayList<>(testCustomers);
+            customers.add(close);
+            CustomerSearchCriteria criteria = CustomerSearchCriteria.builder()
+                .name("Amit Patel")
+                .nameMatch(NameMatch.FUZZY)
+                .maxEditDistance(1)
+                .build();
+            
+            when(customerRepository.findFuzzyNameCandidates("amit patel", 1)).thenReturn(Optional.empty());
+            when(customerRepository.streamAll()).thenAnswer(invocation -> customers.stream());
+            when(customerMapper.toResponseDtoList(List.of(testCustomers.get(2), close)))
+                .thenReturn(List.of(testCustomerDTOs.get(2), createCustomerResponseDTO(close)));
+            
+            PageResponseDTO<CustomerResponseDTO> result = searchCustomersUseCase.execute(criteria);
+            
+            assertEquals(2, result.getTotalElements());
+            assertEquals("Amit Patel", result.getContent().get(0).getName());
+            assertEquals("Amit Patil", result.getContent().get(1).getName());
+            assertNull(result.getNextCursor());
+        }
+        
+        @Test
+        @DisplayName("Should reject cursors for relevance-ranked fuzzy searches")
+        void shouldRejectCursorForFuzzySearch() {
+            CustomerSearchCriteria criteria = CustomerSearchCriteria.builder()
+                .name("Amit Patel")
+                .nameMatch(NameMatch.FUZZY)
+                .cursor(new PageCursor("createdat:desc", List.of("2024-01-01T10:00"), testCustomers.get(0).getId()))
+                .build();
+            
+            InvalidCustomerDataException exception = assertThrows(
+                InvalidCustomerDataException.class,
+                () -> searchCustomersUseCase.execute(criteria)
+            );
+            
+            assertEquals("cursor", exception.getField());
+            verify(customerRepository, never()).streamAll();
+        }
+    }
 }
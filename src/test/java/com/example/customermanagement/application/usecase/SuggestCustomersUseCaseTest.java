@@ -0,0 +1,82 @@
+package com.example.customermanagement.application.usecase;
+
+import com.example.customermanagement.domain.exception.InvalidCustomerDataException;
+import com.example.customermanagement.domain.model.Address;
+import com.example.customermanagement.domain.model.Customer;
+import com.example.customermanagement.domain.model.CustomerSuggestion;
+import com.example.customermanagement.domain.repository.CustomerRepository;
+import com.example.customermanagement.web.dto.customer.CustomerSuggestionDTO;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Suggest Customers Use Case Tests")
+class SuggestCustomersUseCaseTest {
+
+    @Mock
+    private CustomerRepository customerRepository;
+
+    @InjectMocks
+    private SuggestCustomersUseCase suggestCustomersUseCase;
+
+    @Test
+    @DisplayName("Should return ids and display strings from the prefix index")
+    void shouldReturnSuggestionsFromPrefixIndex() {
+        // Given
+        UUID id = UUID.randomUUID();
+        when(customerRepository.suggest("raj", 5)).thenReturn(Optional.of(List.of(
+                new CustomerSuggestion("rajesh kumar", id, "Rajesh Kumar", "rajesh.kumar@example.com"))));
+
+        // When
+        List<CustomerSuggestionDTO> result = suggestCustomersUseCase.execute("raj", 5);
+
+        // Then
+        assertEquals(1, result.size());
+        assertEquals(id, result.get(0).getId());
+        assertEquals("Rajesh Kumar", result.get(0).getName());
+        assertEquals("rajesh.kumar@example.com", result.get(0).getEmail());
+        verify(customerRepository, never()).streamAll();
+    }
+
+    @Test
+    @DisplayName("Should scan customers when the repository has no prefix index")
+    void shouldScanWhenRepositoryHasNoPrefixIndex() {
+        // Given
+        Address address = new Address("123 MG Road", "Mumbai", "Maharashtra", "400001", "India");
+        Customer rajesh = new Customer("Rajesh Kumar", "rajesh.kumar@example.com", "+91-9876543210", address);
+        Customer anil = new Customer("Anil Kumar", "anil@example.com", "+91-9876543211", address);
+        Customer priya = new Customer("Priya Sharma", "priya@example.com", "+91-9876543212", address);
+        when(customerRepository.suggest("Kum", 1)).thenReturn(Optional.empty());
+        when(customerRepository.streamAll()).thenReturn(Stream.of(rajesh, anil, priya));
+
+        // When
+        List<CustomerSuggestionDTO> result = suggestCustomersUseCase.execute("Kum", 1);
+
+        // Then
+        UUID first = rajesh.getId().toString().compareTo(anil.getId().toString()) < 0 ? rajesh.getId() : anil.getId();
+        assertEquals(List.of(first), result.stream().map(CustomerSuggestionDTO::getId).toList());
+    }
+
+    @Test
+    @DisplayName("Should reject a blank prefix and an out-of-range limit")
+    void shouldRejectInvalidArguments() {
+        assertThrows(InvalidCustomerDataException.class, () -> suggestCustomersUseCase.execute(" ", 10));
+        assertThrows(InvalidCustomerDataException.class, () -> suggestCustomersUseCase.execute(null, 10));
+        assertThrows(InvalidCustomerDataException.class, () -> suggestCustomersUseCase.execute("raj", 0));
+        assertThrows(InvalidCustomerDataException.class,
+                () -> suggestCustomersUseCase.execute("raj", SuggestCustomersUseCase.MAX_LIMIT + 1));
+        verifyNoInteractions(customerRepository);
+    }
+}
@@ -508,4 +508,225 @@ class CustomerControllerIntegrationTest {
         // This test ensures that the Spring application context loads successfully
         // with all the Clean Architecture components properly wired together
     }
-}
\ No newline at end of file
+
+    @Test
+    void shouldWalkSearchResultsWithCursor() throws Exception {
+        // Given
+        String marker = "cursorwalk" + UUID.randomUUID().toString().substring(0, 8);
+        for (int i = 0; i < 3; i++) {
+            CustomerRequestDTO requestDTO = new CustomerRequestDTO(
+                    "Cursor Walk " + i, marker + i + "@example.com", "+91-987654321" + i,
+                    new AddressDTO("123 MG Road", "Mumbai", "Maharashtra", "400001", "India")
+            );
+            mockMvc.perform(post("/api/v1/customers")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(requestDTO)))
+                    .andExpect(status().isCreated());
+        }
+
+        // When
+        MvcResult firstPage = mockMvc.perform(get("/api/v1/customers/search")
+                        .param("search", marker)
+                        .param("sort", "email,asc")
+                        .param("size", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(2))
+                .andExpect(jsonPath("$.content[0].email").value(marker + "0@example.com"))
+                .andExpect(jsonPath("$.nextCursor").exists())
+                .andReturn();
+        String nextCursor = objectMapper.readTree(firstPage.getResponse().getContentAsString())
+                .get("nextCursor").asText();
+
+        // Then
+        mockMvc.perform(get("/api/v1/customers/search")
+                        .param("search", marker)
+                        .param("sort", "email,asc")
+                        .param("size", "2")
+                        .param("cursor", nextCursor))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(1))
+                .andExpect(jsonPath("$.content[0].email").value(marker + "2@example.com"))
+                .andExpect(jsonPath("$.totalElements").value(3))
+                .andExpect(jsonPath("$.nextCursor").doesNotExist());
+    }
+
+    @Test
+    void shouldReturn400ForMalformedCursor() throws Exception {
+        // When & Then
+        mockMvc.perform(get("/api/v1/customers")
+                        .param("cursor", "not-a-cursor"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errors[0].field").value("cursor"));
+    }
+
+    @Test
+    void shouldSuggestCustomersByEmailPrefix() throws Exception {
+        // Given
+        String marker = "suggest" + UUID.randomUUID().toString().substring(0, 8);
+        CustomerRequestDTO requestDTO = new CustomerRequestDTO(
+                "Suggest Target", marker + "@example.com", "+91-9876543210",
+                new AddressDTO("123 MG Road", "Mumbai", "Maharashtra", "400001", "India")
+        );
+        mockMvc.perform(post("/api/v1/customers")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(requestDTO)))
+                .andExpect(status().isCreated());
+
+        // When & Then
+        mockMvc.perform(get("/api/v1/customers/suggest")
+                        .param("q", marker.toUpperCase())
+                        .param("limit", "5"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].name").value("Suggest Target"))
+                .andExpect(jsonPath("$[0].email").value(marker + "@example.com"))
+                .andExpect(jsonPath("$[0].id").exists());
+        mockMvc.perform(get("/api/v1/customers/suggest")
+                        .param("q", " "))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errors[0].field").value("q"));
+    }
+
+    @Test
+    void shouldFindMisspelledNameWithFuzzySearch() throws Exception {
+        // Given
+        String marker = "fuzzy" + UUID.randomUUID().toString().substring(0, 8);
+        CustomerRequestDTO requestDTO = new CustomerRequestDTO(
+                "Venkataraman Subramanian", marker + "@example.com", "+91-9876543210",
+                new AddressDTO("123 MG Road", "Mumbai", "Maharashtra", "400001", "India")
+        );
+        mockMvc.perform(post("/api/v1/customers")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(requestDTO)))
+                .andExpect(status().isCreated());
+
+        // When & Then
+        mockMvc.perform(get("/api/v1/customers/search")
+                        .param("name", "Venkatraman Subramanyan")
+                        .param("nameMatch", "fuzzy")
+                        .param("email", marker))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalElements").value(1))
+                .andExpect(jsonPath("$.content[0].email").value(marker + "@example.com"));
+        mockMvc.perform(get("/api/v1/customers/search")
+                        .param("name", "Venkatraman Subramanyan")
+                        .param("email", marker))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalElements").value(0));
+    }
+
+    @Test
+    void shouldCombineFiltersWithBooleanQuery() throws Exception {
+        // Given
+        String marker = "query" + UUID.randomUUID().toString().substring(0, 8);
+        for (String[] place : new String[][]{{"Reno", "NV"}, {"Fresno", "CA"}, {"San Diego", "CA"}, {"Austin", "TX"}}) {
+            CustomerRequestDTO requestDTO = new CustomerRequestDTO(
+                    "Query Customer", marker + "." + place[0].replace(" ", "") + "@example.com", "+1-555-0100",
+                    new AddressDTO("1 Main St", place[0], place[1], "90001", "United States")
+            );
+            mockMvc.perform(post("/api/v1/customers")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(requestDTO)))
+                    .andExpect(status().isCreated());
+        }
+
+        // When & Then
+        mockMvc.perform(get("/api/v1/customers/search")
+                        .param("q", "email:" + marker + " (state=CA OR state=NV), NOT city=Fresno")
+                        .param("sort", "email,asc"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalElements").value(2))
+                .andExpect(jsonPath("$.content[0].address.city").value("Reno"))
+                .andExpect(jsonPath("$.content[1].address.city").value("San Diego"));
+        mockMvc.perform(get("/api/v1/customers/search")
+                        .param("q", "state=CA OR"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void shouldReturnChangesSinceToken() throws Exception {
+        // Given
+        String token = null;
+        boolean hasMore = true;
+        while (hasMore) {
+            var request = get("/api/v1/customers/changes").param("limit", "1000");
+            if (token != null) {
+                request.param("since", token);
+            }
+            var page = objectMapper.readTree(mockMvc.perform(request)
+                    .andExpect(status().isOk())
+                    .andReturn().getResponse().getContentAsString());
+            token = page.get("nextToken").asText();
+            hasMore = page.get("hasMore").asBoolean();
+        }
+        String[] ids = new String[2];
+        for (int i = 0; i < ids.length; i++) {
+            CustomerRequestDTO requestDTO = new CustomerRequestDTO(
+                    "Sync Customer " + i, "sync" + i + "." + UUID.randomUUID().toString().substring(0, 8) + "@example.com",
+                    "+1-555-0100", new AddressDTO("1 Main St", "Austin", "TX", "73301", "United States")
+            );
+            ids[i] = objectMapper.readTree(mockMvc.perform(post("/api/v1/customers")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(requestDTO)))
+                    .andExpect(status().isCreated())
+                    .andReturn().getResponse().getContentAsString()).get("id").asText();
+        }
+        mockMvc.perform(delete("/api/v1/customers/" + ids[0]))
+                .andExpect(status().isNoContent());
+
+        // When & Then
+        mockMvc.perform(get("/api/v1/customers/changes").param("since", token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.changes.length()").value(2))
+                .andExpect(jsonPath("$.changes[0].id").value(ids[1]))
+                .andExpect(jsonPath("$.changes[0].type").value("UPSERTED"))
+                .andExpect(jsonPath("$.changes[0].customer.name").value("Sync Customer 1"))
+                .andExpect(jsonPath("$.changes[1].id").value(ids[0]))
+                .andExpect(jsonPath("$.changes[1].type").value("DELETED"))
+                .andExpect(jsonPath("$.hasMore").value(false))
+                .andExpect(jsonPath("$.nextToken").exists());
+        mockMvc.perform(get("/api/v1/customers/changes").param("since", "not-a-token"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void shouldReturnEventsAfterSequence() throws Exception {
+        // Given
+        var head = objectMapper.readTree(mockMvc.perform(get("/api/v1/customers/events"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.events.length()").value(0))
+                .andReturn().getResponse().getContentAsString());
+        long epoch = head.get("epoch").asLong();
+        long after = head.get("lastSequence").asLong();
+        CustomerRequestDTO requestDTO = new CustomerRequestDTO(
+                "Event Customer", "event." + UUID.randomUUID().toString().substring(0, 8) + "@example.com",
+                "+1-555-0100", new AddressDTO("1 Main St", "Austin", "TX", "73301", "United States")
+        );
+        String id = objectMapper.readTree(mockMvc.perform(post("/api/v1/customers")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(requestDTO)))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString()).get("id").asText();
+        mockMvc.perform(delete("/api/v1/customers/" + id))
+                .andExpect(status().isNoContent());
+
+        // When & Then
+        mockMvc.perform(get("/api/v1/customers/events")
+                        .param("after", String.valueOf(after))
+                        .param("epoch", String.valueOf(epoch)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.events.length()").value(2))
+                .andExpect(jsonPath("$.events[0].type").value("CREATED"))
+                .andExpect(jsonPath("$.events[0].customerId").value(id))
+                .andExpect(jsonPath("$.events[0].customer.name").value("Event Customer"))
+                .andExpect(jsonPath("$.events[1].type").value("DELETED"))
+                .andExpect(jsonPath("$.lastSequence").value(after + 2));
+        mockMvc.perform(get("/api/v1/customers/events")
+                        .param("after", String.valueOf(after))
+                        .param("epoch", String.valueOf(epoch + 1)))
+                .andExpect(status().isGone());
+        mockMvc.perform(get("/api/v1/customers/events").param("after", "-1"))
+                .andExpect(status().isBadRequest());
+    }
+
+}
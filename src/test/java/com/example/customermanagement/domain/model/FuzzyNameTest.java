@@ -0,0 +1,96 @@
+package com.example.customermanagement.domain.model;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Fuzzy Name Tests")
+class FuzzyNameTest {
+
+    @Test
+    @DisplayName("Should fold names and collapse whitespace")
+    void shouldNormalizeNames() {
+        String normalized = "rajesh kumar";
+
+        assertEquals(normalized, FuzzyName.normalize("  Rajesh \t KUMAR "));
+        assertSame(normalized, FuzzyName.normalize(normalized));
+        assertEquals(Set.of(" ra", "raj", "aje", "jes", "esh", "sh "), FuzzyName.grams("rajesh"));
+    }
+
+    @Test
+    @DisplayName("Should measure distance to the whole name or a run of its words")
+    void shouldMeasureDistanceToWordRuns() {
+        assertEquals(0, FuzzyName.distance("kumar", "Rajesh Kumar", 2));
+        assertEquals(1, FuzzyName.distance("kumr", "Rajesh Kumar", 2));
+        assertEquals(1, FuzzyName.distance("rajesh kumr", "Rajesh Kumar", 2));
+        assertEquals(2, FuzzyName.distance("rajsh kumr", "Rajesh  Kumar", 2));
+        assertEquals(1, FuzzyName.distance("smyth", "John Smith", 2));
+        assertEquals(3, FuzzyName.distance("sharma", "Rajesh Kumar", 2));
+        assertEquals(3, FuzzyName.distance("kumar", null, 2));
+    }
+
+    @Test
+    @DisplayName("Should lower the edit budget for short terms")
+    void shouldLowerEditBudgetForShortTerms() {
+        assertEquals(0, FuzzyName.effectiveMaxEdits("li", 2));
+        assertEquals(1, FuzzyName.effectiveMaxEdits("kumr", 2));
+        assertEquals(2, FuzzyName.effectiveMaxEdits("sharmaa", 2));
+        assertEquals(1, FuzzyName.effectiveMaxEdits("sharmaa", 1));
+    }
+
+    @Test
+    @DisplayName("Should share enough trigrams with every name within the edit budget")
+    void shouldShareEnoughTrigramsWithinEditBudget() {
+        Random random = new Random(7);
+        String alphabet = "abcde ";
+        for (int run = 0; run < 2_000; run++) {
+            String name = FuzzyName.normalize("x" + randomString(random, alphabet, 3 + random.nextInt(8)) + "y");
+            String term = FuzzyName.normalize(mutate(random, name, alphabet, random.nextInt(3)));
+            if (term.isEmpty()) {
+                continue;
+            }
+            int maxEdits = FuzzyName.effectiveMaxEdits(term, 2);
+            if (FuzzyName.distance(term, name, maxEdits) > maxEdits) {
+                continue;
+            }
+            Set<String> shared = new HashSet<>(FuzzyName.grams(term));
+            shared.retainAll(FuzzyName.grams(name));
+            assertTrue(shared.size() >= FuzzyName.minSharedGrams(FuzzyName.grams(term).size(), maxEdits),
+                    term + " / " + name);
+        }
+    }
+
+    @Test
+    @DisplayName("Should rate closer names as more similar")
+    void shouldRateCloserNamesAsMoreSimilar() {
+        assertEquals(1.0, FuzzyName.similarity("kumar", "Kumar"));
+        assertTrue(FuzzyName.similarity("kumar", "Anil Kumar") > FuzzyName.similarity("kumar", "Rajesh Kumar Verma"));
+        assertEquals(0.0, FuzzyName.similarity("kumar", "Li"));
+    }
+
+    private static String randomString(Random random, String alphabet, int length) {
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < length; i++) {
+            builder.append(alphabet.charAt(random.nextInt(alphabet.length())));
+        }
+        return builder.toString();
+    }
+
+    private static String mutate(Random random, String value, String alphabet, int edits) {
+        StringBuilder builder = new StringBuilder(value);
+        for (int edit = 0; edit < edits && builder.length() > 1; edit++) {
+            int position = random.nextInt(builder.length());
+            switch (random.nextInt(3)) {
+                case 0 -> builder.deleteCharAt(position);
+                case 1 -> builder.insert(position, alphabet.charAt(random.nextInt(alphabet.length())));
+                default -> builder.setCharAt(position, alphabet.charAt(random.nextInt(alphabet.length())));
+            }
+        }
+        return builder.toString();
+    }
+}
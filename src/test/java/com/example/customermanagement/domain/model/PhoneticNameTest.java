@@ -0,0 +1,46 @@
+package com.example.customermanagement.domain.model;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Phonetic Name Tests")
+class PhoneticNameTest {
+
+    @Test
+    @DisplayName("Should encode words with American Soundex")
+    void shouldEncodeWordsWithSoundex() {
+        assertEquals("S530", PhoneticName.encode("Smith"));
+        assertEquals("S530", PhoneticName.encode("Smyth"));
+        assertEquals("R163", PhoneticName.encode("Robert"));
+        assertEquals("R163", PhoneticName.encode("Rupert"));
+        assertEquals("A261", PhoneticName.encode("Ashcraft"));
+        assertEquals("T522", PhoneticName.encode("Tymczak"));
+        assertEquals("P236", PhoneticName.encode("Pfister"));
+        assertEquals("L000", PhoneticName.encode("Lee"));
+        assertNull(PhoneticName.encode("123"));
+    }
+
+    @Test
+    @DisplayName("Should key each word of a name and ignore accents and hyphens")
+    void shouldKeyEachWord() {
+        assertEquals(List.of("J500", "S530"), PhoneticName.keysOf("  John SMITH "));
+        assertEquals(List.of("J200", "P400"), PhoneticName.keysOf("José-Paul"));
+        assertEquals(List.of("S530"), PhoneticName.keysOf("Smith Smyth"));
+        assertTrue(PhoneticName.keysOf(null).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should match when every term code is among the name codes")
+    void shouldMatchEveryTermCode() {
+        List<String> name = PhoneticName.keysOf("John Smith");
+
+        assertTrue(PhoneticName.matches(PhoneticName.keysOf("Smyth"), name));
+        assertTrue(PhoneticName.matches(PhoneticName.keysOf("Smyth Jon"), name));
+        assertFalse(PhoneticName.matches(PhoneticName.keysOf("Smyth Jane Doe"), name));
+        assertFalse(PhoneticName.matches(List.of(), name));
+    }
+}
@@ -0,0 +1,46 @@
+package com.example.customermanagement.infrastructure.mapper;
+
+import com.example.customermanagement.domain.exception.InvalidCustomerDataException;
+import com.example.customermanagement.domain.model.ChangeToken;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Change Token Codec Tests")
+class ChangeTokenCodecTest {
+
+    @Test
+    @DisplayName("Should round-trip a token through its opaque form")
+    void shouldRoundTripToken() {
+        ChangeToken token = new ChangeToken(-42L, 1234L, LocalDateTime.of(2024, 1, 1, 10, 0, 5, 123_456_789));
+
+        String encoded = ChangeTokenCodec.encode(token);
+
+        assertFalse(encoded.contains("/") || encoded.contains("+") || encoded.contains("="));
+        assertEquals(token, ChangeTokenCodec.decode(encoded));
+        assertEquals(new ChangeToken(0, 0, LocalDateTime.MIN),
+                ChangeTokenCodec.decode(ChangeTokenCodec.encode(new ChangeToken(0, 0, LocalDateTime.MIN))));
+    }
+
+    @Test
+    @DisplayName("Should return null for absent token")
+    void shouldReturnNullForAbsentToken() {
+        assertNull(ChangeTokenCodec.decode(null));
+        assertNull(ChangeTokenCodec.decode("  "));
+        assertNull(ChangeTokenCodec.encode(null));
+    }
+
+    @Test
+    @DisplayName("Should reject malformed token")
+    void shouldRejectMalformedToken() {
+        InvalidCustomerDataException exception = assertThrows(
+                InvalidCustomerDataException.class,
+                () -> ChangeTokenCodec.decode("not-a-token")
+        );
+
+        assertEquals("since", exception.getField());
+    }
+}
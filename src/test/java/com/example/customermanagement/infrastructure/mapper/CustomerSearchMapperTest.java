@@ -1,7 +1,9 @@
 package com.example.customermanagement.infrastructure.mapper;
 
+import com.example.customermanagement.domain.exception.InvalidCustomerDataException;
 import com.example.customermanagement.domain.exception.InvalidDateFormatException;
 import com.example.customermanagement.domain.model.CustomerSearchCriteria;
+import com.example.customermanagement.domain.model.NameMatch;
 import com.example.customermanagement.web.dto.customer.CustomerSearchRequestDTO;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -109,7 +111,7 @@ class CustomerSearchMapperTest {
                 "Bangalore", "Karnataka", "India", "560001",
                 "2023-01-01T00:00:00", "2023-12-31T23:59:59",
                 "2023-06-01T00:00:00", "2023-06-30T23:59:59",
-                    List.of("name,asc"), 2, 25
+                    List.of("name,asc"), null, 2, 25
             );
 
             // Then
@@ -130,6 +132,71 @@ class CustomerSearchMapperTest {
             assertNotNull(result.getSortCriteria());
             assertEquals(1, result.getSortCriteria().size());
         }
+
+        @Test
+        @DisplayName("Should map fuzzy name options")
+        void shouldMapFuzzyNameOptions() {
+            // When
+            CustomerSearchCriteria fuzzy = mapper.toSearchCriteria(
+                null, "Priya Shrma", "FUZZY", 1, null, null, null, null, null, null,
+                null, null, null, null, null, null, 0, 20
+            );
+            CustomerSearchCriteria defaults = mapper.toSearchCriteria(
+                null, "Priya", null, null, null, null, null, null, null, null,
+                null, null, null, null, null, null, 0, 20
+            );
+
+            // Then
+            assertEquals(NameMatch.FUZZY, fuzzy.getNameMatch());
+            assertEquals(1, fuzzy.getMaxEditDistance());
+            assertTrue(fuzzy.hasFuzzyName());
+            assertEquals(NameMatch.CONTAINS, defaults.getNameMatch());
+            assertFalse(defaults.hasFuzzyName());
+        }
+
+        @Test
+        @DisplayName("Should parse the q expression alongside the other filters")
+        void shouldParseQueryExpression() {
+            // When
+            CustomerSearchCriteria result = mapper.toSearchCriteria(
+                null, "state=CA OR state=NV, NOT city=Fresno", null, null, null, null, null, "Reno", null, null,
+                null, null, null, null, null, null, null, 0, 20
+            );
+
+            // Then
+            assertTrue(result.hasQuery());
+            assertEquals("Reno", result.getCity());
+            assertFalse(mapper.toSearchCriteria(
+                null, "  ", null, null, null, null, null, null, null, null,
+                null, null, null, null, null, null, null, 0, 20
+            ).hasQuery());
+        }
+
+        @Test
+        @DisplayName("Should map phonetic name match")
+        void shouldMapPhoneticNameMatch() {
+            // When
+            CustomerSearchCriteria phonetic = mapper.toSearchCriteria(
+                null, "Smyth", "phonetic", null, null, null, null, null, null, null,
+                null, null, null, null, null, null, 0, 20
+            );
+
+            // Then
+            assertEquals(NameMatch.PHONETIC, phonetic.getNameMatch());
+            assertTrue(phonetic.hasPhoneticName());
+            assertFalse(phonetic.hasFuzzyName());
+        }
+
+        @Test
+        @DisplayName("Should reject unknown name match modes and out-of-range edit budgets")
+        void shouldRejectInvalidFuzzyNameOptions() {
+            assertThrows(InvalidCustomerDataException.class, () -> mapper.toSearchCriteria(
+                null, "Priya", "sounds-like", null, null, null, null, null, null, null,
+                null, null, null, null, null, null, 0, 20));
+            assertThrows(InvalidCustomerDataException.class, () -> mapper.toSearchCriteria(
+                null, "Priya", "fuzzy", 4, null, null, null, null, null, null,
+                null, null, null, null, null, null, 0, 20));
+        }
     }
 
     @Nested
@@ -0,0 +1,46 @@
+package com.example.customermanagement.infrastructure.mapper;
+
+import com.example.customermanagement.domain.exception.InvalidCustomerDataException;
+import com.example.customermanagement.domain.model.PageCursor;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Page Cursor Codec Tests")
+class PageCursorCodecTest {
+
+    @Test
+    @DisplayName("Should round-trip a cursor through its opaque token")
+    void shouldRoundTripCursor() {
+        PageCursor cursor = new PageCursor("name:asc,createdat:desc",
+                List.of("Rajesh Kumar", "2024-01-01T10:00"), UUID.randomUUID());
+
+        String token = PageCursorCodec.encode(cursor);
+
+        assertFalse(token.contains("/") || token.contains("+") || token.contains("="));
+        assertEquals(cursor, PageCursorCodec.decode(token));
+    }
+
+    @Test
+    @DisplayName("Should return null for absent cursor")
+    void shouldReturnNullForAbsentCursor() {
+        assertNull(PageCursorCodec.decode(null));
+        assertNull(PageCursorCodec.decode("  "));
+        assertNull(PageCursorCodec.encode(null));
+    }
+
+    @Test
+    @DisplayName("Should reject malformed cursor")
+    void shouldRejectMalformedCursor() {
+        InvalidCustomerDataException exception = assertThrows(
+                InvalidCustomerDataException.class,
+                () -> PageCursorCodec.decode("not-a-cursor")
+        );
+
+        assertEquals("cursor", exception.getField());
+    }
+}
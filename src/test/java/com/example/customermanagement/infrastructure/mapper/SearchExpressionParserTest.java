@@ -0,0 +1,69 @@
+package com.example.customermanagement.infrastructure.mapper;
+
+import com.example.customermanagement.domain.exception.InvalidCustomerDataException;
+import com.example.customermanagement.domain.model.MatchMode;
+import com.example.customermanagement.domain.model.SearchExpression;
+import com.example.customermanagement.domain.model.SearchExpression.And;
+import com.example.customermanagement.domain.model.SearchExpression.Not;
+import com.example.customermanagement.domain.model.SearchExpression.Or;
+import com.example.customermanagement.domain.model.SearchExpression.Term;
+import com.example.customermanagement.domain.model.SearchField;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Search Expression Parser Tests")
+class SearchExpressionParserTest {
+
+    @Test
+    @DisplayName("Should bind commas loosest, then OR, then AND and NOT")
+    void shouldParseOperatorPrecedence() {
+        SearchExpression expression = SearchExpressionParser.parse("state=CA OR state=NV, NOT city=Fresno");
+
+        assertEquals(new And(List.of(
+                new Or(List.of(
+                        new Term(SearchField.STATE, MatchMode.EXACT, "ca"),
+                        new Term(SearchField.STATE, MatchMode.EXACT, "nv"))),
+                new Not(new Term(SearchField.CITY, MatchMode.EXACT, "fresno")))), expression);
+        assertEquals(SearchExpressionParser.parse("(state=ca or state=nv) and not city=FRESNO"), expression);
+    }
+
+    @Test
+    @DisplayName("Should read implicit AND, substring terms and quoted values")
+    void shouldParseTermsAndValues() {
+        SearchExpression expression = SearchExpressionParser.parse(
+                "name:\"Kumar\" zip:400 city = \"Los \\\"LA\\\" Angeles\"");
+
+        assertEquals(new And(List.of(
+                new Term(SearchField.NAME, MatchMode.CONTAINS, "kumar"),
+                new Term(SearchField.ZIP_CODE, MatchMode.CONTAINS, "400"),
+                new Term(SearchField.CITY, MatchMode.EXACT, "los \"la\" angeles"))), expression);
+        assertNull(SearchExpressionParser.parse("  "));
+    }
+
+    @Test
+    @DisplayName("Should reject malformed queries on the q field")
+    void shouldRejectMalformedQueries() {
+        for (String query : List.of("city=", "city", "town=Reno", "state=CA OR", "(state=CA", "state=CA)",
+                "name:\"open", "NOT", "state=CA AND AND city=Reno")) {
+            InvalidCustomerDataException exception = assertThrows(
+                    InvalidCustomerDataException.class, () -> SearchExpressionParser.parse(query), query);
+            assertEquals("q", exception.getField());
+        }
+    }
+
+    @Test
+    @DisplayName("Should bound query length, term count and nesting")
+    void shouldBoundQuerySize() {
+        assertThrows(InvalidCustomerDataException.class,
+                () -> SearchExpressionParser.parse("name:" + "a".repeat(SearchExpressionParser.MAX_LENGTH)));
+        assertThrows(InvalidCustomerDataException.class,
+                () -> SearchExpressionParser.parse("city:a OR ".repeat(SearchExpressionParser.MAX_TERMS) + "city:a"));
+        assertThrows(InvalidCustomerDataException.class,
+                () -> SearchExpressionParser.parse("NOT ".repeat(SearchExpressionParser.MAX_DEPTH) + "city:a"));
+        assertNotNull(SearchExpressionParser.parse("NOT ".repeat(SearchExpressionParser.MAX_DEPTH - 1) + "city:a"));
+    }
+}
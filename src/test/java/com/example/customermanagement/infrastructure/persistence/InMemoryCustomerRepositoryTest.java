@@ -1,14 +1,35 @@
 package com.example.customermanagement.infrastructure.persistence;
 
+import com.example.customermanagement.domain.exception.ChangeTokenExpiredException;
 import com.example.customermanagement.domain.exception.InvalidCustomerDataException;
 import com.example.customermanagement.domain.model.Address;
+import com.example.customermanagement.domain.model.AddressField;
+import com.example.customermanagement.domain.model.ChangeToken;
 import com.example.customermanagement.domain.model.Customer;
+import com.example.customermanagement.domain.model.CustomerChange;
+import com.example.customermanagement.domain.model.CustomerChanges;
+import com.example.customermanagement.domain.model.CustomerEvent;
+import com.example.customermanagement.domain.model.CustomerEvents;
+import com.example.customermanagement.domain.model.CustomerFacets;
+import com.example.customermanagement.domain.model.CustomerSearchCriteria;
+import com.example.customermanagement.domain.model.CustomerSlice;
+import com.example.customermanagement.domain.model.CustomerSuggestion;
+import com.example.customermanagement.domain.model.MatchMode;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -189,4 +210,545 @@ class InMemoryCustomerRepositoryTest {
         repository.deleteById(customer1.getId());
         assertEquals(1, repository.count());
     }
+
+    @Test
+    void shouldFindIdsByAddressFieldIgnoringCase() {
+        // Given
+        Customer customer1 = new Customer("Rajesh Kumar", "rajesh.kumar@example.com", "+91-9876543210", testAddress);
+        Customer customer2 = new Customer("Priya Sharma", "priya.sharma@example.com", "+91-8765432109",
+                new Address("456 Brigade Road", "Bangalore", "Karnataka", "560001", "India"));
+        repository.save(customer1);
+        repository.save(customer2);
+
+        // When & Then
+        assertEquals(Set.of(customer1.getId()),
+                repository.findIdsByAddressField(AddressField.CITY, "MUMBAI", MatchMode.EXACT).orElseThrow());
+        assertEquals(Set.of(customer2.getId()),
+                repository.findIdsByAddressField(AddressField.ZIP_CODE, "560", MatchMode.PREFIX).orElseThrow());
+        assertEquals(Set.of(customer1.getId(), customer2.getId()),
+                repository.findIdsByAddressField(AddressField.COUNTRY, "ndi", MatchMode.CONTAINS).orElseThrow());
+        assertTrue(repository.findIdsByAddressField(AddressField.STATE, "Mumbai", MatchMode.EXACT).orElseThrow().isEmpty());
+    }
+
+    @Test
+    void shouldKeepAddressIndexesInSyncOnUpdateAndDelete() {
+        // Given
+        Customer customer = new Customer("Rajesh Kumar", "rajesh.kumar@example.com", "+91-9876543210", testAddress);
+        repository.save(customer);
+        Address newAddress = new Address("456 Brigade Road", "Bangalore", "Karnataka", "560001", "India");
+
+        // When
+        repository.update(customer.getId(), new Customer("Rajesh Kumar", "rajesh.kumar@example.com", "+91-9876543210", newAddress));
+
+        // Then
+        assertTrue(repository.findIdsByAddressField(AddressField.CITY, "mumbai", MatchMode.EXACT).orElseThrow().isEmpty());
+        assertEquals(Set.of(customer.getId()),
+                repository.findIdsByAddressField(AddressField.CITY, "bangalore", MatchMode.EXACT).orElseThrow());
+
+        // When
+        repository.deleteById(customer.getId());
+
+        // Then
+        assertTrue(repository.findIdsByAddressField(AddressField.CITY, "bangalore", MatchMode.EXACT).orElseThrow().isEmpty());
+    }
+
+    @Test
+    void shouldNarrowFreeTextSearchToTrigramCandidates() {
+        // Given
+        Customer customer1 = new Customer("Rajesh Kumar", "rajesh.kumar@example.com", "+91-9876543210", testAddress);
+        Customer customer2 = new Customer("Priya Sharma", "priya.sharma@gmail.com", "+91-8765432109", testAddress);
+        repository.save(customer1);
+        repository.save(customer2);
+
+        // When & Then
+        assertEquals(Set.of(customer1.getId()), repository.findCandidateIdsByText("KUMAR").orElseThrow());
+        assertEquals(Set.of(customer2.getId()), repository.findCandidateIdsByText("gmail").orElseThrow());
+        assertEquals(Set.of(customer1.getId(), customer2.getId()),
+                repository.findCandidateIdsByText("mumbai").orElseThrow());
+        assertTrue(repository.findCandidateIdsByText("nonexistent").orElseThrow().isEmpty());
+        assertFalse(repository.findCandidateIdsByText("ra").isPresent());
+    }
+
+    @Test
+    void shouldDropTrigramPostingsOnDelete() {
+        // Given
+        Customer customer = new Customer("Rajesh Kumar", "rajesh.kumar@example.com", "+91-9876543210", testAddress);
+        repository.save(customer);
+
+        // When
+        repository.deleteById(customer.getId());
+
+        // Then
+        assertTrue(repository.findCandidateIdsByText("rajesh").orElseThrow().isEmpty());
+    }
+
+    @Test
+    void shouldPageCustomersNewestFirstFromCreatedAtIndex() {
+        // Given
+        Customer oldest = new Customer("Rajesh Kumar", "rajesh.kumar@example.com", "+91-9876543210", testAddress);
+        Customer middle = new Customer("Priya Sharma", "priya.sharma@example.com", "+91-8765432109", testAddress);
+        Customer newest = new Customer("Amit Patel", "amit.patel@example.com", "+91-7654321098", testAddress);
+        LocalDateTime base = LocalDateTime.of(2024, 1, 1, 10, 0);
+        oldest.setCreatedAt(base);
+        middle.setCreatedAt(base.plusHours(1));
+        newest.setCreatedAt(base.plusHours(2));
+        repository.save(middle);
+        repository.save(newest);
+        repository.save(oldest);
+
+        // When
+        List<Customer> firstPage = repository.findOrderedByCreatedAtDesc(0, 2).orElseThrow();
+        List<Customer> secondPage = repository.findOrderedByCreatedAtDesc(2, 2).orElseThrow();
+
+        // Then
+        assertEquals(List.of(newest.getId(), middle.getId()), firstPage.stream().map(Customer::getId).toList());
+        assertEquals(List.of(oldest.getId()), secondPage.stream().map(Customer::getId).toList());
+
+        // When
+        repository.deleteById(newest.getId());
+
+        // Then
+        assertEquals(middle.getId(), repository.findOrderedByCreatedAtDesc(0, 1).orElseThrow().getFirst().getId());
+    }
+
+    @Test
+    void shouldRebuildStoreAndIndexesFromWriteAheadLog(@TempDir Path tempDir) {
+        // Given
+        Path walPath = tempDir.resolve("customers.wal");
+        Customer kept = new Customer("Rajesh Kumar", "rajesh.kumar@example.com", "+91-9876543210", testAddress);
+        Customer deleted = new Customer("Priya Sharma", "priya.sharma@example.com", "+91-9876543211", testAddress);
+        try (InMemoryCustomerRepository persistent = new InMemoryCustomerRepository(walPath)) {
+            persistent.save(kept);
+            persistent.save(deleted);
+            Address moved = new Address("456 Park Street", "Kolkata", "West Bengal", "700016", "India");
+            persistent.update(kept.getId(), new Customer("Rajesh Kumar", "rajesh.kumar@example.com", "+91-9876543210", moved));
+            persistent.deleteById(deleted.getId());
+            assertEquals(4, persistent.walStats().orElseThrow().recordsAppended());
+        }
+
+        // When
+        try (InMemoryCustomerRepository restarted = new InMemoryCustomerRepository(walPath)) {
+
+            // Then
+            assertEquals(1, restarted.count());
+            assertFalse(restarted.existsById(deleted.getId()));
+            assertEquals("Kolkata", restarted.findById(kept.getId()).orElseThrow().getAddress().getCity());
+            assertEquals(Set.of(kept.getId()),
+                    restarted.findIdsByAddressField(AddressField.CITY, "kolkata", MatchMode.EXACT).orElseThrow());
+            assertEquals(Set.of(), restarted.findIdsByAddressField(AddressField.CITY, "mumbai", MatchMode.EXACT).orElseThrow());
+        }
+    }
+
+    @Test
+    void shouldExpireChangeTokensFromBeforeRestartAndKeepReplayedUpdateTimes(@TempDir Path tempDir) {
+        // Given
+        Path walPath = tempDir.resolve("customers.wal");
+        Customer deleted = new Customer("Priya Sharma", "priya.sharma@example.com", "+91-9876543211", testAddress);
+        Customer savedAfterDelete = new Customer("Rajesh Kumar", "rajesh.kumar@example.com", "+91-9876543210", testAddress);
+        savedAfterDelete.setUpdatedAt(LocalDateTime.of(2024, 1, 1, 10, 0));
+        ChangeToken beforeRestart;
+        try (InMemoryCustomerRepository persistent = new InMemoryCustomerRepository(walPath)) {
+            persistent.save(deleted);
+            beforeRestart = persistent.findChangesSince(null, 10).orElseThrow().next();
+            persistent.deleteById(deleted.getId());
+            persistent.save(savedAfterDelete);
+        }
+
+        // When
+        try (InMemoryCustomerRepository restarted = new InMemoryCustomerRepository(walPath)) {
+            CustomerChanges changes = restarted.findChangesSince(null, 10).orElseThrow();
+
+            // Then
+            assertEquals(List.of(savedAfterDelete.getId()), changes.changes().stream().map(CustomerChange::id).toList());
+            assertEquals(LocalDateTime.of(2024, 1, 1, 10, 0), changes.changes().getFirst().changedAt());
+            assertThrows(ChangeTokenExpiredException.class, () -> restarted.findChangesSince(beforeRestart, 10));
+        }
+    }
+
+    @Test
+    void shouldRestoreFromSnapshotAndReplayOnlyTheLogTail(@TempDir Path tempDir) throws Exception {
+        // Given
+        Path walPath = tempDir.resolve("customers.wal");
+        Path snapshotPath = tempDir.resolve("customers.snapshot");
+        Customer beforeSnapshot = new Customer("Rajesh Kumar", "rajesh.kumar@example.com", "+91-9876543210", testAddress);
+        Customer afterSnapshot = new Customer("Priya Sharma", "priya.sharma@example.com", "+91-9876543211", testAddress);
+        try (InMemoryCustomerRepository persistent = new InMemoryCustomerRepository(walPath, snapshotPath)) {
+            persistent.save(beforeSnapshot);
+            persistent.snapshot();
+            persistent.save(afterSnapshot);
+            persistent.deleteById(beforeSnapshot.getId());
+        }
+
+        // When
+        try (InMemoryCustomerRepository restarted = new InMemoryCustomerRepository(walPath, snapshotPath)) {
+
+            // Then
+            assertTrue(Files.exists(snapshotPath));
+            try (var files = Files.list(tempDir)) {
+                assertEquals(List.of("customers.snapshot", "customers.wal"),
+                        files.map(file -> file.getFileName().toString()).sorted().toList());
+            }
+            assertEquals(1, restarted.count());
+            assertTrue(restarted.existsById(afterSnapshot.getId()));
+            assertFalse(restarted.existsById(beforeSnapshot.getId()));
+            assertEquals(List.of(afterSnapshot.getId()),
+                    restarted.findOrderedByCreatedAtDesc(0, 10).orElseThrow().stream().map(Customer::getId).toList());
+        }
+    }
+
+    @Test
+    void shouldAnswerFromBulkBuiltIndexesLikeTheStoreThatWroteTheSnapshot(@TempDir Path tempDir) throws Exception {
+        // Given
+        Path walPath = tempDir.resolve("customers.wal");
+        Path snapshotPath = tempDir.resolve("customers.snapshot");
+        Address pune = new Address("2 FC Road", "Pune", "Maharashtra", "411004", "India");
+        List<Customer> customers = new ArrayList<>();
+        for (int i = 0; i < 300; i++) {
+            Customer customer = new Customer((i % 2 == 0 ? "Smith " : "Smyth ") + i, "customer" + i + "@example.com",
+                    "+91-98765" + String.format("%05d", i), i % 3 == 0 ? pune : testAddress);
+            customer.setCreatedAt(LocalDateTime.of(2024, 1, 1, 10, 0).plusMinutes(i % 37));
+            customers.add(customer);
+        }
+        try (InMemoryCustomerRepository persistent = new InMemoryCustomerRepository(walPath, snapshotPath)) {
+            customers.forEach(persistent::save);
+            persistent.snapshot();
+        }
+        InMemoryCustomerRepository expected = new InMemoryCustomerRepository();
+        customers.forEach(expected::save);
+
+        // When
+        try (InMemoryCustomerRepository restarted = new InMemoryCustomerRepository(walPath, snapshotPath)) {
+
+            // Then
+            assertEquals(expected.findIdsByAddressField(AddressField.CITY, "pune", MatchMode.EXACT),
+                    restarted.findIdsByAddressField(AddressField.CITY, "pune", MatchMode.EXACT));
+            assertEquals(expected.findIdsByAddressFields(Map.of(AddressField.STATE, "maha", AddressField.ZIP_CODE, "4110"),
+                    MatchMode.PREFIX), restarted.findIdsByAddressFields(
+                    Map.of(AddressField.STATE, "maha", AddressField.ZIP_CODE, "4110"), MatchMode.PREFIX));
+            assertEquals(expected.findCandidateIdsByText("customer12"), restarted.findCandidateIdsByText("customer12"));
+            assertEquals(expected.findFuzzyNameCandidates("smitt 12", 2), restarted.findFuzzyNameCandidates("smitt 12", 2));
+            assertEquals(expected.findIdsByPhoneticName("Smith"), restarted.findIdsByPhoneticName("Smith"));
+            assertEquals(expected.suggest("smyth 1", 20), restarted.suggest("smyth 1", 20));
+            assertEquals(expected.findOrderedByCreatedAtDesc(10, 30).orElseThrow().stream().map(Customer::getId).toList(),
+                    restarted.findOrderedByCreatedAtDesc(10, 30).orElseThrow().stream().map(Customer::getId).toList());
+            assertEquals(expected.countFacets(CustomerSearchCriteria.builder().build(), 3).orElseThrow().cities(),
+                    restarted.countFacets(CustomerSearchCriteria.builder().build(), 3).orElseThrow().cities());
+
+            Customer moved = customers.get(3);
+            restarted.update(moved.getId(), new Customer("Smith 3", moved.getEmail(), moved.getPhone(), testAddress));
+            restarted.deleteById(customers.get(6).getId());
+            Set<UUID> stillInPune = restarted.findIdsByAddressField(AddressField.CITY, "pune", MatchMode.EXACT).orElseThrow();
+            assertEquals(98, stillInPune.size());
+            assertFalse(stillInPune.contains(moved.getId()));
+            assertEquals(Set.of(), restarted.findCandidateIdsByText("customer6@").orElseThrow());
+        }
+    }
+
+    @Test
+    void shouldScanNewestFirstOnlyForAddressAndDateFilters() {
+        // Given
+        Customer older = new Customer("Rajesh Kumar", "rajesh.kumar@example.com", "+91-9876543210", testAddress);
+        older.setCreatedAt(LocalDateTime.of(2024, 1, 1, 10, 0));
+        Customer newer = new Customer("Priya Sharma", "priya.sharma@example.com", "+91-9876543211", testAddress);
+        newer.setCreatedAt(LocalDateTime.of(2024, 2, 1, 10, 0));
+        repository.save(older);
+        repository.save(newer);
+
+        // When
+        CustomerSlice slice = repository.scanNewestFirst(
+                CustomerSearchCriteria.builder().city("MUM").build(), 0, 10).orElseThrow();
+
+        // Then
+        assertEquals(2, slice.totalElements());
+        assertEquals(List.of(newer, older), slice.customers());
+        assertTrue(repository.scanNewestFirst(
+                CustomerSearchCriteria.builder().name("Priya").build(), 0, 10).isEmpty());
+        assertTrue(repository.scanNewestFirst(
+                CustomerSearchCriteria.builder().searchText("Priya").build(), 0, 10).isEmpty());
+    }
+
+    @Test
+    void shouldStreamLiveStoreWithoutCopying() {
+        // Given
+        Customer first = new Customer("Rajesh Kumar", "rajesh.kumar@example.com", "+91-9876543210", testAddress);
+        Customer second = new Customer("Priya Sharma", "priya.sharma@example.com", "+91-9876543211", testAddress);
+        repository.save(first);
+        repository.save(second);
+
+        // When
+        Optional<Customer> priya = repository.streamAll()
+                .filter(customer -> customer.getName().startsWith("Priya"))
+                .findFirst();
+        long parallelCount = repository.streamAll().parallel().count();
+
+        // Then
+        assertEquals(Optional.of(second), priya);
+        assertEquals(2, parallelCount);
+        repository.deleteById(first.getId());
+        assertEquals(List.of(second), repository.streamAll().toList());
+    }
+
+    @Test
+    void shouldRejectSnapshotWhenNotPersistent() {
+        assertThrows(IllegalStateException.class, () -> repository.snapshot());
+    }
+
+    @Test
+    void shouldNotReportWalStatsWhenNotPersistent() {
+        assertTrue(repository.walStats().isEmpty());
+    }
+
+    @Test
+    void shouldAdvanceGenerationOnEveryWrite() {
+        // Given
+        Customer customer = new Customer("Rajesh Kumar", "rajesh.kumar@example.com", "+91-9876543210", testAddress);
+        long initial = repository.generation();
+
+        // When
+        repository.save(customer);
+        long afterSave = repository.generation();
+        repository.findById(customer.getId());
+        repository.update(customer.getId(), customer);
+        long afterUpdate = repository.generation();
+        repository.deleteById(customer.getId());
+        long afterDelete = repository.generation();
+        repository.deleteById(customer.getId());
+
+        // Then
+        assertTrue(afterSave > initial);
+        assertTrue(afterUpdate > afterSave);
+        assertTrue(afterDelete > afterUpdate);
+        assertEquals(afterDelete, repository.generation());
+    }
+
+    @Test
+    void shouldCountFacetsFromMaintainedCounters() {
+        // Given
+        Customer mumbai = new Customer("Rajesh Kumar", "rajesh.kumar@example.com", "+91-9876543210", testAddress);
+        Customer pune = new Customer("Priya Sharma", "priya.sharma@example.com", "+91-9876543211",
+                new Address("1 FC Road", "Pune", "Maharashtra", "411004", "India"));
+        Customer delhi = new Customer("Amit Singh", "amit.singh@example.com", "+91-9876543212",
+                new Address("2 CP", "New Delhi", "Delhi", "110001", "India"));
+        repository.save(mumbai);
+        repository.save(pune);
+        repository.save(delhi);
+        repository.deleteById(delhi.getId());
+
+        // When
+        CustomerFacets facets = repository.countFacets(
+                CustomerSearchCriteria.builder().state("maha").build(), 2).orElseThrow();
+
+        // Then
+        assertEquals(2, facets.total());
+        assertEquals(Map.of("India", 2L), facets.countries());
+        assertEquals(Map.of("Maharashtra", 2L), facets.states());
+        assertEquals(Map.of("Mumbai", 1L, "Pune", 1L), facets.cities());
+        assertEquals(Map.of("40", 1L, "41", 1L), facets.zipCodePrefixes());
+        assertTrue(repository.countFacets(
+                CustomerSearchCriteria.builder().name("Priya").build(), 2).isEmpty());
+    }
+
+    @Test
+    void shouldSuggestByNameWordAndEmailPrefixAfterWrites() {
+        // Given
+        Customer rajesh = new Customer("Rajesh Kumar", "rajesh.kumar@example.com", "+91-9876543210", testAddress);
+        Customer anil = new Customer("Anil Kumar", "anil@example.com", "+91-9876543211", testAddress);
+        Customer kunal = new Customer("Kunal Shah", "kshah@example.com", "+91-9876543212", testAddress);
+        repository.save(rajesh);
+        repository.save(anil);
+        repository.save(kunal);
+
+        // When
+        List<CustomerSuggestion> byWord = repository.suggest("  KU", 10).orElseThrow();
+        List<CustomerSuggestion> byEmail = repository.suggest("rajesh.", 10).orElseThrow();
+        repository.update(anil.getId(), new Customer(anil.getId(), "Anil Verma", "anil@example.com", "+91-9876543211", testAddress));
+        repository.deleteById(kunal.getId());
+        List<CustomerSuggestion> afterWrites = repository.suggest("ku", 10).orElseThrow();
+
+        // Then
+        assertEquals(List.of("kumar", "kumar", "kunal shah"), byWord.stream().map(CustomerSuggestion::key).toList());
+        assertEquals(List.of(kunal.getId()), byWord.stream().skip(2).map(CustomerSuggestion::id).toList());
+        assertEquals(List.of(rajesh.getId()), byEmail.stream().map(CustomerSuggestion::id).toList());
+        assertEquals("Rajesh Kumar", byEmail.get(0).name());
+        assertEquals(List.of(rajesh.getId()), afterWrites.stream().map(CustomerSuggestion::id).toList());
+        assertTrue(repository.suggest("rajesh", 0).orElseThrow().isEmpty());
+    }
+
+    @Test
+    void shouldFindFuzzyNameCandidatesBySharedTrigrams() {
+        // Given
+        Customer rajesh = new Customer("Rajesh Kumar", "rajesh.kumar@example.com", "+91-9876543210", testAddress);
+        Customer priya = new Customer("Priya Sharma", "priya.sharma@example.com", "+91-9876543211", testAddress);
+        repository.save(rajesh);
+        repository.save(priya);
+
+        // When
+        Set<UUID> misspelled = repository.findFuzzyNameCandidates("kumr", 1).orElseThrow();
+        repository.deleteById(rajesh.getId());
+        Set<UUID> afterDelete = repository.findFuzzyNameCandidates("kumr", 1).orElseThrow();
+
+        // Then
+        assertEquals(Set.of(rajesh.getId()), misspelled);
+        assertTrue(afterDelete.isEmpty());
+        assertTrue(repository.findFuzzyNameCandidates("kumr", 2).isEmpty());
+    }
+
+    @Test
+    void shouldFindCustomersByPhoneticName() {
+        // Given
+        Customer smith = new Customer("John Smith", "john.smith@example.com", "+1-555-0100", testAddress);
+        Customer smythe = new Customer("Jon Smythe", "jon.smythe@example.com", "+1-555-0101", testAddress);
+        Customer sharma = new Customer("Priya Sharma", "priya.sharma@example.com", "+91-9876543211", testAddress);
+        repository.save(smith);
+        repository.save(smythe);
+        repository.save(sharma);
+
+        // When
+        Set<UUID> surname = repository.findIdsByPhoneticName("Smyth").orElseThrow();
+        Set<UUID> fullName = repository.findIdsByPhoneticName("Jon Smith").orElseThrow();
+        repository.update(smith.getId(), new Customer(smith.getId(), "John Doe", smith.getEmail(), smith.getPhone(), testAddress));
+        Set<UUID> afterRename = repository.findIdsByPhoneticName("Smyth").orElseThrow();
+
+        // Then
+        assertEquals(Set.of(smith.getId(), smythe.getId()), surname);
+        assertEquals(Set.of(smith.getId(), smythe.getId()), fullName);
+        assertEquals(Set.of(smythe.getId()), afterRename);
+        assertTrue(repository.findIdsByPhoneticName("123").orElseThrow().isEmpty());
+    }
+
+    @Test
+    void shouldIntersectAddressFiltersAndRecycleOrdinalsOfDeletedCustomers() {
+        // Given
+        Customer mumbai = new Customer("Rajesh Kumar", "rajesh@example.com", "+91-9876543210", testAddress);
+        Customer pune = new Customer("Priya Sharma", "priya@example.com", "+91-9876543211",
+                new Address("1 FC Road", "Pune", "Maharashtra", "411004", "India"));
+        repository.save(mumbai);
+        repository.save(pune);
+
+        // When
+        Set<UUID> maharashtraPune = repository.findIdsByAddressFields(
+                Map.of(AddressField.STATE, "maha", AddressField.CITY, "pun"), MatchMode.CONTAINS).orElseThrow();
+        repository.deleteById(pune.getId());
+        Customer replacement = new Customer("Amit Patel", "amit@example.com", "+91-9876543212",
+                new Address("2 FC Road", "Pune", "Maharashtra", "411004", "India"));
+        repository.save(replacement);
+        Set<UUID> afterReuse = repository.findIdsByAddressFields(
+                Map.of(AddressField.CITY, "Pune"), MatchMode.EXACT).orElseThrow();
+
+        // Then
+        assertEquals(Set.of(pune.getId()), maharashtraPune);
+        assertEquals(Set.of(replacement.getId()), afterReuse);
+        assertEquals(Set.of(mumbai.getId(), replacement.getId()),
+                repository.findIdsByAddressField(AddressField.COUNTRY, "india", MatchMode.EXACT).orElseThrow());
+        assertTrue(repository.findIdsByAddressFields(Map.of(), MatchMode.EXACT).isEmpty());
+        assertEquals(AddressField.values().length + 1, repository.indexMemory().size());
+        assertTrue(repository.indexMemory().stream()
+                .filter(stats -> stats.index().equals("country"))
+                .allMatch(stats -> stats.distinctValues() == 1 && stats.postings() == 2 && stats.bytes() > 0));
+    }
+
+    @Test
+    void shouldNeverResolveRecycledOrdinalsToCustomersOfOtherValues() throws Exception {
+        // Given
+        List<Customer> puneCustomers = new ArrayList<>();
+        List<Customer> delhiCustomers = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            puneCustomers.add(new Customer("Pune Customer", "pune" + i + "@example.com", "+91-9876543210",
+                    new Address(i + " FC Road", "Pune", "Maharashtra", "411004", "India")));
+            delhiCustomers.add(new Customer("Delhi Customer", "delhi" + i + "@example.com", "+91-9876543211",
+                    new Address(i + " Janpath", "Delhi", "Delhi", "110001", "India")));
+        }
+        Set<UUID> puneIds = new HashSet<>();
+        puneCustomers.forEach(customer -> puneIds.add(customer.getId()));
+        AtomicBoolean writing = new AtomicBoolean(true);
+        Thread writer = new Thread(() -> {
+            for (int round = 0; round < 200; round++) {
+                List<Customer> first = round % 2 == 0 ? puneCustomers : delhiCustomers;
+                List<Customer> second = round % 2 == 0 ? delhiCustomers : puneCustomers;
+                first.forEach(repository::save);
+                first.forEach(customer -> repository.deleteById(customer.getId()));
+                second.forEach(repository::save);
+                second.forEach(customer -> repository.deleteById(customer.getId()));
+            }
+            writing.set(false);
+        });
+
+        // When
+        writer.start();
+        Set<UUID> resolved = new HashSet<>();
+        while (writing.get()) {
+            resolved.addAll(repository.findIdsByAddressField(AddressField.CITY, "Pune", MatchMode.EXACT).orElseThrow());
+        }
+        writer.join();
+
+        // Then
+        assertTrue(puneIds.containsAll(resolved));
+    }
+
+    @Test
+    void shouldReportChangesSinceTokenWithTombstones() {
+        // Given
+        Customer rajesh = new Customer("Rajesh Kumar", "rajesh@example.com", "+91-9876543210", testAddress);
+        Customer priya = new Customer("Priya Sharma", "priya@example.com", "+91-9876543211", testAddress);
+        Customer amit = new Customer("Amit Patel", "amit@example.com", "+91-9876543212", testAddress);
+        repository.save(rajesh);
+        repository.save(priya);
+        ChangeToken token = repository.findChangesSince(null, 10).orElseThrow().next();
+
+        // When
+        repository.save(amit);
+        repository.update(rajesh.getId(), new Customer(rajesh.getId(), "Rajesh K", rajesh.getEmail(), rajesh.getPhone(), testAddress));
+        repository.deleteById(priya.getId());
+        repository.deleteById(UUID.randomUUID());
+        CustomerChanges changes = repository.findChangesSince(token, 10).orElseThrow();
+
+        // Then
+        assertEquals(List.of(amit.getId(), rajesh.getId(), priya.getId()),
+                changes.changes().stream().map(CustomerChange::id).toList());
+        assertEquals("Rajesh K", changes.changes().get(1).customer().getName());
+        assertTrue(changes.changes().get(2).deleted());
+        assertTrue(repository.findChangesSince(changes.next(), 10).orElseThrow().changes().isEmpty());
+    }
+
+    @Test
+    void shouldAppendEventsForEachWriteInOrder() {
+        // Given
+        long head = repository.eventLog().orElseThrow().headSequence();
+        Customer rajesh = new Customer("Rajesh Kumar", "rajesh@example.com", "+91-9876543210", testAddress);
+
+        // When
+        repository.save(rajesh);
+        repository.update(rajesh.getId(), new Customer(rajesh.getId(), "Rajesh K", rajesh.getEmail(), rajesh.getPhone(), testAddress));
+        repository.deleteById(rajesh.getId());
+        repository.deleteById(UUID.randomUUID());
+        CustomerEvents events = repository.eventLog().orElseThrow().readAfter(head, 10);
+
+        // Then
+        assertEquals(List.of(CustomerEvent.Type.CREATED, CustomerEvent.Type.UPDATED, CustomerEvent.Type.DELETED),
+                events.events().stream().map(CustomerEvent::type).toList());
+        assertEquals(List.of(head + 1, head + 2, head + 3),
+                events.events().stream().map(CustomerEvent::sequence).toList());
+        assertEquals("Rajesh K", events.events().get(1).customer().getName());
+        assertEquals(rajesh.getId(), events.events().get(2).customerId());
+        assertNull(events.events().get(2).customer());
+    }
+
+    @Test
+    void shouldPublishEventsOfDurableWritesOnceTheyAreSynced(@TempDir Path tempDir) {
+        // Given
+        Customer rajesh = new Customer("Rajesh Kumar", "rajesh@example.com", "+91-9876543210", testAddress);
+        try (InMemoryCustomerRepository persistent = new InMemoryCustomerRepository(tempDir.resolve("customers.wal"))) {
+
+            // When
+            persistent.save(rajesh);
+            persistent.deleteById(rajesh.getId());
+            CustomerEvents events = persistent.eventLog().orElseThrow().readAfter(0, 10);
+
+            // Then
+            assertEquals(2, persistent.eventLog().orElseThrow().headSequence());
+            assertEquals(List.of(CustomerEvent.Type.CREATED, CustomerEvent.Type.DELETED),
+                    events.events().stream().map(CustomerEvent::type).toList());
+        }
+    }
+
 }
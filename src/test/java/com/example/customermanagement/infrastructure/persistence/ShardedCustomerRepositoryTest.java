@@ -0,0 +1,172 @@
+package com.example.customermanagement.infrastructure.persistence;
+
+import com.example.customermanagement.domain.model.Address;
+import com.example.customermanagement.domain.model.AddressField;
+import com.example.customermanagement.domain.model.ChangeToken;
+import com.example.customermanagement.domain.model.Customer;
+import com.example.customermanagement.domain.model.CustomerChange;
+import com.example.customermanagement.domain.model.CustomerChanges;
+import com.example.customermanagement.domain.model.CustomerSearchCriteria;
+import com.example.customermanagement.domain.model.CustomerSlice;
+import com.example.customermanagement.domain.model.CustomerSuggestion;
+import com.example.customermanagement.domain.model.MatchMode;
+import com.example.customermanagement.infrastructure.persistence.index.IndexMemoryStats;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Predicate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Sharded Customer Repository Tests")
+class ShardedCustomerRepositoryTest {
+
+    private static final Comparator<Customer> NEWEST_FIRST = Comparator
+            .comparing(Customer::getCreatedAt, Comparator.reverseOrder())
+            .thenComparing(Customer::getId);
+
+    private ShardedCustomerRepository repository;
+    private List<Customer> customers;
+
+    @BeforeEach
+    void setUp() {
+        repository = new ShardedCustomerRepository(4);
+        customers = new ArrayList<>();
+        Address mumbai = new Address("123 MG Road", "Mumbai", "Maharashtra", "400001", "India");
+        Address kolkata = new Address("789 Park Street", "Kolkata", "West Bengal", "700001", "India");
+        LocalDateTime base = LocalDateTime.of(2024, 1, 1, 10, 0);
+        for (int i = 0; i < 500; i++) {
+            Customer customer = new Customer("Customer " + i, "customer" + i + "@example.com", "+91-9876543210",
+                    i % 3 == 0 ? kolkata : mumbai);
+            customer.setCreatedAt(base.plusMinutes(i % 97));
+            customers.add(customer);
+            repository.save(customer);
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        repository.close();
+    }
+
+    @Test
+    @DisplayName("Should route writes and lookups to the owning shard")
+    void shouldRouteByIdAcrossShards() {
+        Customer customer = customers.get(42);
+
+        assertEquals(4, repository.shardCount());
+        assertEquals(500, repository.count());
+        assertEquals(500, repository.findAll().size());
+        assertEquals(500, repository.streamAll().parallel().count());
+        assertEquals(customer, repository.findById(customer.getId()).orElseThrow());
+        assertTrue(repository.deleteById(customer.getId()));
+        assertFalse(repository.existsById(customer.getId()));
+        assertEquals(499, repository.count());
+    }
+
+    @Test
+    @DisplayName("Should merge per-shard top-K into the global page")
+    void shouldMergeTopMatchingAcrossShards() {
+        Predicate<Customer> inKolkata = customer -> customer.getAddress().getCity().equals("Kolkata");
+        Comparator<Customer> byEmail = Comparator.comparing(Customer::getEmail).thenComparing(Customer::getId);
+        List<Customer> expected = customers.stream().filter(inKolkata).sorted(byEmail).toList();
+
+        CustomerSlice slice = repository.findTopMatching(inKolkata, customer -> true, byEmail, 20, 15).orElseThrow();
+
+        assertEquals(expected.size(), slice.totalElements());
+        assertEquals(expected.subList(20, 35), slice.customers());
+    }
+
+    @Test
+    @DisplayName("Should merge newest-first pages and columnar scans across shards")
+    void shouldMergeNewestFirstAcrossShards() {
+        List<Customer> newestFirst = customers.stream().sorted(NEWEST_FIRST).toList();
+        List<Customer> mumbaiNewestFirst = newestFirst.stream()
+                .filter(customer -> customer.getAddress().getCity().equals("Mumbai"))
+                .toList();
+        Customer last = newestFirst.get(9);
+
+        assertEquals(newestFirst.subList(30, 40), repository.findOrderedByCreatedAtDesc(30, 10).orElseThrow());
+        assertEquals(newestFirst.subList(10, 20),
+                repository.findOrderedByCreatedAtDescAfter(last.getCreatedAt(), last.getId(), 10).orElseThrow());
+
+        CustomerSlice slice = repository.scanNewestFirst(
+                CustomerSearchCriteria.builder().city("mum").build(), 5, 10).orElseThrow();
+        assertEquals(mumbaiNewestFirst.size(), slice.totalElements());
+        assertEquals(mumbaiNewestFirst.subList(5, 15), slice.customers());
+    }
+
+    @Test
+    @DisplayName("Should union index lookups across shards")
+    void shouldUnionIndexLookups() {
+        List<UUID> kolkataIds = customers.stream()
+                .filter(customer -> customer.getAddress().getCity().equals("Kolkata"))
+                .map(Customer::getId)
+                .toList();
+
+        assertEquals(kolkataIds.size(), repository.findIdsByAddressField(AddressField.CITY, "kolkata", MatchMode.EXACT)
+                .orElseThrow().size());
+        assertEquals(1, repository.findCandidateIdsByText("customer42@").orElseThrow().size());
+        assertTrue(repository.findCandidateIdsByText("cu").isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should merge per-shard suggestions into the global order")
+    void shouldMergeSuggestionsAcrossShards() {
+        List<CustomerSuggestion> expected = customers.stream()
+                .map(customer -> CustomerSuggestion.matching(customer, "customer 1"))
+                .filter(suggestion -> suggestion != null)
+                .sorted(CustomerSuggestion.ORDER)
+                .limit(15)
+                .toList();
+
+        List<CustomerSuggestion> suggestions = repository.suggest("Customer 1", 15).orElseThrow();
+
+        assertEquals(expected, suggestions);
+        assertEquals("Customer 1", suggestions.get(0).name());
+    }
+
+    @Test
+    @DisplayName("Should report changes from every shard in one update order")
+    void shouldMergeChangesAcrossShards() {
+        ChangeToken token = repository.findChangesSince(null, 1000).orElseThrow().next();
+        List<UUID> expected = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            Customer customer = customers.get(i * 7);
+            if (i % 4 == 0) {
+                repository.deleteById(customer.getId());
+            } else {
+                repository.update(customer.getId(), customer);
+            }
+            expected.add(customer.getId());
+        }
+
+        CustomerChanges changes = repository.findChangesSince(token, 1000).orElseThrow();
+
+        assertEquals(expected, changes.changes().stream().map(CustomerChange::id).toList());
+        assertEquals(5, changes.changes().stream().filter(CustomerChange::deleted).count());
+        assertEquals(495, repository.findChangesSince(null, 1000).orElseThrow().changes().stream()
+                .filter(change -> !change.deleted())
+                .count());
+    }
+
+    @Test
+    @DisplayName("Should sum index footprints across shards")
+    void shouldSumIndexMemoryAcrossShards() {
+        List<IndexMemoryStats> stats = repository.indexMemory();
+
+        assertEquals(AddressField.values().length + 1, stats.size());
+        IndexMemoryStats city = stats.stream().filter(entry -> entry.index().equals("city")).findFirst().orElseThrow();
+        assertEquals(500, city.postings());
+        assertTrue(city.distinctValues() >= 2 && city.distinctValues() <= 2 * repository.shardCount());
+        assertTrue(city.bytes() > 0);
+    }
+
+}
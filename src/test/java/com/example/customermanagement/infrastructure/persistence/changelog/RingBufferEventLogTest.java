@@ -0,0 +1,101 @@
+package com.example.customermanagement.infrastructure.persistence.changelog;
+
+import com.example.customermanagement.domain.exception.EventPositionUnavailableException;
+import com.example.customermanagement.domain.model.CustomerEvent;
+import com.example.customermanagement.domain.model.CustomerEvents;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Ring Buffer Event Log Tests")
+class RingBufferEventLogTest {
+
+    @Test
+    @DisplayName("Should number events consecutively and read them in batches")
+    void shouldReadEventsInSequence() {
+        RingBufferEventLog log = new RingBufferEventLog(8);
+        UUID id = UUID.randomUUID();
+        log.append(CustomerEvent.Type.CREATED, id, null);
+        log.append(CustomerEvent.Type.UPDATED, id, null);
+        log.append(CustomerEvent.Type.DELETED, id, null);
+
+        CustomerEvents first = log.readAfter(0, 2);
+        CustomerEvents rest = log.readAfter(first.lastSequence(0), 10);
+
+        assertEquals(3, log.headSequence());
+        assertEquals(2, first.events().size());
+        assertEquals(CustomerEvent.Type.CREATED, first.events().get(0).type());
+        assertEquals(2, first.lastSequence(0));
+        assertEquals(1, rest.events().size());
+        assertEquals(3, rest.events().get(0).sequence());
+        assertEquals(CustomerEvent.Type.DELETED, rest.events().get(0).type());
+        assertTrue(log.readAfter(3, 10).events().isEmpty());
+        assertEquals(3, log.readAfter(3, 10).lastSequence(3));
+    }
+
+    @Test
+    @DisplayName("Should keep only the newest events and reject positions it no longer holds")
+    void shouldRejectOverwrittenAndUnknownPositions() {
+        RingBufferEventLog log = new RingBufferEventLog(5);
+        for (int i = 0; i < 20; i++) {
+            log.append(CustomerEvent.Type.CREATED, UUID.randomUUID(), null);
+        }
+
+        assertEquals(8, log.capacity());
+        assertEquals(13, log.readAfter(12, 10).events().getFirst().sequence());
+        assertEquals(8, log.readAfter(12, 10).events().size());
+        assertThrows(EventPositionUnavailableException.class, () -> log.readAfter(11, 10));
+        assertThrows(EventPositionUnavailableException.class, () -> log.readAfter(21, 10));
+    }
+
+    @Test
+    @DisplayName("Should hide staged events until they are published")
+    void shouldHideStagedEventsUntilPublished() throws Exception {
+        RingBufferEventLog log = new RingBufferEventLog(8);
+        UUID id = UUID.randomUUID();
+        CustomerEvent first = log.stage(CustomerEvent.Type.CREATED, id, null);
+        CustomerEvent second = log.stage(CustomerEvent.Type.UPDATED, id, null);
+
+        assertEquals(0, log.headSequence());
+        assertTrue(log.readAfter(0, 10).events().isEmpty());
+        assertFalse(log.awaitAfter(0, Duration.ZERO));
+        assertThrows(EventPositionUnavailableException.class, () -> log.readAfter(first.sequence(), 10));
+
+        log.publishThrough(second.sequence());
+        log.publishThrough(first.sequence());
+
+        assertEquals(2, log.headSequence());
+        assertEquals(2, log.readAfter(0, 10).events().size());
+        assertTrue(log.awaitAfter(0, Duration.ZERO));
+    }
+
+    @Test
+    @DisplayName("Should wake a waiting reader when an event is appended")
+    void shouldWakeWaitingReader() throws Exception {
+        RingBufferEventLog log = new RingBufferEventLog(4);
+        CountDownLatch waiting = new CountDownLatch(1);
+        AtomicBoolean woken = new AtomicBoolean();
+        Thread reader = new Thread(() -> {
+            waiting.countDown();
+            try {
+                woken.set(log.awaitAfter(0, Duration.ofSeconds(10)));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        reader.start();
+        waiting.await();
+
+        log.append(CustomerEvent.Type.CREATED, UUID.randomUUID(), null);
+        reader.join(5_000);
+
+        assertTrue(woken.get());
+        assertFalse(log.awaitAfter(1, Duration.ofMillis(10)));
+    }
+}
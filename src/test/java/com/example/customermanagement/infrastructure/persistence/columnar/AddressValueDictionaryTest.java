@@ -0,0 +1,79 @@
+package com.example.customermanagement.infrastructure.persistence.columnar;
+
+import com.example.customermanagement.domain.model.Address;
+import com.example.customermanagement.domain.model.AddressField;
+import com.example.customermanagement.domain.model.Customer;
+import com.example.customermanagement.domain.model.MatchMode;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Address Value Dictionary Tests")
+class AddressValueDictionaryTest {
+
+    @Test
+    @DisplayName("Should share one code per held value and drop it with its last holder")
+    void shouldCountReferencesAndReuseFreedCodes() {
+        AddressValueDictionary cities = new AddressValueDictionary();
+
+        int mumbai = cities.acquire(new String("Mumbai"));
+        int again = cities.acquire(new String("Mumbai"));
+        int pune = cities.acquire("Pune");
+        cities.release(mumbai);
+
+        assertEquals(mumbai, again);
+        assertNotEquals(mumbai, pune);
+        assertEquals("Mumbai", cities.valueOf(mumbai));
+        assertEquals("mumbai", cities.lookup("Mumbai").foldedValue());
+
+        cities.release(again);
+
+        assertEquals(-1, cities.codeOf("Mumbai"));
+        assertNull(cities.valueOf(mumbai));
+        assertEquals(1, cities.size());
+        assertEquals(mumbai, cities.acquire("Delhi"));
+        assertEquals(2, cities.codeLimit());
+    }
+
+    @Test
+    @DisplayName("Should evaluate matches once per held value")
+    void shouldEvaluateMatchesPerCode() {
+        AddressValueDictionary states = new AddressValueDictionary();
+        int freed = states.acquire("Kerala");
+        int code = states.acquire("West Bengal");
+        states.release(freed);
+
+        assertTrue(states.codesMatching("west bengal", MatchMode.EXACT)[code]);
+        assertTrue(states.codesMatching("WEST", MatchMode.PREFIX)[code]);
+        assertTrue(states.codesMatching("beng", MatchMode.CONTAINS)[code]);
+        assertFalse(states.codesMatching("bengal west", MatchMode.EXACT)[code]);
+        assertFalse(states.codesMatching("", MatchMode.CONTAINS)[freed]);
+    }
+
+    @Test
+    @DisplayName("Should let stored customers share address values and release them on removal")
+    void shouldShareValuesOfStoredCustomers() {
+        ColumnarCustomerStore store = new ColumnarCustomerStore();
+        Customer first = new Customer("Rajesh Kumar", "rajesh@example.com", "+91-9876543210",
+                new Address("123 MG Road", new String("Mumbai"), "Maharashtra", "400001", new String("India")));
+        Customer second = new Customer("Priya Sharma", "priya@example.com", "+91-9876543211",
+                new Address("456 Linking Road", "  Mumbai  ", "Maharashtra", "400050", "India"));
+
+        store.put(first);
+        first.shareAddressValues(store);
+        store.put(second);
+        second.shareAddressValues(store);
+
+        assertSame(first.getAddress().getCity(), second.getAddress().getCity());
+        assertSame(first.getAddress().getCountry(), second.getAddress().getCountry());
+        assertSame(first.getSearchKeys().city(), second.getSearchKeys().city());
+        assertEquals(2, store.dictionary(AddressField.ZIP_CODE).size());
+
+        store.remove(first.getId());
+        store.remove(second.getId());
+
+        assertEquals(0, store.dictionary(AddressField.CITY).size());
+        assertEquals(-1, store.dictionary(AddressField.CITY).codeOf("Mumbai"));
+    }
+}
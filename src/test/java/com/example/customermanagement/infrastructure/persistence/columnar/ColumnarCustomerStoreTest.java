@@ -0,0 +1,108 @@
+package com.example.customermanagement.infrastructure.persistence.columnar;
+
+import com.example.customermanagement.domain.model.Address;
+import com.example.customermanagement.domain.model.Customer;
+import com.example.customermanagement.domain.model.CustomerSearchCriteria;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Columnar Customer Store Tests")
+class ColumnarCustomerStoreTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2024, 1, 1, 10, 0);
+
+    private ColumnarCustomerStore store;
+    private List<Customer> customers;
+
+    @BeforeEach
+    void setUp() {
+        store = new ColumnarCustomerStore();
+        customers = new ArrayList<>();
+        Address mumbai = new Address("123 MG Road", "Mumbai", "Maharashtra", "400001", "India");
+        Address pune = new Address("45 FC Road", "Pune", "Maharashtra", "411004", "India");
+        Address kolkata = new Address("789 Park Street", "Kolkata", "West Bengal", "700001", "India");
+        Address[] addresses = {mumbai, pune, kolkata};
+        for (int i = 0; i < 3000; i++) {
+            Customer customer = new Customer("Customer " + i, "customer" + i + "@example.com", "+91-9876543210",
+                    addresses[i % addresses.length]);
+            customer.setCreatedAt(BASE.plusMinutes(i / 2));
+            customer.setUpdatedAt(BASE.plusMinutes(i));
+            customers.add(customer);
+            store.put(customer);
+        }
+    }
+
+    @Test
+    @DisplayName("Should count and page matches newest first with id as tie-breaker")
+    void shouldPageNewestFirst() {
+        // Given
+        CustomerSearchCriteria criteria = CustomerSearchCriteria.builder()
+                .state("maha")
+                .createdAfter(BASE.plusMinutes(100))
+                .updatedBefore(BASE.plusMinutes(2500))
+                .build();
+        List<UUID> expected = customers.stream()
+                .filter(c -> c.getAddress().getState().equals("Maharashtra"))
+                .filter(c -> !c.getCreatedAt().isBefore(BASE.plusMinutes(100)))
+                .filter(c -> !c.getUpdatedAt().isAfter(BASE.plusMinutes(2500)))
+                .sorted(Comparator.comparing(Customer::getCreatedAt).reversed().thenComparing(Customer::getId))
+                .map(Customer::getId)
+                .toList();
+
+        // When
+        ColumnarCustomerStore.Result result = store.scanNewestFirst(criteria, null, null, 10, 25);
+
+        // Then
+        assertEquals(expected.size(), result.totalElements());
+        assertEquals(expected.subList(10, 35), result.ids());
+    }
+
+    @Test
+    @DisplayName("Should resume strictly after a keyset position")
+    void shouldResumeAfterCursor() {
+        // Given
+        CustomerSearchCriteria criteria = CustomerSearchCriteria.builder().city("kol").build();
+        List<UUID> firstPage = store.scanNewestFirst(criteria, null, null, 0, 7).ids();
+        Customer last = customers.stream().filter(c -> c.getId().equals(firstPage.getLast())).findFirst().orElseThrow();
+
+        // When
+        ColumnarCustomerStore.Result next = store.scanNewestFirst(criteria, last.getCreatedAt(), last.getId(), 0, 7);
+
+        // Then
+        assertEquals(1000, next.totalElements());
+        assertEquals(store.scanNewestFirst(criteria, null, null, 7, 7).ids(), next.ids());
+    }
+
+    @Test
+    @DisplayName("Should reuse freed slots and reflect updates")
+    void shouldReflectRemovalsAndUpdates() {
+        // Given
+        Customer moved = customers.get(0);
+        store.remove(customers.get(1).getId());
+        Customer updated = new Customer(moved.getId(), moved.getName(), moved.getEmail(), moved.getPhone(),
+                new Address("1 Marine Drive", "Kochi", "Kerala", "682001", "India"));
+        updated.setCreatedAt(moved.getCreatedAt());
+        store.put(updated);
+
+        // When
+        ColumnarCustomerStore.Result kerala = store.scanNewestFirst(
+                CustomerSearchCriteria.builder().state("kerala").build(), null, null, 0, 10);
+        ColumnarCustomerStore.Result all = store.scanNewestFirst(
+                CustomerSearchCriteria.builder().build(), null, null, 0, 0);
+
+        // Then
+        assertEquals(List.of(moved.getId()), kerala.ids());
+        assertEquals(2999, all.totalElements());
+        assertTrue(all.ids().isEmpty());
+        assertEquals(2999, store.size());
+    }
+}
@@ -0,0 +1,71 @@
+package com.example.customermanagement.infrastructure.persistence.columnar;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Range Kernel Tests")
+class RangeKernelTest {
+
+    @Test
+    @DisplayName("Should mark exactly the rows within the inclusive range for every kernel and row count")
+    void shouldAgreeWithRowByRowComparison() {
+        Random random = new Random(7);
+        RangeKernel[] kernels = {new ScalarRangeKernel(), new VectorRangeKernel(), RangeKernel.best()};
+        for (int rows : new int[]{0, 1, 7, 63, 64, 65, 130, 1000}) {
+            long[] column = new long[rows + 5];
+            for (int i = 0; i < column.length; i++) {
+                column[i] = random.nextInt(5) == 0 ? Long.MIN_VALUE + random.nextInt(3) : random.nextInt(100);
+            }
+            long[][] bounds = {{20, 60}, {Long.MIN_VALUE, 50}, {50, Long.MAX_VALUE}, {60, 20}, {42, 42}};
+            for (long[] bound : bounds) {
+                long[] expected = expectedMask(column, rows, bound[0], bound[1]);
+                for (RangeKernel kernel : kernels) {
+                    long[] mask = fullMask(rows);
+                    kernel.retainInRange(column, rows, bound[0], bound[1], mask);
+                    assertArrayEquals(expected, mask, kernel.getClass().getSimpleName() + " rows=" + rows
+                            + " range=" + Arrays.toString(bound));
+                }
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Should only clear bits so successive ranges intersect")
+    void shouldIntersectSuccessiveRanges() {
+        long[] created = new long[100];
+        long[] updated = new long[100];
+        for (int i = 0; i < 100; i++) {
+            created[i] = i;
+            updated[i] = 100 - i;
+        }
+        for (RangeKernel kernel : new RangeKernel[]{new ScalarRangeKernel(), new VectorRangeKernel()}) {
+            long[] mask = fullMask(100);
+            kernel.retainInRange(created, 100, 10, 80, mask);
+            kernel.retainInRange(updated, 100, 30, 100, mask);
+            assertEquals(61, Arrays.stream(mask).map(Long::bitCount).sum());
+            assertEquals(10, Long.numberOfTrailingZeros(mask[0]));
+            assertEquals(0, mask[1] >>> (70 - 64 + 1));
+        }
+    }
+
+    private static long[] fullMask(int rows) {
+        long[] mask = new long[(rows + 63) >>> 6];
+        Arrays.fill(mask, -1L);
+        return mask;
+    }
+
+    private static long[] expectedMask(long[] column, int rows, long lower, long upper) {
+        long[] mask = new long[(rows + 63) >>> 6];
+        for (int row = 0; row < rows; row++) {
+            if (column[row] >= lower && column[row] <= upper) {
+                mask[row >>> 6] |= 1L << row;
+            }
+        }
+        return mask;
+    }
+}
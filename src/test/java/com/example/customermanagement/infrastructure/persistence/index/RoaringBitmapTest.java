@@ -0,0 +1,106 @@
+package com.example.customermanagement.infrastructure.persistence.index;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.TreeSet;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Roaring Bitmap Tests")
+class RoaringBitmapTest {
+
+    @Test
+    @DisplayName("Should add, remove and iterate values across containers in order")
+    void shouldAddRemoveAndIterate() {
+        RoaringBitmap bitmap = new RoaringBitmap();
+        bitmap.add(70_000);
+        bitmap.add(3);
+        bitmap.add(65_536);
+        bitmap.add(3);
+
+        assertEquals(List.of(3, 65_536, 70_000), valuesOf(bitmap));
+        assertTrue(bitmap.contains(65_536));
+        assertFalse(bitmap.contains(4));
+
+        bitmap.remove(65_536);
+        bitmap.remove(70_000);
+        bitmap.remove(70_000);
+
+        assertEquals(List.of(3), valuesOf(bitmap));
+        assertThrows(IllegalArgumentException.class, () -> bitmap.add(-1));
+    }
+
+    @Test
+    @DisplayName("Should switch a dense group to a bitset and back without losing values")
+    void shouldConvertBetweenContainerKinds() {
+        RoaringBitmap bitmap = new RoaringBitmap();
+        for (int value = 0; value < 10_000; value++) {
+            bitmap.add(value);
+        }
+        long dense = bitmap.sizeInBytes();
+        for (int value = 0; value < 10_000; value += 2) {
+            bitmap.remove(value);
+        }
+        for (int value = 1; value < 9_000; value += 2) {
+            bitmap.remove(value);
+        }
+
+        assertTrue(dense < 10_000 * 2);
+        assertEquals(500, bitmap.cardinality());
+        assertEquals(9_001, (int) valuesOf(bitmap).getFirst());
+        assertTrue(bitmap.sizeInBytes() < dense);
+    }
+
+    @Test
+    @DisplayName("Should combine bitmaps like the equivalent sorted sets")
+    void shouldMatchSetOperations() {
+        Random random = new Random(7);
+        for (int round = 0; round < 50; round++) {
+            TreeSet<Integer> leftSet = new TreeSet<>();
+            TreeSet<Integer> rightSet = new TreeSet<>();
+            RoaringBitmap left = randomBitmap(random, leftSet);
+            RoaringBitmap right = randomBitmap(random, rightSet);
+
+            TreeSet<Integer> and = new TreeSet<>(leftSet);
+            and.retainAll(rightSet);
+            TreeSet<Integer> or = new TreeSet<>(leftSet);
+            or.addAll(rightSet);
+            TreeSet<Integer> andNot = new TreeSet<>(leftSet);
+            andNot.removeAll(rightSet);
+            RoaringBitmap union = left.copy();
+            union.addAll(right);
+
+            assertEquals(new ArrayList<>(and), valuesOf(RoaringBitmap.and(left, right)));
+            assertEquals(new ArrayList<>(or), valuesOf(RoaringBitmap.or(left, right)));
+            assertEquals(new ArrayList<>(andNot), valuesOf(RoaringBitmap.andNot(left, right)));
+            assertEquals(new ArrayList<>(or), valuesOf(union));
+            assertEquals(new ArrayList<>(leftSet), valuesOf(left));
+        }
+    }
+
+    private static RoaringBitmap randomBitmap(Random random, TreeSet<Integer> values) {
+        RoaringBitmap bitmap = new RoaringBitmap();
+        int groups = 1 + random.nextInt(3);
+        for (int g = 0; g < groups; g++) {
+            int high = random.nextInt(4) << 16;
+            int count = random.nextBoolean() ? random.nextInt(100) : 3_000 + random.nextInt(20_000);
+            for (int i = 0; i < count; i++) {
+                int value = high | random.nextInt(1 << 16);
+                bitmap.add(value);
+                values.add(value);
+            }
+        }
+        return bitmap;
+    }
+
+    private static List<Integer> valuesOf(RoaringBitmap bitmap) {
+        List<Integer> values = new ArrayList<>();
+        bitmap.forEach(values::add);
+        assertEquals(values.size(), bitmap.cardinality());
+        return values;
+    }
+}
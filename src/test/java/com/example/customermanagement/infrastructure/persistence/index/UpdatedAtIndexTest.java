@@ -0,0 +1,184 @@
+package com.example.customermanagement.infrastructure.persistence.index;
+
+import com.example.customermanagement.domain.exception.ChangeTokenExpiredException;
+import com.example.customermanagement.domain.model.Address;
+import com.example.customermanagement.domain.model.ChangeToken;
+import com.example.customermanagement.domain.model.Customer;
+import com.example.customermanagement.domain.model.CustomerChange;
+import com.example.customermanagement.domain.model.CustomerChanges;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("UpdatedAt Index Tests")
+class UpdatedAtIndexTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2024, 1, 1, 10, 0);
+    private static final Address ADDRESS = new Address("123 MG Road", "Mumbai", "Maharashtra", "400001", "India");
+
+    @Test
+    @DisplayName("Should return each customer's latest change in update order and resume after a token")
+    void shouldReturnLatestChangesInUpdateOrder() {
+        // Given
+        UpdatedAtIndex index = new UpdatedAtIndex();
+        Customer first = customer("First", BASE);
+        Customer second = customer("Second", BASE.plusHours(3));
+        Customer third = customer("Third", BASE.plusHours(5));
+        index.recordUpdate(first);
+        index.recordUpdate(second);
+        ChangeToken afterSecond = index.since(null, 10).next();
+        index.recordUpdate(third);
+        first.setUpdatedAt(BASE.plusHours(6));
+        index.recordUpdate(first);
+        index.recordDelete(second.getId());
+
+        // When
+        CustomerChanges all = index.since(null, 10);
+        CustomerChanges resumed = index.since(afterSecond, 10);
+
+        // Then
+        assertEquals(List.of(third.getId(), first.getId(), second.getId()), ids(all));
+        assertTrue(all.changes().getLast().deleted());
+        assertEquals(ids(all), ids(resumed));
+        assertFalse(all.hasMore());
+        CustomerChanges caughtUp = index.since(all.next(), 10);
+        assertTrue(caughtUp.changes().isEmpty());
+        assertEquals(all.next(), caughtUp.next());
+    }
+
+    @Test
+    @DisplayName("Should page through the feed without skipping or repeating changes")
+    void shouldPageThroughFeed() {
+        // Given
+        UpdatedAtIndex index = new UpdatedAtIndex(Duration.ofMinutes(1), Duration.ofDays(7));
+        List<UUID> expected = new ArrayList<>();
+        for (int i = 0; i < 250; i++) {
+            Customer customer = customer("Customer " + i, BASE.plusSeconds(i * 17L));
+            index.recordUpdate(customer);
+            expected.add(customer.getId());
+        }
+
+        // When
+        List<UUID> walked = new ArrayList<>();
+        ChangeToken token = null;
+        CustomerChanges page;
+        do {
+            page = index.since(token, 40);
+            walked.addAll(ids(page));
+            token = page.next();
+        } while (page.hasMore());
+
+        // Then
+        assertEquals(expected, walked);
+    }
+
+    @Test
+    @DisplayName("Should never order a change before an earlier write even if its updatedAt is older")
+    void shouldKeepChangeTimesMonotonic() {
+        // Given
+        UpdatedAtIndex index = new UpdatedAtIndex();
+        Customer late = customer("Late", BASE.plusDays(1));
+        Customer early = customer("Early", BASE);
+        index.recordUpdate(late);
+        ChangeToken afterLate = index.since(null, 10).next();
+        index.recordUpdate(early);
+
+        // When
+        CustomerChanges changes = index.since(afterLate, 10);
+
+        // Then
+        assertEquals(List.of(early.getId()), ids(changes));
+        assertEquals(BASE.plusDays(1), changes.changes().getFirst().changedAt());
+    }
+
+    @Test
+    @DisplayName("Should resume a token from another index issued after the restore point at its change time")
+    void shouldResumeForeignTokenByTime() {
+        // Given
+        UpdatedAtIndex index = new UpdatedAtIndex();
+        LocalDateTime now = LocalDateTime.now();
+        Customer before = customer("Before", now.plusHours(1));
+        Customer at = customer("At", now.plusHours(2));
+        Customer after = customer("After", now.plusHours(3));
+        index.recordUpdate(before);
+        index.recordUpdate(at);
+        index.recordUpdate(after);
+        ChangeToken foreign = new ChangeToken(index.since(null, 1).next().epoch() + 1, 99, now.plusHours(2));
+
+        // When
+        CustomerChanges changes = index.since(foreign, 10);
+
+        // Then
+        assertEquals(List.of(at.getId(), after.getId()), ids(changes));
+    }
+
+    @Test
+    @DisplayName("Should reject a token from another index issued before the restore point")
+    void shouldExpireForeignTokenFromBeforeRestore() {
+        // Given
+        UpdatedAtIndex index = new UpdatedAtIndex();
+        index.recordUpdate(customer("Restored", BASE.plusHours(2)));
+        ChangeToken beforeRestart = new ChangeToken(index.since(null, 1).next().epoch() + 1, 99, BASE.plusHours(1));
+
+        // When & Then
+        assertThrows(ChangeTokenExpiredException.class, () -> index.since(beforeRestart, 10));
+    }
+
+    @Test
+    @DisplayName("Should record restored customers at their own update times, oldest first")
+    void shouldRecordRestoredCustomersInUpdateOrder() {
+        // Given
+        UpdatedAtIndex index = new UpdatedAtIndex(Duration.ofMinutes(1), Duration.ofDays(7));
+        Customer newest = customer("Newest", BASE.plusHours(3));
+        Customer oldest = customer("Oldest", BASE);
+        Customer middle = customer("Middle", BASE.plusHours(1));
+
+        // When
+        index.recordRestored(List.of(newest, oldest, middle));
+        CustomerChanges changes = index.since(null, 10);
+
+        // Then
+        assertEquals(List.of(oldest.getId(), middle.getId(), newest.getId()), ids(changes));
+        assertEquals(List.of(BASE, BASE.plusHours(1), BASE.plusHours(3)),
+                changes.changes().stream().map(CustomerChange::changedAt).toList());
+    }
+
+    @Test
+    @DisplayName("Should drop tombstones past the retention and reject tokens from before them")
+    void shouldExpireTokensOlderThanRetainedTombstones() {
+        // Given
+        UpdatedAtIndex index = new UpdatedAtIndex(Duration.ofHours(1), Duration.ofDays(1));
+        Customer kept = customer("Kept", LocalDateTime.now());
+        Customer deleted = customer("Deleted", LocalDateTime.now());
+        index.recordUpdate(kept);
+        index.recordUpdate(deleted);
+        ChangeToken stale = index.since(null, 10).next();
+        index.recordDelete(deleted.getId());
+
+        // When
+        Customer later = customer("Later", LocalDateTime.now().plusDays(3));
+        index.recordUpdate(later);
+
+        // Then
+        assertEquals(List.of(kept.getId(), later.getId()), ids(index.since(null, 10)));
+        assertThrows(ChangeTokenExpiredException.class, () -> index.since(stale, 10));
+    }
+
+    private static Customer customer(String name, LocalDateTime updatedAt) {
+        Customer customer = new Customer(name, name.toLowerCase().replace(' ', '.') + "@example.com",
+                "+91-9876543210", ADDRESS);
+        customer.setUpdatedAt(updatedAt);
+        return customer;
+    }
+
+    private static List<UUID> ids(CustomerChanges changes) {
+        return changes.changes().stream().map(CustomerChange::id).toList();
+    }
+}
@@ -0,0 +1,214 @@
+package com.example.customermanagement.infrastructure.persistence.jpa;
+
+import com.example.customermanagement.application.search.KeysetOrdering;
+import com.example.customermanagement.domain.model.Address;
+import com.example.customermanagement.domain.model.AddressField;
+import com.example.customermanagement.domain.model.Customer;
+import com.example.customermanagement.domain.model.CustomerSearchCriteria;
+import com.example.customermanagement.domain.model.CustomerSearchCriteria.SortCriteria;
+import com.example.customermanagement.domain.model.CustomerSearchCriteria.SortCriteria.SortDirection;
+import com.example.customermanagement.domain.model.CustomerSlice;
+import com.example.customermanagement.domain.model.MatchMode;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@Import(JpaCustomerRepository.class)
+@DisplayName("JPA Customer Repository Tests")
+class JpaCustomerRepositoryTest {
+
+    @Autowired
+    private JpaCustomerRepository repository;
+
+    private List<Customer> customers;
+
+    @BeforeEach
+    void setUp() {
+        customers = new ArrayList<>();
+        Address mumbai = new Address("123 MG Road", "Mumbai", "Maharashtra", "400001", "India");
+        Address kolkata = new Address("789 Park Street", "Kolkata", "West Bengal", "700001", "India");
+        LocalDateTime base = LocalDateTime.of(2024, 1, 1, 10, 0);
+        for (int i = 0; i < 60; i++) {
+            Customer customer = new Customer("Customer " + i, "customer" + i + "@example.com", "+91-9876543210",
+                    i % 3 == 0 ? kolkata : mumbai);
+            customer.setCreatedAt(base.plusMinutes(i % 17));
+            customer.setUpdatedAt(base.plusMinutes(i));
+            customers.add(customer);
+            repository.save(customer);
+        }
+    }
+
+    @Test
+    @DisplayName("Should round-trip customers through the table")
+    void shouldSaveFindUpdateAndDelete() {
+        Customer original = customers.get(7);
+
+        Customer found = repository.findById(original.getId()).orElseThrow();
+        assertEquals(original.getName(), found.getName());
+        assertEquals(original.getAddress(), found.getAddress());
+        assertEquals(original.getCreatedAt(), found.getCreatedAt());
+        assertEquals(60, repository.count());
+
+        Customer replacement = new Customer("Renamed Customer", "renamed@example.com", "+91-9000000000",
+                original.getAddress());
+        assertTrue(repository.update(original.getId(), replacement).isPresent());
+        assertEquals("Renamed Customer", repository.findById(original.getId()).orElseThrow().getName());
+        assertTrue(repository.update(UUID.randomUUID(), replacement).isEmpty());
+
+        assertTrue(repository.deleteById(original.getId()));
+        assertFalse(repository.existsById(original.getId()));
+        assertFalse(repository.deleteById(original.getId()));
+        assertEquals(59, repository.count());
+    }
+
+    @Test
+    @DisplayName("Should look up address ids with the requested match mode")
+    void shouldFindIdsByAddressField() {
+        Set<UUID> exact = repository.findIdsByAddressField(AddressField.CITY, "kolkata", MatchMode.EXACT).orElseThrow();
+        Set<UUID> prefix = repository.findIdsByAddressField(AddressField.STATE, "west", MatchMode.PREFIX).orElseThrow();
+        Set<UUID> contains = repository.findIdsByAddressField(AddressField.ZIP_CODE, "0000", MatchMode.CONTAINS).orElseThrow();
+
+        assertEquals(20, exact.size());
+        assertEquals(exact, prefix);
+        assertEquals(60, contains.size());
+    }
+
+    @Test
+    @DisplayName("Should fold address terms independently of the default locale")
+    void shouldFoldTermsWithoutDefaultLocale() {
+        Locale defaultLocale = Locale.getDefault();
+        Locale.setDefault(Locale.forLanguageTag("tr"));
+        try {
+            Set<UUID> ids = repository.findIdsByAddressField(AddressField.STATE, "MAHARASHTRA", MatchMode.EXACT).orElseThrow();
+
+            assertEquals(40, ids.size());
+        } finally {
+            Locale.setDefault(defaultLocale);
+        }
+    }
+
+    @Test
+    @DisplayName("Should match compatibility characters on the same folded keys as the in-memory store")
+    void shouldMatchNormalizedKeys() {
+        Customer fullWidth = repository.save(new Customer("Ｒａｊｅｓｈ Kumar", "rajesh@example.com", "+91-9876543210",
+                new Address("1 Ring Road", "Ｄｅｌｈｉ", "Delhi", "110001", "India")));
+
+        Set<UUID> ids = repository.findIdsByAddressField(AddressField.CITY, "DELHI", MatchMode.EXACT).orElseThrow();
+        CustomerSlice slice = repository.search(CustomerSearchCriteria.builder().name("rajesh").size(10).build(), 11)
+                .orElseThrow();
+
+        assertEquals(Set.of(fullWidth.getId()), ids);
+        assertEquals(List.of(fullWidth.getId()), slice.customers().stream().map(Customer::getId).toList());
+        assertEquals("Ｒａｊｅｓｈ Kumar", repository.suggest("raj", 5).orElseThrow().getFirst().name());
+    }
+
+    @Test
+    @DisplayName("Should filter, count and page inside the database")
+    void shouldSearchWithFiltersAndOffset() {
+        CustomerSearchCriteria criteria = CustomerSearchCriteria.builder()
+                .city("mumbai")
+                .searchText("customer")
+                .sortCriteria(List.of(new SortCriteria("name", SortDirection.ASC)))
+                .page(1)
+                .size(10)
+                .build();
+
+        CustomerSlice slice = repository.search(criteria, 11).orElseThrow();
+
+        List<Customer> expected = customers.stream()
+                .filter(customer -> customer.getAddress().getCity().equals("Mumbai"))
+                .sorted(Comparator.comparing(Customer::getName, String.CASE_INSENSITIVE_ORDER))
+                .skip(10)
+                .limit(11)
+                .toList();
+        assertEquals(40, slice.totalElements());
+        assertEquals(expected.stream().map(Customer::getId).toList(),
+                slice.customers().stream().map(Customer::getId).toList());
+    }
+
+    @Test
+    @DisplayName("Should treat date ranges as inclusive and LIKE wildcards as literals")
+    void shouldMatchDateRangesAndEscapeWildcards() {
+        LocalDateTime base = LocalDateTime.of(2024, 1, 1, 10, 0);
+        CustomerSearchCriteria range = CustomerSearchCriteria.builder()
+                .updatedAfter(base.plusMinutes(10))
+                .updatedBefore(base.plusMinutes(19))
+                .size(100)
+                .build();
+        CustomerSearchCriteria wildcard = CustomerSearchCriteria.builder().name("%").size(100).build();
+
+        assertEquals(10, repository.search(range, 101).orElseThrow().totalElements());
+        assertEquals(0, repository.search(wildcard, 101).orElseThrow().totalElements());
+    }
+
+    @Test
+    @DisplayName("Should walk every match exactly once with keyset cursors")
+    void shouldWalkPagesWithCursor() {
+        List<SortCriteria> sort = List.of(new SortCriteria("createdAt", SortDirection.DESC));
+        KeysetOrdering ordering = KeysetOrdering.of(sort);
+        List<UUID> walked = new ArrayList<>();
+        CustomerSearchCriteria criteria = CustomerSearchCriteria.builder().sortCriteria(sort).size(7).build();
+
+        while (true) {
+            List<Customer> page = repository.search(criteria, 7).orElseThrow().customers();
+            page.forEach(customer -> walked.add(customer.getId()));
+            if (page.size() < 7) {
+                break;
+            }
+            criteria = CustomerSearchCriteria.builder()
+                    .sortCriteria(sort)
+                    .cursor(ordering.cursorAt(page.getLast()))
+                    .size(7)
+                    .build();
+        }
+
+        assertEquals(60, walked.size());
+        assertEquals(60, Set.copyOf(walked).size());
+        for (int i = 1; i < walked.size(); i++) {
+            LocalDateTime previous = repository.findById(walked.get(i - 1)).orElseThrow().getCreatedAt();
+            LocalDateTime current = repository.findById(walked.get(i)).orElseThrow().getCreatedAt();
+            assertFalse(current.isAfter(previous));
+        }
+    }
+
+    @Test
+    @DisplayName("Should page the newest-first listing with offsets and keysets")
+    void shouldListNewestFirst() {
+        List<Customer> first = repository.findOrderedByCreatedAtDesc(0, 5).orElseThrow();
+        List<Customer> second = repository.findOrderedByCreatedAtDesc(5, 5).orElseThrow();
+        Customer last = first.getLast();
+
+        assertEquals(LocalDateTime.of(2024, 1, 1, 10, 16), first.getFirst().getCreatedAt());
+        List<Customer> afterKeyset = repository.findOrderedByCreatedAtDescAfter(last.getCreatedAt(), last.getId(), 5)
+                .orElseThrow();
+        assertEquals(second.stream().map(Customer::getId).toList(),
+                afterKeyset.stream().map(Customer::getId).toList());
+    }
+
+    @Test
+    @DisplayName("Should stream every row across batches")
+    void shouldStreamAllInBatches() {
+        Address address = new Address("1 Ring Road", "Delhi", "Delhi", "110001", "India");
+        for (int i = 0; i < JpaCustomerRepository.STREAM_BATCH_SIZE; i++) {
+            repository.save(new Customer("Batch " + i, "batch" + i + "@example.com", "+91-9876543210", address));
+        }
+
+        assertEquals(60 + JpaCustomerRepository.STREAM_BATCH_SIZE, repository.streamAll().count());
+        assertEquals(Optional.empty(), repository.findCandidateIdsByText("customer"));
+    }
+}
@@ -0,0 +1,88 @@
+package com.example.customermanagement.infrastructure.persistence.snapshot;
+
+import com.example.customermanagement.domain.model.Address;
+import com.example.customermanagement.domain.model.Customer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Snapshot File Tests")
+class SnapshotFileTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @DisplayName("Should restore every customer across multiple blocks")
+    void shouldRoundTripAcrossBlocks() throws IOException {
+        // Given
+        Path path = tempDir.resolve("customers.snapshot");
+        List<Customer> customers = customers(SnapshotFile.BLOCK_SIZE + 100);
+
+        // When
+        SnapshotFile.write(path, customers, 7);
+        Map<UUID, Customer> restored = new ConcurrentHashMap<>();
+        long coveredSegment = SnapshotFile.load(path, customer -> restored.put(customer.getId(), customer));
+
+        // Then
+        assertEquals(7, coveredSegment);
+        assertEquals(customers.size(), restored.size());
+        for (Customer customer : customers) {
+            Customer copy = restored.get(customer.getId());
+            assertEquals(customer.getName(), copy.getName());
+            assertEquals(customer.getEmail(), copy.getEmail());
+            assertEquals(customer.getPhone(), copy.getPhone());
+            assertEquals(customer.getAddress(), copy.getAddress());
+            assertEquals(customer.getCreatedAt(), copy.getCreatedAt());
+            assertEquals(customer.getUpdatedAt(), copy.getUpdatedAt());
+        }
+        assertFalse(Files.exists(tempDir.resolve("customers.snapshot.tmp")));
+    }
+
+    @Test
+    @DisplayName("Should report nothing covered when no snapshot exists")
+    void shouldReturnZeroWhenMissing() throws IOException {
+        assertEquals(0, SnapshotFile.load(tempDir.resolve("missing.snapshot"), customer -> fail("unexpected customer")));
+    }
+
+    @Test
+    @DisplayName("Should reject a snapshot whose block checksum does not match")
+    void shouldRejectCorruptBlock() throws IOException {
+        // Given
+        Path path = tempDir.resolve("customers.snapshot");
+        SnapshotFile.write(path, customers(10), 1);
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.wrap(new byte[] {0x7f}), 40);
+        }
+
+        // When & Then
+        assertThrows(IOException.class, () -> SnapshotFile.load(path, customer -> { }));
+    }
+
+    private static List<Customer> customers(int count) {
+        Address address = new Address("123 MG Road", "Mumbai", "Maharashtra", "400001", "India");
+        LocalDateTime base = LocalDateTime.of(2024, 1, 1, 10, 0);
+        List<Customer> customers = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Customer customer = new Customer("Customer " + i, "customer" + i + "@example.com", "+91-9876543210", address);
+            customer.setCreatedAt(base.plusSeconds(i).plusNanos(i));
+            customers.add(customer);
+        }
+        return customers;
+    }
+}
@@ -0,0 +1,161 @@
+package com.example.customermanagement.infrastructure.persistence.wal;
+
+import com.example.customermanagement.domain.model.Address;
+import com.example.customermanagement.domain.model.Customer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Write-Ahead Log Tests")
+class WriteAheadLogTest {
+
+    @TempDir
+    Path tempDir;
+
+    private Path walPath;
+    private Address testAddress;
+
+    @BeforeEach
+    void setUp() {
+        walPath = tempDir.resolve("customers.wal");
+        testAddress = new Address("123 MG Road", "Mumbai", "Maharashtra", "400001", "India");
+    }
+
+    @Test
+    @DisplayName("Should replay appended records in order after reopening")
+    void shouldReplayRecordsInOrder() throws IOException {
+        // Given
+        Customer customer = new Customer("Rajesh Kumar", "rajesh.kumar@example.com", "+91-9876543210", testAddress);
+        customer.setCreatedAt(LocalDateTime.of(2024, 1, 15, 10, 30, 0, 123_456_789));
+        try (WriteAheadLog log = WriteAheadLog.open(walPath, record -> fail("new log should be empty"))) {
+            log.awaitDurable(log.append(WalRecord.put(customer)));
+            log.awaitDurable(log.append(WalRecord.delete(customer.getId())));
+        }
+
+        // When
+        List<WalRecord> replayed = new ArrayList<>();
+        try (WriteAheadLog log = WriteAheadLog.open(walPath, replayed::add)) {
+            assertEquals(0, log.stats().recordsAppended());
+        }
+
+        // Then
+        assertEquals(2, replayed.size());
+        WalRecord put = replayed.get(0);
+        assertEquals(WalRecord.Type.PUT, put.type());
+        assertEquals(customer.getId(), put.customer().getId());
+        assertEquals(customer.getName(), put.customer().getName());
+        assertEquals(customer.getAddress(), put.customer().getAddress());
+        assertEquals(customer.getCreatedAt(), put.customer().getCreatedAt());
+        assertEquals(customer.getUpdatedAt(), put.customer().getUpdatedAt());
+        assertEquals(WalRecord.delete(customer.getId()), replayed.get(1));
+    }
+
+    @Test
+    @DisplayName("Should truncate a torn tail and keep appending after the last intact record")
+    void shouldTruncateTornTail() throws IOException {
+        // Given
+        Customer first = new Customer("Rajesh Kumar", "rajesh.kumar@example.com", "+91-9876543210", testAddress);
+        Customer second = new Customer("Priya Sharma", "priya.sharma@example.com", "+91-9876543211", testAddress);
+        try (WriteAheadLog log = WriteAheadLog.open(walPath, record -> { })) {
+            log.append(WalRecord.put(first));
+            log.awaitDurable(log.append(WalRecord.put(second)));
+        }
+        long intactSize = Files.size(walPath);
+        try (FileChannel channel = FileChannel.open(walPath, StandardOpenOption.WRITE)) {
+            channel.truncate(intactSize - 3);
+        }
+
+        // When
+        List<WalRecord> afterCrash = new ArrayList<>();
+        try (WriteAheadLog log = WriteAheadLog.open(walPath, afterCrash::add)) {
+            log.awaitDurable(log.append(WalRecord.delete(first.getId())));
+        }
+        List<WalRecord> afterRestart = new ArrayList<>();
+        WriteAheadLog.open(walPath, afterRestart::add).close();
+
+        // Then
+        assertEquals(1, afterCrash.size());
+        assertEquals(first.getId(), afterCrash.get(0).id());
+        assertEquals(2, afterRestart.size());
+        assertEquals(WalRecord.delete(first.getId()), afterRestart.get(1));
+    }
+
+    @Test
+    @DisplayName("Should refuse every later write once a failed append cannot be cut back")
+    void shouldFailPermanentlyWhenAppendCannotBeRolledBack() throws IOException {
+        // Given
+        Customer customer = new Customer("Rajesh Kumar", "rajesh.kumar@example.com", "+91-9876543210", testAddress);
+        WriteAheadLog log = WriteAheadLog.open(walPath, record -> { });
+        log.awaitDurable(log.append(WalRecord.put(customer)));
+        log.close();
+
+        // When
+        assertThrows(IOException.class, () -> log.append(WalRecord.delete(customer.getId())));
+
+        // Then
+        assertTrue(log.failed());
+        assertThrows(IOException.class, () -> log.append(WalRecord.put(customer)));
+        assertThrows(IOException.class, () -> log.awaitDurable(Long.MAX_VALUE));
+        List<WalRecord> replayed = new ArrayList<>();
+        WriteAheadLog.open(walPath, replayed::add).close();
+        assertEquals(List.of(WalRecord.put(customer).type()), replayed.stream().map(WalRecord::type).toList());
+    }
+
+    @Test
+    @DisplayName("Should share fsyncs between concurrent writers")
+    void shouldGroupCommitConcurrentWriters() throws Exception {
+        int writers = 8;
+        int recordsPerWriter = 50;
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(writers);
+
+        try (WriteAheadLog log = WriteAheadLog.open(walPath, record -> { })) {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int w = 0; w < writers; w++) {
+                int writer = w;
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < recordsPerWriter; i++) {
+                        Customer customer = new Customer("Writer " + writer, "writer" + writer + "." + i + "@example.com",
+                                "+91-9876543210", testAddress);
+                        log.awaitDurable(log.append(WalRecord.put(customer)));
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get();
+            }
+
+            WalStats stats = log.stats();
+            assertEquals((long) writers * recordsPerWriter, stats.recordsAppended());
+            assertTrue(stats.fsyncCount() >= 1);
+            assertTrue(stats.fsyncCount() <= stats.recordsAppended());
+            assertTrue(stats.recordsPerSecond() > 0);
+            assertTrue(stats.averageFsyncMicros() <= stats.maxFsyncMicros());
+        } finally {
+            executor.shutdownNow();
+        }
+
+        List<WalRecord> replayed = new ArrayList<>();
+        WriteAheadLog.open(walPath, replayed::add).close();
+        assertEquals(writers * recordsPerWriter, replayed.size());
+    }
+}
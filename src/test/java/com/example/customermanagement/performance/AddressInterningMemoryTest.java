@@ -0,0 +1,78 @@
+package com.example.customermanagement.performance;
+
+import com.example.customermanagement.domain.model.Address;
+import com.example.customermanagement.domain.model.Customer;
+import com.example.customermanagement.infrastructure.persistence.columnar.ColumnarCustomerStore;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@EnabledIfSystemProperty(named = "run.performance.tests", matches = "true")
+@DisplayName("Address Interning Memory Tests")
+class AddressInterningMemoryTest {
+
+    private static final int DATASET_SIZE = 1_000_000;
+    private static final String[][] PLACES = {
+        {"Los Angeles", "California", "United States", "90001"},
+        {"San Francisco", "California", "United States", "94103"},
+        {"Austin", "Texas", "United States", "73301"},
+        {"Mumbai", "Maharashtra", "India", "400001"},
+        {"Bangalore", "Karnataka", "India", "560001"},
+        {"Kolkata", "West Bengal", "India", "700001"}
+    };
+
+    @Test
+    @DisplayName("Should retain less heap when stored customers share their address values")
+    void shouldRetainLessHeapWithSharedAddressValues() {
+        long unsharedBytes = retainedBytes(false);
+        long sharedBytes = retainedBytes(true);
+
+        assertTrue(sharedBytes < unsharedBytes,
+            String.format("Shared address values retained %d bytes, unshared values %d bytes", sharedBytes, unsharedBytes));
+
+        System.out.printf("%d stored customers: unshared address values %d MB, shared %d MB (%.1f%% less)%n",
+            DATASET_SIZE, unsharedBytes >> 20, sharedBytes >> 20,
+            100.0 * (unsharedBytes - sharedBytes) / unsharedBytes);
+    }
+
+    /**
+     * Heap retained by {@value #DATASET_SIZE} customers with fresh address strings and the columnar
+     * store holding them, with or without switching each customer to the store's shared values.
+     */
+    private static long retainedBytes(boolean share) {
+        long baseline = usedHeapAfterGc();
+        ColumnarCustomerStore store = new ColumnarCustomerStore();
+        List<Customer> customers = new ArrayList<>(DATASET_SIZE);
+        for (int i = 0; i < DATASET_SIZE; i++) {
+            String[] place = PLACES[i % PLACES.length];
+            Customer customer = new Customer("Customer " + i, "customer" + i + "@example.com", "+1-555-0100",
+                new Address(i + " Main Street", fresh(place[0]), fresh(place[1]), fresh(place[3]), fresh(place[2])));
+            store.put(customer);
+            if (share) {
+                customer.shareAddressValues(store);
+            }
+            customers.add(customer);
+        }
+        long retained = usedHeapAfterGc() - baseline;
+        assertEquals(share, customers.get(0).getAddress().getCountry() == customers.get(PLACES.length).getAddress().getCountry());
+        assertEquals(DATASET_SIZE, store.size());
+        return retained;
+    }
+
+    private static String fresh(String value) {
+        return new String(value.toCharArray());
+    }
+
+    private static long usedHeapAfterGc() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
@@ -0,0 +1,110 @@
+package com.example.customermanagement.performance;
+
+import com.example.customermanagement.domain.model.Address;
+import com.example.customermanagement.domain.model.Customer;
+import com.example.customermanagement.domain.model.CustomerSearchCriteria;
+import com.example.customermanagement.infrastructure.persistence.columnar.ColumnarCustomerStore;
+import com.example.customermanagement.infrastructure.persistence.columnar.RangeKernel;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@EnabledIfSystemProperty(named = "run.performance.tests", matches = "true")
+@DisplayName("Date Range Scan Benchmark")
+class DateRangeScanBenchmarkTest {
+
+    private static final int ROWS = 1_000_000;
+    private static final int WARMUP_RUNS = 20;
+    private static final int MEASURED_RUNS = 50;
+
+    @Test
+    @DisplayName("Should filter an epoch column at least as fast with the vector kernel as with the scalar loop")
+    void shouldCompareRangeKernels() {
+        Random random = new Random(42);
+        long[] column = new long[ROWS];
+        for (int i = 0; i < ROWS; i++) {
+            column[i] = random.nextLong(1_000_000_000L);
+        }
+        long lower = 250_000_000L;
+        long upper = 500_000_000L;
+
+        RangeKernel scalar = RangeKernel.scalar();
+        RangeKernel best = RangeKernel.best();
+        long[] scalarMask = filter(scalar, column, lower, upper);
+        long[] bestMask = filter(best, column, lower, upper);
+        assertArrayEquals(scalarMask, bestMask);
+
+        double scalarNs = nanosPerRow(scalar, column, lower, upper);
+        double bestNs = nanosPerRow(best, column, lower, upper);
+        System.out.printf("Range filter over %d rows: %s %.3f ns/row, %s %.3f ns/row (%.2fx)%n", ROWS,
+            scalar.getClass().getSimpleName(), scalarNs, best.getClass().getSimpleName(), bestNs, scalarNs / bestNs);
+    }
+
+    @Test
+    @DisplayName("Should page a date-range scan over 1M rows with either kernel")
+    void shouldCompareDateRangeScans() {
+        ColumnarCustomerStore scalarStore = new ColumnarCustomerStore(RangeKernel.scalar());
+        ColumnarCustomerStore bestStore = new ColumnarCustomerStore();
+        Random random = new Random(42);
+        LocalDateTime base = LocalDateTime.of(2024, 1, 1, 0, 0);
+        Address address = new Address("1 Main St", "Austin", "TX", "73301", "United States");
+        for (int i = 0; i < ROWS; i++) {
+            Customer customer = new Customer("Customer " + i, "customer" + i + "@example.com", "+1-555-0100", address);
+            customer.setCreatedAt(base.plusMinutes(random.nextInt(500_000)));
+            customer.setUpdatedAt(customer.getCreatedAt().plusMinutes(random.nextInt(10_000)));
+            scalarStore.put(customer);
+            bestStore.put(customer);
+        }
+        CustomerSearchCriteria criteria = CustomerSearchCriteria.builder()
+            .createdAfter(base.plusDays(100))
+            .createdBefore(base.plusDays(110))
+            .updatedAfter(base.plusDays(105))
+            .build();
+
+        ColumnarCustomerStore.Result expected = scalarStore.scanNewestFirst(criteria, null, null, 0, 20);
+        assertEquals(expected, bestStore.scanNewestFirst(criteria, null, null, 0, 20));
+
+        double scalarMs = millisPerScan(scalarStore, criteria);
+        double bestMs = millisPerScan(bestStore, criteria);
+        System.out.printf("Date-range scan of %d rows (%d matches): scalar %.2f ms, best kernel %.2f ms (%.2fx)%n",
+            ROWS, expected.totalElements(), scalarMs, bestMs, scalarMs / bestMs);
+    }
+
+    private static long[] filter(RangeKernel kernel, long[] column, long lower, long upper) {
+        long[] mask = new long[(column.length + 63) >>> 6];
+        Arrays.fill(mask, -1L);
+        kernel.retainInRange(column, column.length, lower, upper, mask);
+        return mask;
+    }
+
+    private static double nanosPerRow(RangeKernel kernel, long[] column, long lower, long upper) {
+        long checksum = 0;
+        for (int i = 0; i < WARMUP_RUNS; i++) {
+            checksum += filter(kernel, column, lower, upper)[0];
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < MEASURED_RUNS; i++) {
+            checksum += filter(kernel, column, lower, upper)[0];
+        }
+        double nanos = (double) (System.nanoTime() - start) / MEASURED_RUNS / column.length;
+        assertNotEquals(Long.MIN_VALUE, checksum);
+        return nanos;
+    }
+
+    private static double millisPerScan(ColumnarCustomerStore store, CustomerSearchCriteria criteria) {
+        for (int i = 0; i < WARMUP_RUNS; i++) {
+            store.scanNewestFirst(criteria, null, null, 0, 20);
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < MEASURED_RUNS; i++) {
+            store.scanNewestFirst(criteria, null, null, 0, 20);
+        }
+        return (System.nanoTime() - start) / 1_000_000.0 / MEASURED_RUNS;
+    }
+}
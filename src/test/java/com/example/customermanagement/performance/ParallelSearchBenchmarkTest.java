@@ -0,0 +1,98 @@
+package com.example.customermanagement.performance;
+
+import com.example.customermanagement.application.search.SearchExecutor;
+import com.example.customermanagement.application.search.SearchResultCache;
+import com.example.customermanagement.application.usecase.SearchCustomersUseCase;
+import com.example.customermanagement.domain.model.Address;
+import com.example.customermanagement.domain.model.Customer;
+import com.example.customermanagement.domain.model.CustomerSearchCriteria;
+import com.example.customermanagement.infrastructure.mapper.AddressMapper;
+import com.example.customermanagement.infrastructure.mapper.CustomerMapper;
+import com.example.customermanagement.infrastructure.persistence.InMemoryCustomerRepository;
+import com.example.customermanagement.web.dto.customer.CustomerResponseDTO;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@EnabledIfSystemProperty(named = "run.performance.tests", matches = "true")
+@DisplayName("Parallel Search Benchmark")
+class ParallelSearchBenchmarkTest {
+
+    private static final int DATASET_SIZE = 200_000;
+    private static final int WARMUP_RUNS = 5;
+    private static final int MEASURED_RUNS = 50;
+
+    @Test
+    @DisplayName("Should report latency percentiles for sequential and parallel scans")
+    void shouldReportLatencyPercentilesForBothModes() {
+        InMemoryCustomerRepository repository = createRepository();
+        CustomerMapper mapper = new CustomerMapper(new AddressMapper());
+        CustomerSearchCriteria criteria = CustomerSearchCriteria.builder()
+            .name("an")
+            .sortCriteria(List.of(new CustomerSearchCriteria.SortCriteria("email",
+                CustomerSearchCriteria.SortCriteria.SortDirection.ASC)))
+            .page(3)
+            .size(50)
+            .build();
+        int cores = Runtime.getRuntime().availableProcessors();
+
+        SearchCustomersUseCase sequential = new SearchCustomersUseCase(repository, mapper);
+        List<CustomerResponseDTO> expected = sequential.execute(criteria).getContent();
+        System.out.printf("Unindexed search over %d customers on %d cores%n", DATASET_SIZE, cores);
+        report("sequential", measure(sequential, criteria));
+
+        try (SearchExecutor executor = new SearchExecutor(cores, 50_000, cores)) {
+            SearchCustomersUseCase parallel = new SearchCustomersUseCase(repository, mapper, executor, SearchResultCache.disabled());
+            assertEquals(expected.stream().map(CustomerResponseDTO::getId).toList(),
+                parallel.execute(criteria).getContent().stream().map(CustomerResponseDTO::getId).toList());
+            report("parallel", measure(parallel, criteria));
+        }
+    }
+
+    private static long[] measure(SearchCustomersUseCase useCase, CustomerSearchCriteria criteria) {
+        for (int i = 0; i < WARMUP_RUNS; i++) {
+            useCase.execute(criteria);
+        }
+        long[] latencies = new long[MEASURED_RUNS];
+        for (int i = 0; i < MEASURED_RUNS; i++) {
+            long start = System.nanoTime();
+            useCase.execute(criteria);
+            latencies[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(latencies);
+        return latencies;
+    }
+
+    private static void report(String mode, long[] sortedLatencies) {
+        System.out.printf("  %-10s p50 %8.2f ms  p95 %8.2f ms  p99 %8.2f ms%n", mode,
+            percentile(sortedLatencies, 0.50), percentile(sortedLatencies, 0.95), percentile(sortedLatencies, 0.99));
+    }
+
+    private static double percentile(long[] sortedLatencies, double quantile) {
+        int index = (int) Math.ceil(quantile * sortedLatencies.length) - 1;
+        return sortedLatencies[Math.max(0, index)] / 1_000_000.0;
+    }
+
+    private static InMemoryCustomerRepository createRepository() {
+        String[] firstNames = {"John", "Jane", "Rajesh", "Priya", "Amit", "Maria", "Li", "Ana"};
+        String[] lastNames = {"Smith", "Kumar", "Sharma", "Patel", "Johnson", "Lee"};
+        Random random = new Random(42);
+        LocalDateTime base = LocalDateTime.of(2024, 1, 1, 0, 0);
+        InMemoryCustomerRepository repository = new InMemoryCustomerRepository();
+        for (int i = 0; i < DATASET_SIZE; i++) {
+            String name = firstNames[random.nextInt(firstNames.length)] + " " + lastNames[random.nextInt(lastNames.length)];
+            Customer customer = new Customer(name, "customer" + i + "@example.com", "+1-555-0100",
+                new Address(i + " Main St", "Austin", "TX", "73301", "United States"));
+            customer.setCreatedAt(base.plusMinutes(random.nextInt(500_000)));
+            repository.save(customer);
+        }
+        return repository;
+    }
+}
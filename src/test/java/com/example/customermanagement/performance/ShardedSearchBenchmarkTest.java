@@ -0,0 +1,94 @@
+package com.example.customermanagement.performance;
+
+import com.example.customermanagement.application.usecase.SearchCustomersUseCase;
+import com.example.customermanagement.domain.model.Address;
+import com.example.customermanagement.domain.model.Customer;
+import com.example.customermanagement.domain.model.CustomerSearchCriteria;
+import com.example.customermanagement.infrastructure.mapper.AddressMapper;
+import com.example.customermanagement.infrastructure.mapper.CustomerMapper;
+import com.example.customermanagement.infrastructure.persistence.ShardedCustomerRepository;
+import com.example.customermanagement.web.dto.common.PageResponseDTO;
+import com.example.customermanagement.web.dto.customer.CustomerResponseDTO;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@EnabledIfSystemProperty(named = "run.performance.tests", matches = "true")
+@DisplayName("Sharded Search Benchmark")
+class ShardedSearchBenchmarkTest {
+
+    private static final int DATASET_SIZE = 200_000;
+    private static final int WARMUP_RUNS = 3;
+    private static final int MEASURED_RUNS = 10;
+
+    @Test
+    @DisplayName("Should scale unindexed search with the number of shards")
+    void shouldScaleUnindexedSearchWithShardCount() {
+        List<Customer> customers = createDataset();
+        CustomerSearchCriteria criteria = CustomerSearchCriteria.builder()
+            .name("an")
+            .sortCriteria(List.of(new CustomerSearchCriteria.SortCriteria("email",
+                CustomerSearchCriteria.SortCriteria.SortDirection.ASC)))
+            .page(3)
+            .size(50)
+            .build();
+
+        int cores = Runtime.getRuntime().availableProcessors();
+        List<CustomerResponseDTO> baseline = null;
+        double baselineMs = 0;
+        System.out.printf("Unindexed search over %d customers on %d cores%n", DATASET_SIZE, cores);
+        for (int shards = 1; shards <= Math.max(1, cores) * 2; shards *= 2) {
+            try (ShardedCustomerRepository repository = new ShardedCustomerRepository(shards)) {
+                customers.forEach(repository::save);
+                SearchCustomersUseCase useCase = new SearchCustomersUseCase(repository, new CustomerMapper(new AddressMapper()));
+
+                PageResponseDTO<CustomerResponseDTO> result = null;
+                for (int i = 0; i < WARMUP_RUNS; i++) {
+                    result = useCase.execute(criteria);
+                }
+                long start = System.nanoTime();
+                for (int i = 0; i < MEASURED_RUNS; i++) {
+                    result = useCase.execute(criteria);
+                }
+                double averageMs = (System.nanoTime() - start) / 1_000_000.0 / MEASURED_RUNS;
+
+                if (baseline == null) {
+                    baseline = result.getContent();
+                    baselineMs = averageMs;
+                }
+                assertEquals(baseline.stream().map(CustomerResponseDTO::getId).toList(),
+                    result.getContent().stream().map(CustomerResponseDTO::getId).toList());
+                System.out.printf("  %2d shards: %8.2f ms/search (%.2fx)%n", shards, averageMs, baselineMs / averageMs);
+            }
+        }
+    }
+
+    private static List<Customer> createDataset() {
+        String[] firstNames = {"John", "Jane", "Rajesh", "Priya", "Amit", "Maria", "Li", "Ana"};
+        String[] lastNames = {"Smith", "Kumar", "Sharma", "Patel", "Johnson", "Lee"};
+        String[][] places = {
+            {"Los Angeles", "CA", "90001", "United States"},
+            {"Mumbai", "Maharashtra", "400001", "India"},
+            {"Austin", "TX", "73301", "United States"}
+        };
+        Random random = new Random(42);
+        LocalDateTime base = LocalDateTime.of(2024, 1, 1, 0, 0);
+        List<Customer> customers = new ArrayList<>(DATASET_SIZE);
+        for (int i = 0; i < DATASET_SIZE; i++) {
+            String name = firstNames[random.nextInt(firstNames.length)] + " " + lastNames[random.nextInt(lastNames.length)];
+            String[] place = places[random.nextInt(places.length)];
+            Customer customer = new Customer(name, "customer" + i + "@example.com", "+1-555-0100",
+                new Address(i + " Main St", place[0], place[1], place[2], place[3]));
+            customer.setCreatedAt(base.plusMinutes(random.nextInt(500_000)));
+            customers.add(customer);
+        }
+        return customers;
+    }
+}
@@ -0,0 +1,87 @@
+package com.example.customermanagement.performance;
+
+import com.example.customermanagement.domain.model.Address;
+import com.example.customermanagement.domain.model.Customer;
+import com.example.customermanagement.infrastructure.persistence.InMemoryCustomerRepository;
+import com.example.customermanagement.infrastructure.persistence.snapshot.SnapshotFile;
+import com.example.customermanagement.infrastructure.persistence.wal.WalRecord;
+import com.example.customermanagement.infrastructure.persistence.wal.WriteAheadLog;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.LongAdder;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@EnabledIfSystemProperty(named = "run.performance.tests", matches = "true")
+@DisplayName("Snapshot Restore Benchmark")
+class SnapshotRestoreBenchmarkTest {
+
+    private static final int DATASET_SIZE = 200_000;
+    private static final int TARGET_SIZE = 5_000_000;
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @DisplayName("Should time snapshot restore against replaying the whole log")
+    void shouldCompareSnapshotRestoreWithLogReplay() throws Exception {
+        String[][] places = {
+            {"Austin", "TX", "73301", "United States"},
+            {"Mumbai", "Maharashtra", "400001", "India"},
+            {"Toronto", "Ontario", "M5H 2N2", "Canada"}
+        };
+        List<Customer> customers = new ArrayList<>(DATASET_SIZE);
+        Path replayWal = tempDir.resolve("replay.wal");
+        try (WriteAheadLog log = WriteAheadLog.open(replayWal, record -> { })) {
+            long sequence = 0;
+            for (int i = 0; i < DATASET_SIZE; i++) {
+                String[] place = places[i % places.length];
+                Customer customer = new Customer("Customer " + i, "customer" + i + "@example.com", "+1-555-0100",
+                    new Address(i + " Main St", place[0], place[1], place[2], place[3]));
+                customers.add(customer);
+                sequence = log.append(WalRecord.put(customer));
+            }
+            log.awaitDurable(sequence);
+        }
+        Path snapshot = tempDir.resolve("customers.snapshot");
+        SnapshotFile.write(snapshot, customers, 0);
+        customers = null;
+
+        LongAdder decoded = new LongAdder();
+        long start = System.nanoTime();
+        SnapshotFile.load(snapshot, customer -> decoded.increment());
+        double decodeMs = (System.nanoTime() - start) / 1_000_000.0;
+        assertEquals(DATASET_SIZE, decoded.sum());
+
+        double snapshotMs = Double.MAX_VALUE;
+        double replayMs = Double.MAX_VALUE;
+        for (int round = 0; round < 2; round++) {
+            snapshotMs = Math.min(snapshotMs, timeRestore(() -> new InMemoryCustomerRepository(tempDir.resolve("tail.wal"), snapshot)));
+            replayMs = Math.min(replayMs, timeRestore(() -> new InMemoryCustomerRepository(replayWal)));
+        }
+
+        double scale = (double) TARGET_SIZE / DATASET_SIZE;
+        System.out.printf("Restore of %d customers on %d cores (snapshot %d MB, log %d MB):%n", DATASET_SIZE,
+            Runtime.getRuntime().availableProcessors(), Files.size(snapshot) >> 20, Files.size(replayWal) >> 20);
+        System.out.printf("  snapshot decode only      %8.0f ms (~%.1f s for %d)%n", decodeMs, decodeMs * scale / 1000, TARGET_SIZE);
+        System.out.printf("  snapshot load + indexing  %8.0f ms (~%.1f s for %d)%n", snapshotMs, snapshotMs * scale / 1000, TARGET_SIZE);
+        System.out.printf("  full log replay           %8.0f ms (~%.1f s for %d, %.2fx the snapshot load)%n",
+            replayMs, replayMs * scale / 1000, TARGET_SIZE, replayMs / snapshotMs);
+    }
+
+    private static double timeRestore(Callable<InMemoryCustomerRepository> restore) throws Exception {
+        long start = System.nanoTime();
+        try (InMemoryCustomerRepository repository = restore.call()) {
+            assertEquals(DATASET_SIZE, repository.count());
+        }
+        return (System.nanoTime() - start) / 1_000_000.0;
+    }
+}
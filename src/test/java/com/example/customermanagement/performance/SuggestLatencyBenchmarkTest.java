@@ -0,0 +1,55 @@
+package com.example.customermanagement.performance;
+
+import com.example.customermanagement.application.usecase.SuggestCustomersUseCase;
+import com.example.customermanagement.domain.model.Address;
+import com.example.customermanagement.domain.model.Customer;
+import com.example.customermanagement.infrastructure.persistence.InMemoryCustomerRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@EnabledIfSystemProperty(named = "run.performance.tests", matches = "true")
+@DisplayName("Suggest Latency Benchmark")
+class SuggestLatencyBenchmarkTest {
+
+    private static final int DATASET_SIZE = 1_000_000;
+    private static final String[] PREFIXES = {"r", "ra", "raj", "kum", "pri", "customer12", "jo", "sha"};
+    private static final int WARMUP_RUNS = 2_000;
+    private static final int MEASURED_RUNS = 10_000;
+
+    @Test
+    @DisplayName("Should answer type-ahead prefixes in single-digit milliseconds")
+    void shouldAnswerPrefixesInSingleDigitMilliseconds() {
+        String[] firstNames = {"John", "Jane", "Rajesh", "Priya", "Amit", "Maria", "Li", "Ana"};
+        String[] lastNames = {"Smith", "Kumar", "Sharma", "Patel", "Johnson", "Lee"};
+        Random random = new Random(42);
+        Address address = new Address("1 Main St", "Austin", "TX", "73301", "United States");
+        InMemoryCustomerRepository repository = new InMemoryCustomerRepository();
+        for (int i = 0; i < DATASET_SIZE; i++) {
+            String name = firstNames[random.nextInt(firstNames.length)] + " " + lastNames[random.nextInt(lastNames.length)];
+            repository.save(new Customer(name, "customer" + i + "@example.com", "+1-555-0100", address));
+        }
+        SuggestCustomersUseCase useCase = new SuggestCustomersUseCase(repository);
+
+        for (int i = 0; i < WARMUP_RUNS; i++) {
+            useCase.execute(PREFIXES[i % PREFIXES.length], 10);
+        }
+        long[] latencies = new long[MEASURED_RUNS];
+        for (int i = 0; i < MEASURED_RUNS; i++) {
+            long start = System.nanoTime();
+            assertEquals(10, useCase.execute(PREFIXES[i % PREFIXES.length], 10).size());
+            latencies[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(latencies);
+
+        double p99 = latencies[(int) Math.ceil(0.99 * MEASURED_RUNS) - 1] / 1_000_000.0;
+        System.out.printf("Suggest over %d customers: p50 %.3f ms  p99 %.3f ms%n", DATASET_SIZE,
+            latencies[MEASURED_RUNS / 2] / 1_000_000.0, p99);
+        assertTrue(p99 < 10.0, "p99 suggest latency should stay under 10 ms but was " + p99 + " ms");
+    }
+}
@@ -0,0 +1,97 @@
+package com.example.customermanagement.performance;
+
+import com.example.customermanagement.application.search.KeysetOrdering;
+import com.example.customermanagement.application.usecase.SearchCustomersUseCase;
+import com.example.customermanagement.domain.model.Address;
+import com.example.customermanagement.domain.model.Customer;
+import com.example.customermanagement.domain.model.CustomerSearchCriteria;
+import com.example.customermanagement.infrastructure.mapper.AddressMapper;
+import com.example.customermanagement.infrastructure.mapper.CustomerMapper;
+import com.example.customermanagement.infrastructure.persistence.InMemoryCustomerRepository;
+import com.example.customermanagement.web.dto.common.PageResponseDTO;
+import com.example.customermanagement.web.dto.customer.CustomerResponseDTO;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@EnabledIfSystemProperty(named = "run.performance.tests", matches = "true")
+@DisplayName("Top-K Pagination Benchmark")
+class TopKPaginationBenchmarkTest {
+
+    private static final int DATASET_SIZE = 1_000_000;
+    private static final int WARMUP_RUNS = 3;
+    private static final int MEASURED_RUNS = 5;
+
+    @Test
+    @DisplayName("Should select a sorted page from 1M matches faster than sorting them all")
+    void shouldSelectPageFasterThanFullSort() {
+        InMemoryCustomerRepository repository = createRepository();
+        SearchCustomersUseCase useCase = new SearchCustomersUseCase(repository, new CustomerMapper(new AddressMapper()));
+        List<CustomerSearchCriteria.SortCriteria> sort = List.of(new CustomerSearchCriteria.SortCriteria("name",
+            CustomerSearchCriteria.SortCriteria.SortDirection.ASC));
+        CustomerSearchCriteria criteria = CustomerSearchCriteria.builder()
+            .country("united")
+            .sortCriteria(sort)
+            .page(20)
+            .size(50)
+            .build();
+        KeysetOrdering ordering = KeysetOrdering.of(sort);
+
+        List<UUID> fullSort = null;
+        PageResponseDTO<CustomerResponseDTO> result = null;
+        for (int i = 0; i < WARMUP_RUNS; i++) {
+            fullSort = sortEveryMatch(repository, ordering);
+            result = useCase.execute(criteria);
+        }
+
+        long start = System.nanoTime();
+        for (int i = 0; i < MEASURED_RUNS; i++) {
+            fullSort = sortEveryMatch(repository, ordering);
+        }
+        double fullSortMs = (System.nanoTime() - start) / 1_000_000.0 / MEASURED_RUNS;
+
+        start = System.nanoTime();
+        for (int i = 0; i < MEASURED_RUNS; i++) {
+            result = useCase.execute(criteria);
+        }
+        double topKMs = (System.nanoTime() - start) / 1_000_000.0 / MEASURED_RUNS;
+
+        assertEquals(DATASET_SIZE, result.getTotalElements());
+        assertEquals(fullSort, result.getContent().stream().map(CustomerResponseDTO::getId).toList());
+        System.out.printf("Page 20 of %d matches sorted by name: full sort %.2f ms, top-K %.2f ms (%.2fx)%n",
+            DATASET_SIZE, fullSortMs, topKMs, fullSortMs / topKMs);
+    }
+
+    private static List<UUID> sortEveryMatch(InMemoryCustomerRepository repository, KeysetOrdering ordering) {
+        return repository.streamAll()
+            .filter(customer -> customer.getAddress().getCountry().toLowerCase().contains("united"))
+            .sorted(ordering.comparator())
+            .skip(20 * 50)
+            .limit(50)
+            .map(Customer::getId)
+            .toList();
+    }
+
+    private static InMemoryCustomerRepository createRepository() {
+        String[] firstNames = {"John", "Jane", "Rajesh", "Priya", "Amit", "Maria", "Li", "Ana"};
+        String[] lastNames = {"Smith", "Kumar", "Sharma", "Patel", "Johnson", "Lee"};
+        Random random = new Random(42);
+        LocalDateTime base = LocalDateTime.of(2024, 1, 1, 0, 0);
+        InMemoryCustomerRepository repository = new InMemoryCustomerRepository();
+        for (int i = 0; i < DATASET_SIZE; i++) {
+            String name = firstNames[random.nextInt(firstNames.length)] + " " + lastNames[random.nextInt(lastNames.length)];
+            Customer customer = new Customer(name, "customer" + i + "@example.com", "+1-555-0100",
+                new Address(i + " Main St", "Austin", "TX", "73301", "United States"));
+            customer.setCreatedAt(base.plusMinutes(random.nextInt(500_000)));
+            repository.save(customer);
+        }
+        return repository;
+    }
+}